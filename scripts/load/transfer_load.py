@@ -0,0 +1,107 @@
+# transfer_load.py
+import argparse
+import json
+import random
+import statistics
+import threading
+import time
+import urllib.error
+import urllib.request
+
+
+def request(base_url, method, path, token=None, body=None):
+    """Send a JSON request and return (status, latency in ms)."""
+    data = json.dumps(body).encode() if body is not None else None
+    req = urllib.request.Request(base_url + path, data=data, method=method)
+    req.add_header('Content-Type', 'application/json')
+    if token:
+        req.add_header('Authorization', f'Bearer {token}')
+
+    start = time.perf_counter()
+    try:
+        with urllib.request.urlopen(req, timeout=30) as response:
+            response.read()
+            status = response.status
+    except urllib.error.HTTPError as e:
+        status = e.code
+    except urllib.error.URLError:
+        status = 0
+    return status, (time.perf_counter() - start) * 1000
+
+
+def login(base_url, email, password):
+    """Authenticate and return a JWT access token."""
+    req = urllib.request.Request(
+        base_url + '/auth/login',
+        data=json.dumps({'email': email, 'password': password}).encode(),
+        method='POST'
+    )
+    req.add_header('Content-Type', 'application/json')
+    with urllib.request.urlopen(req, timeout=30) as response:
+        return json.loads(response.read())['token']
+
+
+def worker(args, token, deadline, results, lock):
+    """Mix balance reads with small transfers until the deadline."""
+    latencies = []
+    errors = 0
+    while time.perf_counter() < deadline:
+        source, destination = random.sample(args.accounts, 2)
+        if random.random() < args.write_ratio:
+            status, latency = request(args.base_url, 'POST', '/transactions', token, {
+                'amount': round(random.uniform(1, 10), 2),
+                'sourceAccountId': source,
+                'destinationAccountId': destination,
+                'type': random.choice(['STANDARD', 'INSTANT'])
+            })
+        else:
+            status, latency = request(args.base_url, 'GET', f'/accounts/{source}', token)
+        latencies.append(latency)
+        if status != 200:
+            errors += 1
+
+    with lock:
+        results['latencies'].extend(latencies)
+        results['errors'] += errors
+
+
+def main():
+    """Run a fixed-duration load test and print throughput and latency percentiles."""
+    parser = argparse.ArgumentParser(description='Transfer/balance load harness')
+    parser.add_argument('--base-url', default='http://localhost:8080/api')
+    parser.add_argument('--email', default='admin-principal@example.com')
+    parser.add_argument('--password', default='admin123')
+    parser.add_argument('--accounts', type=int, nargs='+', default=list(range(1, 51)))
+    parser.add_argument('--concurrency', type=int, default=200)
+    parser.add_argument('--duration', type=int, default=60, help='seconds')
+    parser.add_argument('--write-ratio', type=float, default=0.2)
+    args = parser.parse_args()
+
+    token = login(args.base_url, args.email, args.password)
+    results = {'latencies': [], 'errors': 0}
+    lock = threading.Lock()
+    deadline = time.perf_counter() + args.duration
+
+    threads = [
+        threading.Thread(target=worker, args=(args, token, deadline, results, lock))
+        for _ in range(args.concurrency)
+    ]
+    for thread in threads:
+        thread.start()
+    for thread in threads:
+        thread.join()
+
+    latencies = sorted(results['latencies'])
+    if not latencies:
+        print("No requests completed")
+        return
+
+    percentile = lambda p: latencies[min(len(latencies) - 1, int(len(latencies) * p))]
+    print(f"Requests:   {len(latencies)} ({results['errors']} errors)")
+    print(f"Throughput: {len(latencies) / args.duration:.1f} req/s")
+    print(f"Latency:    mean {statistics.mean(latencies):.1f} ms, "
+          f"p50 {percentile(0.50):.1f} ms, p95 {percentile(0.95):.1f} ms, p99 {percentile(0.99):.1f} ms")
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,305 @@
+package org.system.bank.balance;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.system.bank.entity.Account;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountRepository;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
+
+/**
+ * Off-heap {@code accountId -> (balance, status)} index for validation and balance reads that
+ * should not load entities.
+ * <p>
+ * An open-addressing table with linear probing lives in one direct buffer of 16-byte slots: the
+ * account id, then the balance in minor units shifted left by {@link #STATUS_BITS} with the
+ * status code in the low bits. Tables double at 75% load, so one million accounts fit in 2^21
+ * slots, i.e. 32 MiB off-heap and no per-account heap objects.
+ * <p>
+ * The index is populated once the application is ready and updated after each commit that
+ * changes a balance or status. It is advisory: lookups fall back to the database while an
+ * account is missing, and the write paths still check balances under their own locks.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountBalanceIndex {
+
+    /** Returned by {@link #lookup} for accounts that are not indexed. Never a valid entry. */
+    public static final long MISSING = 0L;
+
+    static final int SLOT_SIZE = 16;
+    static final int STATUS_BITS = 4;
+    private static final int MIN_CAPACITY = 1024;
+    private static final AccountStatus[] STATUSES = AccountStatus.values();
+
+    private record Table(ByteBuffer slots, int mask) {
+        Table(int capacity) {
+            this(ByteBuffer.allocateDirect(capacity * SLOT_SIZE), capacity - 1);
+        }
+    }
+
+    private final AccountRepository accountRepository;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table = new Table(MIN_CAPACITY);
+    private int size;
+
+    // Non-null while the startup load runs; accounts written meanwhile are not overwritten by it
+    private volatile Set<Long> touchedDuringLoad;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        touchedDuringLoad = ConcurrentHashMap.newKeySet();
+        long loaded = 0;
+        try (Stream<Object[]> rows = accountRepository.streamBalanceIndexRows()) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                long accountId = ((Number) row[0]).longValue();
+                if (row[1] == null || row[2] == null || touchedDuringLoad.contains(accountId)) {
+                    continue;
+                }
+                long packed = pack(Money.of((BigDecimal) row[1]).getMinorUnits(), AccountStatus.valueOf((String) row[2]));
+                long stamp = lock.writeLock();
+                try {
+                    if (!touchedDuringLoad.contains(accountId) && slotOf(table, accountId) < 0) {
+                        insert(accountId, packed);
+                    }
+                } finally {
+                    lock.unlockWrite(stamp);
+                }
+                loaded++;
+            }
+        } finally {
+            touchedDuringLoad = null;
+        }
+        log.info("Account balance index loaded {} accounts ({} KiB off-heap)", loaded, memoryBytes() / 1024);
+    }
+
+    /**
+     * Packed entry for the account, or {@link #MISSING}. Decode with {@link #balanceOf} and
+     * {@link #statusOf}.
+     */
+    public long lookup(long accountId) {
+        long stamp = lock.tryOptimisticRead();
+        long value = read(table, accountId);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return read(table, accountId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public static long pack(long balance, AccountStatus status) {
+        return (balance << STATUS_BITS) | (status.ordinal() + 1);
+    }
+
+    public static long balanceOf(long packed) {
+        return packed >> STATUS_BITS;
+    }
+
+    public static AccountStatus statusOf(long packed) {
+        return STATUSES[(int) (packed & ((1 << STATUS_BITS) - 1)) - 1];
+    }
+
+    public void put(long accountId, long balance, AccountStatus status) {
+        long packed = pack(balance, status);
+        long stamp = lock.writeLock();
+        try {
+            markTouched(accountId);
+            int slot = slotOf(table, accountId);
+            if (slot >= 0) {
+                table.slots().putLong(slot * SLOT_SIZE + 8, packed);
+            } else {
+                insert(accountId, packed);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Applies a relative balance change. An account that is not indexed stays that way, since
+     * there is no absolute value to apply the change to.
+     */
+    public void addToBalance(long accountId, long delta) {
+        long stamp = lock.writeLock();
+        try {
+            markTouched(accountId);
+            int slot = slotOf(table, accountId);
+            if (slot >= 0) {
+                long packed = table.slots().getLong(slot * SLOT_SIZE + 8);
+                table.slots().putLong(slot * SLOT_SIZE + 8, pack(balanceOf(packed) + delta, statusOf(packed)));
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long accountId) {
+        long stamp = lock.writeLock();
+        try {
+            markTouched(accountId);
+            int slot = slotOf(table, accountId);
+            if (slot < 0) {
+                return;
+            }
+            // Backward-shift deletion keeps every probe chain unbroken without tombstones
+            ByteBuffer slots = table.slots();
+            int mask = table.mask();
+            int hole = slot;
+            for (int next = (hole + 1) & mask; slots.getLong(next * SLOT_SIZE) != 0; next = (next + 1) & mask) {
+                int home = home(slots.getLong(next * SLOT_SIZE), mask);
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    slots.putLong(hole * SLOT_SIZE, slots.getLong(next * SLOT_SIZE));
+                    slots.putLong(hole * SLOT_SIZE + 8, slots.getLong(next * SLOT_SIZE + 8));
+                    hole = next;
+                }
+            }
+            slots.putLong(hole * SLOT_SIZE, 0);
+            slots.putLong(hole * SLOT_SIZE + 8, 0);
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Records the account's state once the surrounding transaction commits.
+     */
+    public void putAfterCommit(Account account) {
+        long accountId = account.getAccountId();
+        long balance = account.getBalance().getMinorUnits();
+        AccountStatus status = account.getStatus();
+        afterCommit(() -> put(accountId, balance, status));
+    }
+
+    public void addToBalanceAfterCommit(long accountId, long delta) {
+        afterCommit(() -> addToBalance(accountId, delta));
+    }
+
+    public void removeAfterCommit(long accountId) {
+        afterCommit(() -> remove(accountId));
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long memoryBytes() {
+        return table.slots().capacity();
+    }
+
+    /**
+     * Off-heap bytes the index needs for {@code accounts} entries.
+     */
+    public static long bytesFor(long accounts) {
+        long capacity = MIN_CAPACITY;
+        while (accounts > capacity * 3 / 4) {
+            capacity <<= 1;
+        }
+        return capacity * SLOT_SIZE;
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private void markTouched(long accountId) {
+        Set<Long> touched = touchedDuringLoad;
+        if (touched != null) {
+            touched.add(accountId);
+        }
+    }
+
+    private static int home(long accountId, int mask) {
+        long h = accountId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static long read(Table table, long accountId) {
+        int slot = slotOf(table, accountId);
+        return slot < 0 ? MISSING : table.slots().getLong(slot * SLOT_SIZE + 8);
+    }
+
+    private static int slotOf(Table table, long accountId) {
+        ByteBuffer slots = table.slots();
+        int mask = table.mask();
+        int slot = home(accountId, mask);
+        // Bounded so a racing optimistic reader can never spin; validation discards its result
+        for (int probes = 0; probes <= mask; probes++) {
+            long key = slots.getLong(slot * SLOT_SIZE);
+            if (key == accountId) {
+                return slot;
+            }
+            if (key == 0) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Caller holds the write lock
+    private void insert(long accountId, long packed) {
+        if ((size + 1) > (table.mask() + 1) * 3L / 4) {
+            resize();
+        }
+        placeInto(table, accountId, packed);
+        size++;
+    }
+
+    private void resize() {
+        Table old = table;
+        Table grown = new Table((old.mask() + 1) * 2);
+        for (int slot = 0; slot <= old.mask(); slot++) {
+            long key = old.slots().getLong(slot * SLOT_SIZE);
+            if (key != 0) {
+                placeInto(grown, key, old.slots().getLong(slot * SLOT_SIZE + 8));
+            }
+        }
+        table = grown;
+    }
+
+    private static void placeInto(Table table, long accountId, long packed) {
+        ByteBuffer slots = table.slots();
+        int mask = table.mask();
+        int slot = home(accountId, mask);
+        while (slots.getLong(slot * SLOT_SIZE) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots.putLong(slot * SLOT_SIZE + 8, packed);
+        slots.putLong(slot * SLOT_SIZE, accountId);
+    }
+}
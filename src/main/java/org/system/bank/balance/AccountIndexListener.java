@@ -0,0 +1,59 @@
+package org.system.bank.balance;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.system.bank.entity.Account;
+
+/**
+ * Keeps the {@link AccountBalanceIndex} and the {@link BalanceCache} in step with every entity
+ * write to an account. Instantiated by Hibernate through Spring; both are looked up lazily so
+ * slices that do not load them (such as repository tests) still work.
+ */
+public class AccountIndexListener {
+
+    private final ObjectProvider<AccountBalanceIndex> balanceIndex;
+    private final ObjectProvider<BalanceCache> balanceCache;
+
+    public AccountIndexListener(ObjectProvider<AccountBalanceIndex> balanceIndex,
+                                ObjectProvider<BalanceCache> balanceCache) {
+        this.balanceIndex = balanceIndex;
+        this.balanceCache = balanceCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(Account account) {
+        AccountBalanceIndex index = balanceIndex.getIfAvailable();
+        if (index != null) {
+            if (account.getBalanceStripes() > 0) {
+                // Stripe credits bypass the entity, so striped accounts are always read from the database
+                index.removeAfterCommit(account.getAccountId());
+            } else if (account.getBalance() != null && account.getStatus() != null) {
+                index.putAfterCommit(account);
+            }
+        }
+        BalanceCache cache = balanceCache.getIfAvailable();
+        if (cache != null) {
+            // The row alone is not a striped account's balance, so the cache reloads it instead
+            if (account.getBalanceStripes() > 0 || account.getBalance() == null || account.getStatus() == null) {
+                cache.removeAfterCommit(account);
+            } else {
+                cache.putAfterCommit(account);
+            }
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Account account) {
+        AccountBalanceIndex index = balanceIndex.getIfAvailable();
+        if (index != null) {
+            index.removeAfterCommit(account.getAccountId());
+        }
+        BalanceCache cache = balanceCache.getIfAvailable();
+        if (cache != null) {
+            cache.removeAfterCommit(account);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package org.system.bank.balance;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.system.bank.entity.Account;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.singleflight.SingleFlight;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Write-through cache behind the polled balance reads: each account's balance (stripe credits
+ * included) with its owner and status, and per user the accounts that make up their total.
+ * <p>
+ * The write paths that commit a status, owner or absolute balance apply it here after commit, so
+ * a node serves its own writes without reloading. Relative balance updates drop the account
+ * instead: a load running between the commit and the callback already reads the new balance, so
+ * adding the delta to it would count the change twice. Writes committed by other nodes are not seen
+ * here, so an entry is trusted for at most {@code bank.balance-cache.max-staleness-ms} after it
+ * was loaded; applying a write does not extend that. Concurrent misses on one key share a
+ * single load through {@link SingleFlight}.
+ * <p>
+ * A write that lands while a load is running leaves a placeholder for its account, so the load
+ * cannot cache the balance it read before that commit. Loads always read the primary: a read-only
+ * caller may be routed to a lagging replica, and a replica balance cached here would be served to
+ * the writer's own sticky reads too.
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceCache {
+
+    public record Balance(long accountId, Long userId, Money balance, AccountStatus status) {
+    }
+
+    // status is null for a placeholder, which never counts as cached
+    private record AccountEntry(Long userId, long balance, AccountStatus status, long loadedAt, long version) {
+        static AccountEntry placeholder(long version) {
+            return new AccountEntry(null, 0, null, 0, version);
+        }
+    }
+
+    private record UserEntry(long[] accountIds, long loadedAt) {
+    }
+
+    private final AccountRepository accountRepository;
+    private final SingleFlight singleFlight;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${bank.balance-cache.max-staleness-ms:5000}")
+    private long maxStalenessMs;
+
+    @Value("${bank.balance-cache.max-accounts:100000}")
+    private int maxAccounts;
+
+    private LongSupplier clock = System::nanoTime;
+
+    private final ConcurrentHashMap<Long, AccountEntry> accounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, UserEntry> users = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicInteger loadsInFlight = new AtomicInteger();
+
+    public Balance account(long accountId) {
+        AccountEntry entry = accounts.get(accountId);
+        if (isFresh(entry, clock.getAsLong())) {
+            return toBalance(accountId, entry);
+        }
+        return singleFlight.execute("BalanceCache.account", accountId, () -> loadAccount(accountId));
+    }
+
+    /**
+     * Sum of the user's active accounts, like {@link AccountRepository#getTotalBalance}.
+     */
+    public Money totalBalance(long userId) {
+        long now = clock.getAsLong();
+        UserEntry user = users.get(userId);
+        if (user != null && now - user.loadedAt() <= maxStalenessNanos()) {
+            long total = 0;
+            boolean complete = true;
+            for (long accountId : user.accountIds()) {
+                AccountEntry entry = accounts.get(accountId);
+                if (!isFresh(entry, now) || entry.userId() == null || entry.userId() != userId) {
+                    complete = false;
+                    break;
+                }
+                if (entry.status() == AccountStatus.ACTIVE) {
+                    total += entry.balance();
+                }
+            }
+            if (complete) {
+                return Money.ofMinor(total);
+            }
+        }
+        return singleFlight.execute("BalanceCache.totalBalance", userId, () -> loadUser(userId));
+    }
+
+    /**
+     * Drops an account whose balance changed by an amount rather than to a known value; the next
+     * read reloads it, together with its owner's total.
+     */
+    public void invalidate(long accountId) {
+        long version = versions.incrementAndGet();
+        accounts.compute(accountId, (id, old) -> placeholderIfLoading(version));
+    }
+
+    /**
+     * Records an account's committed balance, status and owner. An account the cache did not
+     * hold may be new, and an owner change moves it, so the owners' totals are dropped then.
+     */
+    public void put(long accountId, Long userId, long balance, AccountStatus status) {
+        long version = versions.incrementAndGet();
+        AccountEntry[] previous = new AccountEntry[1];
+        accounts.compute(accountId, (id, old) -> {
+            previous[0] = old;
+            if (old == null || old.status() == null || !sameOwner(old.userId(), userId)) {
+                return placeholderIfLoading(version);
+            }
+            return new AccountEntry(userId, balance, status, old.loadedAt(), version);
+        });
+        AccountEntry old = previous[0];
+        if (old == null || old.status() == null || !sameOwner(old.userId(), userId)) {
+            evictUser(userId);
+            if (old != null) {
+                evictUser(old.userId());
+            }
+        }
+    }
+
+    public void remove(long accountId, Long userId) {
+        long version = versions.incrementAndGet();
+        accounts.compute(accountId, (id, old) -> placeholderIfLoading(version));
+        evictUser(userId);
+    }
+
+    public void invalidateAfterCommit(long accountId) {
+        afterCommit(() -> invalidate(accountId));
+    }
+
+    public void putAfterCommit(Account account) {
+        long accountId = account.getAccountId();
+        Long userId = ownerOf(account);
+        long balance = account.getBalance().getMinorUnits();
+        AccountStatus status = account.getStatus();
+        afterCommit(() -> put(accountId, userId, balance, status));
+    }
+
+    public void removeAfterCommit(Account account) {
+        long accountId = account.getAccountId();
+        Long userId = ownerOf(account);
+        afterCommit(() -> remove(accountId, userId));
+    }
+
+    public int size() {
+        return accounts.size();
+    }
+
+    private Balance loadAccount(long accountId) {
+        List<Object[]> rows = load(() -> accountRepository.findBalanceRowsByAccountId(accountId));
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException("Account not found with id: " + accountId);
+        }
+        Object[] row = rows.get(0);
+        return new Balance(accountId, userIdOf(row), Money.of((BigDecimal) row[3]), AccountStatus.valueOf((String) row[2]));
+    }
+
+    private Money loadUser(long userId) {
+        List<Object[]> rows = load(() -> accountRepository.findBalanceRowsByUserId(userId));
+        long[] accountIds = new long[rows.size()];
+        long total = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            accountIds[i] = ((Number) row[0]).longValue();
+            if (AccountStatus.valueOf((String) row[2]) == AccountStatus.ACTIVE) {
+                total += Money.of((BigDecimal) row[3]).getMinorUnits();
+            }
+        }
+        if (accounts.size() < maxAccounts) {
+            users.put(userId, new UserEntry(accountIds, clock.getAsLong()));
+        }
+        return Money.ofMinor(total);
+    }
+
+    // Runs the query and caches its rows unless a write reached the same account meanwhile
+    private List<Object[]> load(Supplier<List<Object[]>> query) {
+        loadsInFlight.incrementAndGet();
+        try {
+            long startVersion = versions.get();
+            List<Object[]> rows = onPrimary(query);
+            long now = clock.getAsLong();
+            for (Object[] row : rows) {
+                if (accounts.size() >= maxAccounts) {
+                    break;
+                }
+                AccountEntry loaded = new AccountEntry(userIdOf(row), Money.of((BigDecimal) row[3]).getMinorUnits(),
+                        AccountStatus.valueOf((String) row[2]), now, startVersion);
+                accounts.compute(((Number) row[0]).longValue(),
+                        (id, old) -> old != null && old.version() > startVersion ? old : loaded);
+            }
+            return rows;
+        } finally {
+            loadsInFlight.decrementAndGet();
+        }
+    }
+
+    // Suspends the caller's transaction; the router sends statements outside a transaction to the primary
+    private List<Object[]> onPrimary(Supplier<List<Object[]>> query) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        return template.execute(status -> query.get());
+    }
+
+    private AccountEntry placeholderIfLoading(long version) {
+        return loadsInFlight.get() > 0 ? AccountEntry.placeholder(version) : null;
+    }
+
+    private boolean isFresh(AccountEntry entry, long now) {
+        return entry != null && entry.status() != null && now - entry.loadedAt() <= maxStalenessNanos();
+    }
+
+    private long maxStalenessNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(maxStalenessMs);
+    }
+
+    private void evictUser(Long userId) {
+        if (userId != null) {
+            users.remove(userId);
+        }
+    }
+
+    private static Balance toBalance(long accountId, AccountEntry entry) {
+        return new Balance(accountId, entry.userId(), Money.ofMinor(entry.balance()), entry.status());
+    }
+
+    private static boolean sameOwner(Long a, Long b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static Long userIdOf(Object[] row) {
+        return row[1] == null ? null : ((Number) row[1]).longValue();
+    }
+
+    private static Long ownerOf(Account account) {
+        return account.getUser() == null ? null : account.getUser().getUserId();
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
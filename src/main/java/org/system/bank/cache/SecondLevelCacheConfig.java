@@ -0,0 +1,39 @@
+package org.system.bank.cache;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level cache on JCache, with regions defined in {@code ehcache.xml}. Only entities
+ * annotated with {@code @Cache} are cached: {@code User} and {@code AccountSummary}. With statistics
+ * on, Spring Boot publishes per-region hit, miss and put counts as {@code hibernate.second.level.cache.*}
+ * metrics.
+ * <p>
+ * The cache is per node and evictions are not replicated. The user and account summary regions
+ * back authorization checks, so their TTL in {@code ehcache.xml} bounds how long another node
+ * keeps honouring a role, owner or status that has changed.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bank.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(
+            @Value("${bank.cache.config:ehcache.xml}") String cacheConfig,
+            @Value("${bank.cache.statistics:true}") boolean statistics) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CONFIG_URI, cacheConfig);
+            // Regions without an entry in the config would be unbounded
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+        };
+    }
+}
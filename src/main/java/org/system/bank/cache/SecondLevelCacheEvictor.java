@@ -0,0 +1,35 @@
+package org.system.bank.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts cached entities that Hibernate cannot invalidate on its own, such as read-only views over a
+ * table that is written through another entity.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Evicts once the surrounding transaction commits, so a concurrent reader cannot cache the old
+     * row again between the eviction and the commit. Without a transaction the entry is evicted now.
+     */
+    public void evictAfterCommit(Class<?> entityClass, Object id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityManagerFactory.getCache().evict(entityClass, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(entityClass, id);
+            }
+        });
+    }
+}
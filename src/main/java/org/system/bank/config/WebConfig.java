@@ -1,14 +1,26 @@
 package org.system.bank.config;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.system.bank.sqlstats.SqlStatsInterceptor;
 
 @Configuration
 @EnableWebMvc
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectProvider<SqlStatsInterceptor> sqlStatsInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        sqlStatsInterceptor.ifAvailable(registry::addInterceptor);
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -4,14 +4,19 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.system.bank.dto.request.AccountCreationRequest;
+import org.system.bank.dto.request.SpendingLimitRequest;
 import org.system.bank.dto.response.AccountResponse;
 import org.system.bank.enums.AccountStatus;
 import org.system.bank.service.AccountService;
 import org.system.bank.security.expression.AccountSecurityExpression;
+import org.system.bank.money.Money;
+import org.system.bank.paging.Paging;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -26,6 +31,10 @@ public class AccountController {
     private final AccountService accountService;
     private final AccountSecurityExpression accountSecurity;
 
+    // Primary key order: stable across pages. Only /status has an index on its filter; /min-balance
+    // and /search scan accounts
+    private static final Sort BY_ID = Sort.by("accountId");
+
     @Operation(summary = "Create new account", description = "Creates a new bank account for a user")
     @ApiResponse(responseCode = "200", description = "Account created successfully")
     @ApiResponse(responseCode = "403", description = "Access denied")
@@ -42,6 +51,21 @@ public class AccountController {
         return ResponseEntity.ok(accountService.getAccountById(id));
     }
 
+    @Operation(summary = "Get account balance", description = "Retrieves the current balance of an account")
+    @PreAuthorize("@accountSecurity.canAccessAccount(#id)")
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<Money> getAccountBalance(@PathVariable Long id) {
+        return ResponseEntity.ok(accountService.getAccountBalance(id));
+    }
+
+    @Operation(summary = "Get available balance",
+            description = "Retrieves the balance minus funds held for pending transfers")
+    @PreAuthorize("@accountSecurity.canAccessAccount(#id)")
+    @GetMapping("/{id}/available-balance")
+    public ResponseEntity<Money> getAvailableBalance(@PathVariable Long id) {
+        return ResponseEntity.ok(accountService.getAvailableBalance(id));
+    }
+
     @Operation(summary = "Update account", description = "Updates account details")
     @PreAuthorize("@accountSecurity.canModifyAccount(#id)")
     @PutMapping("/{id}")
@@ -51,7 +75,8 @@ public class AccountController {
         return ResponseEntity.ok(accountService.updateAccount(id, request));
     }
 
-    @Operation(summary = "Delete account", description = "Deletes an account from the system")
+    @Operation(summary = "Delete account", description = "Deletes an account that never held money. " +
+            "Accounts with ledger postings are kept for the ledger and must be blocked instead")
     @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteAccount(@PathVariable Long id) {
@@ -62,8 +87,11 @@ public class AccountController {
     @Operation(summary = "Get all accounts", description = "Retrieves all accounts in the system")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping
-    public ResponseEntity<List<AccountResponse>> getAllAccounts() {
-        return ResponseEntity.ok(accountService.getAllAccounts());
+    public ResponseEntity<Slice<AccountResponse>> getAllAccounts(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(accountService.getAllAccounts(Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Get user accounts", description = "Retrieves all accounts for a specific user")
@@ -76,8 +104,13 @@ public class AccountController {
     @Operation(summary = "Get accounts by status", description = "Retrieves accounts filtered by status")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<AccountResponse>> getAccountsByStatus(@PathVariable AccountStatus status) {
-        return ResponseEntity.ok(accountService.getAccountsByStatus(status));
+    public ResponseEntity<Slice<AccountResponse>> getAccountsByStatus(
+            @PathVariable AccountStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(accountService.getAccountsByStatus(status,
+                Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Update account status", description = "Updates the status of an account")
@@ -89,24 +122,53 @@ public class AccountController {
         return ResponseEntity.ok(accountService.updateAccountStatus(id, status));
     }
 
+    @Operation(summary = "Configure balance striping",
+            description = "Spreads credits to a hot account over sub-balance rows; 0 turns striping off")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/{id}/stripes")
+    public ResponseEntity<AccountResponse> configureBalanceStripes(
+            @PathVariable Long id,
+            @RequestParam int stripes) {
+        return ResponseEntity.ok(accountService.configureBalanceStripes(id, stripes));
+    }
+
+    @Operation(summary = "Set spending limits",
+            description = "Overrides the daily and per-transfer limits of one transfer type for an account")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/{id}/limits")
+    public ResponseEntity<Void> setSpendingLimit(
+            @PathVariable Long id,
+            @Valid @RequestBody SpendingLimitRequest request) {
+        accountService.setSpendingLimit(id, request);
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "Get total balance", description = "Retrieves total balance for a user's accounts")
     @PreAuthorize("@accountSecurity.canAccessUserAccounts(#userId)")
     @GetMapping("/user/{userId}/balance")
-    public ResponseEntity<Double> getTotalBalance(@PathVariable Long userId) {
+    public ResponseEntity<Money> getTotalBalance(@PathVariable Long userId) {
         return ResponseEntity.ok(accountService.getTotalBalance(userId));
     }
 
     @Operation(summary = "Get accounts by minimum balance", description = "Retrieves accounts with balance above specified minimum")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping("/min-balance")
-    public ResponseEntity<List<AccountResponse>> getAccountsWithMinBalance(@RequestParam Double minBalance) {
-        return ResponseEntity.ok(accountService.getAccountsWithMinBalance(minBalance));
+    public ResponseEntity<Slice<AccountResponse>> getAccountsWithMinBalance(
+            @RequestParam Money minBalance,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(accountService.getAccountsWithMinBalance(minBalance,
+                Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @GetMapping("/search")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<AccountResponse>> searchAccounts(
-            @RequestParam String query) {
-        return ResponseEntity.ok(accountService.searchAccounts(query));
+    public ResponseEntity<Slice<AccountResponse>> searchAccounts(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(accountService.searchAccounts(query, Paging.pageable(page, size, BY_ID), includeTotal));
     }
 }
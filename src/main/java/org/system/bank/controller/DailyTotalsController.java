@@ -0,0 +1,25 @@
+package org.system.bank.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.system.bank.totals.DailyTotalsBackfillJob;
+
+@RestController
+@RequestMapping("/admin/daily-totals")
+@RequiredArgsConstructor
+@Tag(name = "Daily Totals Administration", description = "APIs for rebuilding per-account daily totals")
+@PreAuthorize("hasRole('ADMIN')")
+public class DailyTotalsController {
+
+    private final DailyTotalsBackfillJob backfillJob;
+
+    @Operation(summary = "Rebuild daily totals", description = "Recomputes daily totals before today from transaction history")
+    @PostMapping("/rebuild")
+    public ResponseEntity<Long> rebuild() {
+        return ResponseEntity.ok(backfillJob.rebuild());
+    }
+}
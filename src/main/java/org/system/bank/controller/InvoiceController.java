@@ -5,6 +5,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +14,8 @@ import org.system.bank.dto.request.InvoiceCreationRequest;
 import org.system.bank.dto.response.InvoiceResponse;
 import org.system.bank.enums.InvoiceStatus;
 import org.system.bank.service.InvoiceService;
+import org.system.bank.money.Money;
+import org.system.bank.paging.Paging;
 
 import jakarta.validation.Valid;
 import java.time.LocalDate;
@@ -26,6 +30,12 @@ public class InvoiceController {
 
     private final InvoiceService invoiceService;
 
+    // Primary key order: stable across pages. /status filters through the (status, due_date) index,
+    // then sorts its matches
+    private static final Sort BY_ID = Sort.by("invoiceId");
+    // Due-date lookups walk idx_invoice_due_date; the id breaks ties between pages
+    private static final Sort BY_DUE_DATE = Sort.by("dueDate", "invoiceId");
+
     @Operation(summary = "Create new invoice", description = "Creates a new invoice in the system")
     @ApiResponse(responseCode = "200", description = "Invoice created successfully")
     @ApiResponse(responseCode = "403", description = "Access denied")
@@ -62,8 +72,11 @@ public class InvoiceController {
     @Operation(summary = "Get all invoices", description = "Retrieves all invoices in the system")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping
-    public ResponseEntity<List<InvoiceResponse>> getAllInvoices() {
-        return ResponseEntity.ok(invoiceService.getAllInvoices());
+    public ResponseEntity<Slice<InvoiceResponse>> getAllInvoices(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(invoiceService.getAllInvoices(Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Get user invoices", description = "Retrieves all invoices for a specific user")
@@ -76,23 +89,35 @@ public class InvoiceController {
     @Operation(summary = "Get invoices by status", description = "Retrieves invoices filtered by status")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<InvoiceResponse>> getInvoicesByStatus(@PathVariable InvoiceStatus status) {
-        return ResponseEntity.ok(invoiceService.getInvoicesByStatus(status));
+    public ResponseEntity<Slice<InvoiceResponse>> getInvoicesByStatus(
+            @PathVariable InvoiceStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(invoiceService.getInvoicesByStatus(status,
+                Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Get invoices by due date", description = "Retrieves invoices due on a specific date")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping("/due-date")
-    public ResponseEntity<List<InvoiceResponse>> getInvoicesByDueDate(
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDate) {
-        return ResponseEntity.ok(invoiceService.getInvoicesByDueDate(dueDate));
+    public ResponseEntity<Slice<InvoiceResponse>> getInvoicesByDueDate(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(invoiceService.getInvoicesByDueDate(dueDate,
+                Paging.pageable(page, size, BY_DUE_DATE), includeTotal));
     }
 
     @Operation(summary = "Get overdue invoices", description = "Retrieves all overdue invoices")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping("/overdue")
-    public ResponseEntity<List<InvoiceResponse>> getOverdueInvoices() {
-        return ResponseEntity.ok(invoiceService.getOverdueInvoices());
+    public ResponseEntity<Slice<InvoiceResponse>> getOverdueInvoices(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(invoiceService.getOverdueInvoices(Paging.pageable(page, size, BY_DUE_DATE), includeTotal));
     }
 
     @Operation(summary = "Process invoice payment", description = "Processes payment for an invoice")
@@ -105,7 +130,7 @@ public class InvoiceController {
     @Operation(summary = "Get total pending amount", description = "Calculates total pending amount for a user")
     @PreAuthorize("@invoiceSecurity.canAccessUserInvoices(#userId)")
     @GetMapping("/user/{userId}/pending-amount")
-    public ResponseEntity<Double> calculateTotalPendingAmount(@PathVariable Long userId) {
+    public ResponseEntity<Money> calculateTotalPendingAmount(@PathVariable Long userId) {
         return ResponseEntity.ok(invoiceService.calculateTotalPendingAmount(userId));
     }
 
@@ -0,0 +1,37 @@
+package org.system.bank.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.system.bank.dto.response.AccountResponse;
+import org.system.bank.dto.response.LedgerDriftReport;
+import org.system.bank.ledger.LedgerService;
+import org.system.bank.ledger.LedgerVerificationJob;
+import org.system.bank.mapper.AccountMapper;
+
+@RestController
+@RequestMapping("/admin/ledger")
+@RequiredArgsConstructor
+@Tag(name = "Ledger Administration", description = "APIs for verifying and rebuilding balances from the ledger")
+@PreAuthorize("hasRole('ADMIN')")
+public class LedgerController {
+
+    private final LedgerService ledgerService;
+    private final LedgerVerificationJob ledgerVerificationJob;
+    private final AccountMapper accountMapper;
+
+    @Operation(summary = "Verify balances", description = "Recomputes all balances from the ledger and reports accounts that drifted")
+    @PostMapping("/verify")
+    public ResponseEntity<LedgerDriftReport> verify() {
+        return ResponseEntity.ok(ledgerVerificationJob.verify());
+    }
+
+    @Operation(summary = "Rebuild account balance", description = "Replaces the cached balance of an account with its ledger total")
+    @PostMapping("/accounts/{accountId}/rebuild")
+    public ResponseEntity<AccountResponse> rebuildBalance(@PathVariable Long accountId) {
+        return ResponseEntity.ok(accountMapper.toResponse(ledgerService.rebuildBalance(accountId)));
+    }
+}
@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -11,6 +13,8 @@ import org.system.bank.dto.request.LoanApplicationRequest;
 import org.system.bank.dto.response.LoanResponse;
 import org.system.bank.enums.LoanStatus;
 import org.system.bank.service.LoanService;
+import org.system.bank.money.Money;
+import org.system.bank.paging.Paging;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -24,6 +28,10 @@ public class LoanController {
 
     private final LoanService loanService;
 
+    // Primary key order: stable across pages. /status and /overdue filter through the
+    // (status, end_date) index, then sort their matches
+    private static final Sort BY_ID = Sort.by("loanId");
+
     @Operation(summary = "Apply for loan", description = "Creates a new loan application")
     @ApiResponse(responseCode = "200", description = "Loan application created successfully")
     @ApiResponse(responseCode = "403", description = "Access denied")
@@ -52,8 +60,11 @@ public class LoanController {
     @Operation(summary = "Get all loans", description = "Retrieves all loans in the system")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping
-    public ResponseEntity<List<LoanResponse>> getAllLoans() {
-        return ResponseEntity.ok(loanService.getAllLoans());
+    public ResponseEntity<Slice<LoanResponse>> getAllLoans(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(loanService.getAllLoans(Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Get user loans", description = "Retrieves all loans for a specific user")
@@ -66,15 +77,22 @@ public class LoanController {
     @Operation(summary = "Get loans by status", description = "Retrieves loans filtered by status")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<LoanResponse>> getLoansByStatus(@PathVariable LoanStatus status) {
-        return ResponseEntity.ok(loanService.getLoansByStatus(status));
+    public ResponseEntity<Slice<LoanResponse>> getLoansByStatus(
+            @PathVariable LoanStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(loanService.getLoansByStatus(status, Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Get overdue loans", description = "Retrieves all overdue loans")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping("/overdue")
-    public ResponseEntity<List<LoanResponse>> getOverdueLoans() {
-        return ResponseEntity.ok(loanService.getOverdueLoans());
+    public ResponseEntity<Slice<LoanResponse>> getOverdueLoans(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(loanService.getOverdueLoans(Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Approve loan", description = "Approves a pending loan application")
@@ -96,21 +114,21 @@ public class LoanController {
     @PostMapping("/{id}/payment")
     public ResponseEntity<LoanResponse> processLoanPayment(
             @PathVariable Long id,
-            @RequestParam Double amount) {
+            @RequestParam Money amount) {
         return ResponseEntity.ok(loanService.processLoanPayment(id, amount));
     }
 
     @Operation(summary = "Calculate monthly payment", description = "Calculates monthly payment for a loan")
     @PreAuthorize("@loanSecurity.canAccessLoan(#id)")
     @GetMapping("/{id}/monthly-payment")
-    public ResponseEntity<Double> calculateMonthlyPayment(@PathVariable Long id) {
+    public ResponseEntity<Money> calculateMonthlyPayment(@PathVariable Long id) {
         return ResponseEntity.ok(loanService.calculateMonthlyPayment(id));
     }
 
     @Operation(summary = "Calculate total debt", description = "Calculates total debt for a user")
     @PreAuthorize("@userSecurity.canAccessUserData(#userId)")
     @GetMapping("/user/{userId}/total-debt")
-    public ResponseEntity<Double> calculateTotalDebt(@PathVariable Long userId) {
+    public ResponseEntity<Money> calculateTotalDebt(@PathVariable Long userId) {
         return ResponseEntity.ok(loanService.calculateTotalDebt(userId));
     }
 
@@ -119,7 +137,7 @@ public class LoanController {
     @GetMapping("/user/{userId}/eligibility")
     public ResponseEntity<Boolean> checkLoanEligibility(
             @PathVariable Long userId,
-            @RequestParam Double amount) {
+            @RequestParam Money amount) {
         return ResponseEntity.ok(loanService.isEligibleForLoan(userId, amount));
     }
 }
@@ -11,14 +11,17 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.system.bank.config.SecurityUser;
+import org.system.bank.dto.request.TransactionFilter;
 import org.system.bank.dto.request.TransactionRequest;
 import org.system.bank.dto.response.CartTransactionDTO;
 import org.system.bank.dto.response.TransactionResponse;
 import org.system.bank.enums.OtpPurpose;
 import org.system.bank.enums.TransactionStatus;
 import org.system.bank.enums.TransactionType;
+import org.system.bank.repository.specification.TransactionSpecifications;
 import org.system.bank.service.TransactionService;
 import org.system.bank.otp.RequiresOtp;
+import org.system.bank.money.Money;
 import org.springframework.data.domain.PageRequest;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
@@ -33,7 +36,10 @@ public class TransactionController {
 
     private final TransactionService transactionService;
 
-    @Operation(summary = "Create new transaction", description = "Initiates a new transaction between accounts")
+    @Operation(summary = "Create new transaction", description = "Initiates a new transaction between accounts. "
+            + "With the transfer journal enabled the response has no transactionId until the transfer is written "
+            + "to the database; journalSequence identifies it, and status PENDING means the journal write was not "
+            + "confirmed and the outcome is not yet known")
     @ApiResponse(responseCode = "200", description = "Transaction created successfully")
     @ApiResponse(responseCode = "403", description = "Insufficient permissions or funds")
     @PreAuthorize("@transactionSecurity.canCreateTransaction(#request.sourceAccountId)")
@@ -50,6 +56,7 @@ public class TransactionController {
         return ResponseEntity.ok(transactionService.getTransactionById(id));
     }
 
+    @Operation(summary = "Search transactions", description = "Pages through transactions matching the given filters")
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     public ResponseEntity<Page<TransactionResponse>> getAllTransactions(
@@ -58,12 +65,26 @@ public class TransactionController {
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDirection,
             @RequestParam(required = false) TransactionType type,
-            @RequestParam(required = false) TransactionStatus status) {
+            @RequestParam(required = false) TransactionStatus status,
+            @RequestParam(required = false) Money minAmount,
+            @RequestParam(required = false) Money maxAmount,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long accountId) {
 
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        Pageable pageable = PageRequest.of(page, size, TransactionSpecifications.sort(sortBy, direction));
+        TransactionFilter filter = TransactionFilter.builder()
+                .type(type)
+                .status(status)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .from(from)
+                .to(to)
+                .accountId(accountId)
+                .build();
 
-        Page<TransactionResponse> transactions = transactionService.getAllTransactions(pageable);
+        Page<TransactionResponse> transactions = transactionService.getAllTransactions(filter, pageable);
         return ResponseEntity.ok(transactions);
     }
 
@@ -101,12 +122,26 @@ public class TransactionController {
     @Operation(summary = "Get daily transaction total", description = "Calculates total transaction amount for an account on a specific date")
     @PreAuthorize("@transactionSecurity.canAccessAccountTransactions(#accountId)")
     @GetMapping("/daily-total")
-    public ResponseEntity<Double> getDailyTransactions(
+    public ResponseEntity<Money> getDailyTransactions(
             @RequestParam Long accountId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime date) {
         return ResponseEntity.ok(transactionService.calculateDailyTransactions(accountId, date));
     }
 
+    @Operation(summary = "Approve held transaction", description = "Releases a transaction held by fraud screening for settlement")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{id}/approve")
+    public ResponseEntity<TransactionResponse> approveHeldTransaction(@PathVariable Long id) {
+        return ResponseEntity.ok(transactionService.approveHeldTransaction(id));
+    }
+
+    @Operation(summary = "Reject held transaction", description = "Rejects a transaction held by fraud screening and releases its funds")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{id}/reject")
+    public ResponseEntity<TransactionResponse> rejectHeldTransaction(@PathVariable Long id) {
+        return ResponseEntity.ok(transactionService.rejectHeldTransaction(id));
+    }
+
     @GetMapping("/pending")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<List<CartTransactionDTO>> getPendingTransactions() {
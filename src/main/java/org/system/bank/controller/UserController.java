@@ -4,21 +4,22 @@ import io.swagger.v3.oas.annotations.*;
 import io.swagger.v3.oas.annotations.responses.*;
 import io.swagger.v3.oas.annotations.tags.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.system.bank.dto.request.UserRegistrationRequest;
 import org.system.bank.dto.response.UserResponse;
 import org.system.bank.entity.DashboardStats;
-import org.system.bank.enums.AccountStatus;
 import org.system.bank.enums.Role;
+import org.system.bank.paging.Paging;
 import org.system.bank.service.TransactionService;
 import org.system.bank.service.UserService;
 
 import jakarta.validation.Valid;
 
 import java.util.Date;
-import java.util.List;
 
 @RestController
 @RequestMapping("/users")
@@ -31,6 +32,10 @@ public class UserController {
     private final UserService userService;
     private final TransactionService transactionService;
 
+    // Primary key order: stable across pages. Only /role has an index on its filter; the age, income
+    // and credit score ranges scan users
+    private static final Sort BY_ID = Sort.by("userId");
+
     @Operation(summary = "Create new user", description = "Creates a new user in the system. Restricted to admin users.")
     @ApiResponse(responseCode = "200", description = "User created successfully")
     @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
@@ -56,7 +61,8 @@ public class UserController {
         return ResponseEntity.ok(userService.updateUser(id, request));
     }
 
-    @Operation(summary = "Delete user", description = "Deletes a user from the system. Restricted to admin users.")
+    @Operation(summary = "Delete user", description = "Deletes a user whose accounts never held money. " +
+            "Users with ledger postings are kept for the ledger. Restricted to admin users.")
     @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
@@ -67,41 +73,60 @@ public class UserController {
     @Operation(summary = "Get all users", description = "Retrieves all users in the system. Restricted to admin and employee users.")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<Slice<UserResponse>> getAllUsers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(userService.getAllUsers(Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Get users by role", description = "Retrieves users filtered by role. Restricted to admin and employee users.")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping("/role/{role}")
-    public ResponseEntity<List<UserResponse>> getUsersByRole(@PathVariable Role role) {
-        return ResponseEntity.ok(userService.getUsersByRole(role));
+    public ResponseEntity<Slice<UserResponse>> getUsersByRole(
+            @PathVariable Role role,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(userService.getUsersByRole(role, Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Get users by age range", description = "Retrieves users within specified age range. Restricted to admin and employee users.")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping("/age-range")
-    public ResponseEntity<List<UserResponse>> getUsersByAgeRange(
+    public ResponseEntity<Slice<UserResponse>> getUsersByAgeRange(
             @RequestParam Integer minAge,
-            @RequestParam Integer maxAge) {
-        return ResponseEntity.ok(userService.getUsersByAgeRange(minAge, maxAge));
+            @RequestParam Integer maxAge,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(userService.getUsersByAgeRange(minAge, maxAge,
+                Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Get users by income range", description = "Retrieves users within specified income range. Restricted to admin and employee users.")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping("/income-range")
-    public ResponseEntity<List<UserResponse>> getUsersByIncomeRange(
+    public ResponseEntity<Slice<UserResponse>> getUsersByIncomeRange(
             @RequestParam Double minIncome,
-            @RequestParam Double maxIncome) {
-        return ResponseEntity.ok(userService.getUsersByIncomeRange(minIncome, maxIncome));
+            @RequestParam Double maxIncome,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(userService.getUsersByIncomeRange(minIncome, maxIncome,
+                Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Get users by minimum credit score", description = "Retrieves users with credit score above specified minimum. Restricted to admin and employee users.")
     @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
     @GetMapping("/credit-score")
-    public ResponseEntity<List<UserResponse>> getUsersByMinCreditScore(
-            @RequestParam Integer minCreditScore) {
-        return ResponseEntity.ok(userService.getUsersByMinCreditScore(minCreditScore));
+    public ResponseEntity<Slice<UserResponse>> getUsersByMinCreditScore(
+            @RequestParam Integer minCreditScore,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(userService.getUsersByMinCreditScore(minCreditScore,
+                Paging.pageable(page, size, BY_ID), includeTotal));
     }
 
     @Operation(summary = "Check loan eligibility", description = "Checks if a user is eligible for a loan. Access restricted to admin, employee, or the user themselves.")
@@ -113,12 +138,10 @@ public class UserController {
 
     @GetMapping("/admin/stats")
     public ResponseEntity<DashboardStats> getAdminStats() {
-        int totalUsers = userService.getAllUsers().size();
-        int activeUsers = (int) userService.getAllUsers().stream()
-                .filter(user -> user.getAccounts().stream()
-                        .anyMatch(account -> account.getStatus() == AccountStatus.ACTIVE))
-                .count();
-        int totalTransactions = transactionService.getAllTransactions().size();
+        // Counted in the database rather than by loading every user and transaction
+        int totalUsers = (int) userService.countUsers();
+        int activeUsers = (int) userService.countUsersWithActiveAccount();
+        int totalTransactions = (int) transactionService.countTransactions();
 
         return ResponseEntity.ok(DashboardStats.builder()
                 .totalUsers(totalUsers)
@@ -1,11 +1,12 @@
 package org.system.bank.dto.request;
 
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.system.bank.money.Money;
+import org.system.bank.money.PositiveMoney;
 
 @Data
 @Builder
@@ -16,6 +17,6 @@ public class AccountCreationRequest {
     private Long userId;
 
     @NotNull
-    @Positive(message = "Initial deposit must be greater than 0")
-    private Double initialDeposit;
+    @PositiveMoney(message = "Initial deposit must be greater than 0")
+    private Money initialDeposit;
 }
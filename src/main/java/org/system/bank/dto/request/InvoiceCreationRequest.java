@@ -2,11 +2,12 @@ package org.system.bank.dto.request;
 
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.system.bank.money.Money;
+import org.system.bank.money.PositiveMoney;
 
 import java.time.LocalDate;
 
@@ -16,8 +17,8 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class InvoiceCreationRequest {
     @NotNull
-    @Positive
-    private Double amountDue;
+    @PositiveMoney
+    private Money amountDue;
 
     @NotNull
     @Future
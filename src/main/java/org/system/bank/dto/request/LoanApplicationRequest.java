@@ -2,11 +2,12 @@ package org.system.bank.dto.request;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.system.bank.money.Money;
+import org.system.bank.money.PositiveMoney;
 
 @Data
 @Builder
@@ -14,8 +15,8 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class LoanApplicationRequest {
     @NotNull(message = "Principal amount is required")
-    @Positive(message = "Principal amount must be positive")
-    private Double principal;
+    @PositiveMoney(message = "Principal amount must be positive")
+    private Money principal;
 
     @NotNull(message = "Loan term is required")
     @Min(value = 12, message = "Minimum loan term is 12 months")
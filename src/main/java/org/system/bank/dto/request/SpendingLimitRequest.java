@@ -0,0 +1,26 @@
+package org.system.bank.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.system.bank.enums.TransactionType;
+import org.system.bank.money.Money;
+import org.system.bank.money.PositiveMoney;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpendingLimitRequest {
+    @NotNull
+    private TransactionType type;
+
+    // Null falls back to the configured default for the type
+    @PositiveMoney
+    private Money dailyLimit;
+
+    @PositiveMoney
+    private Money perTransferLimit;
+}
@@ -0,0 +1,29 @@
+package org.system.bank.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.enums.TransactionType;
+import org.system.bank.money.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional criteria for listing transactions; null fields do not filter. Ranges include both
+ * ends, and {@code accountId} matches either side of the transfer.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionFilter {
+    private TransactionType type;
+    private TransactionStatus status;
+    private Money minAmount;
+    private Money maxAmount;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Long accountId;
+}
@@ -1,12 +1,13 @@
 package org.system.bank.dto.request;
 
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import org.system.bank.enums.TransactionType;
+import org.system.bank.money.Money;
+import org.system.bank.money.PositiveMoney;
 
 @Data
 @Builder
@@ -14,8 +15,8 @@ import org.system.bank.enums.TransactionType;
 @AllArgsConstructor
 public class TransactionRequest {
     @NotNull
-    @Positive
-    private Double amount;
+    @PositiveMoney
+    private Money amount;
 
     @NotNull
     private Long sourceAccountId;
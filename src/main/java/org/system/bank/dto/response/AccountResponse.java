@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import org.system.bank.enums.AccountStatus;
+import org.system.bank.money.Money;
 
 @Data
 @Builder
@@ -12,7 +13,7 @@ import org.system.bank.enums.AccountStatus;
 @AllArgsConstructor
 public class AccountResponse {
     private Long accountId;
-    private Double balance;
+    private Money balance;
     private AccountStatus status;
     private Long userId;
     private String userName;
@@ -3,13 +3,14 @@ package org.system.bank.dto.response;
 import lombok.Data;
 import lombok.Builder;
 import org.system.bank.enums.TransactionType;
+import org.system.bank.money.Money;
 import java.time.LocalDateTime;
 
 @Data
 @Builder
 public class CartTransactionDTO {
     private String id;
-    private Double amount;
+    private Money amount;
     private TransactionType type;
     private Long sourceAccountId;
     private Long destinationAccountId;
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import org.system.bank.enums.InvoiceStatus;
+import org.system.bank.money.Money;
 
 import java.time.LocalDate;
 
@@ -14,7 +15,7 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class InvoiceResponse {
     private Long invoiceId;
-    private Double amountDue;
+    private Money amountDue;
     private LocalDate dueDate;
     private InvoiceStatus status;
     private Long userId;
@@ -0,0 +1,31 @@
+package org.system.bank.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.system.bank.money.Money;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerDriftReport {
+    private long accountsChecked;
+    private List<AccountDrift> drifted;
+    private long durationMillis;
+    private LocalDateTime checkedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountDrift {
+        private Long accountId;
+        private Money cachedBalance;
+        private Money ledgerBalance;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import org.system.bank.enums.LoanStatus;
+import org.system.bank.money.Money;
 
 import java.time.LocalDate;
 
@@ -14,11 +15,11 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class LoanResponse {
     private Long loanId;
-    private Double principal;
+    private Money principal;
     private Double interestRate;
     private Integer termMonths;
-    private Double monthlyPayment;
-    private Double remainingAmount;
+    private Money monthlyPayment;
+    private Money remainingAmount;
     private LoanStatus status;
     private Long userId;
     private String userName;
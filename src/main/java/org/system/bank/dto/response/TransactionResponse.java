@@ -4,8 +4,10 @@ import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.system.bank.enums.FraudRule;
 import org.system.bank.enums.TransactionStatus;
 import org.system.bank.enums.TransactionType;
+import org.system.bank.money.Money;
 
 import java.time.LocalDateTime;
 
@@ -14,12 +16,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class TransactionResponse {
+    // Null for a transfer acknowledged from the transfer journal until it is drained; the
+    // journal sequence identifies it meanwhile
     private Long transactionId;
-    private Double amount;
+    private Long journalSequence;
+    private Money amount;
     private TransactionType type;
     private TransactionStatus status;
     private Long sourceAccountId;
     private Long destinationAccountId;
     private LocalDateTime createdAt;
-    private Double fee;
+    private Money fee;
+    private FraudRule fraudRule;
 }
@@ -0,0 +1,126 @@
+package org.system.bank.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.bank.balance.AccountBalanceIndex;
+import org.system.bank.balance.BalanceCache;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.OutboxEventType;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.journal.JournalRecord;
+import org.system.bank.ledger.LedgerService;
+import org.system.bank.mapper.TransactionMapper;
+import org.system.bank.money.Money;
+import org.system.bank.outbox.OutboxService;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.TransactionRepository;
+import org.system.bank.totals.DailyTotalsService;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Group commit for the transfer engine: one database transaction per partition batch holding
+ * every accepted transfer, its ledger postings and outbox event, and a single relative balance
+ * update per touched account.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bank.engine", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Transactional
+public class EngineBatchWriter {
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionMapper transactionMapper;
+    private final LedgerService ledgerService;
+    private final OutboxService outboxService;
+    private final AccountBalanceIndex balanceIndex;
+    private final BalanceCache balanceCache;
+    private final DailyTotalsService dailyTotalsService;
+
+    /**
+     * @param balanceDeltas net change per account in minor units, iterated in account id order
+     *                      so concurrent partitions lock rows in the same order
+     */
+    public List<Transaction> persist(List<TransactionRequest> requests, SortedMap<Long, Long> balanceDeltas) {
+        List<Transaction> transactions = new ArrayList<>(requests.size());
+        for (TransactionRequest request : requests) {
+            Transaction transaction = transactionMapper.toEntity(request);
+            transaction.setSourceAccount(accountRepository.getReferenceById(request.getSourceAccountId()));
+            transaction.setDestinationAccount(accountRepository.getReferenceById(request.getDestinationAccountId()));
+            transaction.setStatus(TransactionStatus.COMPLETED);
+            transactions.add(transaction);
+        }
+
+        List<Transaction> saved = transactionRepository.saveAll(transactions);
+        for (Transaction transaction : saved) {
+            ledgerService.postTransfer(transaction, transactionMapper.calculateFee(transaction));
+            outboxService.record(OutboxEventType.TRANSACTION_COMPLETED, transaction.getTransactionId(),
+                    transactionMapper.toResponse(transaction));
+        }
+        dailyTotalsService.record(saved);
+
+        balanceDeltas.forEach((accountId, delta) -> {
+            if (delta == 0) {
+                return;
+            }
+            if (accountRepository.applyBalanceDelta(accountId, BigDecimal.valueOf(delta, Money.SCALE)) == 0) {
+                // Someone debited the account outside the engine; the partition reloads and retries
+                throw new IllegalStateException("Balance of account " + accountId + " changed outside the transfer engine");
+            }
+            balanceIndex.addToBalanceAfterCommit(accountId, delta);
+            balanceCache.invalidateAfterCommit(accountId);
+        });
+        return saved;
+    }
+
+    /**
+     * Writes transfers drained from the journal. They were validated and acknowledged before
+     * they were journaled, so balances are adjusted without the overdraft guard.
+     */
+    public void persistJournaled(List<JournalRecord> records) {
+        List<Transaction> transactions = new ArrayList<>(records.size());
+        SortedMap<Long, Long> balanceDeltas = new TreeMap<>();
+        for (JournalRecord record : records) {
+            Money amount = Money.ofMinor(record.amount());
+            transactions.add(Transaction.builder()
+                    .type(record.type())
+                    .amount(amount)
+                    .sourceAccount(accountRepository.getReferenceById(record.sourceAccountId()))
+                    .destinationAccount(accountRepository.getReferenceById(record.destinationAccountId()))
+                    .status(record.status())
+                    .createdAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()), ZoneId.systemDefault()))
+                    .journalSequence(record.sequence())
+                    .build());
+            long total = Math.addExact(record.amount(), Money.applyBasisPoints(record.amount(), record.type().getFeeBasisPoints()));
+            balanceDeltas.merge(record.sourceAccountId(), -total, Long::sum);
+            balanceDeltas.merge(record.destinationAccountId(), record.amount(), Long::sum);
+        }
+
+        List<Transaction> saved = transactionRepository.saveAll(transactions);
+        for (Transaction transaction : saved) {
+            ledgerService.postTransfer(transaction, transactionMapper.calculateFee(transaction));
+            outboxService.record(OutboxEventType.TRANSACTION_COMPLETED, transaction.getTransactionId(),
+                    transactionMapper.toResponse(transaction));
+        }
+        dailyTotalsService.record(saved);
+
+        balanceDeltas.forEach((accountId, delta) -> {
+            if (delta != 0) {
+                accountRepository.addToBalance(accountId, BigDecimal.valueOf(delta, Money.SCALE));
+                balanceIndex.addToBalanceAfterCommit(accountId, delta);
+                balanceCache.invalidateAfterCommit(accountId);
+            }
+        });
+    }
+}
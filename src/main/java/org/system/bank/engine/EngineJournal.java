@@ -0,0 +1,260 @@
+package org.system.bank.engine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.journal.JournalRecord;
+import org.system.bank.journal.TransferJournal;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.TransactionRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.DSYNC;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Durable commit path for the transfer engine when {@code bank.journal.enabled} is set. A
+ * partition's batch is appended to the {@link TransferJournal} and acknowledged after one fsync;
+ * a background drainer later writes the journaled transfers into {@code transactions} and
+ * applies their balance changes.
+ * <p>
+ * The highest {@code journal_sequence} in the database is the drain checkpoint. On startup the
+ * journal is replayed from there, and until a record is drained its debit is tracked here so
+ * partitions loading a balance from the database can subtract it.
+ * <p>
+ * A record the database refuses with an integrity violation would otherwise block the drain for
+ * good. It is dead-lettered instead: appended to {@value #DEAD_LETTER_FILE} next to the segments,
+ * logged and counted in {@code bank.journal.dead_letters}, and skipped. It was acknowledged as
+ * completed, so every dead letter needs to be repaired by hand. Other failures leave the record
+ * in place for the next drain.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "bank", name = {"engine.enabled", "journal.enabled"}, havingValue = "true")
+@RequiredArgsConstructor
+public class EngineJournal {
+
+    static final String DEAD_LETTER_FILE = "dead-letters.log";
+
+    private final TransactionRepository transactionRepository;
+    private final EngineBatchWriter batchWriter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${bank.journal.dir:journal}")
+    private String directory;
+
+    @Value("${bank.journal.segment-size:67108864}")
+    private int segmentSize;
+
+    @Value("${bank.journal.drain-batch-size:1000}")
+    private int drainBatchSize;
+
+    /**
+     * Outcome of {@link #commit}: one transaction for each leading request that was appended, and
+     * the error that stopped the rest, if any. A transaction is COMPLETED once its record is
+     * durable; if the fsync failed it is PENDING, as the record may still become durable.
+     */
+    public record Result(List<Transaction> transactions, RuntimeException failure) {
+    }
+
+    private final Map<Long, Long> undrainedDebits = new ConcurrentHashMap<>();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private volatile TransferJournal journal;
+    private volatile long drainedSequence;
+    private Counter deadLetters;
+
+    @PostConstruct
+    public void open() throws IOException {
+        deadLetters = Counter.builder("bank.journal.dead_letters")
+                .description("Journaled transfers the drain could not write and skipped")
+                .register(meterRegistry);
+        Long checkpoint = transactionRepository.findMaxJournalSequence();
+        drainedSequence = checkpoint == null ? 0 : checkpoint;
+        journal = new TransferJournal(Path.of(directory), segmentSize, drainedSequence + 1);
+
+        long replayed = 0;
+        long after = drainedSequence;
+        List<JournalRecord> records;
+        while (!(records = journal.read(after, drainBatchSize)).isEmpty()) {
+            for (JournalRecord record : records) {
+                undrainedDebits.merge(record.sourceAccountId(), debitOf(record), Long::sum);
+            }
+            after = records.get(records.size() - 1).sequence();
+            replayed += records.size();
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} journaled transfers not yet drained into transactions", replayed);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        drainLock.lock();
+        try {
+            // Anything not drained yet is replayed on the next start
+            journal.close();
+            journal = null;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Journals a batch of accepted transfers with a single fsync. The transactions have no
+     * database id until drained; their journal sequence identifies them until then.
+     * <p>
+     * An appended record cannot be taken back: it stays in the mapping, and the next successful
+     * sync (the drainer retries one) makes it durable and drainable. So when the fsync fails the
+     * appended transfers come back PENDING, outcome unknown, rather than as failures. Requests
+     * after a failed append were never written and are reported through {@link Result#failure()}.
+     */
+    public Result commit(List<TransactionRequest> requests) {
+        TransferJournal journal = this.journal;
+        if (journal == null) {
+            throw new IllegalStateException("Transfer journal is closed");
+        }
+        long now = System.currentTimeMillis();
+        LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
+        List<Transaction> transactions = new ArrayList<>(requests.size());
+        RuntimeException failure = null;
+        for (TransactionRequest request : requests) {
+            Long sourceId = request.getSourceAccountId();
+            Long destinationId = request.getDestinationAccountId();
+            long amount = request.getAmount().getMinorUnits();
+            long sequence;
+            try {
+                sequence = journal.append(request.getType(), amount, sourceId, destinationId,
+                        TransactionStatus.COMPLETED, now);
+            } catch (RuntimeException e) {
+                failure = e;
+                break;
+            }
+            // Counted before the fsync: if it fails the debit may still surface, so stay conservative
+            undrainedDebits.merge(sourceId, debitOf(amount, request.getType().getFeeBasisPoints()), Long::sum);
+
+            transactions.add(Transaction.builder()
+                    .type(request.getType())
+                    .amount(request.getAmount())
+                    .sourceAccount(Account.builder().accountId(sourceId).build())
+                    .destinationAccount(Account.builder().accountId(destinationId).build())
+                    .status(TransactionStatus.COMPLETED)
+                    .createdAt(createdAt)
+                    .journalSequence(sequence)
+                    .build());
+        }
+        if (transactions.isEmpty()) {
+            return new Result(transactions, failure);
+        }
+        try {
+            journal.sync();
+        } catch (RuntimeException e) {
+            log.error("Failed to sync {} journaled transfers; reporting them as pending", transactions.size(), e);
+            for (Transaction transaction : transactions) {
+                transaction.setStatus(TransactionStatus.PENDING);
+            }
+        }
+        return new Result(transactions, failure);
+    }
+
+    /**
+     * Debits in minor units, fees included, that are journaled for the account but not yet
+     * reflected in its database balance. Read it before loading the balance: a drain finishing
+     * in between then subtracts twice, which errs on the safe side.
+     */
+    public long undrainedDebits(Long accountId) {
+        return undrainedDebits.getOrDefault(accountId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${bank.journal.drain-interval-ms:200}")
+    public void drain() {
+        drainLock.lock();
+        try {
+            if (journal == null) {
+                return;
+            }
+            // Makes durable any records whose commit failed to sync; a no-op otherwise
+            journal.sync();
+            List<JournalRecord> records;
+            while (!(records = journal.read(drainedSequence, drainBatchSize)).isEmpty()) {
+                try {
+                    batchWriter.persistJournaled(records);
+                    records.forEach(this::markDrained);
+                } catch (DataIntegrityViolationException e) {
+                    log.warn("Draining {} journaled transfers failed, retrying one by one", records.size(), e);
+                    drainOneByOne(records);
+                }
+            }
+            journal.release(drainedSequence);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    public long drainedSequence() {
+        return drainedSequence;
+    }
+
+    // Each record is checkpointed as it goes, so an unrelated failure part way does not write any twice
+    private void drainOneByOne(List<JournalRecord> records) {
+        for (JournalRecord record : records) {
+            try {
+                batchWriter.persistJournaled(List.of(record));
+            } catch (DataIntegrityViolationException e) {
+                deadLetter(record, e);
+            }
+            markDrained(record);
+        }
+    }
+
+    private void deadLetter(JournalRecord record, DataIntegrityViolationException cause) {
+        try {
+            Files.writeString(Path.of(directory).resolve(DEAD_LETTER_FILE), record + System.lineSeparator(),
+                    CREATE, WRITE, APPEND, DSYNC);
+        } catch (IOException e) {
+            // Not skipped unless it is written down somewhere durable
+            cause.addSuppressed(e);
+            throw cause;
+        }
+        deadLetters.increment();
+        log.error("Dead-lettered journaled transfer {}; it was acknowledged and needs manual repair", record, cause);
+    }
+
+    private void markDrained(JournalRecord record) {
+        drainedSequence = record.sequence();
+        undrainedDebits.merge(record.sourceAccountId(), -debitOf(record),
+                (current, change) -> current + change == 0 ? null : current + change);
+    }
+
+    private static long debitOf(JournalRecord record) {
+        return debitOf(record.amount(), record.type().getFeeBasisPoints());
+    }
+
+    private static long debitOf(long amount, long feeBasisPoints) {
+        return Math.addExact(amount, Money.applyBasisPoints(amount, feeBasisPoints));
+    }
+}
@@ -0,0 +1,305 @@
+package org.system.bank.engine;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.exception.InsufficientFundsException;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountHoldRepository;
+import org.system.bank.repository.jpa.AccountRepository;
+
+import java.math.BigDecimal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One single-threaded lane of the transfer engine. Every account is debited by exactly one
+ * partition, so the balances it holds can be checked and updated without locks. All state in
+ * this class is confined to the partition thread.
+ * <p>
+ * A cached balance is the available balance and never overstates what is in the database: active
+ * holds are subtracted when the entry is loaded, debits are applied as they are accepted, while
+ * credits made by other partitions and holds placed or released since the load are only picked
+ * up when the entry is reloaded (on expiry, or when a debit would otherwise be rejected). A hold
+ * placed after the load can be over-reserved; its capture re-checks the balance under the row
+ * lock, as it does for concurrent holds.
+ */
+@Slf4j
+class EnginePartition implements Runnable {
+
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    record PendingTransfer(TransactionRequest request, CompletableFuture<Transaction> result) {
+    }
+
+    private static final class CachedAccount {
+        long balance;
+        AccountStatus status;
+        long expiresAt;
+    }
+
+    private final int index;
+    private final BlockingQueue<PendingTransfer> queue;
+    private final AccountRepository accountRepository;
+    private final AccountHoldRepository accountHoldRepository;
+    private final EngineBatchWriter batchWriter;
+    private final int batchSize;
+    private final long cacheTtlNanos;
+    private final TransferEngine engine;
+    private final EngineJournal journal;
+
+    private final Map<Long, CachedAccount> accounts = new HashMap<>();
+
+    EnginePartition(int index, BlockingQueue<PendingTransfer> queue, AccountRepository accountRepository,
+                    AccountHoldRepository accountHoldRepository, EngineBatchWriter batchWriter,
+                    EngineJournal journal, int batchSize, long cacheTtlMs, TransferEngine engine) {
+        this.index = index;
+        this.queue = queue;
+        this.accountRepository = accountRepository;
+        this.accountHoldRepository = accountHoldRepository;
+        this.batchWriter = batchWriter;
+        this.journal = journal;
+        this.batchSize = batchSize;
+        this.cacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(cacheTtlMs);
+        this.engine = engine;
+    }
+
+    @Override
+    public void run() {
+        List<PendingTransfer> batch = new ArrayList<>(batchSize);
+        while (engine.isRunning() || !queue.isEmpty()) {
+            try {
+                PendingTransfer first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        for (PendingTransfer pending : queue) {
+            pending.result().completeExceptionally(new IllegalStateException("Transfer engine stopped"));
+        }
+    }
+
+    void process(List<PendingTransfer> batch) {
+        try {
+            apply(batch);
+        } catch (Exception e) {
+            if (journal != null) {
+                // Transfers the journal took were completed by apply; the rest were never written,
+                // but retrying them could reorder them behind later transfers
+                log.error("Engine partition {} failed to journal a batch of {}", index, batch.size(), e);
+                for (PendingTransfer pending : batch) {
+                    pending.result().completeExceptionally(e);
+                }
+                return;
+            }
+            log.warn("Engine partition {} failed to commit a batch of {}, retrying one by one",
+                    index, batch.size(), e);
+            for (PendingTransfer pending : batch) {
+                if (pending.result().isDone()) {
+                    continue;
+                }
+                try {
+                    apply(List.of(pending));
+                } catch (Exception ex) {
+                    pending.result().completeExceptionally(ex);
+                }
+            }
+        }
+    }
+
+    private void apply(List<PendingTransfer> batch) {
+        long now = System.nanoTime();
+        load(batch, now);
+
+        List<PendingTransfer> accepted = new ArrayList<>(batch.size());
+        Map<Long, Long> debits = new HashMap<>();
+        SortedMap<Long, Long> deltas = new TreeMap<>();
+        Set<Long> reloaded = new HashSet<>();
+
+        try {
+            for (PendingTransfer pending : batch) {
+                if (pending.result().isDone()) {
+                    continue;
+                }
+                TransactionRequest request = pending.request();
+                Long sourceId = request.getSourceAccountId();
+                Long destinationId = request.getDestinationAccountId();
+
+                CachedAccount source = accounts.get(sourceId);
+                CachedAccount destination = accounts.get(destinationId);
+                RuntimeException rejection = checkAccounts(sourceId, source, destinationId, destination);
+                if (rejection != null) {
+                    pending.result().completeExceptionally(rejection);
+                    continue;
+                }
+
+                long amount = request.getAmount().getMinorUnits();
+                long total = Math.addExact(amount, Money.applyBasisPoints(amount, request.getType().getFeeBasisPoints()));
+                if (source.balance < total && reloaded.add(sourceId)) {
+                    // Credits from other partitions are only visible in the database
+                    refresh(sourceId, source, debits.getOrDefault(sourceId, 0L), now);
+                }
+                if (source.balance < total) {
+                    pending.result().completeExceptionally(
+                            new InsufficientFundsException("Insufficient funds for transaction"));
+                    continue;
+                }
+
+                source.balance -= total;
+                debits.merge(sourceId, total, Long::sum);
+                deltas.merge(sourceId, -total, Long::sum);
+                deltas.merge(destinationId, amount, Long::sum);
+                accepted.add(pending);
+            }
+
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            List<TransactionRequest> requests = new ArrayList<>(accepted.size());
+            for (PendingTransfer pending : accepted) {
+                requests.add(pending.request());
+            }
+            List<Transaction> saved;
+            RuntimeException failure = null;
+            if (journal != null) {
+                EngineJournal.Result result = journal.commit(requests);
+                saved = result.transactions();
+                failure = result.failure();
+            } else {
+                saved = batchWriter.persist(requests, deltas);
+            }
+
+            // Committed: credits to accounts this partition debits can now be spent
+            for (int i = 0; i < saved.size(); i++) {
+                TransactionRequest request = accepted.get(i).request();
+                CachedAccount destination = accounts.get(request.getDestinationAccountId());
+                if (destination != null && engine.partitionFor(request.getDestinationAccountId()) == index
+                        && saved.get(i).getStatus() == TransactionStatus.COMPLETED) {
+                    destination.balance += request.getAmount().getMinorUnits();
+                }
+            }
+            for (int i = 0; i < saved.size(); i++) {
+                accepted.get(i).result().complete(saved.get(i));
+            }
+            if (failure != null) {
+                // The transfers after the last one journaled were not written
+                throw failure;
+            }
+        } catch (RuntimeException e) {
+            // Tentative debits were not committed; reload these accounts from the database
+            for (Long accountId : debits.keySet()) {
+                accounts.remove(accountId);
+            }
+            for (Long accountId : deltas.keySet()) {
+                accounts.remove(accountId);
+            }
+            throw e;
+        }
+    }
+
+    private RuntimeException checkAccounts(Long sourceId, CachedAccount source,
+                                           Long destinationId, CachedAccount destination) {
+        if (source == null) {
+            return new EntityNotFoundException("Account not found with id: " + sourceId);
+        }
+        if (destination == null) {
+            return new EntityNotFoundException("Account not found with id: " + destinationId);
+        }
+        if (source.status != AccountStatus.ACTIVE || destination.status != AccountStatus.ACTIVE) {
+            return new IllegalStateException("One or both accounts are not active");
+        }
+        return null;
+    }
+
+    /**
+     * Loads every account in the batch that is not cached or whose entry has expired, in one query.
+     */
+    private void load(List<PendingTransfer> batch, long now) {
+        Set<Long> missing = new HashSet<>();
+        for (PendingTransfer pending : batch) {
+            addIfStale(missing, pending.request().getSourceAccountId(), now);
+            addIfStale(missing, pending.request().getDestinationAccountId(), now);
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> undrained = undrainedDebits(missing);
+        Map<Long, Long> held = activeHolds(missing);
+        for (Account account : accountRepository.findAllById(missing)) {
+            CachedAccount cached = new CachedAccount();
+            cached.balance = account.getBalance().getMinorUnits() - undrained.getOrDefault(account.getAccountId(), 0L)
+                    - held.getOrDefault(account.getAccountId(), 0L);
+            cached.status = account.getStatus();
+            cached.expiresAt = now + cacheTtlNanos;
+            accounts.put(account.getAccountId(), cached);
+        }
+    }
+
+    private void addIfStale(Set<Long> missing, Long accountId, long now) {
+        CachedAccount cached = accounts.get(accountId);
+        if (cached == null || cached.expiresAt - now < 0) {
+            accounts.remove(accountId);
+            missing.add(accountId);
+        }
+    }
+
+    /**
+     * Journaled debits the database does not show yet; read before the balances themselves.
+     */
+    private Map<Long, Long> undrainedDebits(Set<Long> accountIds) {
+        if (journal == null) {
+            return Map.of();
+        }
+        Map<Long, Long> undrained = new HashMap<>();
+        for (Long accountId : accountIds) {
+            undrained.put(accountId, journal.undrainedDebits(accountId));
+        }
+        return undrained;
+    }
+
+    /**
+     * Active holds per account; read before the balances, so a hold captured in between is
+     * subtracted twice rather than not at all.
+     */
+    private Map<Long, Long> activeHolds(Set<Long> accountIds) {
+        Map<Long, Long> held = new HashMap<>();
+        for (Object[] row : accountHoldRepository.sumActiveByAccountIds(accountIds)) {
+            held.put(((Number) row[0]).longValue(), Money.of((BigDecimal) row[1]).getMinorUnits());
+        }
+        return held;
+    }
+
+    private void refresh(Long accountId, CachedAccount cached, long uncommittedDebits, long now) {
+        long undrained = undrainedDebits(Set.of(accountId)).getOrDefault(accountId, 0L);
+        long held = activeHolds(Set.of(accountId)).getOrDefault(accountId, 0L);
+        accountRepository.findById(accountId).ifPresent(account -> {
+            cached.balance = account.getBalance().getMinorUnits() - undrained - held - uncommittedDebits;
+            cached.status = account.getStatus();
+            cached.expiresAt = now + cacheTtlNanos;
+        });
+    }
+}
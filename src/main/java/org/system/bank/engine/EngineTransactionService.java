@@ -0,0 +1,165 @@
+package org.system.bank.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.system.bank.dto.request.TransactionFilter;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.dto.response.CartTransactionDTO;
+import org.system.bank.dto.response.TransactionResponse;
+import org.system.bank.entity.Transaction;
+import org.system.bank.entity.User;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.enums.TransactionType;
+import org.system.bank.fraud.ScreeningAction;
+import org.system.bank.fraud.ScreeningResult;
+import org.system.bank.limits.SpendingLimitService;
+import org.system.bank.mapper.TransactionMapper;
+import org.system.bank.money.Money;
+import org.system.bank.service.TransactionService;
+import org.system.bank.service.impl.TransactionServiceImpl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Routes transfer creation through the {@link TransferEngine} when {@code bank.engine.enabled}
+ * is set; everything else is served by {@link TransactionServiceImpl}. Both INSTANT and STANDARD
+ * transfers come back COMPLETED, since the engine settles them in its next group commit.
+ * <p>
+ * Requests are validated, counted against spending limits and fraud screened as on the JPA path
+ * before they are queued; transfers screening holds for review are written by the JPA path
+ * instead. A transfer that is not written hands its spending limit reservation back.
+ * <p>
+ * Deliberately not transactional: the request thread waits for the partition's commit and must
+ * not hold a pooled connection while doing so.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "bank.engine", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class EngineTransactionService implements TransactionService {
+
+    private final TransferEngine transferEngine;
+    private final TransactionServiceImpl delegate;
+    private final TransactionMapper transactionMapper;
+    private final SpendingLimitService spendingLimitService;
+
+    @Override
+    public TransactionResponse createTransaction(TransactionRequest request) {
+        LocalDate day = LocalDate.now();
+        ScreeningResult screening = delegate.screenTransaction(request);
+        if (screening.action() == ScreeningAction.HOLD) {
+            try {
+                return delegate.createScreenedTransaction(request, screening);
+            } catch (RuntimeException e) {
+                spendingLimitService.release(request, day);
+                throw e;
+            }
+        }
+
+        CompletableFuture<Transaction> result = transferEngine.submit(request);
+        // Only a failed future means the transfer was never written; a timeout keeps the reservation
+        result.whenComplete((transaction, failure) -> {
+            if (failure != null) {
+                spendingLimitService.release(request, day);
+            }
+        });
+        return transactionMapper.toResponse(transferEngine.await(result));
+    }
+
+    @Override
+    public TransactionResponse getTransactionById(Long id) {
+        return delegate.getTransactionById(id);
+    }
+
+    @Override
+    public Page<TransactionResponse> getAllTransactions(TransactionFilter filter, Pageable pageable) {
+        return delegate.getAllTransactions(filter, pageable);
+    }
+
+    @Override
+    public List<TransactionResponse> getAllTransactions() {
+        return delegate.getAllTransactions();
+    }
+
+    @Override
+    public long countTransactions() {
+        return delegate.countTransactions();
+    }
+
+    @Override
+    public List<TransactionResponse> getTransactionsByAccount(Long accountId) {
+        return delegate.getTransactionsByAccount(accountId);
+    }
+
+    @Override
+    public List<TransactionResponse> getTransactionsByType(TransactionType type) {
+        return delegate.getTransactionsByType(type);
+    }
+
+    @Override
+    public List<TransactionResponse> getTransactionsByStatus(TransactionStatus status) {
+        return delegate.getTransactionsByStatus(status);
+    }
+
+    @Override
+    public List<TransactionResponse> getTransactionsByDateRange(LocalDateTime start, LocalDateTime end) {
+        return delegate.getTransactionsByDateRange(start, end);
+    }
+
+    @Override
+    public Money calculateDailyTransactions(Long accountId, LocalDateTime date) {
+        return delegate.calculateDailyTransactions(accountId, date);
+    }
+
+    @Override
+    public void processTransaction(Long transactionId) {
+        delegate.processTransaction(transactionId);
+    }
+
+    @Override
+    public Money calculateTransactionFee(TransactionRequest request) {
+        return delegate.calculateTransactionFee(request);
+    }
+
+    @Override
+    public boolean isTransactionValid(TransactionRequest request) {
+        return delegate.isTransactionValid(request);
+    }
+
+    @Override
+    public List<TransactionResponse> getAccountTransactionHistory(Long accountId, LocalDateTime startDate, LocalDateTime endDate) {
+        return delegate.getAccountTransactionHistory(accountId, startDate, endDate);
+    }
+
+    @Override
+    public Transaction getTransactionEntity(Long transactionId) {
+        return delegate.getTransactionEntity(transactionId);
+    }
+
+    @Override
+    public TransactionResponse approveHeldTransaction(Long transactionId) {
+        return delegate.approveHeldTransaction(transactionId);
+    }
+
+    @Override
+    public TransactionResponse rejectHeldTransaction(Long transactionId) {
+        return delegate.rejectHeldTransaction(transactionId);
+    }
+
+    @Override
+    public List<TransactionResponse> getPendingTransactionsByUser(User user) {
+        return delegate.getPendingTransactionsByUser(user);
+    }
+
+    @Override
+    public List<CartTransactionDTO> transformToPendingTransactions(List<TransactionResponse> pendingTransactionsByUser) {
+        return delegate.transformToPendingTransactions(pendingTransactionsByUser);
+    }
+}
@@ -0,0 +1,147 @@
+package org.system.bank.engine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.entity.Transaction;
+import org.system.bank.repository.jpa.AccountHoldRepository;
+import org.system.bank.repository.jpa.AccountRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-writer transfer engine. Transfers are routed by source account to one of a fixed set of
+ * partition threads; each partition owns the balances of the accounts it debits, validates and
+ * applies transfers in memory, and group-commits everything it accepted since its last pass in
+ * one database transaction, or appends it to the transfer journal when that is enabled.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "bank.engine", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TransferEngine {
+
+    private final AccountRepository accountRepository;
+    private final AccountHoldRepository accountHoldRepository;
+    private final EngineBatchWriter batchWriter;
+    private final ObjectProvider<EngineJournal> engineJournal;
+
+    @Value("${bank.engine.partitions:4}")
+    private int partitionCount;
+
+    @Value("${bank.engine.batch-size:500}")
+    private int batchSize;
+
+    @Value("${bank.engine.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${bank.engine.cache-ttl-ms:5000}")
+    private long cacheTtlMs;
+
+    @Value("${bank.engine.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private final List<BlockingQueue<EnginePartition.PendingTransfer>> queues = new ArrayList<>();
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        EngineJournal journal = engineJournal.getIfAvailable();
+        executor = Executors.newFixedThreadPool(partitionCount, new CustomizableThreadFactory("transfer-engine-"));
+        for (int i = 0; i < partitionCount; i++) {
+            BlockingQueue<EnginePartition.PendingTransfer> queue = new ArrayBlockingQueue<>(queueCapacity);
+            queues.add(queue);
+            executor.submit(new EnginePartition(i, queue, accountRepository, accountHoldRepository, batchWriter, journal,
+                    batchSize, cacheTtlMs, this));
+        }
+        log.info("Transfer engine started with {} partitions{}", partitionCount, journal != null ? ", journaled" : "");
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Queues a transfer on the partition that owns its source account. The future completes with
+     * the committed transaction, or with the same exception the JPA path would have thrown.
+     */
+    public CompletableFuture<Transaction> submit(TransactionRequest request) {
+        CompletableFuture<Transaction> result = new CompletableFuture<>();
+        if (request.getSourceAccountId().equals(request.getDestinationAccountId())) {
+            result.completeExceptionally(new IllegalArgumentException("Cannot transfer to same account"));
+            return result;
+        }
+        if (!running) {
+            result.completeExceptionally(new IllegalStateException("Transfer engine is not running"));
+            return result;
+        }
+        int partition = partitionFor(request.getSourceAccountId());
+        if (!queues.get(partition).offer(new EnginePartition.PendingTransfer(request, result))) {
+            result.completeExceptionally(new IllegalStateException("Transfer engine partition " + partition + " is full"));
+        }
+        return result;
+    }
+
+    /**
+     * Blocking form of {@link #submit} for request threads.
+     */
+    public Transaction transfer(TransactionRequest request) {
+        return await(submit(request));
+    }
+
+    /**
+     * Waits for a submitted transfer. A timeout does not mean the transfer failed: only a future
+     * that completed exceptionally was never written.
+     */
+    public Transaction await(CompletableFuture<Transaction> result) {
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Transfer failed", e.getCause());
+        } catch (TimeoutException e) {
+            // The transfer may still commit; callers can look it up by account history
+            throw new IllegalStateException("Transfer was not confirmed within " + timeoutMs + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for transfer", e);
+        }
+    }
+
+    public int pendingCount() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    int partitionFor(Long accountId) {
+        return Math.floorMod(accountId.hashCode(), queues.size());
+    }
+}
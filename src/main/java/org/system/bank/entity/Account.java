@@ -2,34 +2,51 @@ package org.system.bank.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.system.bank.balance.AccountIndexListener;
 import org.system.bank.enums.AccountStatus;
+import org.system.bank.money.Money;
 
 import java.util.List;
 
 
 @Entity
 @Table(name = "accounts")
+@NamedEntityGraph(name = Account.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
+@EntityListeners(AccountIndexListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Account {
+
+    /** Fetch plan for response mapping, which reads the owner's name. */
+    public static final String WITH_USER = "Account.withUser";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long accountId;
 
-    private Double balance;
+    @Column(precision = 19, scale = 2)
+    private Money balance;
 
     @Enumerated(EnumType.STRING)
     private AccountStatus status;
 
-    @ManyToOne
+    // Number of sub-balance rows credits are spread over; 0 when the account is not striped
+    @Column(nullable = false)
+    private int balanceStripes;
+
+    // Ownership checks only compare the owner id, which the lazy proxy holds without a query
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
     @OneToMany(mappedBy = "sourceAccount")
+    @BatchSize(size = 100)
     private List<Transaction> outgoingTransactions;
 
     @OneToMany(mappedBy = "destinationAccount")
+    @BatchSize(size = 100)
     private List<Transaction> incomingTransactions;
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package org.system.bank.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.system.bank.money.Money;
+
+@Entity
+@Table(name = "account_balance_stripes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stripe_account_stripe", columnNames = {"account_id", "stripe"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceStripe {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long accountId;
+
+    @Column(nullable = false, updatable = false)
+    private int stripe;
+
+    // Credits not yet folded into the account's own balance
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money balance;
+}
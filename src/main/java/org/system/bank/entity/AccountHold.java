@@ -0,0 +1,42 @@
+package org.system.bank.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.system.bank.enums.HoldStatus;
+import org.system.bank.money.Money;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "account_holds")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountHold {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long accountId;
+
+    @Column(nullable = false, updatable = false, unique = true)
+    private Long transactionId;
+
+    // Amount plus fee reserved on the source account
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
+    private Money amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private HoldStatus status;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime resolvedAt;
+}
@@ -0,0 +1,36 @@
+package org.system.bank.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.system.bank.enums.AccountStatus;
+
+/**
+ * Owner and status of an account, without the balance, for ownership and status checks that run on
+ * nearly every request. Cached in the second-level cache; there is deliberately no
+ * {@code @Synchronize} on {@code accounts}, so balance updates leave entries alone and the services
+ * that change owner or status evict them instead.
+ */
+@Entity
+@Immutable
+@Subselect("SELECT account_id, user_id, status FROM accounts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Getter
+@NoArgsConstructor
+public class AccountSummary {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    private AccountStatus status;
+}
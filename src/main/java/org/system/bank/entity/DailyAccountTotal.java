@@ -0,0 +1,37 @@
+package org.system.bank.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.system.bank.money.Money;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "daily_account_totals",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_total_account_date", columnNames = {"account_id", "business_date"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyAccountTotal {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long accountId;
+
+    // Calendar date of the transactions' createdAt
+    @Column(nullable = false, updatable = false)
+    private LocalDate businessDate;
+
+    // Amounts of completed transfers out of the account, fees excluded
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money debitTotal;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money creditTotal;
+
+    @Column(nullable = false)
+    private long transactionCount;
+}
@@ -3,23 +3,29 @@ package org.system.bank.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.system.bank.enums.*;
+import org.system.bank.money.Money;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "invoices")
+@NamedEntityGraph(name = Invoice.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Invoice {
+
+    /** Fetch plan for response mapping, which reads the owner's name. */
+    public static final String WITH_USER = "Invoice.withUser";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long invoiceId;
 
-    @Column(nullable = false)
-    private Double amountDue;
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money amountDue;
 
     @Column(nullable = false)
     private LocalDate dueDate;
@@ -29,7 +35,8 @@ public class Invoice {
     @Enumerated(EnumType.STRING)
     private InvoiceStatus status;
 
-    @ManyToOne
+    // Ownership checks only compare the owner id, which the lazy proxy holds without a query
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
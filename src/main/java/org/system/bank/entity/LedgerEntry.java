@@ -0,0 +1,43 @@
+package org.system.bank.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.system.bank.enums.LedgerEntryType;
+import org.system.bank.money.Money;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ledger_entries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(updatable = false)
+    private Long transactionId;
+
+    // Null for the bank's fee income side of a transfer
+    @Column(updatable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private LedgerEntryType entryType;
+
+    // Signed: debits are negative, credits positive
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
+    private Money amount;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
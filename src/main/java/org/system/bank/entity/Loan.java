@@ -3,23 +3,29 @@ package org.system.bank.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.system.bank.enums.LoanStatus;
+import org.system.bank.money.Money;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "loans")
+@NamedEntityGraph(name = Loan.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Loan {
+
+    /** Fetch plan for response mapping, which reads the owner's name. */
+    public static final String WITH_USER = "Loan.withUser";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long loanId;
 
-    @Column(nullable = false)
-    private Double principal;
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money principal;
 
     @Column(nullable = false)
     private Double interestRate;
@@ -27,12 +33,14 @@ public class Loan {
     @Column(nullable = false)
     private Integer termMonths;
 
-    @Column(nullable = false)
-    private Double monthlyPayment;
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money monthlyPayment;
 
-    private Double remainingAmount;
+    @Column(precision = 19, scale = 2)
+    private Money remainingAmount;
 
-    @ManyToOne
+    // Ownership checks only compare the owner id, which the lazy proxy holds without a query
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
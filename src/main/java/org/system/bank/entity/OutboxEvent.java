@@ -0,0 +1,42 @@
+package org.system.bank.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.system.bank.enums.OutboxEventType;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,33 @@
+package org.system.bank.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.system.bank.enums.TransactionType;
+import org.system.bank.money.Money;
+
+@Entity
+@Table(name = "spending_limits",
+        uniqueConstraints = @UniqueConstraint(name = "uk_spending_limit_account_type", columnNames = {"account_id", "transaction_type"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpendingLimit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private TransactionType transactionType;
+
+    // Null keeps the configured default for the type
+    @Column(precision = 19, scale = 2)
+    private Money dailyLimit;
+
+    @Column(precision = 19, scale = 2)
+    private Money perTransferLimit;
+}
@@ -3,6 +3,7 @@ package org.system.bank.entity;
 import lombok.*;
 import jakarta.persistence.*;
 import org.system.bank.enums.*;
+import org.system.bank.money.Money;
 import java.time.LocalDateTime;
 
 @Entity
@@ -21,8 +22,8 @@ public class Transaction {
     @Column(nullable = false)
     private TransactionType type;
 
-    @Column(nullable = false)
-    private Double amount;
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money amount;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "source_account_id", nullable = false)
@@ -39,8 +40,20 @@ public class Transaction {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // Set for transfers written through the transfer journal; makes draining idempotent
+    @Column(name = "journal_sequence", unique = true, updatable = false)
+    private Long journalSequence;
+
+    // Set while fraud screening holds the transfer for review; it is not settled until approved
+    @Enumerated(EnumType.STRING)
+    @Column(name = "fraud_rule", length = 20)
+    private FraudRule fraudRule;
+
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // Journaled transfers keep the time they were acknowledged, not the time they were drained
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
     }
 }
\ No newline at end of file
@@ -3,6 +3,9 @@ package org.system.bank.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.system.bank.enums.Role;
 
 import java.util.ArrayList;
@@ -10,6 +13,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -47,7 +52,9 @@ public class User {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    // Fallback for paths that walk users without the account fetch in UserServiceImpl
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<Account> accounts = new ArrayList<>();
 }
@@ -0,0 +1,8 @@
+package org.system.bank.enums;
+
+
+
+public enum FraudRule {
+    BURST,    // many transfers from one account within seconds
+    FAN_OUT   // transfers to many distinct destinations
+}
@@ -0,0 +1,6 @@
+package org.system.bank.enums;
+
+
+public enum HoldStatus {
+    ACTIVE, CAPTURED, RELEASED, EXPIRED
+}
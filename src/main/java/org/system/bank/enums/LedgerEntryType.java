@@ -0,0 +1,6 @@
+package org.system.bank.enums;
+
+
+public enum LedgerEntryType {
+    OPENING_BALANCE, ADJUSTMENT, TRANSFER_DEBIT, TRANSFER_CREDIT, FEE_DEBIT, FEE_CREDIT
+}
@@ -0,0 +1,21 @@
+package org.system.bank.enums;
+
+
+public enum OutboxEventType {
+    TRANSACTION_COMPLETED("Transaction"),
+    TRANSACTION_REJECTED("Transaction"),
+    LOAN_APPROVED("Loan"),
+    LOAN_REJECTED("Loan"),
+    LOAN_PAYMENT_PROCESSED("Loan"),
+    INVOICE_PAID("Invoice");
+
+    private final String aggregateType;
+
+    OutboxEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+}
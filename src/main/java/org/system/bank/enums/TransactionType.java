@@ -3,5 +3,16 @@ package org.system.bank.enums;
 
 
 public enum TransactionType {
-    STANDARD, INSTANT
+    STANDARD(10),  // 0.1%
+    INSTANT(50);   // 0.5%
+
+    private final long feeBasisPoints;
+
+    TransactionType(long feeBasisPoints) {
+        this.feeBasisPoints = feeBasisPoints;
+    }
+
+    public long getFeeBasisPoints() {
+        return feeBasisPoints;
+    }
 }
@@ -0,0 +1,7 @@
+package org.system.bank.exception;
+
+public class FraudScreeningException extends RuntimeException {
+    public FraudScreeningException(String message) {
+        super(message);
+    }
+}
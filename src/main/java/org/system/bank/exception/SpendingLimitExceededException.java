@@ -0,0 +1,7 @@
+package org.system.bank.exception;
+
+public class SpendingLimitExceededException extends RuntimeException {
+    public SpendingLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package org.system.bank.fraud;
+
+/**
+ * What happens to a transfer that breaks a screening rule. Ordered by severity, so the
+ * strongest action of all rules broken wins.
+ */
+public enum ScreeningAction {
+    ALLOW, HOLD, REJECT
+}
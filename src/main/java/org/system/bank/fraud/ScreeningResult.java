@@ -0,0 +1,11 @@
+package org.system.bank.fraud;
+
+import org.system.bank.enums.FraudRule;
+
+/**
+ * Outcome of screening one transfer; {@code rule} is the rule that decided it, or null.
+ */
+public record ScreeningResult(ScreeningAction action, FraudRule rule) {
+
+    public static final ScreeningResult ALLOWED = new ScreeningResult(ScreeningAction.ALLOW, null);
+}
@@ -0,0 +1,175 @@
+package org.system.bank.fraud;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.enums.FraudRule;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory velocity screening of new transfers, without database reads. Each source account
+ * has a {@link VelocityWindow}; accounts are spread over independently locked stripes, so
+ * screening costs one uncontended lock and a few array operations.
+ * <p>
+ * Rules and their {@link ScreeningAction}s are configured under {@code bank.fraud}:
+ * <ul>
+ *     <li>{@link FraudRule#BURST}: more than {@code burst.max-transfers} transfers from one
+ *     account within {@code burst.window-ms}</li>
+ *     <li>{@link FraudRule#FAN_OUT}: more than an estimated {@code fan-out.max-destinations}
+ *     distinct destinations within {@code fan-out.window-ms}</li>
+ * </ul>
+ * Windows are per instance and start empty after a restart. Rule hits are counted in
+ * {@code bank.fraud.rule.hits} and screening time in {@code bank.fraud.screening}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VelocityScreener {
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<Long, VelocityWindow> windows = new HashMap<>();
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${bank.fraud.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bank.fraud.stripes:64}")
+    private int stripeCount;
+
+    @Value("${bank.fraud.burst.max-transfers:20}")
+    private int burstMaxTransfers;
+
+    @Value("${bank.fraud.burst.window-ms:10000}")
+    private long burstWindowMs;
+
+    @Value("${bank.fraud.burst.action:HOLD}")
+    private ScreeningAction burstAction;
+
+    @Value("${bank.fraud.fan-out.max-destinations:10}")
+    private int fanOutMaxDestinations;
+
+    @Value("${bank.fraud.fan-out.window-ms:60000}")
+    private long fanOutWindowMs;
+
+    @Value("${bank.fraud.fan-out.action:HOLD}")
+    private ScreeningAction fanOutAction;
+
+    private Stripe[] stripes;
+    private long burstWindow;
+    private long fanOutWindow;
+    private Timer screeningTimer;
+    private final Map<FraudRule, Counter> ruleHits = new EnumMap<>(FraudRule.class);
+
+    @PostConstruct
+    public void init() {
+        if (burstMaxTransfers < 1 || fanOutMaxDestinations < 1) {
+            throw new IllegalStateException("Fraud screening thresholds must be at least 1");
+        }
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        burstWindow = TimeUnit.MILLISECONDS.toNanos(burstWindowMs);
+        fanOutWindow = TimeUnit.MILLISECONDS.toNanos(fanOutWindowMs);
+
+        screeningTimer = Timer.builder("bank.fraud.screening")
+                .description("Time spent screening one transfer")
+                .register(meterRegistry);
+        ruleHits.put(FraudRule.BURST, ruleCounter(FraudRule.BURST, burstAction));
+        ruleHits.put(FraudRule.FAN_OUT, ruleCounter(FraudRule.FAN_OUT, fanOutAction));
+    }
+
+    /**
+     * Records the transfer in its source account's window and decides what to do with it.
+     * Every screened transfer counts, including ones the caller goes on to hold or reject.
+     */
+    public ScreeningResult screen(TransactionRequest request) {
+        if (!enabled) {
+            return ScreeningResult.ALLOWED;
+        }
+        return screen(request.getSourceAccountId(), request.getDestinationAccountId(), System.nanoTime());
+    }
+
+    ScreeningResult screen(long sourceAccountId, long destinationAccountId, long now) {
+        boolean burst;
+        long destinations;
+        Stripe stripe = stripeFor(sourceAccountId);
+        stripe.lock.lock();
+        try {
+            VelocityWindow window = stripe.windows.get(sourceAccountId);
+            if (window == null) {
+                window = new VelocityWindow(burstMaxTransfers, now);
+                stripe.windows.put(sourceAccountId, window);
+            }
+            burst = window.recordTransfer(now, burstWindow);
+            destinations = window.recordDestination(destinationAccountId, now, fanOutWindow);
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        ScreeningResult result = ScreeningResult.ALLOWED;
+        if (burst) {
+            result = strongest(result, FraudRule.BURST, burstAction);
+        }
+        if (destinations > fanOutMaxDestinations) {
+            result = strongest(result, FraudRule.FAN_OUT, fanOutAction);
+        }
+        screeningTimer.record(System.nanoTime() - now, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    /**
+     * Drops windows of accounts that have been idle longer than any rule looks back.
+     */
+    @Scheduled(fixedDelayString = "${bank.fraud.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.nanoTime() - Math.max(burstWindow, 2 * fanOutWindow);
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                int before = stripe.windows.size();
+                stripe.windows.values().removeIf(window -> window.lastSeen - cutoff < 0);
+                evicted += before - stripe.windows.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle fraud screening windows", evicted);
+        }
+    }
+
+    private ScreeningResult strongest(ScreeningResult current, FraudRule rule, ScreeningAction action) {
+        ruleHits.get(rule).increment();
+        return action.compareTo(current.action()) > 0 ? new ScreeningResult(action, rule) : current;
+    }
+
+    private Counter ruleCounter(FraudRule rule, ScreeningAction action) {
+        return Counter.builder("bank.fraud.rule.hits")
+                .description("Transfers that broke a fraud screening rule")
+                .tag("rule", rule.name())
+                .tag("action", action.name())
+                .register(meterRegistry);
+    }
+
+    private Stripe stripeFor(long accountId) {
+        long h = accountId * 0x9E3779B97F4A7C15L;
+        return stripes[Math.floorMod((int) (h ^ (h >>> 32)), stripes.length)];
+    }
+}
@@ -0,0 +1,81 @@
+package org.system.bank.fraud;
+
+import java.util.Arrays;
+
+/**
+ * Recent activity of one source account, in {@link System#nanoTime()} units. Not thread-safe;
+ * {@link VelocityScreener} guards it with the lock of the stripe it lives in.
+ * <p>
+ * The last {@code maxTransfers} transfer times are kept in a ring, so the burst check is exact.
+ * Destinations are counted with linear counting (the small-range estimator of HyperLogLog) over
+ * a {@value #BITS}-bit bitmap per bucket. The estimate covers the current and the previous
+ * bucket, i.e. between one and two fan-out windows, and stays within a few percent up to a
+ * couple of hundred distinct destinations.
+ */
+final class VelocityWindow {
+
+    static final int BITS = 256;
+
+    private final long[] times;
+    private int next;
+    private int count;
+
+    private long[] current = new long[BITS / 64];
+    private long[] previous = new long[BITS / 64];
+    private long bucketStart;
+
+    long lastSeen;
+
+    VelocityWindow(int maxTransfers, long now) {
+        this.times = new long[maxTransfers];
+        this.bucketStart = now;
+    }
+
+    /**
+     * Records a transfer and returns whether it is more than {@code maxTransfers} within
+     * {@code window}.
+     */
+    boolean recordTransfer(long now, long window) {
+        boolean burst = count == times.length && now - times[next] < window;
+        times[next] = now;
+        next = (next + 1) % times.length;
+        if (count < times.length) {
+            count++;
+        }
+        lastSeen = now;
+        return burst;
+    }
+
+    /**
+     * Records the destination and returns the estimated number of distinct destinations.
+     */
+    long recordDestination(long destinationId, long now, long window) {
+        long elapsed = now - bucketStart;
+        if (elapsed >= window) {
+            long[] recycled = previous;
+            previous = current;
+            current = recycled;
+            Arrays.fill(current, 0);
+            if (elapsed >= 2 * window) {
+                Arrays.fill(previous, 0);
+            }
+            bucketStart = now;
+        }
+        int bit = bitFor(destinationId);
+        current[bit >>> 6] |= 1L << bit;
+
+        int set = 0;
+        for (int i = 0; i < current.length; i++) {
+            set += Long.bitCount(current[i] | previous[i]);
+        }
+        if (set == BITS) {
+            return Long.MAX_VALUE;
+        }
+        return Math.round(-BITS * Math.log((double) (BITS - set) / BITS));
+    }
+
+    private static int bitFor(long destinationId) {
+        long h = destinationId * 0x9E3779B97F4A7C15L;
+        return (int) ((h ^ (h >>> 32)) & (BITS - 1));
+    }
+}
@@ -0,0 +1,63 @@
+package org.system.bank.hold;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.HoldStatus;
+import org.system.bank.enums.OutboxEventType;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.limits.SpendingLimitService;
+import org.system.bank.mapper.TransactionMapper;
+import org.system.bank.outbox.OutboxService;
+import org.system.bank.repository.jpa.AccountHoldRepository;
+import org.system.bank.repository.jpa.TransactionRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Expires holds that were never captured and rejects their transfers, returning the reserved
+ * funds to the available balance.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HoldExpiryJob {
+
+    private final AccountHoldRepository accountHoldRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final OutboxService outboxService;
+    private final SpendingLimitService spendingLimitService;
+
+    @Value("${bank.holds.sweep-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${bank.holds.sweep-interval-ms:60000}")
+    @Transactional
+    public void expireHolds() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> transactionIds = accountHoldRepository.findExpiredTransactionIds(now, PageRequest.of(0, batchSize));
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+
+        // Lock the transfers first, as settlement does, so a hold is never expired under a capture
+        List<Transaction> pending = transactionRepository.findPendingByIdForUpdate(transactionIds);
+        for (Transaction transaction : pending) {
+            transaction.setStatus(TransactionStatus.REJECTED);
+            spendingLimitService.releaseAfterCommit(transaction);
+            outboxService.record(OutboxEventType.TRANSACTION_REJECTED, transaction.getTransactionId(),
+                    transactionMapper.toResponse(transaction));
+        }
+        transactionRepository.saveAll(pending);
+
+        int expired = accountHoldRepository.resolveActive(transactionIds, HoldStatus.EXPIRED, now);
+        log.info("Expired {} holds and rejected {} pending transfers", expired, pending.size());
+    }
+}
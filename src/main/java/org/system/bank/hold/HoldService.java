@@ -0,0 +1,122 @@
+package org.system.bank.hold;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountHold;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.HoldStatus;
+import org.system.bank.exception.InsufficientFundsException;
+import org.system.bank.mapper.TransactionMapper;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountHoldRepository;
+import org.system.bank.stripe.BalanceStripeService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reservations against an account's balance for transfers that are authorized but not yet
+ * settled. The available balance is the balance minus the account's active holds.
+ * <p>
+ * Placing a hold only inserts a row, so the request path never updates or locks the account.
+ * Two concurrent requests can both see the same available balance and over-reserve; that is
+ * caught at capture, where settlement re-checks the balance under the row lock.
+ */
+@Service
+@RequiredArgsConstructor
+public class HoldService {
+
+    private final AccountHoldRepository accountHoldRepository;
+    private final TransactionMapper transactionMapper;
+    private final BalanceStripeService stripeService;
+
+    @Value("${bank.holds.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Transactional(readOnly = true)
+    public Money getAvailableBalance(Account account) {
+        return stripeService.totalBalance(account)
+                .minus(Money.of(accountHoldRepository.sumActiveByAccountId(account.getAccountId())));
+    }
+
+    /**
+     * Reserves amount and fee of a PENDING transfer on its source account.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public AccountHold placeHold(Transaction transaction) {
+        Account source = transaction.getSourceAccount();
+        Money total = transaction.getAmount().plus(transactionMapper.calculateFee(transaction));
+        if (getAvailableBalance(source).isLessThan(total)) {
+            throw new InsufficientFundsException("Insufficient funds for transaction");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return accountHoldRepository.save(AccountHold.builder()
+                .accountId(source.getAccountId())
+                .transactionId(transaction.getTransactionId())
+                .amount(total)
+                .status(HoldStatus.ACTIVE)
+                .createdAt(now)
+                .expiresAt(now.plusMinutes(ttlMinutes))
+                .build());
+    }
+
+    /**
+     * Checks that the source can cover a transfer settled on its own, counting the transfer's
+     * own hold as available, and captures that hold.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void captureForSettlement(Transaction transaction, Account source, Money total) {
+        Optional<AccountHold> hold = accountHoldRepository.findByTransactionIdAndStatus(
+                transaction.getTransactionId(), HoldStatus.ACTIVE);
+        Money ownHold = hold.map(AccountHold::getAmount).orElse(Money.ZERO);
+        if (getAvailableBalance(source).plus(ownHold).isLessThan(total)) {
+            throw new InsufficientFundsException("Insufficient funds for transaction");
+        }
+        hold.ifPresent(h -> resolve(h, HoldStatus.CAPTURED));
+    }
+
+    /**
+     * Active holds of the given transfers, by transaction id.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, AccountHold> findActiveHolds(Collection<Long> transactionIds) {
+        return accountHoldRepository.findByTransactionIdInAndStatus(transactionIds, HoldStatus.ACTIVE).stream()
+                .collect(Collectors.toMap(AccountHold::getTransactionId, Function.identity()));
+    }
+
+    /**
+     * Sum of active holds per account; accounts without holds are absent.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, Money> activeHoldTotals(Collection<Long> accountIds) {
+        Map<Long, Money> totals = new HashMap<>();
+        for (Object[] row : accountHoldRepository.sumActiveByAccountIds(accountIds)) {
+            totals.put(((Number) row[0]).longValue(), Money.of((BigDecimal) row[1]));
+        }
+        return totals;
+    }
+
+    public void capture(AccountHold hold) {
+        resolve(hold, HoldStatus.CAPTURED);
+    }
+
+    public void release(AccountHold hold) {
+        resolve(hold, HoldStatus.RELEASED);
+    }
+
+    private void resolve(AccountHold hold, HoldStatus status) {
+        hold.setStatus(status);
+        hold.setResolvedAt(LocalDateTime.now());
+    }
+}
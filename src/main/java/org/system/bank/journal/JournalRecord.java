@@ -0,0 +1,19 @@
+package org.system.bank.journal;
+
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.enums.TransactionType;
+
+/**
+ * One transfer as written to the {@link TransferJournal}. Amounts are minor units and the
+ * timestamp is epoch milliseconds, so every record has the same fixed-width encoding.
+ */
+public record JournalRecord(
+        long sequence,
+        TransactionType type,
+        long amount,
+        long sourceAccountId,
+        long destinationAccountId,
+        TransactionStatus status,
+        long timestamp
+) {
+}
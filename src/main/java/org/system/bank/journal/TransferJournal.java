@@ -0,0 +1,393 @@
+package org.system.bank.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.enums.TransactionType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Append-only journal of transfers in memory-mapped segment files.
+ * <p>
+ * Each segment starts with a 16-byte header (magic, version, first sequence) followed by
+ * fixed-width 48-byte records:
+ * <pre>
+ *  0 sequence     8 timestamp   16 amount (minor units)   24 source account
+ * 32 destination 40 type        41 status                 42 reserved
+ * 44 CRC32 of bytes 0-43
+ * </pre>
+ * Sequences are contiguous, so a record's position follows from its sequence. Appends only write
+ * to the mapping; {@link #sync()} forces everything appended so far with a single fsync, and only
+ * synced records are returned by {@link #read}. On open the tail segment is scanned and cut at the
+ * first record whose sequence or checksum does not match, which drops a torn final write. If a
+ * valid record follows that point the damage is not at the end, and acknowledged records may be
+ * behind it, so opening fails as it does for a corrupt full segment.
+ */
+@Slf4j
+public class TransferJournal implements Closeable {
+
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 48;
+
+    private static final int MAGIC = 0x544A524E;
+    private static final int VERSION = 1;
+    private static final int CHECKSUMMED_BYTES = 44;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final byte[] EMPTY_RECORD = new byte[RECORD_SIZE];
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+
+    private static final class Segment {
+        final Path path;
+        final long firstSequence;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        final int capacity;
+        volatile int records;
+
+        Segment(Path path, long firstSequence, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.firstSequence = firstSequence;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.capacity = (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE;
+        }
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final CRC32 crc = new CRC32();
+
+    // Guarded by appendLock
+    private Segment active;
+    private long nextSequence;
+    private int forcedRecords;
+
+    private volatile long durableSequence;
+
+    /**
+     * Opens the journal in {@code directory}, recovering any existing segments.
+     *
+     * @param firstSequence sequence to start from when the directory holds no segments yet
+     */
+    public TransferJournal(Path directory, int segmentSize, long firstSequence) throws IOException {
+        if (segmentSize < HEADER_SIZE + RECORD_SIZE) {
+            throw new IllegalArgumentException("Journal segment size must hold at least one record");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+
+        List<Long> existing = listSegments();
+        for (int i = 0; i < existing.size(); i++) {
+            Segment segment = open(existing.get(i), i == existing.size() - 1);
+            segments.put(segment.firstSequence, segment);
+        }
+
+        if (segments.isEmpty()) {
+            active = create(Math.max(1, firstSequence));
+        } else {
+            active = segments.lastEntry().getValue();
+        }
+        nextSequence = active.firstSequence + active.records;
+        forcedRecords = active.records;
+        durableSequence = nextSequence - 1;
+
+        if (nextSequence < firstSequence) {
+            throw new IllegalStateException("Journal in " + directory + " ends at sequence " + (nextSequence - 1)
+                    + " but sequence " + (firstSequence - 1) + " has already been drained");
+        }
+        log.info("Opened transfer journal in {} at sequence {} ({} segments)", directory, durableSequence, segments.size());
+    }
+
+    /**
+     * Appends a transfer and returns its sequence. The record is not durable until the next
+     * {@link #sync()}.
+     */
+    public long append(TransactionType type, long amount, long sourceAccountId, long destinationAccountId,
+                       TransactionStatus status, long timestamp) {
+        appendLock.lock();
+        try {
+            if (active.records == active.capacity) {
+                roll();
+            }
+            long sequence = nextSequence++;
+            ByteBuffer record = ByteBuffer.wrap(scratch);
+            record.putLong(0, sequence)
+                    .putLong(8, timestamp)
+                    .putLong(16, amount)
+                    .putLong(24, sourceAccountId)
+                    .putLong(32, destinationAccountId)
+                    .put(40, (byte) type.ordinal())
+                    .put(41, (byte) status.ordinal())
+                    .putShort(42, (short) 0);
+            crc.reset();
+            crc.update(scratch, 0, CHECKSUMMED_BYTES);
+            record.putInt(CHECKSUMMED_BYTES, (int) crc.getValue());
+
+            active.buffer.put(offset(active.records), scratch);
+            active.records++;
+            return sequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Forces every record appended so far to disk. Concurrent callers share one fsync: whoever
+     * gets the sync lock covers all appends made before it, and the others find nothing left.
+     */
+    public void sync() {
+        syncLock.lock();
+        try {
+            Segment segment;
+            int from;
+            int to;
+            long sequence;
+            appendLock.lock();
+            try {
+                segment = active;
+                from = forcedRecords;
+                to = segment.records;
+                sequence = nextSequence - 1;
+            } finally {
+                appendLock.unlock();
+            }
+
+            if (to > from) {
+                segment.buffer.force(offset(from), (to - from) * RECORD_SIZE);
+            }
+
+            appendLock.lock();
+            try {
+                if (active == segment) {
+                    forcedRecords = Math.max(forcedRecords, to);
+                }
+            } finally {
+                appendLock.unlock();
+            }
+            durableSequence = Math.max(durableSequence, sequence);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code max} durable records following {@code afterSequence}, in order.
+     */
+    public List<JournalRecord> read(long afterSequence, int max) {
+        List<JournalRecord> records = new ArrayList<>();
+        long last = durableSequence;
+        for (long sequence = afterSequence + 1; sequence <= last && records.size() < max; sequence++) {
+            Map.Entry<Long, Segment> entry = segments.floorEntry(sequence);
+            if (entry == null) {
+                throw new IllegalStateException("Journal no longer holds sequence " + sequence);
+            }
+            Segment segment = entry.getValue();
+            records.add(decode(segment.buffer, offset((int) (sequence - segment.firstSequence))));
+        }
+        return records;
+    }
+
+    /**
+     * Deletes full segments whose records are all at or below {@code drainedSequence}.
+     */
+    public void release(long drainedSequence) {
+        appendLock.lock();
+        try {
+            for (Segment segment : segments.headMap(active.firstSequence).values()) {
+                if (segment.firstSequence + segment.records - 1 > drainedSequence) {
+                    break;
+                }
+                segments.remove(segment.firstSequence);
+                segment.channel.close();
+                Files.deleteIfExists(segment.path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to release journal segments", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    public long durableSequence() {
+        return durableSequence;
+    }
+
+    public long firstSequence() {
+        return segments.firstKey();
+    }
+
+    @Override
+    public void close() throws IOException {
+        sync();
+        appendLock.lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.channel.close();
+            }
+            segments.clear();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void roll() {
+        // Records in a full segment are forced here, so sync() only has to cover the active one
+        active.buffer.force();
+        try {
+            active = create(nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll journal segment", e);
+        }
+        forcedRecords = 0;
+    }
+
+    private Segment create(long firstSequence) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(path, CREATE_NEW, READ, WRITE);
+        channel.write(ByteBuffer.allocate(1), segmentSize - 1);
+        Segment segment = new Segment(path, firstSequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        writeHeader(segment);
+        segments.put(firstSequence, segment);
+        return segment;
+    }
+
+    private Segment open(long firstSequence, boolean tail) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(path, READ, WRITE);
+        if (tail && channel.size() < segmentSize) {
+            // A crash can leave the tail segment short; the missing bytes read back as zeros
+            channel.write(ByteBuffer.allocate(1), segmentSize - 1);
+        }
+        Segment segment = new Segment(path, firstSequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        MappedByteBuffer buffer = segment.buffer;
+
+        boolean headerValid = buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION && buffer.getLong(8) == firstSequence;
+        if (!headerValid) {
+            if (!tail) {
+                throw new IllegalStateException("Journal segment " + path + " has an invalid header");
+            }
+            writeHeader(segment);
+        }
+
+        int records = 0;
+        while (records < segment.capacity && isValid(buffer, offset(records), firstSequence + records)) {
+            records++;
+        }
+        segment.records = records;
+
+        if (!tail && records < segment.capacity) {
+            throw new IllegalStateException("Journal segment " + path + " is corrupt at sequence " + (firstSequence + records));
+        }
+        if (tail) {
+            int stranded = firstValidAfter(segment, records);
+            if (stranded >= 0) {
+                throw new IllegalStateException("Journal segment " + path + " is corrupt at sequence "
+                        + (firstSequence + records) + " but holds a valid record at sequence " + (firstSequence + stranded));
+            }
+            clearTail(segment);
+        }
+        return segment;
+    }
+
+    // Index of the first slot after the last valid record that still holds a valid record, or -1
+    private static int firstValidAfter(Segment segment, int records) {
+        for (int i = records + 1; i < segment.capacity; i++) {
+            if (isValid(segment.buffer, offset(i), segment.firstSequence + i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Zeroes whatever follows the last valid record so a torn write is never mistaken for data
+     * once the slot is reused. Only called once nothing valid follows, so no acknowledged record
+     * is cleared.
+     */
+    private void clearTail(Segment segment) {
+        int cleared = 0;
+        for (int i = segment.records; i < segment.capacity && !isEmpty(segment.buffer, offset(i)); i++) {
+            segment.buffer.put(offset(i), EMPTY_RECORD);
+            cleared++;
+        }
+        if (cleared > 0) {
+            segment.buffer.force();
+            log.warn("Discarded {} incomplete record(s) at the end of journal segment {}", cleared, segment.path);
+        }
+    }
+
+    private void writeHeader(Segment segment) {
+        segment.buffer.putInt(0, MAGIC).putInt(4, VERSION).putLong(8, segment.firstSequence);
+        segment.buffer.force();
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static boolean isValid(MappedByteBuffer buffer, int offset, long expectedSequence) {
+        if (buffer.getLong(offset) != expectedSequence) {
+            return false;
+        }
+        CRC32 check = new CRC32();
+        check.update(buffer.slice(offset, CHECKSUMMED_BYTES));
+        return (int) check.getValue() == buffer.getInt(offset + CHECKSUMMED_BYTES);
+    }
+
+    private static boolean isEmpty(MappedByteBuffer buffer, int offset) {
+        for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+            if (buffer.getLong(offset + i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static JournalRecord decode(MappedByteBuffer buffer, int offset) {
+        return new JournalRecord(
+                buffer.getLong(offset),
+                TYPES[buffer.get(offset + 40)],
+                buffer.getLong(offset + 16),
+                buffer.getLong(offset + 24),
+                buffer.getLong(offset + 32),
+                STATUSES[buffer.get(offset + 41)],
+                buffer.getLong(offset + 8)
+        );
+    }
+
+    private static int offset(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,116 @@
+package org.system.bank.ledger;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.LedgerEntry;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.LedgerEntryType;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.LedgerEntryRepository;
+import org.system.bank.stripe.BalanceStripeService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only double-entry ledger. Every balance change is posted here in the same
+ * transaction that updates the cached Account.balance projection, so the projection can
+ * always be rebuilt from the ledger.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerService {
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final AccountRepository accountRepository;
+    private final BalanceStripeService stripeService;
+
+    /**
+     * Posts a settled transfer: the source is debited amount and fee, the destination is
+     * credited the amount and the fee is credited to the bank's fee income (no account).
+     * The entries of one transfer always sum to zero.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void postTransfer(Transaction transaction, Money fee) {
+        Long transactionId = transaction.getTransactionId();
+        Long sourceId = transaction.getSourceAccount().getAccountId();
+        Long destinationId = transaction.getDestinationAccount().getAccountId();
+        Money amount = transaction.getAmount();
+
+        List<LedgerEntry> entries = new ArrayList<>(4);
+        entries.add(entry(transactionId, sourceId, LedgerEntryType.TRANSFER_DEBIT, amount.negate()));
+        entries.add(entry(transactionId, destinationId, LedgerEntryType.TRANSFER_CREDIT, amount));
+        if (!fee.isZero()) {
+            entries.add(entry(transactionId, sourceId, LedgerEntryType.FEE_DEBIT, fee.negate()));
+            entries.add(entry(transactionId, null, LedgerEntryType.FEE_CREDIT, fee));
+        }
+        ledgerEntryRepository.saveAll(entries);
+    }
+
+    /**
+     * Posts the initial deposit. An account opened empty gets no posting, like a zero adjustment,
+     * so it stays deletable until money first moves through it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void postOpeningBalance(Account account) {
+        if (!account.getBalance().isZero()) {
+            ledgerEntryRepository.save(entry(null, account.getAccountId(),
+                    LedgerEntryType.OPENING_BALANCE, account.getBalance()));
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void postAdjustment(Long accountId, Money delta) {
+        if (!delta.isZero()) {
+            ledgerEntryRepository.save(entry(null, accountId, LedgerEntryType.ADJUSTMENT, delta));
+        }
+    }
+
+    /**
+     * Whether the account has postings, which keep it from being deleted. An account that never
+     * held money has none; any other account is closed by blocking it.
+     */
+    @Transactional(readOnly = true)
+    public boolean hasPostings(Long accountId) {
+        return ledgerEntryRepository.existsByAccountId(accountId);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasPostingsForUser(Long userId) {
+        return ledgerEntryRepository.existsByAccountUserId(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public Money getLedgerBalance(Long accountId) {
+        return Money.of(ledgerEntryRepository.sumByAccountId(accountId));
+    }
+
+    /**
+     * Overwrites the cached balance with the ledger total, under the same row lock that
+     * settlement takes.
+     */
+    @Transactional
+    public Account rebuildBalance(Long accountId) {
+        Account account = accountRepository.findAllByIdForUpdate(List.of(accountId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("Account not found with id: " + accountId));
+        // Stripes are emptied so the ledger total is not counted twice
+        stripeService.fold(account);
+        account.setBalance(getLedgerBalance(accountId));
+        return accountRepository.save(account);
+    }
+
+    private LedgerEntry entry(Long transactionId, Long accountId, LedgerEntryType type, Money amount) {
+        return LedgerEntry.builder()
+                .transactionId(transactionId)
+                .accountId(accountId)
+                .entryType(type)
+                .amount(amount)
+                .build();
+    }
+}
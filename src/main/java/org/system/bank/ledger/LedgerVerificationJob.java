@@ -0,0 +1,102 @@
+package org.system.bank.ledger;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.system.bank.dto.response.LedgerDriftReport;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.LedgerEntryRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Recomputes every account balance from the ledger and compares it with the cached
+ * Account.balance. The account id space is split into ranges that are summed in parallel.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerVerificationJob {
+
+    private final AccountRepository accountRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+
+    @Value("${bank.ledger.verification.threads:4}")
+    private int threads;
+
+    @Value("${bank.ledger.verification.chunk-size:10000}")
+    private long chunkSize;
+
+    @Scheduled(cron = "${bank.ledger.verification.cron:0 30 2 * * *}")
+    public void verifyNightly() {
+        LedgerDriftReport report = verify();
+        if (report.getDrifted().isEmpty()) {
+            log.info("Ledger verification: {} accounts match the ledger ({} ms)",
+                    report.getAccountsChecked(), report.getDurationMillis());
+        } else {
+            log.warn("Ledger verification: {} of {} accounts drifted from the ledger: {}",
+                    report.getDrifted().size(), report.getAccountsChecked(), report.getDrifted());
+        }
+    }
+
+    public LedgerDriftReport verify() {
+        long start = System.currentTimeMillis();
+        Long minId = accountRepository.findMinAccountId();
+        Long maxId = accountRepository.findMaxAccountId();
+
+        long checked = 0;
+        List<LedgerDriftReport.AccountDrift> drifted = new ArrayList<>();
+
+        if (minId != null) {
+            ExecutorService pool = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("ledger-verify-"));
+            try {
+                List<Future<List<Object[]>>> chunks = new ArrayList<>();
+                for (long from = minId; from <= maxId; from += chunkSize) {
+                    long chunkStart = from;
+                    long chunkEnd = Math.min(from + chunkSize - 1, maxId);
+                    chunks.add(pool.submit(() -> ledgerEntryRepository.compareBalances(chunkStart, chunkEnd)));
+                }
+
+                for (Future<List<Object[]>> chunk : chunks) {
+                    for (Object[] row : chunk.get()) {
+                        checked++;
+                        Money cached = Money.of((BigDecimal) row[1]);
+                        Money ledger = Money.of((BigDecimal) row[2]);
+                        if (!cached.equals(ledger)) {
+                            drifted.add(LedgerDriftReport.AccountDrift.builder()
+                                    .accountId(((Number) row[0]).longValue())
+                                    .cachedBalance(cached)
+                                    .ledgerBalance(ledger)
+                                    .build());
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Ledger verification interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Ledger verification failed", e.getCause());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        return LedgerDriftReport.builder()
+                .accountsChecked(checked)
+                .drifted(drifted)
+                .durationMillis(System.currentTimeMillis() - start)
+                .checkedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package org.system.bank.limits;
+
+import org.system.bank.enums.TransactionType;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Running per-account, per-type debit totals for one day, in minor units. Accounts are spread
+ * over independently locked stripes so concurrent transfers from different accounts rarely
+ * contend, and checking a limit and counting the transfer against it is one atomic step.
+ * <p>
+ * Each stripe resets itself the first time it is used on a new day. A stripe only knows an
+ * account's full total for days the process observed entirely or that were warmed from the
+ * database; otherwise {@link #tryReserve} reports the account as {@link Outcome#UNKNOWN} and the
+ * caller seeds it from the database first.
+ */
+class DailySpendCounters {
+
+    enum Outcome {
+        RESERVED, EXCEEDED, UNKNOWN
+    }
+
+    private static final int TYPES = TransactionType.values().length;
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<Long, long[]> totals = new HashMap<>();
+        LocalDate day;
+        boolean complete;
+    }
+
+    private final Stripe[] stripes;
+    private final LocalDate startupDay;
+    private volatile LocalDate warmedDay;
+
+    DailySpendCounters(int stripeCount, LocalDate startupDay) {
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.startupDay = startupDay;
+    }
+
+    /**
+     * Counts {@code amount} against the account's total for the type unless that would take it
+     * past {@code limit}.
+     */
+    Outcome tryReserve(long accountId, TransactionType type, long amount, long limit, LocalDate day) {
+        Stripe stripe = stripeFor(accountId);
+        stripe.lock.lock();
+        try {
+            if (!roll(stripe, day)) {
+                // A transfer dated before the stripe's day; only possible across midnight
+                return Outcome.UNKNOWN;
+            }
+            long[] totals = stripe.totals.get(accountId);
+            if (totals == null) {
+                if (!stripe.complete) {
+                    return Outcome.UNKNOWN;
+                }
+                totals = new long[TYPES];
+                stripe.totals.put(accountId, totals);
+            }
+            int index = type.ordinal();
+            if (amount > limit - totals[index]) {
+                return Outcome.EXCEEDED;
+            }
+            totals[index] += amount;
+            return Outcome.RESERVED;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Gives back a reservation of a transfer that did not go through. Ignored once the day is over.
+     */
+    void release(long accountId, TransactionType type, long amount, LocalDate day) {
+        Stripe stripe = stripeFor(accountId);
+        stripe.lock.lock();
+        try {
+            long[] totals = stripe.totals.get(accountId);
+            if (day.equals(stripe.day) && totals != null) {
+                int index = type.ordinal();
+                totals[index] = Math.max(0, totals[index] - amount);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Installs totals read from the database for one account, unless the account already has
+     * totals for that day.
+     */
+    void seed(long accountId, long[] totals, LocalDate day) {
+        Stripe stripe = stripeFor(accountId);
+        stripe.lock.lock();
+        try {
+            if (roll(stripe, day)) {
+                stripe.totals.putIfAbsent(accountId, totals.clone());
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Installs the day's totals of every account that had debits, after which accounts without
+     * totals are known to have spent nothing that day.
+     */
+    void warm(Map<Long, long[]> totalsByAccount, LocalDate day) {
+        for (Map.Entry<Long, long[]> entry : totalsByAccount.entrySet()) {
+            seed(entry.getKey(), entry.getValue(), day);
+        }
+        warmedDay = day;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                if (day.equals(stripe.day)) {
+                    stripe.complete = true;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    static int typeCount() {
+        return TYPES;
+    }
+
+    // Caller holds the stripe lock. False when the day is older than the stripe's.
+    private boolean roll(Stripe stripe, LocalDate day) {
+        if (stripe.day == null || day.isAfter(stripe.day)) {
+            stripe.totals.clear();
+            stripe.day = day;
+            stripe.complete = day.isAfter(startupDay) || day.equals(warmedDay);
+            return true;
+        }
+        return day.equals(stripe.day);
+    }
+
+    private Stripe stripeFor(long accountId) {
+        long h = accountId * 0x9E3779B97F4A7C15L;
+        return stripes[Math.floorMod((int) (h ^ (h >>> 32)), stripes.length)];
+    }
+}
@@ -0,0 +1,220 @@
+package org.system.bank.limits;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.system.bank.dto.request.SpendingLimitRequest;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.entity.SpendingLimit;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.TransactionType;
+import org.system.bank.exception.SpendingLimitExceededException;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.SpendingLimitRepository;
+import org.system.bank.repository.jpa.TransactionRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Per-transfer and daily spending limits per account and {@link TransactionType}. Defaults come
+ * from configuration and can be overridden per account in {@code spending_limits}.
+ * <p>
+ * Daily totals are counted in memory by {@link DailySpendCounters}, warmed from today's
+ * transactions once the application is ready. Until then, an account's first transfer of the
+ * day reads its total from the database. A reservation is handed back if the surrounding
+ * transaction rolls back or the transfer is later rejected.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpendingLimitService {
+
+    private record Limits(long daily, long perTransfer) {
+    }
+
+    private final SpendingLimitRepository spendingLimitRepository;
+    private final TransactionRepository transactionRepository;
+
+    @Value("${bank.limits.stripes:64}")
+    private int stripeCount;
+
+    @Value("${bank.limits.standard.daily:100000.00}")
+    private String standardDaily;
+
+    @Value("${bank.limits.standard.per-transfer:50000.00}")
+    private String standardPerTransfer;
+
+    @Value("${bank.limits.instant.daily:20000.00}")
+    private String instantDaily;
+
+    @Value("${bank.limits.instant.per-transfer:10000.00}")
+    private String instantPerTransfer;
+
+    private final Map<TransactionType, Limits> defaults = new EnumMap<>(TransactionType.class);
+    private final Map<Long, Map<TransactionType, Limits>> overrides = new ConcurrentHashMap<>();
+    private DailySpendCounters counters;
+
+    @PostConstruct
+    public void init() {
+        defaults.put(TransactionType.STANDARD, new Limits(minor(standardDaily), minor(standardPerTransfer)));
+        defaults.put(TransactionType.INSTANT, new Limits(minor(instantDaily), minor(instantPerTransfer)));
+        counters = new DailySpendCounters(stripeCount, LocalDate.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warm() {
+        for (SpendingLimit limit : spendingLimitRepository.findAll()) {
+            putOverride(limit);
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<Long, long[]> totals = new HashMap<>();
+        try (Stream<Object[]> rows = transactionRepository.streamDebitsByAccountAndType(
+                today.atStartOfDay(), today.plusDays(1).atStartOfDay())) {
+            rows.forEach(row -> {
+                long[] accountTotals = totals.computeIfAbsent(((Number) row[0]).longValue(),
+                        id -> new long[DailySpendCounters.typeCount()]);
+                accountTotals[TransactionType.valueOf((String) row[1]).ordinal()] = Money.of((BigDecimal) row[2]).getMinorUnits();
+            });
+        }
+        counters.warm(totals, today);
+        log.info("Spending limit counters warmed for {} accounts, {} limit overrides", totals.size(), overrides.size());
+    }
+
+    /**
+     * Checks the transfer against the source account's limits and counts it towards today's total.
+     */
+    @Transactional(readOnly = true)
+    public void checkAndReserve(TransactionRequest request) {
+        Long accountId = request.getSourceAccountId();
+        TransactionType type = request.getType();
+        long amount = request.getAmount().getMinorUnits();
+        Limits limits = limitsFor(accountId, type);
+        if (amount > limits.perTransfer()) {
+            throw new SpendingLimitExceededException("Transfer exceeds the per-transfer limit for " + type + " transfers");
+        }
+
+        LocalDate today = LocalDate.now();
+        DailySpendCounters.Outcome outcome = counters.tryReserve(accountId, type, amount, limits.daily(), today);
+        if (outcome == DailySpendCounters.Outcome.UNKNOWN) {
+            long[] totals = loadTotals(accountId, today);
+            counters.seed(accountId, totals, today);
+            outcome = counters.tryReserve(accountId, type, amount, limits.daily(), today);
+            if (outcome == DailySpendCounters.Outcome.UNKNOWN) {
+                // The day turned over meanwhile; judge from the database without counting
+                outcome = amount > limits.daily() - totals[type.ordinal()]
+                        ? DailySpendCounters.Outcome.EXCEEDED
+                        : DailySpendCounters.Outcome.RESERVED;
+            }
+        }
+        if (outcome == DailySpendCounters.Outcome.EXCEEDED) {
+            throw new SpendingLimitExceededException("Transfer exceeds the daily limit for " + type + " transfers");
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        counters.release(accountId, type, amount, today);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Hands back the reservation made on {@code day} for a transfer that was never written.
+     */
+    public void release(TransactionRequest request, LocalDate day) {
+        counters.release(request.getSourceAccountId(), request.getType(), request.getAmount().getMinorUnits(), day);
+    }
+
+    /**
+     * Hands back the reservation of a transfer that was rejected, once the rejection commits.
+     */
+    public void releaseAfterCommit(Transaction transaction) {
+        long accountId = transaction.getSourceAccount().getAccountId();
+        TransactionType type = transaction.getType();
+        long amount = transaction.getAmount().getMinorUnits();
+        LocalDate day = transaction.getCreatedAt().toLocalDate();
+        Runnable release = () -> counters.release(accountId, type, amount, day);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release.run();
+                }
+            });
+        } else {
+            release.run();
+        }
+    }
+
+    @Transactional
+    public SpendingLimit setLimit(Long accountId, SpendingLimitRequest request) {
+        SpendingLimit limit = spendingLimitRepository.findByAccountIdAndTransactionType(accountId, request.getType())
+                .orElseGet(() -> SpendingLimit.builder()
+                        .accountId(accountId)
+                        .transactionType(request.getType())
+                        .build());
+        limit.setDailyLimit(request.getDailyLimit());
+        limit.setPerTransferLimit(request.getPerTransferLimit());
+        SpendingLimit saved = spendingLimitRepository.save(limit);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putOverride(saved);
+            }
+        });
+        return saved;
+    }
+
+    private Limits limitsFor(Long accountId, TransactionType type) {
+        Map<TransactionType, Limits> accountLimits = overrides.get(accountId);
+        Limits limits = accountLimits != null ? accountLimits.get(type) : null;
+        return limits != null ? limits : defaults.get(type);
+    }
+
+    private void putOverride(SpendingLimit limit) {
+        Limits fallback = defaults.get(limit.getTransactionType());
+        Limits limits = new Limits(
+                limit.getDailyLimit() != null ? limit.getDailyLimit().getMinorUnits() : fallback.daily(),
+                limit.getPerTransferLimit() != null ? limit.getPerTransferLimit().getMinorUnits() : fallback.perTransfer());
+        overrides.compute(limit.getAccountId(), (id, current) -> {
+            Map<TransactionType, Limits> updated = current == null
+                    ? new EnumMap<>(TransactionType.class)
+                    : new EnumMap<>(current);
+            updated.put(limit.getTransactionType(), limits);
+            return updated;
+        });
+    }
+
+    private long[] loadTotals(Long accountId, LocalDate day) {
+        long[] totals = new long[DailySpendCounters.typeCount()];
+        List<Object[]> rows = transactionRepository.sumDebitsByType(accountId, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        for (Object[] row : rows) {
+            totals[TransactionType.valueOf((String) row[0]).ordinal()] = Money.of((BigDecimal) row[1]).getMinorUnits();
+        }
+        return totals;
+    }
+
+    private static long minor(String amount) {
+        return Money.of(amount).getMinorUnits();
+    }
+}
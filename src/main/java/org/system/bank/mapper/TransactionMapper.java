@@ -6,7 +6,8 @@ import org.mapstruct.Named;
 import org.system.bank.dto.request.TransactionRequest;
 import org.system.bank.dto.response.TransactionResponse;
 import org.system.bank.entity.Transaction;
-import org.system.bank.enums.TransactionType;
+import org.system.bank.money.Money;
+import org.system.bank.repository.projection.TransactionView;
 
 import java.util.List;
 
@@ -16,6 +17,8 @@ public interface TransactionMapper {
     @Mapping(target = "transactionId", ignore = true)
     @Mapping(target = "status", constant = "PENDING")
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
+    @Mapping(target = "journalSequence", ignore = true)
+    @Mapping(target = "fraudRule", ignore = true)
     @Mapping(target = "sourceAccount.accountId", source = "sourceAccountId")
     @Mapping(target = "destinationAccount.accountId", source = "destinationAccountId")
     Transaction toEntity(TransactionRequest request);
@@ -27,10 +30,19 @@ public interface TransactionMapper {
 
     List<TransactionResponse> toResponseList(List<Transaction> transactions);
 
+    @Mapping(target = "journalSequence", ignore = true)
+    @Mapping(target = "fee", source = ".", qualifiedByName = "calculateViewFee")
+    TransactionResponse toResponse(TransactionView view);
+
+    List<TransactionResponse> toViewResponseList(List<TransactionView> views);
+
     @Named("calculateFee")
-    default Double calculateFee(Transaction transaction) {
-        return transaction.getType() == TransactionType.INSTANT ?
-                transaction.getAmount() * 0.005 : // 0.5%
-                transaction.getAmount() * 0.001;  // 0.1%
+    default Money calculateFee(Transaction transaction) {
+        return transaction.getAmount().timesBasisPoints(transaction.getType().getFeeBasisPoints());
+    }
+
+    @Named("calculateViewFee")
+    default Money calculateFee(TransactionView view) {
+        return view.getAmount().timesBasisPoints(view.getType().getFeeBasisPoints());
     }
 }
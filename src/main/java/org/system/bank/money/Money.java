@@ -0,0 +1,202 @@
+package org.system.bank.money;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Exact monetary amount held as a signed count of minor units (cents). Arithmetic stays on
+ * the primitive long, so unlike BigDecimal the only allocation per operation is the result,
+ * and sums never pick up floating-point error. Overflow throws instead of wrapping.
+ * <p>
+ * Persisted as NUMERIC(19,2) through {@link MoneyConverter} and serialized as a plain JSON
+ * number with two decimals.
+ */
+@Schema(type = "number", format = "decimal", example = "100.00")
+public final class Money implements Comparable<Money>, Serializable {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private static final long MINOR_PER_MAJOR = 100;
+    private static final long BASIS_POINTS = 10_000;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money ofMajor(long majorUnits) {
+        return ofMinor(Math.multiplyExact(majorUnits, MINOR_PER_MAJOR));
+    }
+
+    /**
+     * Exact conversion; amounts with fractions of a minor unit are rejected rather than
+     * silently rounded.
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount is required");
+        }
+        try {
+            return ofMinor(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid monetary amount: " + amount.toPlainString());
+        }
+    }
+
+    public static Money of(String amount) {
+        try {
+            return of(new BigDecimal(amount.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid monetary amount: " + amount);
+        }
+    }
+
+    /**
+     * Rounds a floating-point figure (such as a declared income) to the nearest minor unit.
+     * Only for values that were never exact to begin with.
+     */
+    public static Money ofRounded(double amount) {
+        return ofMinor(BigDecimal.valueOf(amount).setScale(SCALE, RoundingMode.HALF_EVEN)
+                .unscaledValue().longValueExact());
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money negate() {
+        return ofMinor(Math.negateExact(minorUnits));
+    }
+
+    public Money times(long multiplier) {
+        return ofMinor(Math.multiplyExact(minorUnits, multiplier));
+    }
+
+    /**
+     * Scales by a rate given in basis points (1 bp = 0.01%), rounding half-even to the
+     * minor unit. Used for fees, so it is exact integer arithmetic.
+     */
+    public Money timesBasisPoints(long basisPoints) {
+        return ofMinor(applyBasisPoints(minorUnits, basisPoints));
+    }
+
+    /**
+     * Scales by an irrational-ish factor such as an annuity factor. The factor is computed in
+     * double; the amount is rounded to the nearest minor unit once, at the end.
+     */
+    public Money times(double factor) {
+        double scaled = minorUnits * factor;
+        if (Double.isNaN(scaled) || Double.isInfinite(scaled)) {
+            throw new ArithmeticException("Invalid factor: " + factor);
+        }
+        // Math.round would clamp to Long.MIN_VALUE/MAX_VALUE instead of failing like the exact operations
+        if (Math.abs(scaled) >= 0x1p63) {
+            throw new ArithmeticException("long overflow");
+        }
+        return ofMinor(Math.round(scaled));
+    }
+
+    /**
+     * Splits into equal parts, rounding half-even to the minor unit.
+     */
+    public Money dividedBy(long divisor) {
+        return ofMinor(divideHalfEven(minorUnits, divisor));
+    }
+
+    /**
+     * Primitive form of {@link #timesBasisPoints(long)} for loops that keep running totals
+     * in minor units.
+     */
+    public static long applyBasisPoints(long minorUnits, long basisPoints) {
+        return divideHalfEven(Math.multiplyExact(minorUnits, basisPoints), BASIS_POINTS);
+    }
+
+    static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        long twiceRemainder = Math.abs(remainder) * 2;
+        long absDivisor = Math.abs(divisor);
+        boolean roundAway = twiceRemainder > absDivisor
+                || (twiceRemainder == absDivisor && (quotient & 1) != 0);
+        if (!roundAway) {
+            return quotient;
+        }
+        return (dividend < 0) == (divisor < 0) ? quotient + 1 : quotient - 1;
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    public static Money max(Money a, Money b) {
+        return a.minorUnits >= b.minorUnits ? a : b;
+    }
+
+    public static Money min(Money a, Money b) {
+        return a.minorUnits <= b.minorUnits ? a : b;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && minorUnits == other.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,20 @@
+package org.system.bank.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal value) {
+        return value == null ? null : Money.of(value);
+    }
+}
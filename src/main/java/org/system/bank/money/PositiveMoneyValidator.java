@@ -0,0 +1,12 @@
+package org.system.bank.money;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class PositiveMoneyValidator implements ConstraintValidator<PositiveMoney, Money> {
+
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || value.isPositive();
+    }
+}
@@ -0,0 +1,46 @@
+package org.system.bank.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.system.bank.entity.OutboxEvent;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Appends one JSON line per event; suitable for local development and log shippers
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bank.outbox.sink", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+
+    // A lock rather than synchronized, so a writer blocked on I/O does not pin a carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Value("${bank.outbox.file:outbox-events.jsonl}")
+    private String file;
+
+    @Override
+    public void publish(List<OutboxEvent> events) throws IOException {
+        lock.lock();
+        try (BufferedWriter writer = Files.newBufferedWriter(Path.of(file), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OutboxEvent event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.newLine();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
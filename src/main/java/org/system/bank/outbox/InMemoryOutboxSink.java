@@ -0,0 +1,29 @@
+package org.system.bank.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.system.bank.entity.OutboxEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Collects published events for assertions in tests
+@Component
+@ConditionalOnProperty(name = "bank.outbox.sink", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxEvent> published = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        published.addAll(events);
+    }
+
+    public List<OutboxEvent> getPublished() {
+        return List.copyOf(published);
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,62 @@
+package org.system.bank.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.system.bank.entity.OutboxEvent;
+import org.system.bank.repository.jpa.OutboxEventRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${bank.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${bank.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == batchSize);
+        } catch (Exception e) {
+            // The failed batch was rolled back and is retried on the next poll
+            log.error("Outbox relay failed", e);
+        }
+    }
+
+    /**
+     * Publishes one batch of unpublished events and marks them published in the same
+     * transaction that holds their row locks.
+     */
+    public int relayBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.lockNextUnpublished(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            try {
+                outboxSink.publish(events);
+            } catch (Exception e) {
+                throw new IllegalStateException("Outbox sink rejected batch", e);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            events.forEach(event -> event.setPublishedAt(now));
+            outboxEventRepository.saveAll(events);
+            return events.size();
+        });
+        return published != null ? published : 0;
+    }
+}
@@ -0,0 +1,41 @@
+package org.system.bank.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.bank.entity.OutboxEvent;
+import org.system.bank.enums.OutboxEventType;
+import org.system.bank.repository.jpa.OutboxEventRepository;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes an event in the caller's transaction, so it is published if and only if the
+     * state change it describes commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxEventType eventType, Long aggregateId, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(eventType.getAggregateType())
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .build());
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize outbox payload", e);
+        }
+    }
+}
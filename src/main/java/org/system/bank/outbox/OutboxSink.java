@@ -0,0 +1,13 @@
+package org.system.bank.outbox;
+
+import org.system.bank.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox events. A failed publish rolls the batch back and it is
+ * retried, so delivery is at-least-once and consumers must de-duplicate on the event id.
+ */
+public interface OutboxSink {
+    void publish(List<OutboxEvent> events) throws Exception;
+}
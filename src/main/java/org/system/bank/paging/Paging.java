@@ -0,0 +1,43 @@
+package org.system.bank.paging;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Page requests for list endpoints. Sizes are capped at {@link #MAX_SIZE}, and the total count is
+ * only queried when the caller asks for it: repositories return a {@link Slice}, which reads one
+ * row past the page instead of counting, and {@link #withTotal} turns it into a page with a total.
+ */
+public final class Paging {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private Paging() {
+    }
+
+    public static Pageable pageable(int page, int size, Sort sort) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must not be negative");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return PageRequest.of(page, Math.min(size, MAX_SIZE), sort);
+    }
+
+    /**
+     * The slice as is, or as a page with the total from {@code count} when {@code includeTotal} is set.
+     */
+    public static <T> Slice<T> withTotal(Slice<T> slice, boolean includeTotal, LongSupplier count) {
+        if (!includeTotal) {
+            return slice;
+        }
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), count.getAsLong());
+    }
+}
@@ -0,0 +1,51 @@
+package org.system.bank.replica;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * When each user last committed a write. A user's reads stay on the primary for {@code window}
+ * after that, so they read their own writes even while the replicas catch up.
+ */
+public class RecentWriters {
+
+    private final long windowNanos;
+    private final ConcurrentHashMap<String, Long> lastWrite = new ConcurrentHashMap<>();
+
+    public RecentWriters(long windowMillis) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    public void recordWrite(String user, long now) {
+        lastWrite.put(user, now);
+    }
+
+    public boolean wroteWithin(String user, long now) {
+        Long at = lastWrite.get(user);
+        return at != null && now - at < windowNanos;
+    }
+
+    public boolean currentUserWroteWithin(long now) {
+        String user = currentUser();
+        return user != null && wroteWithin(user, now);
+    }
+
+    /**
+     * The authenticated user on this thread, whose writes and reads are tracked here; null if none.
+     */
+    public static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    public void evictExpired(long now) {
+        lastWrite.values().removeIf(at -> now - at >= windowNanos);
+    }
+
+    int size() {
+        return lastWrite.size();
+    }
+}
@@ -0,0 +1,37 @@
+package org.system.bank.replica;
+
+import javax.sql.DataSource;
+
+/**
+ * One read replica pool and its last measured replication lag. Until the first probe the lag is
+ * unknown and the replica is not used.
+ */
+public class Replica {
+
+    static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile long lagMillis = UNKNOWN_LAG;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public void setLagMillis(long lagMillis) {
+        this.lagMillis = lagMillis;
+    }
+}
@@ -0,0 +1,94 @@
+package org.system.bank.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica routing, switched on by listing replica JDBC URLs in
+ * {@code bank.datasource.replica.urls}. The primary pool is still configured through
+ * {@code spring.datasource.*}; replicas share its credentials unless overridden.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bank.datasource.replica", name = "urls")
+public class ReplicaDataSourceConfig {
+
+    // Zero while the replica has replayed everything it received, so an idle primary does not read as lag
+    static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() " +
+            "THEN 0 ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT) END";
+
+    @Value("${bank.datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${bank.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${bank.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${bank.datasource.replica.pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${bank.datasource.replica.max-lag-ms:1000}")
+    private long maxLagMillis;
+
+    @Value("${bank.datasource.replica.sticky-window-ms:2000}")
+    private long stickyWindowMillis;
+
+    @Value("${bank.datasource.replica.lag-query:}")
+    private String lagQuery;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaSet replicaSet(DataSourceProperties properties) {
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replicaUrls.get(i).trim());
+            pool.setUsername(replicaUsername);
+            pool.setPassword(replicaPassword);
+            pool.setDriverClassName(properties.determineDriverClassName());
+            pool.setMaximumPoolSize(replicaPoolSize);
+            pool.setReadOnly(true);
+            replicas.add(new Replica("replica-" + i, pool));
+        }
+        return new ReplicaSet(replicas);
+    }
+
+    @Bean
+    public RecentWriters recentWriters() {
+        return new RecentWriters(stickyWindowMillis);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaSet replicaSet, RecentWriters recentWriters,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaSet, recentWriters,
+                lagQuery.isBlank() ? POSTGRES_LAG_QUERY : lagQuery, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaSet replicaSet,
+                                 RecentWriters recentWriters, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaSet,
+                recentWriters, maxLagMillis, meterRegistry, System::nanoTime));
+    }
+}
@@ -0,0 +1,61 @@
+package org.system.bank.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Measures each replica's lag with {@code lagQuery}, which returns milliseconds behind the primary.
+ * A failed probe or a null result marks the replica unknown, which keeps reads off it until the
+ * next successful probe.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReplicaSet replicas;
+    private final RecentWriters recentWriters;
+    private final String lagQuery;
+
+    public ReplicaLagMonitor(ReplicaSet replicas, RecentWriters recentWriters, String lagQuery,
+                             MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.recentWriters = recentWriters;
+        this.lagQuery = lagQuery;
+        for (Replica replica : replicas.getReplicas()) {
+            Gauge.builder("bank.datasource.replica.lag", replica, Replica::getLagMillis)
+                    .description("Last measured replication lag, Long.MAX_VALUE when unknown")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bank.datasource.replica.lag-check-interval-ms:1000}")
+    public void probe() {
+        for (Replica replica : replicas.getReplicas()) {
+            replica.setLagMillis(measure(replica));
+        }
+        recentWriters.evictExpired(System.nanoTime());
+    }
+
+    long measure(Replica replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return Replica.UNKNOWN_LAG;
+            }
+            long lag = rs.getLong(1);
+            return rs.wasNull() ? Replica.UNKNOWN_LAG : Math.max(lag, 0);
+        } catch (SQLException e) {
+            log.warn("Lag probe failed for replica {}: {}", replica.getName(), e.getMessage());
+            return Replica.UNKNOWN_LAG;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.system.bank.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary. Reads fall back to
+ * the primary when every replica lags more than {@code maxLagMillis}, and for a short window after
+ * the current user's last committed write (see {@link RecentWriters}).
+ * <p>
+ * The route is read from the transaction's read-only flag, which Spring sets after the transaction
+ * manager has asked for its connection. Use this behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the physical
+ * connection, and with it the route, is only picked at the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaSet replicas;
+    private final RecentWriters recentWriters;
+    private final long maxLagMillis;
+    private final LongSupplier clock;
+
+    private final Counter replicaReads;
+    private final Counter laggingReads;
+    private final Counter stickyReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaSet replicas, RecentWriters recentWriters,
+                                    long maxLagMillis, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.replicas = replicas;
+        this.recentWriters = recentWriters;
+        this.maxLagMillis = maxLagMillis;
+        this.clock = clock;
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.laggingReads = readCounter(meterRegistry, "primary-lag");
+        this.stickyReads = readCounter(meterRegistry, "primary-sticky");
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : replicas.getReplicas()) {
+            targets.put(replica.getName(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        String user = RecentWriters.currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                // The window starts at commit, not at the first statement of a long transaction
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriters.recordWrite(user, clock.getAsLong());
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (user != null && recentWriters.wroteWithin(user, clock.getAsLong())) {
+            stickyReads.increment();
+            return PRIMARY;
+        }
+        Replica replica = replicas.pick(maxLagMillis);
+        if (replica == null) {
+            laggingReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return replica.getName();
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("bank.datasource.reads")
+                .description("Read-only transactions by the data source they were routed to")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+}
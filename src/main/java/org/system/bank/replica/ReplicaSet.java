@@ -0,0 +1,48 @@
+package org.system.bank.replica;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The configured replicas, handed out round-robin among those within the lag threshold.
+ */
+public class ReplicaSet implements AutoCloseable {
+
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaSet(List<Replica> replicas) {
+        this.replicas = List.copyOf(replicas);
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * The next replica whose lag is at most {@code maxLagMillis}, or null when every replica is
+     * behind or unmeasured.
+     */
+    public Replica pick(long maxLagMillis) {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.getLagMillis() <= maxLagMillis) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable pool) {
+                pool.close();
+            }
+        }
+    }
+}
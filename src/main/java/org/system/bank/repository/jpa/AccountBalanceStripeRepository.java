@@ -0,0 +1,53 @@
+package org.system.bank.repository.jpa;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.system.bank.entity.AccountBalanceStripe;
+import org.system.bank.money.Money;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+@Repository
+public interface AccountBalanceStripeRepository extends JpaRepository<AccountBalanceStripe, Long> {
+
+    // Touches a single stripe row and never the account row
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "account_balance_stripes"))
+    @Query(value = "UPDATE account_balance_stripes SET balance = balance + :amount " +
+            "WHERE account_id = :accountId AND stripe = :stripe",
+            nativeQuery = true)
+    int credit(@Param("accountId") Long accountId, @Param("stripe") int stripe, @Param("amount") BigDecimal amount);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountBalanceStripe s WHERE s.accountId = :accountId ORDER BY s.stripe")
+    List<AccountBalanceStripe> findByAccountIdForUpdate(@Param("accountId") Long accountId);
+
+    @Query(value = "SELECT COALESCE(SUM(balance), 0) FROM account_balance_stripes WHERE account_id = :accountId",
+            nativeQuery = true)
+    BigDecimal sumByAccountId(@Param("accountId") Long accountId);
+
+    // account_id, sum of its stripes
+    @Query(value = "SELECT account_id, SUM(balance) FROM account_balance_stripes " +
+            "WHERE account_id IN (:accountIds) GROUP BY account_id",
+            nativeQuery = true)
+    List<Object[]> sumByAccountIds(@Param("accountIds") Collection<Long> accountIds);
+
+    @Query("SELECT DISTINCT s.accountId FROM AccountBalanceStripe s WHERE s.balance <> :zero ORDER BY s.accountId")
+    List<Long> findAccountIdsWithUnfoldedCredits(@Param("zero") Money zero, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM AccountBalanceStripe s WHERE s.accountId = :accountId")
+    void deleteByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,51 @@
+package org.system.bank.repository.jpa;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.system.bank.entity.AccountHold;
+import org.system.bank.enums.HoldStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AccountHoldRepository extends JpaRepository<AccountHold, Long> {
+
+    Optional<AccountHold> findByTransactionIdAndStatus(Long transactionId, HoldStatus status);
+
+    List<AccountHold> findByTransactionIdInAndStatus(Collection<Long> transactionIds, HoldStatus status);
+
+    @Query(value = "SELECT COALESCE(SUM(h.amount), 0) FROM account_holds h " +
+            "WHERE h.account_id = :accountId AND h.status = 'ACTIVE'",
+            nativeQuery = true)
+    BigDecimal sumActiveByAccountId(@Param("accountId") Long accountId);
+
+    // Rows of account_id, SUM(amount)
+    @Query(value = "SELECT h.account_id, SUM(h.amount) FROM account_holds h " +
+            "WHERE h.account_id IN (:accountIds) AND h.status = 'ACTIVE' " +
+            "GROUP BY h.account_id",
+            nativeQuery = true)
+    List<Object[]> sumActiveByAccountIds(@Param("accountIds") Collection<Long> accountIds);
+
+    @Query("SELECT h.transactionId FROM AccountHold h " +
+            "WHERE h.status = 'ACTIVE' AND h.expiresAt < :now " +
+            "ORDER BY h.expiresAt")
+    List<Long> findExpiredTransactionIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Only touches holds that are still ACTIVE, so a hold captured concurrently keeps its status
+    @Modifying
+    @Query("UPDATE AccountHold h SET h.status = :status, h.resolvedAt = :now " +
+            "WHERE h.transactionId IN :transactionIds AND h.status = 'ACTIVE'")
+    int resolveActive(
+            @Param("transactionIds") Collection<Long> transactionIds,
+            @Param("status") HoldStatus status,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -1,32 +1,133 @@
 package org.system.bank.repository.jpa;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.system.bank.dto.response.AccountResponse;
 import org.system.bank.entity.Account;
 import org.system.bank.entity.User;
 import org.system.bank.enums.AccountStatus;
+import org.system.bank.money.Money;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    // Read endpoints select the response columns directly instead of hydrating accounts and their users
+    String ACCOUNT_RESPONSE = "SELECT new org.system.bank.dto.response.AccountResponse(" +
+            "a.accountId, a.balance, a.status, u.userId, u.name) FROM Account a LEFT JOIN a.user u ";
+
+    @EntityGraph(Account.WITH_USER)
+    Optional<Account> findWithUserByAccountId(Long accountId);
+
     List<Account> findByUser(User user);
 
     List<Account> findByStatus(AccountStatus status);
 
     List<Account> findByUserAndStatus(User user, AccountStatus status);
 
-    @Query("SELECT a FROM Account a WHERE a.balance > :minBalance")
-    List<Account> findAccountsWithBalanceGreaterThan(@Param("minBalance") Double minBalance);
+    @Query(ACCOUNT_RESPONSE)
+    Slice<AccountResponse> findResponsesBy(Pageable pageable);
+
+    @Query(ACCOUNT_RESPONSE + "WHERE u.userId = :userId")
+    List<AccountResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query(ACCOUNT_RESPONSE + "WHERE a.status = :status")
+    Slice<AccountResponse> findResponsesByStatus(@Param("status") AccountStatus status, Pageable pageable);
+
+    long countByStatus(AccountStatus status);
+
+    // Balance including striped credits, as in BALANCE_ROW. Money has no arithmetic in JPQL, so the
+    // columns are added as numbers and compared with the amount of :minBalance
+    String BALANCE_ABOVE_MIN = "CAST(a.balance AS BigDecimal) + COALESCE((SELECT SUM(CAST(s.balance AS BigDecimal)) " +
+            "FROM AccountBalanceStripe s WHERE s.accountId = a.accountId), 0) > :#{#minBalance.toBigDecimal()}";
+
+    @Query(ACCOUNT_RESPONSE + "WHERE " + BALANCE_ABOVE_MIN)
+    Slice<AccountResponse> findResponsesWithBalanceGreaterThan(@Param("minBalance") Money minBalance,
+                                                              Pageable pageable);
+
+    @Query("SELECT COUNT(a) FROM Account a WHERE " + BALANCE_ABOVE_MIN)
+    long countAccountsWithBalanceGreaterThan(@Param("minBalance") Money minBalance);
+
+    @Query(ACCOUNT_RESPONSE + "WHERE UPPER(u.name) LIKE UPPER(CONCAT('%', :#{escape([0])}, '%')) " +
+            "ESCAPE :#{escapeCharacter()}")
+    Slice<AccountResponse> findResponsesByUserNameContaining(String query, Pageable pageable);
+
+    long countByUser_NameContainingIgnoreCase(String query);
+
+    @Query("SELECT a FROM Account a WHERE " + BALANCE_ABOVE_MIN)
+    List<Account> findAccountsWithBalanceGreaterThan(@Param("minBalance") Money minBalance);
 
     @Query("SELECT COUNT(a) > 0 FROM Account a WHERE a.user = :user AND a.status = 'ACTIVE'")
     boolean hasActiveAccount(@Param("user") User user);
 
-    @Query("SELECT SUM(a.balance) FROM Account a WHERE a.user = :user AND a.status = 'ACTIVE'")
-    Double getTotalBalance(@Param("user") User user);
+    // Money sums run in SQL on the NUMERIC column, so they are exact; striped credits are included
+    @Query(value = "SELECT SUM(a.balance + COALESCE((SELECT SUM(s.balance) FROM account_balance_stripes s " +
+            "WHERE s.account_id = a.account_id), 0)) FROM accounts a " +
+            "WHERE a.user_id = :#{#user.userId} AND a.status = 'ACTIVE'",
+            nativeQuery = true)
+    BigDecimal getTotalBalance(@Param("user") User user);
+
+    // Raw rows for the balance cache: account_id, user_id, status, balance including striped credits
+    String BALANCE_ROW = "SELECT a.account_id, a.user_id, a.status, a.balance + COALESCE((SELECT SUM(s.balance) " +
+            "FROM account_balance_stripes s WHERE s.account_id = a.account_id), 0) FROM accounts a ";
+
+    @Query(value = BALANCE_ROW + "WHERE a.account_id = :accountId", nativeQuery = true)
+    List<Object[]> findBalanceRowsByAccountId(@Param("accountId") Long accountId);
+
+    @Query(value = BALANCE_ROW + "WHERE a.user_id = :userId", nativeQuery = true)
+    List<Object[]> findBalanceRowsByUserId(@Param("userId") Long userId);
 
     List<Account> findByUser_NameContainingIgnoreCase(String query);
 
+    @Query("SELECT MIN(a.accountId) FROM Account a")
+    Long findMinAccountId();
+
+    @Query("SELECT MAX(a.accountId) FROM Account a")
+    Long findMaxAccountId();
+
+    // Raw rows for the off-heap balance index: account_id, balance, status. Striped accounts are
+    // left out since their balance is not in this row alone
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = "SELECT account_id, balance, status FROM accounts WHERE balance_stripes = 0", nativeQuery = true)
+    Stream<Object[]> streamBalanceIndexRows();
+
+    // Relative update for writers that do not hold the entity; refuses to take a balance below zero.
+    // Native DML without query spaces would make Hibernate clear the whole second-level cache
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "accounts"))
+    @Query(value = "UPDATE accounts SET balance = balance + :delta " +
+            "WHERE account_id = :accountId AND balance + :delta >= 0",
+            nativeQuery = true)
+    int applyBalanceDelta(@Param("accountId") Long accountId, @Param("delta") BigDecimal delta);
+
+    // Unconditional form for transfers that were already validated and acknowledged
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "accounts"))
+    @Query(value = "UPDATE accounts SET balance = balance + :delta WHERE account_id = :accountId",
+            nativeQuery = true)
+    int addToBalance(@Param("accountId") Long accountId, @Param("delta") BigDecimal delta);
+
+    // Locks in id order so concurrent settlement batches cannot deadlock each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountId IN :ids ORDER BY a.accountId")
+    List<Account> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
 }
@@ -0,0 +1,12 @@
+package org.system.bank.repository.jpa;
+
+import org.springframework.data.repository.Repository;
+import org.system.bank.entity.AccountSummary;
+
+import java.util.Optional;
+
+// Read-only: rows change through Account, and AccountServiceImpl evicts the cached copy
+public interface AccountSummaryRepository extends Repository<AccountSummary, Long> {
+
+    Optional<AccountSummary> findById(Long accountId);
+}
@@ -0,0 +1,63 @@
+package org.system.bank.repository.jpa;
+
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.system.bank.entity.DailyAccountTotal;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+@Repository
+public interface DailyAccountTotalRepository extends JpaRepository<DailyAccountTotal, Long> {
+
+    Optional<DailyAccountTotal> findByAccountIdAndBusinessDate(Long accountId, LocalDate businessDate);
+
+    // Concurrent writers of a new day both succeed: the loser's insert is a no-op
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "daily_account_totals"))
+    @Query(value = "INSERT INTO daily_account_totals (account_id, business_date, debit_total, credit_total, transaction_count) " +
+            "VALUES (:accountId, :businessDate, 0, 0, 0) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("accountId") Long accountId, @Param("businessDate") LocalDate businessDate);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "daily_account_totals"))
+    @Query(value = "UPDATE daily_account_totals SET debit_total = debit_total + :debit, " +
+            "credit_total = credit_total + :credit, transaction_count = transaction_count + :count " +
+            "WHERE account_id = :accountId AND business_date = :businessDate",
+            nativeQuery = true)
+    int addToTotals(@Param("accountId") Long accountId, @Param("businessDate") LocalDate businessDate,
+                    @Param("debit") BigDecimal debit, @Param("credit") BigDecimal credit, @Param("count") long count);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "daily_account_totals"))
+    @Query(value = "DELETE FROM daily_account_totals " +
+            "WHERE account_id BETWEEN :fromId AND :toId AND business_date < :before",
+            nativeQuery = true)
+    int deleteRange(@Param("fromId") Long fromId, @Param("toId") Long toId, @Param("before") LocalDate before);
+
+    // Aggregates completed transfers of the account id range, both sides, for dates before :before
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "daily_account_totals"))
+    @Query(value = "INSERT INTO daily_account_totals (account_id, business_date, debit_total, credit_total, transaction_count) " +
+            "SELECT account_id, business_date, SUM(debit), SUM(credit), COUNT(*) FROM (" +
+            "  SELECT t.source_account_id AS account_id, CAST(t.created_at AS DATE) AS business_date, " +
+            "         t.amount AS debit, 0 AS credit FROM transactions t " +
+            "  WHERE t.status = 'COMPLETED' AND t.source_account_id BETWEEN :fromId AND :toId " +
+            "    AND t.created_at < CAST(:before AS TIMESTAMP) " +
+            "  UNION ALL " +
+            "  SELECT t.destination_account_id, CAST(t.created_at AS DATE), 0, t.amount FROM transactions t " +
+            "  WHERE t.status = 'COMPLETED' AND t.destination_account_id BETWEEN :fromId AND :toId " +
+            "    AND t.created_at < CAST(:before AS TIMESTAMP)" +
+            ") sides GROUP BY account_id, business_date",
+            nativeQuery = true)
+    int insertRange(@Param("fromId") Long fromId, @Param("toId") Long toId, @Param("before") LocalDate before);
+}
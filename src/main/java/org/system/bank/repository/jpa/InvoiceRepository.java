@@ -1,18 +1,32 @@
 package org.system.bank.repository.jpa;
 
+import org.system.bank.dto.response.InvoiceResponse;
 import org.system.bank.entity.Invoice;
 import org.system.bank.entity.User;
 import org.system.bank.enums.InvoiceStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
+
+    // Read endpoints select the response columns directly instead of hydrating invoices and their users
+    String INVOICE_RESPONSE = "SELECT new org.system.bank.dto.response.InvoiceResponse(" +
+            "i.invoiceId, i.amountDue, i.dueDate, i.status, u.userId, u.name) FROM Invoice i JOIN i.user u ";
+
+    @EntityGraph(Invoice.WITH_USER)
+    Optional<Invoice> findWithUserByInvoiceId(Long invoiceId);
+
     List<Invoice> findByUser(User user);
 
     List<Invoice> findByStatus(InvoiceStatus status);
@@ -24,8 +38,32 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
     @Query("SELECT i FROM Invoice i WHERE i.dueDate < CURRENT_DATE AND i.status = 'PENDING'")
     List<Invoice> findOverdueInvoices();
 
-    @Query("SELECT SUM(i.amountDue) FROM Invoice i WHERE i.user = :user AND i.status = 'PENDING'")
-    Double calculateTotalPendingAmount(@Param("user") User user);
+    @Query(INVOICE_RESPONSE)
+    Slice<InvoiceResponse> findResponsesBy(Pageable pageable);
+
+    @Query(INVOICE_RESPONSE + "WHERE u.userId = :userId")
+    List<InvoiceResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query(INVOICE_RESPONSE + "WHERE i.status = :status")
+    Slice<InvoiceResponse> findResponsesByStatus(@Param("status") InvoiceStatus status, Pageable pageable);
+
+    long countByStatus(InvoiceStatus status);
+
+    @Query(INVOICE_RESPONSE + "WHERE i.dueDate < :date")
+    Slice<InvoiceResponse> findResponsesByDueDateBefore(@Param("date") LocalDate date, Pageable pageable);
+
+    long countByDueDateBefore(LocalDate date);
+
+    @Query(INVOICE_RESPONSE + "WHERE i.dueDate < CURRENT_DATE AND i.status = 'PENDING'")
+    Slice<InvoiceResponse> findOverdueResponses(Pageable pageable);
+
+    @Query("SELECT COUNT(i) FROM Invoice i WHERE i.dueDate < CURRENT_DATE AND i.status = 'PENDING'")
+    long countOverdueInvoices();
+
+    @Query(value = "SELECT SUM(i.amount_due) FROM invoices i " +
+            "WHERE i.user_id = :#{#user.userId} AND i.status = 'PENDING'",
+            nativeQuery = true)
+    BigDecimal calculateTotalPendingAmount(@Param("user") User user);
 
     @Query("SELECT COUNT(i) > 0 FROM Invoice i " +
             "WHERE i.user = :user AND i.status = 'OVERDUE'")
@@ -0,0 +1,38 @@
+package org.system.bank.repository.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.system.bank.entity.LedgerEntry;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    List<LedgerEntry> findByTransactionId(Long transactionId);
+
+    List<LedgerEntry> findByAccountIdOrderByIdAsc(Long accountId);
+
+    boolean existsByAccountId(Long accountId);
+
+    @Query("SELECT COUNT(l) > 0 FROM LedgerEntry l " +
+            "WHERE l.accountId IN (SELECT a.accountId FROM Account a WHERE a.user.userId = :userId)")
+    boolean existsByAccountUserId(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COALESCE(SUM(amount), 0) FROM ledger_entries WHERE account_id = :accountId",
+            nativeQuery = true)
+    BigDecimal sumByAccountId(@Param("accountId") Long accountId);
+
+    // Returns [account_id, cached balance, ledger balance] for every account in the id range; the
+    // cached balance includes credits still sitting in balance stripes
+    @Query(value = "SELECT a.account_id, a.balance + COALESCE((SELECT SUM(s.balance) FROM account_balance_stripes s " +
+            "WHERE s.account_id = a.account_id), 0), COALESCE(SUM(l.amount), 0) " +
+            "FROM accounts a LEFT JOIN ledger_entries l ON l.account_id = a.account_id " +
+            "WHERE a.account_id BETWEEN :fromId AND :toId " +
+            "GROUP BY a.account_id, a.balance",
+            nativeQuery = true)
+    List<Object[]> compareBalances(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
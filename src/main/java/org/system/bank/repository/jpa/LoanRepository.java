@@ -1,37 +1,83 @@
 package org.system.bank.repository.jpa;
 
+import org.system.bank.dto.response.LoanResponse;
 import org.system.bank.entity.Loan;
 import org.system.bank.entity.User;
 import org.system.bank.enums.LoanStatus;
+import org.system.bank.money.Money;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LoanRepository extends JpaRepository<Loan, Long> {
+
+    // Read endpoints select the response columns directly instead of hydrating loans and their users
+    String LOAN_RESPONSE = "SELECT new org.system.bank.dto.response.LoanResponse(" +
+            "l.loanId, l.principal, l.interestRate, l.termMonths, l.monthlyPayment, l.remainingAmount, " +
+            "l.status, u.userId, u.name, l.startDate, l.endDate, l.guarantees) FROM Loan l JOIN l.user u ";
+
+    @EntityGraph(Loan.WITH_USER)
+    Optional<Loan> findWithUserByLoanId(Long loanId);
+
     List<Loan> findByUser(User user);
 
     List<Loan> findByStatus(LoanStatus status);
 
     List<Loan> findByUserAndStatus(User user, LoanStatus status);
 
-    @Query("SELECT SUM(l.remainingAmount) FROM Loan l " +
-            "WHERE l.user = :user AND l.status = 'ACTIVE'")
-    Double calculateTotalDebt(@Param("user") User user);
+    @Query(LOAN_RESPONSE)
+    Slice<LoanResponse> findResponsesBy(Pageable pageable);
+
+    @Query(LOAN_RESPONSE + "WHERE u.userId = :userId")
+    List<LoanResponse> findResponsesByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT SUM(l.monthlyPayment) FROM Loan l " +
-            "WHERE l.user = :user AND l.status = 'ACTIVE'")
-    Double calculateTotalMonthlyPayments(@Param("user") User user);
+    @Query(LOAN_RESPONSE + "WHERE l.status = :status")
+    Slice<LoanResponse> findResponsesByStatus(@Param("status") LoanStatus status, Pageable pageable);
+
+    long countByStatus(LoanStatus status);
+
+    @Query(value = "SELECT SUM(l.remaining_amount) FROM loans l " +
+            "WHERE l.user_id = :#{#user.userId} AND l.status = 'ACTIVE'",
+            nativeQuery = true)
+    BigDecimal calculateTotalDebt(@Param("user") User user);
+
+    @Query(value = "SELECT SUM(l.monthly_payment) FROM loans l " +
+            "WHERE l.user_id = :#{#user.userId} AND l.status = 'ACTIVE'",
+            nativeQuery = true)
+    BigDecimal calculateTotalMonthlyPayments(@Param("user") User user);
 
     @Query("SELECT l FROM Loan l " +
             "WHERE l.status = 'ACTIVE' " +
             "AND l.endDate < :date " +
-            "AND l.remainingAmount > 0")
-    List<Loan> findOverdueLoans(@Param("date") LocalDate date);
+            "AND l.remainingAmount > :minRemaining")
+    List<Loan> findOverdueLoans(@Param("date") LocalDate date, @Param("minRemaining") Money minRemaining);
+
+    default List<Loan> findOverdueLoans(LocalDate date) {
+        return findOverdueLoans(date, Money.ZERO);
+    }
+
+    @Query(LOAN_RESPONSE +
+            "WHERE l.status = 'ACTIVE' " +
+            "AND l.endDate < :date " +
+            "AND l.remainingAmount > :minRemaining")
+    Slice<LoanResponse> findOverdueResponses(@Param("date") LocalDate date, @Param("minRemaining") Money minRemaining,
+                                             Pageable pageable);
+
+    @Query("SELECT COUNT(l) FROM Loan l " +
+            "WHERE l.status = 'ACTIVE' " +
+            "AND l.endDate < :date " +
+            "AND l.remainingAmount > :minRemaining")
+    long countOverdueLoans(@Param("date") LocalDate date, @Param("minRemaining") Money minRemaining);
 
     @Query("SELECT COUNT(l) > 0 FROM Loan l " +
             "WHERE l.user = :user " +
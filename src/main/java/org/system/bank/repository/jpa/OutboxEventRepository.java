@@ -0,0 +1,24 @@
+package org.system.bank.repository.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.system.bank.entity.OutboxEvent;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // SKIP LOCKED lets several relay instances drain the outbox without blocking each other
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE published_at IS NULL " +
+            "ORDER BY id " +
+            "LIMIT :batchSize " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> lockNextUnpublished(@Param("batchSize") int batchSize);
+
+    long countByPublishedAtIsNull();
+}
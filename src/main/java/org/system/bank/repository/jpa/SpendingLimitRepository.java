@@ -0,0 +1,14 @@
+package org.system.bank.repository.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.system.bank.entity.SpendingLimit;
+import org.system.bank.enums.TransactionType;
+
+import java.util.Optional;
+
+@Repository
+public interface SpendingLimitRepository extends JpaRepository<SpendingLimit, Long> {
+
+    Optional<SpendingLimit> findByAccountIdAndTransactionType(Long accountId, TransactionType transactionType);
+}
@@ -1,65 +1,169 @@
 package org.system.bank.repository.jpa;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNullApi;
 import org.springframework.stereotype.Repository;
 import org.system.bank.entity.Account;
 import org.system.bank.entity.Transaction;
-import org.system.bank.entity.User;
 import org.system.bank.enums.TransactionStatus;
 import org.system.bank.enums.TransactionType;
+import org.system.bank.repository.projection.TransactionView;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    List<Transaction> findBySourceAccount(Account account);
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
 
-    List<Transaction> findByDestinationAccount(Account account);
+    // Read endpoints select the response columns as a TransactionView instead of hydrating transactions
+    String TRANSACTION_VIEW = "SELECT t.transactionId AS transactionId, t.amount AS amount, t.type AS type, " +
+            "t.status AS status, t.sourceAccount.accountId AS sourceAccountId, " +
+            "t.destinationAccount.accountId AS destinationAccountId, t.createdAt AS createdAt, " +
+            "t.fraudRule AS fraudRule FROM Transaction t ";
+
+    @Query(TRANSACTION_VIEW)
+    List<TransactionView> findAllViews();
+
+    @Query(TRANSACTION_VIEW + "WHERE t.sourceAccount.accountId = :accountId")
+    List<TransactionView> findViewsBySourceAccountId(@Param("accountId") Long accountId);
+
+    @Query(TRANSACTION_VIEW + "WHERE t.destinationAccount.accountId = :accountId")
+    List<TransactionView> findViewsByDestinationAccountId(@Param("accountId") Long accountId);
+
+    // Two single-column lookups rather than an OR, so each side can use its account index
+    default List<TransactionView> findViewsByAccountId(Long accountId) {
+        List<TransactionView> views = new ArrayList<>(findViewsBySourceAccountId(accountId));
+        views.addAll(findViewsByDestinationAccountId(accountId));
+        return views;
+    }
+
+    @Query(TRANSACTION_VIEW + "WHERE t.type = :type")
+    List<TransactionView> findViewsByType(@Param("type") TransactionType type);
 
-    default List<Transaction> findBySourceAccountOrDestinationAccount(Account account, Account sameAccount) {
-        List<Transaction> outgoing = findBySourceAccount(account);
-        List<Transaction> incoming = findByDestinationAccount(account);
-        outgoing.addAll(incoming);
-        return outgoing;
+    @Query(TRANSACTION_VIEW + "WHERE t.status = :status")
+    List<TransactionView> findViewsByStatus(@Param("status") TransactionStatus status);
+
+    @Query(TRANSACTION_VIEW + "WHERE t.createdAt BETWEEN :start AND :end")
+    List<TransactionView> findViewsByCreatedAtBetween(@Param("start") LocalDateTime start,
+                                                      @Param("end") LocalDateTime end);
+
+    // An OR across both account columns cannot be one index range, so each side is its own range
+    // scan on (account, created_at); the incoming side skips transfers the outgoing side returned
+    default List<TransactionView> findAccountTransactionViews(Long accountId, LocalDateTime startDate,
+                                                              LocalDateTime endDate) {
+        List<TransactionView> views = new ArrayList<>(findOutgoingViewsBetween(accountId, startDate, endDate));
+        views.addAll(findIncomingViewsBetween(accountId, startDate, endDate));
+        return views;
     }
 
+    @Query(TRANSACTION_VIEW + "WHERE t.sourceAccount.accountId = :accountId " +
+            "AND t.createdAt BETWEEN :startDate AND :endDate")
+    List<TransactionView> findOutgoingViewsBetween(@Param("accountId") Long accountId,
+                                                   @Param("startDate") LocalDateTime startDate,
+                                                   @Param("endDate") LocalDateTime endDate);
+
+    @Query(TRANSACTION_VIEW + "WHERE t.destinationAccount.accountId = :accountId " +
+            "AND t.sourceAccount.accountId <> :accountId " +
+            "AND t.createdAt BETWEEN :startDate AND :endDate")
+    List<TransactionView> findIncomingViewsBetween(@Param("accountId") Long accountId,
+                                                   @Param("startDate") LocalDateTime startDate,
+                                                   @Param("endDate") LocalDateTime endDate);
+
+    @Query(TRANSACTION_VIEW + "WHERE t.sourceAccount.user.userId = :userId AND t.status = :status")
+    List<TransactionView> findViewsBySourceUserIdAndStatus(@Param("userId") Long userId,
+                                                           @Param("status") TransactionStatus status);
+
+    List<Transaction> findBySourceAccount(Account account);
+
+    List<Transaction> findByDestinationAccount(Account account);
+
     List<Transaction> findByType(TransactionType type);
 
     List<Transaction> findByStatus(TransactionStatus status);
 
     List<Transaction> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
-    @Query("SELECT t FROM Transaction t WHERE " +
-            "(t.sourceAccount = :account OR t.destinationAccount = :account) " +
+    // Same split as findAccountTransactionViews
+    default List<Transaction> findAccountTransactions(Account account, LocalDateTime startDate, LocalDateTime endDate) {
+        List<Transaction> transactions = new ArrayList<>(findOutgoingBetween(account, startDate, endDate));
+        transactions.addAll(findIncomingBetween(account, startDate, endDate));
+        return transactions;
+    }
+
+    @Query("SELECT t FROM Transaction t WHERE t.sourceAccount = :account " +
             "AND t.createdAt BETWEEN :startDate AND :endDate")
-    List<Transaction> findAccountTransactions(
-            @Param("account") Account account,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
+    List<Transaction> findOutgoingBetween(@Param("account") Account account,
+                                          @Param("startDate") LocalDateTime startDate,
+                                          @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT SUM(t.amount) FROM Transaction t " +
-            "WHERE t.sourceAccount = :account " +
-            "AND (:type is null OR t.type = :type) " +
-            "AND t.createdAt BETWEEN :startDate AND :endDate " +
-            "AND t.status = 'COMPLETED'")
-    Double calculateTotalDebit(
-            @Param("account") Account account,
-            @Param("type") TransactionType type,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
+    @Query("SELECT t FROM Transaction t WHERE t.destinationAccount = :account " +
+            "AND t.sourceAccount <> :account " +
+            "AND t.createdAt BETWEEN :startDate AND :endDate")
+    List<Transaction> findIncomingBetween(@Param("account") Account account,
+                                          @Param("startDate") LocalDateTime startDate,
+                                          @Param("endDate") LocalDateTime endDate);
 
     @Query(value = "SELECT t FROM Transaction t",
             countQuery = "SELECT COUNT(t) FROM Transaction t")
     Page<Transaction> findAll(Pageable pageable);
 
-    List<Transaction> findBySourceAccount_UserAndStatus(User user, TransactionStatus status);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transaction t " +
+            "WHERE t.transactionId IN :ids AND t.status = 'PENDING' " +
+            "ORDER BY t.transactionId")
+    List<Transaction> findPendingByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MAX(t.journalSequence) FROM Transaction t")
+    Long findMaxJournalSequence();
+
+    // Pending transfers, held ones included, still add to the totals of the day they were created
+    @Query("SELECT MIN(t.createdAt) FROM Transaction t WHERE t.status = 'PENDING'")
+    LocalDateTime findEarliestPendingCreatedAt();
+
+    // [type, sum of amounts] of the account's pending or completed debits created in [start, end)
+    @Query(value = "SELECT t.type, SUM(t.amount) FROM transactions t " +
+            "WHERE t.source_account_id = :accountId AND t.created_at >= :start AND t.created_at < :end " +
+            "AND t.status IN ('PENDING', 'COMPLETED') GROUP BY t.type",
+            nativeQuery = true)
+    List<Object[]> sumDebitsByType(
+            @Param("accountId") Long accountId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    // [source_account_id, type, sum of amounts] of every account's debits created in [start, end)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = "SELECT t.source_account_id, t.type, SUM(t.amount) FROM transactions t " +
+            "WHERE t.created_at >= :start AND t.created_at < :end " +
+            "AND t.status IN ('PENDING', 'COMPLETED') GROUP BY t.source_account_id, t.type",
+            nativeQuery = true)
+    Stream<Object[]> streamDebitsByAccountAndType(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    @Query("SELECT t FROM Transaction t " +
+            "WHERE t.status = 'PENDING' AND t.type = :type AND t.createdAt < :before " +
+            "AND t.fraudRule IS NULL " +
+            "ORDER BY t.createdAt")
+    List<Transaction> findStalePending(
+            @Param("type") TransactionType type,
+            @Param("before") LocalDateTime before,
+            Pageable pageable
+    );
 }
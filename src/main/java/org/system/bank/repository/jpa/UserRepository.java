@@ -1,26 +1,34 @@
 // UserRepository.java
 package org.system.bank.repository.jpa;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.system.bank.entity.User;
 import org.system.bank.enums.Role;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.accounts")
-    List<User> findAllWithAccounts();
-
-    @Query(value = "SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.accounts WHERE u IN :users",
-            countQuery = "SELECT COUNT(u) FROM User u")
-    List<User> findAllWithAccountsByUsers(List<User> users);
+    /**
+     * Second phase of a user list: loads the accounts of an already fetched page of users in one
+     * query, so mapping the page does not issue a lazy load per user.
+     */
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.accounts WHERE u.userId IN :ids")
+    List<User> findWithAccountsByUserIdIn(@Param("ids") Collection<Long> ids);
 
     @Query(value = "SELECT u FROM User u",
             countQuery = "SELECT COUNT(u) FROM User u")
@@ -28,6 +36,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findByRole(Role role);
 
+    Slice<User> findAllBy(Pageable pageable);
+
+    Slice<User> findByRole(Role role, Pageable pageable);
+
+    long countByRole(Role role);
+
+    Slice<User> findByCreditScoreGreaterThanEqual(Integer creditScore, Pageable pageable);
+
+    long countByCreditScoreGreaterThanEqual(Integer creditScore);
+
+    Slice<User> findByMonthlyIncomeBetween(Double minIncome, Double maxIncome, Pageable pageable);
+
+    long countByMonthlyIncomeBetween(Double minIncome, Double maxIncome);
+
+    Slice<User> findByAgeBetween(Integer minAge, Integer maxAge, Pageable pageable);
+
+    long countByAgeBetween(Integer minAge, Integer maxAge);
+
+    @Query("SELECT COUNT(u) FROM User u " +
+            "WHERE EXISTS (SELECT a FROM Account a WHERE a.user = u AND a.status = 'ACTIVE')")
+    long countWithActiveAccount();
+
     List<User> findByCreditScoreGreaterThanEqual(Integer creditScore);
 
     List<User> findByMonthlyIncomeBetween(Double minIncome, Double maxIncome);
@@ -36,6 +66,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByName(String name);
 
+    // Runs on every authenticated request; the cached result is the user id, the row itself comes
+    // from the User entity region
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "userByEmail")
+    })
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
@@ -0,0 +1,31 @@
+package org.system.bank.repository.projection;
+
+import org.system.bank.enums.FraudRule;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.enums.TransactionType;
+import org.system.bank.money.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a transaction that {@code TransactionResponse} is built from. Account ids come from
+ * the foreign keys, so reading a view never touches the accounts table.
+ */
+public interface TransactionView {
+
+    Long getTransactionId();
+
+    Money getAmount();
+
+    TransactionType getType();
+
+    TransactionStatus getStatus();
+
+    Long getSourceAccountId();
+
+    Long getDestinationAccountId();
+
+    LocalDateTime getCreatedAt();
+
+    FraudRule getFraudRule();
+}
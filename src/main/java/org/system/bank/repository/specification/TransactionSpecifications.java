@@ -0,0 +1,73 @@
+package org.system.bank.repository.specification;
+
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.system.bank.dto.request.TransactionFilter;
+import org.system.bank.entity.Transaction;
+import org.system.bank.exception.SearchOperationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Criteria queries over {@link Transaction} for the filtered transaction listing.
+ * <p>
+ * Sorting is limited to indexed fields. {@code createdAt} is also the trailing column of the
+ * composite indexes on {@code type}, {@code status} and each account column, so a page filtered on
+ * one of those and sorted by time is read in index order. Sorting by {@code amount} (own index) or
+ * {@code transactionId} (primary key) walks that index and applies the filters to each row, or,
+ * when a filter is selective, sorts the rows it matches.
+ */
+public final class TransactionSpecifications {
+
+    public static final Set<String> SORTABLE_FIELDS = Set.of("createdAt", "amount", "transactionId");
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> matching(TransactionFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getType() != null) {
+                predicates.add(cb.equal(root.get("type"), filter.getType()));
+            }
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getMinAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("amount"), filter.getMinAmount()));
+            }
+            if (filter.getMaxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("amount"), filter.getMaxAmount()));
+            }
+            if (filter.getFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getFrom()));
+            }
+            if (filter.getTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), filter.getTo()));
+            }
+            if (filter.getAccountId() != null) {
+                // Compared on the foreign key columns, so neither account is joined. PostgreSQL
+                // answers the OR with a BitmapOr of the source and destination composites, so the
+                // account's matching transfers are sorted rather than read in index order
+                predicates.add(cb.or(
+                        cb.equal(root.get("sourceAccount").get("accountId"), filter.getAccountId()),
+                        cb.equal(root.get("destinationAccount").get("accountId"), filter.getAccountId())));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Sort on a whitelisted field, with the id as tie-breaker so pages do not overlap.
+     */
+    public static Sort sort(String field, Sort.Direction direction) {
+        if (!SORTABLE_FIELDS.contains(field)) {
+            throw new SearchOperationException("Cannot sort transactions by '" + field + "'; allowed: " + SORTABLE_FIELDS);
+        }
+        Sort sort = Sort.by(direction, field);
+        return field.equals("transactionId") ? sort : sort.and(Sort.by(direction, "transactionId"));
+    }
+}
@@ -2,7 +2,7 @@ package org.system.bank.security.expression;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountSummary;
 import org.system.bank.service.AccountService;
 
 @Component("accountSecurity")
@@ -12,15 +12,15 @@ public class AccountSecurityExpression extends SecurityExpressionRoot {
     private final AccountService accountService;
 
     public boolean canAccessAccount(Long accountId) {
-        Account account = accountService.getAccountEntity(accountId);
+        AccountSummary account = accountService.getAccountSummary(accountId);
         return isAdmin() ||
                 isEmployee() ||
-                account.getUser().getUserId().equals(getCurrentUser().getUserId());
+                account.getUserId().equals(getCurrentUser().getUserId());
     }
 
     public boolean canModifyAccount(Long accountId) {
-        Account account = accountService.getAccountEntity(accountId);
-        return isAdmin() || account.getUser().getUserId().equals(getCurrentUser().getUserId());
+        AccountSummary account = accountService.getAccountSummary(accountId);
+        return isAdmin() || account.getUserId().equals(getCurrentUser().getUserId());
     }
 
     public boolean canUpdateStatus(Long accountId) {
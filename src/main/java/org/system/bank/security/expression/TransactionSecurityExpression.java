@@ -2,7 +2,7 @@ package org.system.bank.security.expression;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountSummary;
 import org.system.bank.entity.Transaction;
 import org.system.bank.service.AccountService;
 import org.system.bank.service.TransactionService;
@@ -23,13 +23,13 @@ public class TransactionSecurityExpression extends SecurityExpressionRoot {
     }
 
     public boolean canCreateTransaction(Long sourceAccountId) {
-        Account account = accountService.getAccountEntity(sourceAccountId);
-        return isAdmin() || account.getUser().getUserId().equals(getCurrentUser().getUserId());
+        AccountSummary account = accountService.getAccountSummary(sourceAccountId);
+        return isAdmin() || account.getUserId().equals(getCurrentUser().getUserId());
     }
 
     private boolean canAccessAccount(Long accountId) {
-        Account account = accountService.getAccountEntity(accountId);
-        return account.getUser().getUserId().equals(getCurrentUser().getUserId());
+        AccountSummary account = accountService.getAccountSummary(accountId);
+        return account.getUserId().equals(getCurrentUser().getUserId());
     }
 
     public boolean canAccessAccountTransactions(Long accountId) {
@@ -1,26 +1,39 @@
 package org.system.bank.service;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.system.bank.dto.request.AccountCreationRequest;
+import org.system.bank.dto.request.SpendingLimitRequest;
 import org.system.bank.dto.response.AccountResponse;
 import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountSummary;
 import org.system.bank.enums.AccountStatus;
+import org.system.bank.money.Money;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface AccountService {
     AccountResponse createAccount(AccountCreationRequest request);
     AccountResponse getAccountById(Long id);
     AccountResponse updateAccount(Long id, AccountCreationRequest request);
     void deleteAccount(Long id);
-    List<AccountResponse> getAllAccounts();
+    Slice<AccountResponse> getAllAccounts(Pageable pageable, boolean includeTotal);
     List<AccountResponse> getAccountsByUser(Long userId);
-    List<AccountResponse> getAccountsByStatus(AccountStatus status);
+    Slice<AccountResponse> getAccountsByStatus(AccountStatus status, Pageable pageable, boolean includeTotal);
     AccountResponse updateAccountStatus(Long accountId, AccountStatus status);
-    Double getTotalBalance(Long userId);
+    Money getTotalBalance(Long userId);
+    Money getAccountBalance(Long accountId);
+    Money getAvailableBalance(Long accountId);
+    AccountResponse configureBalanceStripes(Long accountId, int stripes);
+    void setSpendingLimit(Long accountId, SpendingLimitRequest request);
     boolean hasActiveAccount(Long userId);
-    List<AccountResponse> getAccountsWithMinBalance(Double minBalance);
+    Slice<AccountResponse> getAccountsWithMinBalance(Money minBalance, Pageable pageable, boolean includeTotal);
     Account getAccountEntity(Long accountId);
+    AccountSummary getAccountSummary(Long accountId);
     Account saveAccount(Account account);
-    List<AccountResponse> searchAccounts(String query);
+    Map<Long, Account> lockAccounts(Collection<Long> accountIds);
+    Slice<AccountResponse> searchAccounts(String query, Pageable pageable, boolean includeTotal);
 
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package org.system.bank.service;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.system.bank.dto.request.InvoiceCreationRequest;
 import org.system.bank.dto.response.InvoiceResponse;
 import org.system.bank.entity.Invoice;
 import org.system.bank.enums.InvoiceStatus;
+import org.system.bank.money.Money;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -13,14 +16,14 @@ public interface InvoiceService {
     InvoiceResponse getInvoiceById(Long id);
     InvoiceResponse updateInvoice(Long id, InvoiceCreationRequest request);
     void deleteInvoice(Long id);
-    List<InvoiceResponse> getAllInvoices();
+    Slice<InvoiceResponse> getAllInvoices(Pageable pageable, boolean includeTotal);
     List<InvoiceResponse> getInvoicesByUser(Long userId);
-    List<InvoiceResponse> getInvoicesByStatus(InvoiceStatus status);
-    List<InvoiceResponse> getOverdueInvoices();
-    Double calculateTotalPendingAmount(Long userId);
+    Slice<InvoiceResponse> getInvoicesByStatus(InvoiceStatus status, Pageable pageable, boolean includeTotal);
+    Slice<InvoiceResponse> getOverdueInvoices(Pageable pageable, boolean includeTotal);
+    Money calculateTotalPendingAmount(Long userId);
     InvoiceResponse processInvoicePayment(Long invoiceId);
     boolean hasOverdueInvoices(Long userId);
     void markInvoicesAsOverdue();
-    List<InvoiceResponse> getInvoicesByDueDate(LocalDate dueDate);
+    Slice<InvoiceResponse> getInvoicesByDueDate(LocalDate dueDate, Pageable pageable, boolean includeTotal);
     Invoice getInvoiceEntity(Long invoiceId);
 }
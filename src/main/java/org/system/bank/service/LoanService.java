@@ -1,9 +1,12 @@
 package org.system.bank.service;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.system.bank.dto.request.LoanApplicationRequest;
 import org.system.bank.dto.response.LoanResponse;
 import org.system.bank.entity.Loan;
 import org.system.bank.enums.LoanStatus;
+import org.system.bank.money.Money;
 
 import java.util.List;
 
@@ -11,18 +14,18 @@ public interface LoanService {
     LoanResponse createLoan(LoanApplicationRequest request);
     LoanResponse getLoanById(Long id);
     LoanResponse updateLoan(Long id, LoanApplicationRequest request);
-    List<LoanResponse> getAllLoans();
+    Slice<LoanResponse> getAllLoans(Pageable pageable, boolean includeTotal);
     List<LoanResponse> getLoansByUser(Long userId);
-    List<LoanResponse> getLoansByStatus(LoanStatus status);
-    Double calculateTotalDebt(Long userId);
-    Double calculateMonthlyPayment(Long loanId);
-    boolean isEligibleForLoan(Long userId, Double amount);
-    LoanResponse processLoanPayment(Long loanId, Double amount);
-    List<LoanResponse> getOverdueLoans();
+    Slice<LoanResponse> getLoansByStatus(LoanStatus status, Pageable pageable, boolean includeTotal);
+    Money calculateTotalDebt(Long userId);
+    Money calculateMonthlyPayment(Long loanId);
+    boolean isEligibleForLoan(Long userId, Money amount);
+    LoanResponse processLoanPayment(Long loanId, Money amount);
+    Slice<LoanResponse> getOverdueLoans(Pageable pageable, boolean includeTotal);
     boolean hasActiveLoan(Long userId);
     Long getDefaultedLoansCount(Long userId);
     LoanResponse approveLoan(Long loanId);
     LoanResponse rejectLoan(Long loanId);
-    Double calculateInterestRate(Long userId, Double amount);
+    Double calculateInterestRate(Long userId, Money amount);
     Loan getLoanEntity(Long loanId);
 }
@@ -1,6 +1,7 @@
 package org.system.bank.service;
 
 import org.springframework.data.domain.Pageable;
+import org.system.bank.dto.request.TransactionFilter;
 import org.system.bank.dto.request.TransactionRequest;
 import org.system.bank.dto.response.CartTransactionDTO;
 import org.system.bank.dto.response.TransactionResponse;
@@ -8,6 +9,7 @@ import org.system.bank.entity.Transaction;
 import org.system.bank.entity.User;
 import org.system.bank.enums.TransactionStatus;
 import org.system.bank.enums.TransactionType;
+import org.system.bank.money.Money;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,18 +18,21 @@ import org.springframework.data.domain.Page;
 public interface TransactionService {
     TransactionResponse createTransaction(TransactionRequest request);
     TransactionResponse getTransactionById(Long id);
-    Page<TransactionResponse> getAllTransactions(Pageable pageable);
+    Page<TransactionResponse> getAllTransactions(TransactionFilter filter, Pageable pageable);
     List<TransactionResponse> getAllTransactions();
+    long countTransactions();
     List<TransactionResponse> getTransactionsByAccount(Long accountId);
     List<TransactionResponse> getTransactionsByType(TransactionType type);
     List<TransactionResponse> getTransactionsByStatus(TransactionStatus status);
     List<TransactionResponse> getTransactionsByDateRange(LocalDateTime start, LocalDateTime end);
-    Double calculateDailyTransactions(Long accountId, LocalDateTime date);
+    Money calculateDailyTransactions(Long accountId, LocalDateTime date);
     void processTransaction(Long transactionId);
-    Double calculateTransactionFee(TransactionRequest request);
+    Money calculateTransactionFee(TransactionRequest request);
     boolean isTransactionValid(TransactionRequest request);
     List<TransactionResponse> getAccountTransactionHistory(Long accountId, LocalDateTime startDate, LocalDateTime endDate);
     Transaction getTransactionEntity(Long transactionId);
+    TransactionResponse approveHeldTransaction(Long transactionId);
+    TransactionResponse rejectHeldTransaction(Long transactionId);
     List<TransactionResponse> getPendingTransactionsByUser(User user);
 
     List<CartTransactionDTO> transformToPendingTransactions(List<TransactionResponse> pendingTransactionsByUser);
@@ -5,18 +5,21 @@ import org.system.bank.dto.response.UserResponse;
 import org.system.bank.entity.User;
 import org.system.bank.enums.Role;
 
-import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface UserService {
     UserResponse createUser(UserRegistrationRequest request);
     UserResponse getUserById(Long id);
     UserResponse updateUser(Long id, UserRegistrationRequest request);
     void deleteUser(Long id);
-    List<UserResponse> getAllUsers();
-    List<UserResponse> getUsersByRole(Role role);
+    Slice<UserResponse> getAllUsers(Pageable pageable, boolean includeTotal);
+    Slice<UserResponse> getUsersByRole(Role role, Pageable pageable, boolean includeTotal);
     boolean isEligibleForLoan(Long userId);
-    List<UserResponse> getUsersByAgeRange(Integer minAge, Integer maxAge);
-    List<UserResponse> getUsersByIncomeRange(Double minIncome, Double maxIncome);
-    List<UserResponse> getUsersByMinCreditScore(Integer minCreditScore);
+    Slice<UserResponse> getUsersByAgeRange(Integer minAge, Integer maxAge, Pageable pageable, boolean includeTotal);
+    Slice<UserResponse> getUsersByIncomeRange(Double minIncome, Double maxIncome, Pageable pageable, boolean includeTotal);
+    Slice<UserResponse> getUsersByMinCreditScore(Integer minCreditScore, Pageable pageable, boolean includeTotal);
+    long countUsers();
+    long countUsersWithActiveAccount();
     User getUserEntity(Long userId);
 }
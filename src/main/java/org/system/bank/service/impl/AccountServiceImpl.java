@@ -1,22 +1,42 @@
 package org.system.bank.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.system.bank.balance.BalanceCache;
+import org.system.bank.cache.SecondLevelCacheEvictor;
 import org.system.bank.dto.request.AccountCreationRequest;
+import org.system.bank.dto.request.SpendingLimitRequest;
 import org.system.bank.dto.response.AccountResponse;
 import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountSummary;
 import org.system.bank.entity.User;
 import org.system.bank.enums.AccountStatus;
+import org.system.bank.hold.HoldService;
+import org.system.bank.ledger.LedgerService;
+import org.system.bank.limits.SpendingLimitService;
 import org.system.bank.mapper.AccountMapper;
+import org.system.bank.money.Money;
+import org.system.bank.paging.Paging;
 import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.AccountSummaryRepository;
 import org.system.bank.service.AccountService;
 import org.system.bank.service.UserService;
+import org.system.bank.singleflight.Coalesce;
+import org.system.bank.stripe.BalanceStripeService;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +46,14 @@ public class AccountServiceImpl implements AccountService {
     private final AccountRepository accountRepository;
     private final AccountMapper accountMapper;
     private final UserService userService;
+    private final LedgerService ledgerService;
+    private final HoldService holdService;
+    private final BalanceStripeService stripeService;
+    private final SpendingLimitService spendingLimitService;
+    private final AccountSummaryRepository summaryRepository;
+    private final SecondLevelCacheEvictor cacheEvictor;
+    private final BalanceCache balanceCache;
+    private final EntityManager entityManager;
 
     @Override
     public AccountResponse createAccount(AccountCreationRequest request) {
@@ -36,14 +64,20 @@ public class AccountServiceImpl implements AccountService {
         account.setUser(user);
         account.setStatus(AccountStatus.ACTIVE);
         Account savedAccount = accountRepository.save(account);
+        ledgerService.postOpeningBalance(savedAccount);
 
-        return accountMapper.toResponse(savedAccount);
+        return toResponse(savedAccount);
     }
 
+    // Polled by clients: balance, status and owner come from the balance cache and the name from
+    // the cached user, so a warm read does not query the database
     @Override
+    @Coalesce
+    @Transactional(readOnly = true)
     public AccountResponse getAccountById(Long id) {
-        Account account = getAccountEntity(id);
-        return accountMapper.toResponse(account);
+        BalanceCache.Balance account = balanceCache.account(id);
+        String userName = account.userId() == null ? null : userService.getUserEntity(account.userId()).getName();
+        return new AccountResponse(id, account.balance(), account.status(), account.userId(), userName);
     }
 
     @Override
@@ -52,23 +86,78 @@ public class AccountServiceImpl implements AccountService {
                 .orElseThrow(() -> new EntityNotFoundException("Account not found with id: " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public AccountSummary getAccountSummary(Long id) {
+        return summaryRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Account not found with id: " + id));
+    }
+
+    // Responses carry the owner's name, so these loads fetch the user in the same select
+    private Account getAccountWithUser(Long id) {
+        return accountRepository.findWithUserByAccountId(id)
+                .orElseThrow(() -> new EntityNotFoundException("Account not found with id: " + id));
+    }
+
+    // Served from the balance cache rather than the validation index, which has no staleness bound
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Money getAccountBalance(Long accountId) {
+        return balanceCache.account(accountId).balance();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Money getAvailableBalance(Long accountId) {
+        return holdService.getAvailableBalance(getAccountEntity(accountId));
+    }
+
     @Override
     public Account saveAccount(Account account) {
         return accountRepository.save(account);
     }
 
+    /**
+     * Locks the accounts in id order, as settlement batches do, so the two never deadlock. The
+     * locking query hands back instances already in the persistence context as they were read
+     * before the lock, so each is reloaded under it.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, Account> lockAccounts(Collection<Long> accountIds) {
+        Map<Long, Account> accounts = new LinkedHashMap<>();
+        for (Account account : accountRepository.findAllByIdForUpdate(accountIds)) {
+            entityManager.refresh(account);
+            accounts.put(account.getAccountId(), account);
+        }
+        for (Long accountId : accountIds) {
+            if (!accounts.containsKey(accountId)) {
+                throw new EntityNotFoundException("Account not found with id: " + accountId);
+            }
+        }
+        return accounts;
+    }
+
     @Override
     public AccountResponse updateAccount(Long id, AccountCreationRequest request) {
         Account existingAccount = getAccountEntity(id);
+        // The new balance replaces the total, so pending stripe credits are folded in first
+        stripeService.fold(existingAccount);
+        // Captured before the merge below copies the new state onto the managed entity
+        Money previousBalance = existingAccount.getBalance();
         User user = userService.getUserEntity(request.getUserId());
 
         Account accountToUpdate = accountMapper.toEntity(request);
         accountToUpdate.setAccountId(id);
         accountToUpdate.setUser(user);
         accountToUpdate.setStatus(existingAccount.getStatus());
+        accountToUpdate.setBalanceStripes(existingAccount.getBalanceStripes());
 
         Account updatedAccount = accountRepository.save(accountToUpdate);
-        return accountMapper.toResponse(updatedAccount);
+        ledgerService.postAdjustment(id, updatedAccount.getBalance().minus(previousBalance));
+        // The request may move the account to another owner
+        cacheEvictor.evictAfterCommit(AccountSummary.class, id);
+        return toResponse(updatedAccount);
     }
 
     @Override
@@ -76,41 +165,51 @@ public class AccountServiceImpl implements AccountService {
         if (!accountRepository.existsById(id)) {
             throw new EntityNotFoundException("Account not found with id: " + id);
         }
+        // The ledger is append-only; an account with postings is closed by blocking it
+        if (ledgerService.hasPostings(id)) {
+            throw new IllegalStateException("Account " + id + " has ledger postings and cannot be deleted; block it instead");
+        }
         accountRepository.deleteById(id);
+        cacheEvictor.evictAfterCommit(AccountSummary.class, id);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AccountResponse> getAllAccounts() {
-        return accountMapper.toResponseList(accountRepository.findAll());
+    public Slice<AccountResponse> getAllAccounts(Pageable pageable, boolean includeTotal) {
+        return withStripeTotals(Paging.withTotal(accountRepository.findResponsesBy(pageable), includeTotal,
+                accountRepository::count));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AccountResponse> getAccountsByUser(Long userId) {
         User user = userService.getUserEntity(userId);
-        return accountMapper.toResponseList(accountRepository.findByUser(user));
+        List<AccountResponse> responses = accountRepository.findResponsesByUserId(user.getUserId());
+        stripeService.addStripeTotals(responses);
+        return responses;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AccountResponse> getAccountsByStatus(AccountStatus status) {
-        return accountMapper.toResponseList(accountRepository.findByStatus(status));
+    public Slice<AccountResponse> getAccountsByStatus(AccountStatus status, Pageable pageable, boolean includeTotal) {
+        return withStripeTotals(Paging.withTotal(accountRepository.findResponsesByStatus(status, pageable), includeTotal,
+                () -> accountRepository.countByStatus(status)));
     }
 
     @Override
     public AccountResponse updateAccountStatus(Long accountId, AccountStatus status) {
-        Account account = getAccountEntity(accountId);
+        Account account = getAccountWithUser(accountId);
         account.setStatus(status);
         Account updatedAccount = accountRepository.save(account);
-        return accountMapper.toResponse(updatedAccount);
+        cacheEvictor.evictAfterCommit(AccountSummary.class, accountId);
+        return toResponse(updatedAccount);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Double getTotalBalance(Long userId) {
+    public Money getTotalBalance(Long userId) {
         User user = userService.getUserEntity(userId);
-        return accountRepository.getTotalBalance(user);
+        return balanceCache.totalBalance(user.getUserId());
     }
 
     @Override
@@ -122,27 +221,57 @@ public class AccountServiceImpl implements AccountService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<AccountResponse> getAccountsWithMinBalance(Double minBalance) {
-        return accountMapper.toResponseList(
-                accountRepository.findAccountsWithBalanceGreaterThan(minBalance)
-        );
+    public Slice<AccountResponse> getAccountsWithMinBalance(Money minBalance, Pageable pageable, boolean includeTotal) {
+        return withStripeTotals(Paging.withTotal(
+                accountRepository.findResponsesWithBalanceGreaterThan(minBalance, pageable), includeTotal,
+                () -> accountRepository.countAccountsWithBalanceGreaterThan(minBalance)));
+    }
+
+    @Override
+    public AccountResponse configureBalanceStripes(Long accountId, int stripes) {
+        return toResponse(stripeService.configureStripes(accountId, stripes));
+    }
+
+    @Override
+    public void setSpendingLimit(Long accountId, SpendingLimitRequest request) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new EntityNotFoundException("Account not found with id: " + accountId);
+        }
+        spendingLimitService.setLimit(accountId, request);
+    }
+
+    private AccountResponse toResponse(Account account) {
+        AccountResponse response = accountMapper.toResponse(account);
+        if (account.getBalanceStripes() > 0) {
+            response.setBalance(stripeService.totalBalance(account));
+        }
+        return response;
+    }
+
+    // Projected rows carry only the account row's balance
+    private Slice<AccountResponse> withStripeTotals(Slice<AccountResponse> responses) {
+        if (responses.hasContent()) {
+            stripeService.addStripeTotals(responses.getContent());
+        }
+        return responses;
     }
 
-    private void validateInitialDeposit(Double initialDeposit) {
-        if (initialDeposit == null || initialDeposit < 0) {
+    private void validateInitialDeposit(Money initialDeposit) {
+        if (initialDeposit == null || initialDeposit.isNegative()) {
             throw new IllegalArgumentException("Initial deposit must be positive");
         }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AccountResponse> searchAccounts(String query) {
+    public Slice<AccountResponse> searchAccounts(String query, Pageable pageable, boolean includeTotal) {
         if (query == null || query.trim().isEmpty()) {
-            return Collections.emptyList();
+            return new SliceImpl<>(Collections.emptyList(), pageable, false);
         }
 
         // Search for accounts where the user's name contains the query string
-        List<Account> accounts = accountRepository.findByUser_NameContainingIgnoreCase(query);
-        return accountMapper.toResponseList(accounts);
+        Slice<AccountResponse> accounts = accountRepository.findResponsesByUserNameContaining(query, pageable);
+        return withStripeTotals(Paging.withTotal(accounts, includeTotal,
+                () -> accountRepository.countByUser_NameContainingIgnoreCase(query)));
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package org.system.bank.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.system.bank.dto.request.InvoiceCreationRequest;
@@ -8,12 +10,17 @@ import org.system.bank.dto.response.InvoiceResponse;
 import org.system.bank.entity.Invoice;
 import org.system.bank.entity.User;
 import org.system.bank.enums.InvoiceStatus;
+import org.system.bank.enums.OutboxEventType;
 import org.system.bank.mapper.InvoiceMapper;
+import org.system.bank.money.Money;
+import org.system.bank.outbox.OutboxService;
+import org.system.bank.paging.Paging;
 import org.system.bank.repository.jpa.InvoiceRepository;
 import org.system.bank.service.InvoiceService;
 import org.system.bank.service.UserService;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -25,6 +32,7 @@ public class InvoiceServiceImpl implements InvoiceService {
     private final InvoiceRepository invoiceRepository;
     private final InvoiceMapper invoiceMapper;
     private final UserService userService;
+    private final OutboxService outboxService;
 
     @Override
     public InvoiceResponse createInvoice(InvoiceCreationRequest request) {
@@ -37,6 +45,8 @@ public class InvoiceServiceImpl implements InvoiceService {
 
     @Override
     public InvoiceResponse getInvoiceById(Long id) {
+        // The ownership check already loaded the invoice and owner into this request's persistence
+        // context (open-in-view), so this lookup issues no statement
         Invoice invoice = findInvoiceById(id);
         return invoiceMapper.toResponse(invoice);
     }
@@ -60,41 +70,42 @@ public class InvoiceServiceImpl implements InvoiceService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<InvoiceResponse> getAllInvoices() {
-        return invoiceMapper.toResponseList(invoiceRepository.findAll());
+    public Slice<InvoiceResponse> getAllInvoices(Pageable pageable, boolean includeTotal) {
+        return Paging.withTotal(invoiceRepository.findResponsesBy(pageable), includeTotal, invoiceRepository::count);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<InvoiceResponse> getInvoicesByUser(Long userId) {
-        User user = new User();
-        user.setUserId(userId);
-        return invoiceMapper.toResponseList(invoiceRepository.findByUser(user));
+        return invoiceRepository.findResponsesByUserId(userId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<InvoiceResponse> getInvoicesByStatus(InvoiceStatus status) {
-        return invoiceMapper.toResponseList(invoiceRepository.findByStatus(status));
+    public Slice<InvoiceResponse> getInvoicesByStatus(InvoiceStatus status, Pageable pageable, boolean includeTotal) {
+        return Paging.withTotal(invoiceRepository.findResponsesByStatus(status, pageable), includeTotal,
+                () -> invoiceRepository.countByStatus(status));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<InvoiceResponse> getOverdueInvoices() {
-        return invoiceMapper.toResponseList(invoiceRepository.findOverdueInvoices());
+    public Slice<InvoiceResponse> getOverdueInvoices(Pageable pageable, boolean includeTotal) {
+        return Paging.withTotal(invoiceRepository.findOverdueResponses(pageable), includeTotal,
+                invoiceRepository::countOverdueInvoices);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Double calculateTotalPendingAmount(Long userId) {
+    public Money calculateTotalPendingAmount(Long userId) {
         User user = new User();
         user.setUserId(userId);
-        return invoiceRepository.calculateTotalPendingAmount(user);
+        BigDecimal total = invoiceRepository.calculateTotalPendingAmount(user);
+        return total == null ? Money.ZERO : Money.of(total);
     }
 
     @Override
     public InvoiceResponse processInvoicePayment(Long invoiceId) {
-        Invoice invoice = findInvoiceById(invoiceId);
+        Invoice invoice = findInvoiceWithUser(invoiceId);
 
         if (invoice.getStatus() != InvoiceStatus.PENDING) {
             throw new IllegalStateException("Invoice is not in PENDING state");
@@ -102,7 +113,9 @@ public class InvoiceServiceImpl implements InvoiceService {
 
         invoice.setStatus(InvoiceStatus.PAID);
         Invoice updatedInvoice = invoiceRepository.save(invoice);
-        return invoiceMapper.toResponse(updatedInvoice);
+        InvoiceResponse response = invoiceMapper.toResponse(updatedInvoice);
+        outboxService.record(OutboxEventType.INVOICE_PAID, invoiceId, response);
+        return response;
     }
 
     @Override
@@ -126,18 +139,24 @@ public class InvoiceServiceImpl implements InvoiceService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<InvoiceResponse> getInvoicesByDueDate(LocalDate dueDate) {
-        List<Invoice> invoices = invoiceRepository.findByDueDateBefore(dueDate);
-        return invoiceMapper.toResponseList(invoices);
+    public Slice<InvoiceResponse> getInvoicesByDueDate(LocalDate dueDate, Pageable pageable, boolean includeTotal) {
+        return Paging.withTotal(invoiceRepository.findResponsesByDueDateBefore(dueDate, pageable), includeTotal,
+                () -> invoiceRepository.countByDueDateBefore(dueDate));
     }
 
     @Override
     public Invoice getInvoiceEntity(Long invoiceId) {
-        return findInvoiceById(invoiceId);
+        return findInvoiceWithUser(invoiceId);
     }
 
     private Invoice findInvoiceById(Long id) {
         return invoiceRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Invoice not found with id: " + id));
     }
+
+    // Responses carry the owner's name, so these loads fetch the user in the same select
+    private Invoice findInvoiceWithUser(Long id) {
+        return invoiceRepository.findWithUserByInvoiceId(id)
+                .orElseThrow(() -> new EntityNotFoundException("Invoice not found with id: " + id));
+    }
 }
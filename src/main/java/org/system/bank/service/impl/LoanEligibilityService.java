@@ -7,8 +7,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.system.bank.entity.User;
+import org.system.bank.money.Money;
 import org.system.bank.repository.jpa.LoanRepository;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,6 +26,8 @@ public class LoanEligibilityService {
     private static final double MAX_LOAN_TO_INCOME_RATIO = 12;
     private static final double MIN_INTEREST_RATE = 5.0;
     private static final double BASE_INTEREST_RATE = 10.0;
+    private static final Money LARGE_LOAN = Money.ofMajor(50000);
+    private static final Money MEDIUM_LOAN = Money.ofMajor(25000);
 
     @Data
     @AllArgsConstructor
@@ -32,7 +36,7 @@ public class LoanEligibilityService {
         private List<String> reasons;
     }
 
-    public EligibilityResult checkEligibility(User user, Double requestedAmount) {
+    public EligibilityResult checkEligibility(User user, Money requestedAmount) {
         if (user == null || requestedAmount == null) {
             return new EligibilityResult(false, List.of("Invalid user or loan amount"));
         }
@@ -67,15 +71,14 @@ public class LoanEligibilityService {
         }
     }
 
-    private void validateLoanAmount(User user, Double requestedAmount, List<String> reasons) {
-        Double totalDebt = calculateTotalDebt(user);
-        Double maxLoanAmount = user.getMonthlyIncome() * MAX_LOAN_TO_INCOME_RATIO;
-        double currentDebt = totalDebt != null ? totalDebt : 0.0;
+    private void validateLoanAmount(User user, Money requestedAmount, List<String> reasons) {
+        Money currentDebt = calculateTotalDebt(user);
+        Money maxLoanAmount = Money.ofRounded(user.getMonthlyIncome() * MAX_LOAN_TO_INCOME_RATIO);
 
-        if ((currentDebt + requestedAmount) > maxLoanAmount) {
+        if (currentDebt.plus(requestedAmount).isGreaterThan(maxLoanAmount)) {
             reasons.add(String.format(
-                    "Maximum loan amount exceeded. Available limit: $%.2f",
-                    (maxLoanAmount - currentDebt)
+                    "Maximum loan amount exceeded. Available limit: $%s",
+                    maxLoanAmount.minus(currentDebt)
             ));
         }
     }
@@ -91,17 +94,17 @@ public class LoanEligibilityService {
     }
 
     @Transactional(readOnly = true)
-    public Double calculateTotalDebt(User user) {
+    public Money calculateTotalDebt(User user) {
         try {
-            Double totalDebt = loanRepository.calculateTotalDebt(user);
-            return totalDebt != null ? totalDebt : 0.0;
+            BigDecimal totalDebt = loanRepository.calculateTotalDebt(user);
+            return totalDebt != null ? Money.of(totalDebt) : Money.ZERO;
         } catch (Exception e) {
             log.error("Error calculating total debt for user {}: {}", user.getUserId(), e.getMessage());
-            return 0.0;
+            return Money.ZERO;
         }
     }
 
-    public Double calculateInterestRate(User user, Double amount) {
+    public Double calculateInterestRate(User user, Money amount) {
         if (user == null || amount == null) {
             return BASE_INTEREST_RATE;
         }
@@ -124,9 +127,9 @@ public class LoanEligibilityService {
         return 0.0;
     }
 
-    private double calculateAmountAdjustment(Double amount) {
-        if (amount > 50000) return 1.0;
-        if (amount > 25000) return 0.5;
+    private double calculateAmountAdjustment(Money amount) {
+        if (amount.isGreaterThan(LARGE_LOAN)) return 1.0;
+        if (amount.isGreaterThan(MEDIUM_LOAN)) return 0.5;
         return 0.0;
     }
 
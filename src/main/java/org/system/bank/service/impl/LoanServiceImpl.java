@@ -1,6 +1,8 @@
 package org.system.bank.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.system.bank.dto.request.LoanApplicationRequest;
@@ -8,13 +10,19 @@ import org.system.bank.dto.response.LoanResponse;
 import org.system.bank.entity.Loan;
 import org.system.bank.entity.User;
 import org.system.bank.enums.LoanStatus;
+import org.system.bank.enums.OutboxEventType;
 import org.system.bank.exception.LoanEligibilityException;
 import org.system.bank.mapper.LoanMapper;
+import org.system.bank.money.Money;
+import org.system.bank.outbox.OutboxService;
+import org.system.bank.paging.Paging;
 import org.system.bank.repository.jpa.LoanRepository;
 import org.system.bank.repository.jpa.UserRepository;
 import org.system.bank.service.LoanService;
+import org.system.bank.singleflight.Coalesce;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -27,6 +35,10 @@ public class LoanServiceImpl implements LoanService {
     private final UserRepository userRepository;
     private final LoanMapper loanMapper;
     private final LoanEligibilityService eligibilityService;
+    private final OutboxService outboxService;
+
+    private static final Money LARGE_LOAN = Money.ofMajor(50000);
+    private static final Money MEDIUM_LOAN = Money.ofMajor(25000);
 
     @Override
     public LoanResponse createLoan(LoanApplicationRequest request) {
@@ -61,7 +73,10 @@ public class LoanServiceImpl implements LoanService {
     }
 
     @Override
+    @Coalesce
     public LoanResponse getLoanById(Long id) {
+        // The ownership check already loaded the loan and borrower into this request's persistence
+        // context (open-in-view), so this lookup issues no statement
         Loan loan = findLoanById(id);
         return loanMapper.toResponse(loan);
     }
@@ -85,40 +100,43 @@ public class LoanServiceImpl implements LoanService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<LoanResponse> getAllLoans() {
-        return loanMapper.toResponseList(loanRepository.findAll());
+    public Slice<LoanResponse> getAllLoans(Pageable pageable, boolean includeTotal) {
+        return Paging.withTotal(loanRepository.findResponsesBy(pageable), includeTotal, loanRepository::count);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<LoanResponse> getLoansByUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
-        return loanMapper.toResponseList(loanRepository.findByUser(user));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found");
+        }
+        return loanRepository.findResponsesByUserId(userId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<LoanResponse> getLoansByStatus(LoanStatus status) {
-        return loanMapper.toResponseList(loanRepository.findByStatus(status));
+    public Slice<LoanResponse> getLoansByStatus(LoanStatus status, Pageable pageable, boolean includeTotal) {
+        return Paging.withTotal(loanRepository.findResponsesByStatus(status, pageable), includeTotal,
+                () -> loanRepository.countByStatus(status));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Double calculateTotalDebt(Long userId) {
+    public Money calculateTotalDebt(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
-        return loanRepository.calculateTotalDebt(user);
+        BigDecimal totalDebt = loanRepository.calculateTotalDebt(user);
+        return totalDebt == null ? Money.ZERO : Money.of(totalDebt);
     }
 
     @Override
-    public Double calculateMonthlyPayment(Long loanId) {
+    public Money calculateMonthlyPayment(Long loanId) {
         Loan loan = findLoanById(loanId);
         return calculateInitialMonthlyPayment(loan.getPrincipal(), loan.getInterestRate(), loan.getTermMonths());
     }
 
     @Override
-    public boolean isEligibleForLoan(Long userId, Double amount) {
+    public boolean isEligibleForLoan(Long userId, Money amount) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
@@ -126,13 +144,13 @@ public class LoanServiceImpl implements LoanService {
         validateCreditScore(user.getCreditScore());
         validateIncome(user.getMonthlyIncome());
 
-        Double totalDebt = calculateTotalDebt(userId);
+        Money totalDebt = calculateTotalDebt(userId);
         return isEligibleForLoanAmount(user, amount, totalDebt);
     }
 
-    private boolean isEligibleForLoanAmount(User user, Double amount, Double totalDebt) {
-        double maxLoanAmount = user.getMonthlyIncome() * 0.5;
-        return amount <= maxLoanAmount && amount + totalDebt <= maxLoanAmount;
+    private boolean isEligibleForLoanAmount(User user, Money amount, Money totalDebt) {
+        Money maxLoanAmount = Money.ofRounded(user.getMonthlyIncome() * 0.5);
+        return !amount.isGreaterThan(maxLoanAmount) && !amount.plus(totalDebt).isGreaterThan(maxLoanAmount);
     }
 
     private void validateAge(Integer age) {
@@ -154,32 +172,36 @@ public class LoanServiceImpl implements LoanService {
     }
 
     @Override
-    public LoanResponse processLoanPayment(Long loanId, Double amount) {
-        Loan loan = findLoanById(loanId);
+    public LoanResponse processLoanPayment(Long loanId, Money amount) {
+        Loan loan = findLoanWithUser(loanId);
 
         if (loan.getStatus() != LoanStatus.ACTIVE) {
             throw new IllegalStateException("Loan is not active");
         }
 
-        if (amount <= 0 || amount > loan.getRemainingAmount()) {
+        if (!amount.isPositive() || amount.isGreaterThan(loan.getRemainingAmount())) {
             throw new IllegalArgumentException("Invalid payment amount");
         }
 
-        double remainingAmount = loan.getRemainingAmount() - amount;
+        Money remainingAmount = loan.getRemainingAmount().minus(amount);
         loan.setRemainingAmount(remainingAmount);
 
-        if (remainingAmount <= 0) {
+        if (!remainingAmount.isPositive()) {
             loan.setStatus(LoanStatus.COMPLETED);
         }
 
         Loan updatedLoan = loanRepository.save(loan);
-        return loanMapper.toResponse(updatedLoan);
+        LoanResponse response = loanMapper.toResponse(updatedLoan);
+        outboxService.record(OutboxEventType.LOAN_PAYMENT_PROCESSED, loanId, response);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<LoanResponse> getOverdueLoans() {
-        return loanMapper.toResponseList(loanRepository.findOverdueLoans(LocalDate.now()));
+    public Slice<LoanResponse> getOverdueLoans(Pageable pageable, boolean includeTotal) {
+        LocalDate today = LocalDate.now();
+        return Paging.withTotal(loanRepository.findOverdueResponses(today, Money.ZERO, pageable), includeTotal,
+                () -> loanRepository.countOverdueLoans(today, Money.ZERO));
     }
 
     @Override
@@ -200,20 +222,24 @@ public class LoanServiceImpl implements LoanService {
 
     @Override
     public LoanResponse approveLoan(Long loanId) {
-        Loan loan = findLoanById(loanId);
+        Loan loan = findLoanWithUser(loanId);
         validateLoanStatus(loan, LoanStatus.PENDING, "Loan is not in PENDING state");
         loan.setStatus(LoanStatus.APPROVED);
         Loan updatedLoan = loanRepository.save(loan);
-        return loanMapper.toResponse(updatedLoan);
+        LoanResponse response = loanMapper.toResponse(updatedLoan);
+        outboxService.record(OutboxEventType.LOAN_APPROVED, loanId, response);
+        return response;
     }
 
     @Override
     public LoanResponse rejectLoan(Long loanId) {
-        Loan loan = findLoanById(loanId);
+        Loan loan = findLoanWithUser(loanId);
         validateLoanStatus(loan, LoanStatus.PENDING, "Loan is not in PENDING state");
         loan.setStatus(LoanStatus.REJECTED);
         Loan updatedLoan = loanRepository.save(loan);
-        return loanMapper.toResponse(updatedLoan);
+        LoanResponse response = loanMapper.toResponse(updatedLoan);
+        outboxService.record(OutboxEventType.LOAN_REJECTED, loanId, response);
+        return response;
     }
 
     private Loan findLoanById(Long id) {
@@ -221,19 +247,29 @@ public class LoanServiceImpl implements LoanService {
                 .orElseThrow(() -> new EntityNotFoundException("Loan not found with id: " + id));
     }
 
+    // Responses carry the borrower's name, so these loads fetch the user in the same select
+    private Loan findLoanWithUser(Long id) {
+        return loanRepository.findWithUserByLoanId(id)
+                .orElseThrow(() -> new EntityNotFoundException("Loan not found with id: " + id));
+    }
+
     private void validateLoanStatus(Loan loan, LoanStatus expectedStatus, String errorMessage) {
         if (loan.getStatus() != expectedStatus) {
             throw new IllegalStateException(errorMessage);
         }
     }
 
-    private Double calculateInitialMonthlyPayment(Double principal, Double annualInterestRate, Integer termMonths) {
+    private Money calculateInitialMonthlyPayment(Money principal, Double annualInterestRate, Integer termMonths) {
         double monthlyRate = annualInterestRate / 12.0 / 100.0;
-        return principal * (monthlyRate * Math.pow(1 + monthlyRate, termMonths))
-                / (Math.pow(1 + monthlyRate, termMonths) - 1);
+        if (monthlyRate == 0) {
+            return principal.dividedBy(termMonths);
+        }
+        // The annuity factor is a pure rate; the principal is scaled once and rounded to the cent
+        double growth = Math.pow(1 + monthlyRate, termMonths);
+        return principal.times(monthlyRate * growth / (growth - 1));
     }
 
-    private Double calculateInterestRate(User user, Double amount) {
+    private Double calculateInterestRate(User user, Money amount) {
         double baseRate = 10.0;
 
         // Credit score adjustments
@@ -246,9 +282,9 @@ public class LoanServiceImpl implements LoanService {
         }
 
         // Loan amount adjustments
-        if (amount > 50000) {
+        if (amount.isGreaterThan(LARGE_LOAN)) {
             baseRate += 1.0;
-        } else if (amount > 25000) {
+        } else if (amount.isGreaterThan(MEDIUM_LOAN)) {
             baseRate += 0.5;
         }
 
@@ -257,7 +293,7 @@ public class LoanServiceImpl implements LoanService {
     }
 
     @Override
-    public Double calculateInterestRate(Long userId, Double amount) {
+    public Double calculateInterestRate(Long userId, Money amount) {
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
@@ -273,9 +309,9 @@ public class LoanServiceImpl implements LoanService {
         }
 
         // Loan amount adjustments
-        if (amount > 50000) {
+        if (amount.isGreaterThan(LARGE_LOAN)) {
             baseRate += 1.0;
-        } else if (amount > 25000) {
+        } else if (amount.isGreaterThan(MEDIUM_LOAN)) {
             baseRate += 0.5;
         }
 
@@ -285,6 +321,6 @@ public class LoanServiceImpl implements LoanService {
 
     @Override
     public Loan getLoanEntity(Long loanId) {
-        return findLoanById(loanId);
+        return findLoanWithUser(loanId);
     }
 }
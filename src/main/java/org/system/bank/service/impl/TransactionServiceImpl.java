@@ -6,6 +6,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.system.bank.balance.AccountBalanceIndex;
+import org.system.bank.dto.request.TransactionFilter;
 import org.system.bank.dto.request.TransactionRequest;
 import org.system.bank.dto.response.CartTransactionDTO;
 import org.system.bank.dto.response.TransactionResponse;
@@ -13,16 +15,33 @@ import org.system.bank.entity.Account;
 import org.system.bank.entity.Transaction;
 import org.system.bank.entity.User;
 import org.system.bank.enums.AccountStatus;
+import org.system.bank.enums.OutboxEventType;
 import org.system.bank.enums.TransactionStatus;
 import org.system.bank.enums.TransactionType;
+import org.system.bank.exception.FraudScreeningException;
 import org.system.bank.exception.InsufficientFundsException;
+import org.system.bank.fraud.ScreeningAction;
+import org.system.bank.fraud.ScreeningResult;
+import org.system.bank.fraud.VelocityScreener;
+import org.system.bank.hold.HoldService;
+import org.system.bank.ledger.LedgerService;
+import org.system.bank.limits.SpendingLimitService;
 import org.system.bank.mapper.TransactionMapper;
+import org.system.bank.money.Money;
+import org.system.bank.outbox.OutboxService;
 import org.system.bank.repository.jpa.TransactionRepository;
+import org.system.bank.repository.specification.TransactionSpecifications;
 import org.system.bank.service.AccountService;
 import org.system.bank.service.TransactionService;
+import org.system.bank.settlement.SettlementQueue;
+import org.system.bank.singleflight.Coalesce;
+import org.system.bank.stripe.BalanceStripeService;
+import org.system.bank.totals.DailyTotalsService;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,21 +52,65 @@ public class TransactionServiceImpl implements TransactionService {
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
     private final AccountService accountService;
+    private final SettlementQueue settlementQueue;
+    private final OutboxService outboxService;
+    private final LedgerService ledgerService;
+    private final AccountBalanceIndex balanceIndex;
+    private final HoldService holdService;
+    private final BalanceStripeService stripeService;
+    private final DailyTotalsService dailyTotalsService;
+    private final SpendingLimitService spendingLimitService;
+    private final VelocityScreener velocityScreener;
 
     @Override
     public TransactionResponse createTransaction(TransactionRequest request) {
+        return createScreenedTransaction(request, screenTransaction(request));
+    }
+
+    /**
+     * Validates the request, reserves it against the spending limits and screens it; every path
+     * that creates transfers runs this first. Throws if the transfer may not be created.
+     */
+    public ScreeningResult screenTransaction(TransactionRequest request) {
         if (!isTransactionValid(request)) {
             throw new IllegalStateException("Invalid transaction request");
         }
+        // After validation, so a transfer failing any other check is not counted against the
+        // limit; released again if this transaction rolls back
+        spendingLimitService.checkAndReserve(request);
+
+        ScreeningResult screening = velocityScreener.screen(request);
+        if (screening.action() == ScreeningAction.REJECT) {
+            throw new FraudScreeningException("Transaction declined by fraud screening");
+        }
+        return screening;
+    }
 
+    /**
+     * Writes a transfer that passed {@link #screenTransaction}: held for review, settled now
+     * (INSTANT) or queued for settlement (STANDARD).
+     */
+    public TransactionResponse createScreenedTransaction(TransactionRequest request, ScreeningResult screening) {
         Transaction transaction = transactionMapper.toEntity(request);
 
         // Set the full account entities
         transaction.setSourceAccount(accountService.getAccountEntity(request.getSourceAccountId()));
         transaction.setDestinationAccount(accountService.getAccountEntity(request.getDestinationAccountId()));
+        transaction.setFraudRule(screening.rule());
 
         Transaction savedTransaction = transactionRepository.save(transaction);
-        processTransaction(savedTransaction.getTransactionId());
+        if (screening.action() == ScreeningAction.HOLD) {
+            // Funds are reserved, but nothing settles until the transfer is approved; an
+            // unreviewed transfer is rejected when its hold expires
+            holdService.placeHold(savedTransaction);
+        } else if (savedTransaction.getType() == TransactionType.INSTANT) {
+            processTransaction(savedTransaction.getTransactionId());
+        } else {
+            // STANDARD transfers reserve funds with a hold, return PENDING and are settled
+            // (capturing the hold) in micro-batches after commit
+            holdService.placeHold(savedTransaction);
+            settlementQueue.submit(savedTransaction);
+        }
 
         return transactionMapper.toResponse(savedTransaction);
     }
@@ -60,53 +123,54 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<TransactionResponse> getAllTransactions(Pageable pageable) {
-        Page<Transaction> transactionsPage = transactionRepository.findAll(pageable);
+    public Page<TransactionResponse> getAllTransactions(TransactionFilter filter, Pageable pageable) {
+        Page<Transaction> transactionsPage = transactionRepository.findAll(TransactionSpecifications.matching(filter), pageable);
         return transactionsPage.map(transactionMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TransactionResponse> getAllTransactions() {
-        return transactionMapper.toResponseList(transactionRepository.findAll());
+        return transactionMapper.toViewResponseList(transactionRepository.findAllViews());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countTransactions() {
+        return transactionRepository.count();
     }
 
     @Override
+    @Coalesce
     @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactionsByAccount(Long accountId) {
         Account account = accountService.getAccountEntity(accountId);
-        return transactionMapper.toResponseList(
-                transactionRepository.findBySourceAccountOrDestinationAccount(account, account)
-        );
+        return transactionMapper.toViewResponseList(transactionRepository.findViewsByAccountId(account.getAccountId()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactionsByType(TransactionType type) {
-        return transactionMapper.toResponseList(transactionRepository.findByType(type));
+        return transactionMapper.toViewResponseList(transactionRepository.findViewsByType(type));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactionsByStatus(TransactionStatus status) {
-        return transactionMapper.toResponseList(transactionRepository.findByStatus(status));
+        return transactionMapper.toViewResponseList(transactionRepository.findViewsByStatus(status));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactionsByDateRange(LocalDateTime start, LocalDateTime end) {
-        return transactionMapper.toResponseList(transactionRepository.findByCreatedAtBetween(start, end));
+        return transactionMapper.toViewResponseList(transactionRepository.findViewsByCreatedAtBetween(start, end));
     }
 
     @Override
-    public Double calculateDailyTransactions(Long accountId, LocalDateTime date) {
-        Account account = accountService.getAccountEntity(accountId);
-        return transactionRepository.calculateTotalDebit(
-                account,
-                null,
-                date.toLocalDate().atStartOfDay(),
-                date.toLocalDate().atTime(23, 59, 59)
-        );
+    public Money calculateDailyTransactions(Long accountId, LocalDateTime date) {
+        // Fails for unknown accounts rather than reporting a zero total
+        accountService.getAccountEntity(accountId);
+        return dailyTotalsService.getDailyDebitTotal(accountId, date.toLocalDate());
     }
 
     @Override
@@ -115,20 +179,29 @@ public class TransactionServiceImpl implements TransactionService {
             throw new IllegalArgumentException("Cannot transfer to same account");
         }
 
-        Account sourceAccount = accountService.getAccountEntity(request.getSourceAccountId());
-        Account destAccount = accountService.getAccountEntity(request.getDestinationAccountId());
-
-        if (sourceAccount.getStatus() != AccountStatus.ACTIVE ||
-                destAccount.getStatus() != AccountStatus.ACTIVE) {
-            throw new IllegalStateException("One or both accounts are not active");
-        }
-
-        double totalAmount = request.getAmount() + calculateTransactionFee(request);
-        if (sourceAccount.getBalance() < totalAmount) {
-            throw new InsufficientFundsException("Insufficient funds for transaction");
+        Money totalAmount = request.getAmount().plus(calculateTransactionFee(request));
+        // The index has no staleness bound and never sees other nodes' commits, so it may only
+        // accept; anything it would reject is re-read from the database. Whatever it accepts is
+        // re-checked under the row locks: by processTransaction for INSTANT transfers and by the
+        // settlement batch for STANDARD ones.
+        long source = balanceIndex.lookup(request.getSourceAccountId());
+        long dest = balanceIndex.lookup(request.getDestinationAccountId());
+        boolean acceptedByIndex = source != AccountBalanceIndex.MISSING && dest != AccountBalanceIndex.MISSING
+                && AccountBalanceIndex.statusOf(source) == AccountStatus.ACTIVE
+                && AccountBalanceIndex.statusOf(dest) == AccountStatus.ACTIVE
+                && AccountBalanceIndex.balanceOf(source) >= totalAmount.getMinorUnits();
+        if (!acceptedByIndex) {
+            Account sourceAccount = accountService.getAccountEntity(request.getSourceAccountId());
+            Account destAccount = accountService.getAccountEntity(request.getDestinationAccountId());
+            if (sourceAccount.getStatus() != AccountStatus.ACTIVE || destAccount.getStatus() != AccountStatus.ACTIVE) {
+                throw new IllegalStateException("One or both accounts are not active");
+            }
+            if (stripeService.totalBalance(sourceAccount).isLessThan(totalAmount)) {
+                throw new InsufficientFundsException("Insufficient funds for transaction");
+            }
         }
 
-        if (request.getAmount() <= 0) {
+        if (!request.getAmount().isPositive()) {
             throw new IllegalArgumentException("Transaction amount must be positive");
         }
 
@@ -143,38 +216,84 @@ public class TransactionServiceImpl implements TransactionService {
             throw new IllegalStateException("Transaction is not in PENDING state");
         }
 
-        Account sourceAccount = accountService.getAccountEntity(transaction.getSourceAccount().getAccountId());
-        Account destAccount = accountService.getAccountEntity(transaction.getDestinationAccount().getAccountId());
+        // Settlement batches and the balance writes below overwrite the rows with absolute values,
+        // so both rows are locked first, in id order as settlement takes them
+        Long sourceId = transaction.getSourceAccount().getAccountId();
+        Long destinationId = transaction.getDestinationAccount().getAccountId();
+        Map<Long, Account> accounts = accountService.lockAccounts(new TreeSet<>(List.of(sourceId, destinationId)));
+        Account sourceAccount = accounts.get(sourceId);
+        Account destAccount = accounts.get(destinationId);
+        // Validation may have accepted from a stale index entry, so status is re-checked under the
+        // lock; captureForSettlement below re-checks the available balance
+        if (sourceAccount.getStatus() != AccountStatus.ACTIVE || destAccount.getStatus() != AccountStatus.ACTIVE) {
+            throw new IllegalStateException("One or both accounts are not active");
+        }
+
+        // A striped source is debited from its own row, so its stripes are folded into it first
+        stripeService.fold(sourceAccount);
 
-        double fee = transactionMapper.calculateFee(transaction);
-        double totalAmount = transaction.getAmount() + fee;
+        Money fee = transactionMapper.calculateFee(transaction);
+        Money totalAmount = transaction.getAmount().plus(fee);
+        // Funds held for other pending transfers are not available here
+        holdService.captureForSettlement(transaction, sourceAccount, totalAmount);
 
         // Update account balances
-        sourceAccount.setBalance(sourceAccount.getBalance() - totalAmount);
-        destAccount.setBalance(destAccount.getBalance() + transaction.getAmount());
-
-        // Save updated accounts
+        sourceAccount.setBalance(sourceAccount.getBalance().minus(totalAmount));
         accountService.saveAccount(sourceAccount);
-        accountService.saveAccount(destAccount);
+        if (destAccount.getBalanceStripes() > 0) {
+            // Hot destinations take the credit on a stripe instead of their contended row
+            stripeService.credit(destAccount, transaction.getAmount(), transactionId);
+        } else {
+            destAccount.setBalance(destAccount.getBalance().plus(transaction.getAmount()));
+            accountService.saveAccount(destAccount);
+        }
 
         // Update and save transaction
         transaction.setStatus(TransactionStatus.COMPLETED);
         transactionRepository.save(transaction);
+        ledgerService.postTransfer(transaction, fee);
+        dailyTotalsService.record(List.of(transaction));
+
+        outboxService.record(OutboxEventType.TRANSACTION_COMPLETED, transactionId,
+                transactionMapper.toResponse(transaction));
+    }
+
+    @Override
+    public TransactionResponse approveHeldTransaction(Long transactionId) {
+        Transaction transaction = findHeldTransactionForUpdate(transactionId);
+        transaction.setFraudRule(null);
+        transactionRepository.save(transaction);
+        if (transaction.getType() == TransactionType.INSTANT) {
+            processTransaction(transactionId);
+        } else {
+            settlementQueue.submit(transaction);
+        }
+        return transactionMapper.toResponse(transaction);
     }
 
     @Override
-    public Double calculateTransactionFee(TransactionRequest request) {
-        return request.getType() == TransactionType.INSTANT ?
-                request.getAmount() * 0.005 : // 0.5%
-                request.getAmount() * 0.001;  // 0.1%
+    public TransactionResponse rejectHeldTransaction(Long transactionId) {
+        Transaction transaction = findHeldTransactionForUpdate(transactionId);
+        transaction.setStatus(TransactionStatus.REJECTED);
+        transactionRepository.save(transaction);
+        holdService.findActiveHolds(List.of(transactionId)).values().forEach(holdService::release);
+        spendingLimitService.releaseAfterCommit(transaction);
+        TransactionResponse response = transactionMapper.toResponse(transaction);
+        outboxService.record(OutboxEventType.TRANSACTION_REJECTED, transactionId, response);
+        return response;
+    }
+
+    @Override
+    public Money calculateTransactionFee(TransactionRequest request) {
+        return request.getAmount().timesBasisPoints(request.getType().getFeeBasisPoints());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TransactionResponse> getAccountTransactionHistory(Long accountId, LocalDateTime startDate, LocalDateTime endDate) {
         Account account = accountService.getAccountEntity(accountId);
-        return transactionMapper.toResponseList(
-                transactionRepository.findAccountTransactions(account, startDate, endDate)
+        return transactionMapper.toViewResponseList(
+                transactionRepository.findAccountTransactionViews(account.getAccountId(), startDate, endDate)
         );
     }
 
@@ -183,6 +302,17 @@ public class TransactionServiceImpl implements TransactionService {
         return findTransactionById(transactionId);
     }
 
+    // Locks the transfer as hold expiry does, so a review never races its expiry
+    private Transaction findHeldTransactionForUpdate(Long id) {
+        Transaction transaction = transactionRepository.findPendingByIdForUpdate(List.of(id)).stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Transaction is not in PENDING state"));
+        if (transaction.getFraudRule() == null) {
+            throw new IllegalStateException("Transaction is not held for review");
+        }
+        return transaction;
+    }
+
     private Transaction findTransactionById(Long id) {
         return transactionRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Transaction not found with id: " + id));
@@ -191,9 +321,8 @@ public class TransactionServiceImpl implements TransactionService {
     @Override
     @Transactional(readOnly = true)
     public List<TransactionResponse> getPendingTransactionsByUser(User user) {
-        List<Transaction> pendingTransactions = transactionRepository
-                .findBySourceAccount_UserAndStatus(user, TransactionStatus.PENDING);
-        return transactionMapper.toResponseList(pendingTransactions);
+        return transactionMapper.toViewResponseList(transactionRepository
+                .findViewsBySourceUserIdAndStatus(user.getUserId(), TransactionStatus.PENDING));
     }
 
 
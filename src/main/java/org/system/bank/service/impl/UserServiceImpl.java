@@ -1,18 +1,25 @@
 package org.system.bank.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.system.bank.dto.request.UserRegistrationRequest;
+import org.system.bank.dto.response.AccountResponse;
 import org.system.bank.dto.response.UserResponse;
 import org.system.bank.entity.User;
 import org.system.bank.enums.Role;
+import org.system.bank.ledger.LedgerService;
 import org.system.bank.mapper.UserMapper;
+import org.system.bank.paging.Paging;
 import org.system.bank.repository.jpa.UserRepository;
 import org.system.bank.service.UserService;
+import org.system.bank.stripe.BalanceStripeService;
 
 import jakarta.persistence.EntityNotFoundException;
+
 import java.util.List;
 
 @Service
@@ -23,6 +30,8 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final LoanEligibilityService loanEligibilityService;
+    private final LedgerService ledgerService;
+    private final BalanceStripeService stripeService;
     private final PasswordEncoder passwordEncoder; // Use Spring's PasswordEncoder instead of BCrypt directly
 
     @Override
@@ -36,7 +45,9 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserResponse getUserById(Long id) {
         User user = getUserEntity(id);
-        return userMapper.toResponse(user);
+        UserResponse response = userMapper.toResponse(user);
+        stripeService.addStripeTotals(accountsOf(List.of(response)));
+        return response;
     }
 
     @Override
@@ -62,19 +73,24 @@ public class UserServiceImpl implements UserService {
         if (!userRepository.existsById(id)) {
             throw new EntityNotFoundException("User not found with id: " + id);
         }
+        // Deleting the user would delete accounts whose postings the ledger must keep
+        if (ledgerService.hasPostingsForUser(id)) {
+            throw new IllegalStateException("User " + id + " has accounts with ledger postings and cannot be deleted");
+        }
         userRepository.deleteById(id);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getAllUsers() {
-        return userMapper.toResponseList(userRepository.findAll());
+    public Slice<UserResponse> getAllUsers(Pageable pageable, boolean includeTotal) {
+        return toResponseSlice(Paging.withTotal(userRepository.findAllBy(pageable), includeTotal, userRepository::count));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getUsersByRole(Role role) {
-        return userMapper.toResponseList(userRepository.findByRole(role));
+    public Slice<UserResponse> getUsersByRole(Role role, Pageable pageable, boolean includeTotal) {
+        return toResponseSlice(Paging.withTotal(userRepository.findByRole(role, pageable), includeTotal,
+                () -> userRepository.countByRole(role)));
     }
 
     @Override
@@ -88,19 +104,56 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getUsersByAgeRange(Integer minAge, Integer maxAge) {
-        return userMapper.toResponseList(userRepository.findByAgeBetween(minAge, maxAge));
+    public Slice<UserResponse> getUsersByAgeRange(Integer minAge, Integer maxAge, Pageable pageable, boolean includeTotal) {
+        return toResponseSlice(Paging.withTotal(userRepository.findByAgeBetween(minAge, maxAge, pageable), includeTotal,
+                () -> userRepository.countByAgeBetween(minAge, maxAge)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<UserResponse> getUsersByIncomeRange(Double minIncome, Double maxIncome, Pageable pageable, boolean includeTotal) {
+        return toResponseSlice(Paging.withTotal(userRepository.findByMonthlyIncomeBetween(minIncome, maxIncome, pageable), includeTotal,
+                () -> userRepository.countByMonthlyIncomeBetween(minIncome, maxIncome)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getUsersByIncomeRange(Double minIncome, Double maxIncome) {
-        return userMapper.toResponseList(userRepository.findByMonthlyIncomeBetween(minIncome, maxIncome));
+    public Slice<UserResponse> getUsersByMinCreditScore(Integer minCreditScore, Pageable pageable, boolean includeTotal) {
+        return toResponseSlice(Paging.withTotal(userRepository.findByCreditScoreGreaterThanEqual(minCreditScore, pageable), includeTotal,
+                () -> userRepository.countByCreditScoreGreaterThanEqual(minCreditScore)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getUsersByMinCreditScore(Integer minCreditScore) {
-        return userMapper.toResponseList(userRepository.findByCreditScoreGreaterThanEqual(minCreditScore));
+    public long countUsers() {
+        return userRepository.count();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countUsersWithActiveAccount() {
+        return userRepository.countWithActiveAccount();
+    }
+
+    /**
+     * Maps a page of users after loading all their accounts in one query. The fetch initializes the
+     * accounts of the users already in the persistence context, so the mapper does not lazy-load
+     * them one user at a time.
+     */
+    private Slice<UserResponse> toResponseSlice(Slice<User> users) {
+        if (users.hasContent()) {
+            userRepository.findWithAccountsByUserIdIn(users.map(User::getUserId).getContent());
+        }
+        Slice<UserResponse> responses = users.map(userMapper::toResponse);
+        // The mapped balances are the account rows'; stripe credits are summed for the whole page
+        stripeService.addStripeTotals(accountsOf(responses.getContent()));
+        return responses;
+    }
+
+    private static List<AccountResponse> accountsOf(List<UserResponse> users) {
+        return users.stream()
+                .filter(user -> user.getAccounts() != null)
+                .flatMap(user -> user.getAccounts().stream())
+                .toList();
     }
 }
@@ -0,0 +1,220 @@
+package org.system.bank.settlement;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountHold;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.enums.OutboxEventType;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.hold.HoldService;
+import org.system.bank.ledger.LedgerService;
+import org.system.bank.limits.SpendingLimitService;
+import org.system.bank.mapper.TransactionMapper;
+import org.system.bank.money.Money;
+import org.system.bank.outbox.OutboxService;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.TransactionRepository;
+import org.system.bank.stripe.BalanceStripeService;
+import org.system.bank.totals.DailyTotalsService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SettlementProcessor {
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionMapper transactionMapper;
+    private final OutboxService outboxService;
+    private final LedgerService ledgerService;
+    private final HoldService holdService;
+    private final BalanceStripeService stripeService;
+    private final DailyTotalsService dailyTotalsService;
+    private final SpendingLimitService spendingLimitService;
+
+    @Value("${bank.settlement.netting.enabled:false}")
+    private boolean nettingEnabled;
+
+    public void settleBatch(Collection<Long> transactionIds) {
+        // Already settled or rejected transactions drop out here, so retried ids are harmless
+        List<Transaction> transactions = transactionRepository.findPendingByIdForUpdate(transactionIds);
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        TreeSet<Long> accountIds = new TreeSet<>();
+        for (Transaction transaction : transactions) {
+            accountIds.add(transaction.getSourceAccount().getAccountId());
+            accountIds.add(transaction.getDestinationAccount().getAccountId());
+        }
+        Map<Long, Account> accounts = accountRepository.findAllByIdForUpdate(accountIds).stream()
+                .collect(Collectors.toMap(Account::getAccountId, Function.identity()));
+        for (Account account : accounts.values()) {
+            // Rows are locked already; folding makes the balances below complete
+            stripeService.fold(account);
+        }
+        Map<Long, AccountHold> holds = holdService.findActiveHolds(
+                transactions.stream().map(Transaction::getTransactionId).toList());
+        Map<Long, Money> heldByAccount = holdService.activeHoldTotals(accountIds);
+
+        List<Transaction> individually = transactions;
+        int nettedPairs = 0;
+        if (nettingEnabled) {
+            individually = new ArrayList<>();
+            Map<AccountPair, List<Transaction>> byPair = new LinkedHashMap<>();
+            for (Transaction transaction : transactions) {
+                byPair.computeIfAbsent(AccountPair.of(transaction), pair -> new ArrayList<>()).add(transaction);
+            }
+            for (Map.Entry<AccountPair, List<Transaction>> entry : byPair.entrySet()) {
+                List<Transaction> pairTransactions = entry.getValue();
+                if (pairTransactions.size() > 1 && settleNetted(entry.getKey(), pairTransactions, accounts, holds, heldByAccount)) {
+                    nettedPairs++;
+                } else {
+                    individually.addAll(pairTransactions);
+                }
+            }
+        }
+
+        int rejected = 0;
+        for (Transaction transaction : individually) {
+            if (!settleIndividually(transaction, accounts, holds, heldByAccount)) {
+                rejected++;
+            }
+        }
+
+        // Each touched account is written once per batch, however many transfers it took part in
+        accountRepository.saveAll(accounts.values());
+        transactionRepository.saveAll(transactions);
+        dailyTotalsService.record(transactions);
+
+        for (Transaction transaction : transactions) {
+            outboxService.record(
+                    transaction.getStatus() == TransactionStatus.COMPLETED
+                            ? OutboxEventType.TRANSACTION_COMPLETED
+                            : OutboxEventType.TRANSACTION_REJECTED,
+                    transaction.getTransactionId(),
+                    transactionMapper.toResponse(transaction));
+        }
+
+        log.debug("Settled batch of {} transactions over {} accounts ({} pairs netted, {} rejected)",
+                transactions.size(), accounts.size(), nettedPairs, rejected);
+    }
+
+    private boolean settleIndividually(Transaction transaction, Map<Long, Account> accounts,
+                                       Map<Long, AccountHold> holds, Map<Long, Money> heldByAccount) {
+        Long sourceId = transaction.getSourceAccount().getAccountId();
+        Account sourceAccount = accounts.get(sourceId);
+        Account destAccount = accounts.get(transaction.getDestinationAccount().getAccountId());
+
+        Money fee = transactionMapper.calculateFee(transaction);
+        Money totalAmount = transaction.getAmount().plus(fee);
+
+        // The transfer's own hold is spendable; holds of other pending transfers are not
+        AccountHold hold = holds.get(transaction.getTransactionId());
+        Money ownHold = hold != null ? hold.getAmount() : Money.ZERO;
+        Money heldForOthers = heldByAccount.getOrDefault(sourceId, Money.ZERO).minus(ownHold);
+        if (hold != null) {
+            heldByAccount.put(sourceId, heldByAccount.get(sourceId).minus(ownHold));
+        }
+
+        // Balances may have moved since the request was validated
+        if (sourceAccount.getStatus() != AccountStatus.ACTIVE ||
+                destAccount.getStatus() != AccountStatus.ACTIVE ||
+                sourceAccount.getBalance().minus(heldForOthers).isLessThan(totalAmount)) {
+            transaction.setStatus(TransactionStatus.REJECTED);
+            if (hold != null) {
+                holdService.release(hold);
+            }
+            spendingLimitService.releaseAfterCommit(transaction);
+            return false;
+        }
+        if (hold != null) {
+            holdService.capture(hold);
+        }
+
+        sourceAccount.setBalance(sourceAccount.getBalance().minus(totalAmount));
+        destAccount.setBalance(destAccount.getBalance().plus(transaction.getAmount()));
+        transaction.setStatus(TransactionStatus.COMPLETED);
+        ledgerService.postTransfer(transaction, fee);
+        return true;
+    }
+
+    /**
+     * Settles all transfers between two accounts, in either direction, as one net movement. Each
+     * side only needs to cover what it owes after offsetting what it receives; fees are never
+     * offset. Returns false without changing anything if either side cannot, so the caller can
+     * fall back to settling the transfers one by one.
+     */
+    private boolean settleNetted(AccountPair pair, List<Transaction> pairTransactions, Map<Long, Account> accounts,
+                                 Map<Long, AccountHold> holds, Map<Long, Money> heldByAccount) {
+        Account low = accounts.get(pair.low());
+        Account high = accounts.get(pair.high());
+        if (low.getStatus() != AccountStatus.ACTIVE || high.getStatus() != AccountStatus.ACTIVE) {
+            return false;
+        }
+
+        Map<Long, Money> fees = new HashMap<>();
+        Map<Long, Money> netChange = new HashMap<>(Map.of(pair.low(), Money.ZERO, pair.high(), Money.ZERO));
+        Map<Long, Money> ownHolds = new HashMap<>(netChange);
+        for (Transaction transaction : pairTransactions) {
+            Long sourceId = transaction.getSourceAccount().getAccountId();
+            Long destinationId = transaction.getDestinationAccount().getAccountId();
+            Money fee = transactionMapper.calculateFee(transaction);
+            fees.put(transaction.getTransactionId(), fee);
+            netChange.merge(sourceId, transaction.getAmount().plus(fee), Money::minus);
+            netChange.merge(destinationId, transaction.getAmount(), Money::plus);
+            AccountHold hold = holds.get(transaction.getTransactionId());
+            if (hold != null) {
+                ownHolds.merge(sourceId, hold.getAmount(), Money::plus);
+            }
+        }
+
+        for (Account account : List.of(low, high)) {
+            Long accountId = account.getAccountId();
+            Money heldForOthers = heldByAccount.getOrDefault(accountId, Money.ZERO).minus(ownHolds.get(accountId));
+            if (account.getBalance().minus(heldForOthers).plus(netChange.get(accountId)).isLessThan(Money.ZERO)) {
+                return false;
+            }
+        }
+
+        for (Account account : List.of(low, high)) {
+            Long accountId = account.getAccountId();
+            account.setBalance(account.getBalance().plus(netChange.get(accountId)));
+            heldByAccount.computeIfPresent(accountId, (id, held) -> held.minus(ownHolds.get(id)));
+        }
+        for (Transaction transaction : pairTransactions) {
+            AccountHold hold = holds.get(transaction.getTransactionId());
+            if (hold != null) {
+                holdService.capture(hold);
+            }
+            transaction.setStatus(TransactionStatus.COMPLETED);
+            // The ledger keeps every transfer; only the balance movement is netted
+            ledgerService.postTransfer(transaction, fees.get(transaction.getTransactionId()));
+        }
+        return true;
+    }
+
+    private record AccountPair(long low, long high) {
+        static AccountPair of(Transaction transaction) {
+            long source = transaction.getSourceAccount().getAccountId();
+            long destination = transaction.getDestinationAccount().getAccountId();
+            return new AccountPair(Math.min(source, destination), Math.max(source, destination));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.system.bank.settlement;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.TransactionType;
+import org.system.bank.repository.jpa.TransactionRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process queue for STANDARD transfers. Transfers are partitioned by source account, so all
+ * transfers from one account are drained by the same worker, which settles whatever has queued
+ * up since its last pass as one micro-batch.
+ * <p>
+ * With {@code bank.settlement.netting.enabled}, transfers are partitioned by account pair instead
+ * so both directions between two accounts meet in one worker, and each worker keeps collecting
+ * for {@code bank.settlement.netting.window-ms} before settling, letting {@link SettlementProcessor}
+ * net each pair into a single balance movement.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementQueue {
+
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final SettlementProcessor settlementProcessor;
+    private final TransactionRepository transactionRepository;
+
+    @Value("${bank.settlement.workers:4}")
+    private int workers;
+
+    @Value("${bank.settlement.batch-size:200}")
+    private int batchSize;
+
+    @Value("${bank.settlement.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${bank.settlement.recovery-age-seconds:30}")
+    private long recoveryAgeSeconds;
+
+    @Value("${bank.settlement.netting.enabled:false}")
+    private boolean nettingEnabled;
+
+    @Value("${bank.settlement.netting.window-ms:1000}")
+    private long nettingWindowMs;
+
+    private final List<BlockingQueue<Long>> partitions = new ArrayList<>();
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("settlement-"));
+        for (int i = 0; i < workers; i++) {
+            BlockingQueue<Long> partition = new ArrayBlockingQueue<>(queueCapacity);
+            partitions.add(partition);
+            executor.submit(() -> drain(partition));
+        }
+        log.info("Settlement queue started with {} workers", workers);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            // Anything left stays PENDING and is picked up by recovery on the next start
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Queues a saved PENDING transfer for settlement once the surrounding transaction commits,
+     * so workers never look for a row that is not yet visible.
+     */
+    public void submit(Transaction transaction) {
+        Long transactionId = transaction.getTransactionId();
+        int partition = partitionFor(transaction);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(partition, transactionId);
+                }
+            });
+        } else {
+            enqueue(partition, transactionId);
+        }
+    }
+
+    /**
+     * Re-queues STANDARD transfers left PENDING by a full queue or a restart. Settlement skips
+     * anything that is no longer PENDING, so a transfer queued twice is only applied once.
+     * Transfers held by fraud screening are left alone until they are reviewed.
+     */
+    @Scheduled(fixedDelayString = "${bank.settlement.recovery-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void recoverPending() {
+        List<Transaction> stale = transactionRepository.findStalePending(
+                TransactionType.STANDARD,
+                LocalDateTime.now().minusSeconds(recoveryAgeSeconds),
+                PageRequest.of(0, queueCapacity)
+        );
+        for (Transaction transaction : stale) {
+            enqueue(partitionFor(transaction), transaction.getTransactionId());
+        }
+        if (!stale.isEmpty()) {
+            log.info("Re-queued {} pending STANDARD transactions", stale.size());
+        }
+    }
+
+    public int pendingCount() {
+        return partitions.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    private int partitionFor(Transaction transaction) {
+        Long accountId = transaction.getSourceAccount().getAccountId();
+        if (nettingEnabled) {
+            accountId = Math.min(accountId, transaction.getDestinationAccount().getAccountId());
+        }
+        return Math.floorMod(accountId.hashCode(), partitions.size());
+    }
+
+    private void enqueue(int partition, Long transactionId) {
+        if (!partitions.get(partition).offer(transactionId)) {
+            // Never block the request thread; the transfer stays PENDING until recovery re-queues it
+            log.warn("Settlement partition {} is full, transaction {} deferred to recovery", partition, transactionId);
+        }
+    }
+
+    private void drain(BlockingQueue<Long> partition) {
+        List<Long> batch = new ArrayList<>(batchSize);
+        while (running || !partition.isEmpty()) {
+            try {
+                Long first = partition.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                partition.drainTo(batch, batchSize - 1);
+                if (nettingEnabled) {
+                    collectForWindow(partition, batch);
+                }
+                settle(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectForWindow(BlockingQueue<Long> partition, List<Long> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(nettingWindowMs);
+        long remaining;
+        while (batch.size() < batchSize && (remaining = deadline - System.nanoTime()) > 0) {
+            Long next = partition.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            partition.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void settle(List<Long> batch) {
+        try {
+            settlementProcessor.settleBatch(batch);
+        } catch (Exception e) {
+            log.warn("Settlement batch of {} transactions failed, retrying one by one", batch.size(), e);
+            for (Long transactionId : batch) {
+                try {
+                    settlementProcessor.settleBatch(List.of(transactionId));
+                } catch (Exception ex) {
+                    log.error("Failed to settle transaction {}", transactionId, ex);
+                }
+            }
+        }
+    }
+}
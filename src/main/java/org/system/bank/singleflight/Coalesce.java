@@ -0,0 +1,14 @@
+package org.system.bank.singleflight;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a read-only service method whose concurrent calls with equal arguments may share one
+ * execution, see {@link SingleFlight}. Every caller receives the same result instance, so results
+ * must not be modified by callers. Results are not per user: the method must not depend on who
+ * calls it, and access checks belong in front of it.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {
+}
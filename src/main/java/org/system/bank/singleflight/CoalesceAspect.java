@@ -0,0 +1,63 @@
+package org.system.bank.singleflight;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.system.bank.replica.RecentWriters;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+
+/**
+ * Runs {@link Coalesce} methods through {@link SingleFlight}, keyed by method and arguments.
+ * Ordered just outside the transaction interceptor, so coalesced callers never open a
+ * transaction or take a connection. A caller already inside a transaction runs the method itself:
+ * it may need to see its own uncommitted writes.
+ * <p>
+ * The key holds neither the caller nor the data source the leader's read was routed to, so a
+ * result is shared across users and may come from a replica. A user inside their read-your-writes
+ * window (see {@link RecentWriters}) is routed to the primary, so they run the method themselves
+ * rather than join another caller's replica read.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class CoalesceAspect {
+
+    private final SingleFlight singleFlight;
+    private final ObjectProvider<RecentWriters> recentWriters;
+
+    @Around("@annotation(coalesce)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Coalesce coalesce) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive() || readsOwnWrites()) {
+            return joinPoint.proceed();
+        }
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        try {
+            return singleFlight.execute(name, Arrays.asList(joinPoint.getArgs()), () -> {
+                try {
+                    return joinPoint.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e);
+                }
+            });
+        } catch (UndeclaredThrowableException e) {
+            throw e.getUndeclaredThrowable();
+        }
+    }
+
+    // Only set when replica routing is configured
+    private boolean readsOwnWrites() {
+        RecentWriters writers = recentWriters.getIfAvailable();
+        return writers != null && writers.currentUserWroteWithin(System.nanoTime());
+    }
+}
@@ -0,0 +1,74 @@
+package org.system.bank.singleflight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls: while one call for a key runs, later callers for the same
+ * key wait for it and receive its result or exception instead of running their own. Nothing is
+ * kept once the call completes, so this never serves a result older than the call it joined.
+ * <p>
+ * {@code bank.singleflight.calls} counts calls by name and role; the coalescing ratio is
+ * {@code role=coalesced} over all calls of a name.
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    private record Key(String name, Object key) {
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> call) {
+        Key flightKey = new Key(name, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flightKey, mine);
+        if (running != null) {
+            count(name, "coalesced");
+            return (T) join(running);
+        }
+        count(name, "leader");
+        try {
+            T value = call.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private void count(String name, String role) {
+        meterRegistry.counter("bank.singleflight.calls", "name", name, "role", role).increment();
+    }
+
+    private static Object join(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
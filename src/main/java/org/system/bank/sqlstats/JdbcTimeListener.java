@@ -0,0 +1,39 @@
+package org.system.bank.sqlstats;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time each statement and batch spends executing on the driver to the current thread's
+ * {@link SqlStats}. Hibernate creates one per session, so the start time needs no synchronization.
+ */
+public class JdbcTimeListener implements SessionEventListener {
+
+    private long executeStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        SqlStats stats = SqlStats.current();
+        if (stats != null) {
+            stats.addJdbcTime(System.nanoTime() - executeStart);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.system.bank.sqlstats;
+
+import lombok.Getter;
+
+/**
+ * SQL issued on the current thread while a web request is being handled: statements prepared,
+ * entities hydrated and time spent executing statements on the JDBC driver. DTO projections and
+ * scalar queries hydrate no entities, so {@code entities} is not a count of result rows. Started and
+ * published by {@link SqlStatsInterceptor}, filled in by the Hibernate hooks in
+ * {@link SqlStatsRecorder} and {@link JdbcTimeListener}.
+ */
+@Getter
+public final class SqlStats {
+
+    /**
+     * Request attribute holding the finished stats, for assertions in controller tests.
+     */
+    public static final String REQUEST_ATTRIBUTE = SqlStats.class.getName();
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long entities;
+    private long jdbcTimeNanos;
+
+    public static SqlStats start() {
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    void addStatement() {
+        statements++;
+    }
+
+    void addEntity() {
+        entities++;
+    }
+
+    void addJdbcTime(long nanos) {
+        jdbcTimeNanos += nanos;
+    }
+}
@@ -0,0 +1,39 @@
+package org.system.bank.sqlstats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-request SQL statistics. The Hibernate hooks are installed session-factory wide and only
+ * count while {@link SqlStatsInterceptor} is tracking a request on the calling thread; the
+ * interceptor is registered with Spring MVC by {@code WebConfig}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bank.sql-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsConfig {
+
+    @Bean
+    public SqlStatsRecorder sqlStatsRecorder() {
+        return new SqlStatsRecorder();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatsProperties(SqlStatsRecorder recorder) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, recorder);
+            properties.put(AvailableSettings.INTERCEPTOR, recorder);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimeListener.class.getName());
+        };
+    }
+
+    @Bean
+    public SqlStatsInterceptor sqlStatsInterceptor(MeterRegistry meterRegistry,
+                                                   @Value("${bank.sql-stats.statement-budget:20}") int statementBudget) {
+        return new SqlStatsInterceptor(meterRegistry, statementBudget);
+    }
+}
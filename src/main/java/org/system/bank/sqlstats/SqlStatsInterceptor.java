@@ -0,0 +1,74 @@
+package org.system.bank.sqlstats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the SQL each controller call issues, from the handler through view rendering, and
+ * publishes it per handler as {@code bank.sql.statements}, {@code bank.sql.entities} and
+ * {@code bank.sql.jdbc.time}. A request over {@code bank.sql-stats.statement-budget} statements is
+ * logged, as it usually means a lazy association is being loaded once per row.
+ */
+@Slf4j
+public class SqlStatsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public SqlStatsInterceptor(MeterRegistry meterRegistry, int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // An error dispatch reuses the request; its SQL stays with the original handler
+        if (handler instanceof HandlerMethod && request.getAttribute(SqlStats.REQUEST_ATTRIBUTE) == null) {
+            request.setAttribute(SqlStats.REQUEST_ATTRIBUTE, SqlStats.start());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object stats = request.getAttribute(SqlStats.REQUEST_ATTRIBUTE);
+        if (stats == null || stats != SqlStats.current()) {
+            return;
+        }
+        SqlStats.stop();
+        record(handlerName((HandlerMethod) handler), (SqlStats) stats, request);
+    }
+
+    private void record(String handler, SqlStats stats, HttpServletRequest request) {
+        DistributionSummary.builder("bank.sql.statements")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("bank.sql.entities")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.getEntities());
+        Timer.builder("bank.sql.jdbc.time")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.getJdbcTimeNanos(), TimeUnit.NANOSECONDS);
+        if (stats.getStatements() > statementBudget) {
+            log.warn("{} {} issued {} SQL statements (budget {}), hydrating {} entities in {} ms",
+                    request.getMethod(), request.getRequestURI(), stats.getStatements(), statementBudget,
+                    stats.getEntities(), TimeUnit.NANOSECONDS.toMillis(stats.getJdbcTimeNanos()));
+        }
+    }
+
+    private static String handlerName(HandlerMethod handler) {
+        return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+    }
+}
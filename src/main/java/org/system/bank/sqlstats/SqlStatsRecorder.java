@@ -0,0 +1,30 @@
+package org.system.bank.sqlstats;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Counts the statements Hibernate prepares and the entities it hydrates from result rows into the
+ * current thread's {@link SqlStats}. Does nothing outside a tracked request.
+ */
+public class SqlStatsRecorder implements StatementInspector, Interceptor {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStats stats = SqlStats.current();
+        if (stats != null) {
+            stats.addStatement();
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        SqlStats stats = SqlStats.current();
+        if (stats != null) {
+            stats.addEntity();
+        }
+        return false;
+    }
+}
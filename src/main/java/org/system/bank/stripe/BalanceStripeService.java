@@ -0,0 +1,157 @@
+package org.system.bank.stripe;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.bank.balance.BalanceCache;
+import org.system.bank.dto.response.AccountResponse;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountBalanceStripe;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountBalanceStripeRepository;
+import org.system.bank.repository.jpa.AccountRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Striped balances for hot destination accounts. A striped account's balance is its own
+ * {@code balance} plus the sum of its stripe rows: credits land on one stripe picked by hash and
+ * never touch the account row, so concurrent credits to one merchant do not serialize on it.
+ * <p>
+ * Debits fold the stripes back into the account first, and {@link StripeCompactionJob} does the
+ * same periodically. Folding locks the account row before its stripes, so it cannot deadlock
+ * with settlement, which locks accounts the same way.
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceStripeService {
+
+    public static final int MAX_STRIPES = 64;
+
+    private final AccountBalanceStripeRepository stripeRepository;
+    private final AccountRepository accountRepository;
+    private final BalanceCache balanceCache;
+
+    /**
+     * Spreads the account's future credits over {@code stripes} rows, or stops striping it when
+     * {@code stripes} is 0. Existing stripes are folded first, so no balance is lost.
+     */
+    @Transactional
+    public Account configureStripes(Long accountId, int stripes) {
+        if (stripes < 0 || stripes == 1 || stripes > MAX_STRIPES) {
+            throw new IllegalArgumentException("Stripe count must be 0 or between 2 and " + MAX_STRIPES);
+        }
+        Account account = lockAccount(accountId);
+        fold(account);
+        stripeRepository.deleteByAccountId(accountId);
+
+        List<AccountBalanceStripe> rows = new ArrayList<>(stripes);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            rows.add(AccountBalanceStripe.builder()
+                    .accountId(accountId)
+                    .stripe(stripe)
+                    .balance(Money.ZERO)
+                    .build());
+        }
+        stripeRepository.saveAll(rows);
+        account.setBalanceStripes(stripes);
+        return accountRepository.save(account);
+    }
+
+    /**
+     * Credits a striped account without locking or writing its row. The key (usually the
+     * transaction id) picks the stripe, so concurrent credits spread over different rows.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void credit(Account account, Money amount, long key) {
+        int stripe = stripeFor(key, account.getBalanceStripes());
+        if (stripeRepository.credit(account.getAccountId(), stripe, amount.toBigDecimal()) == 0) {
+            throw new IllegalStateException("Balance stripe " + stripe + " missing for account " + account.getAccountId());
+        }
+        balanceCache.invalidateAfterCommit(account.getAccountId());
+    }
+
+    /**
+     * Moves everything credited to the account's stripes into its managed balance, taking the
+     * account row lock before the stripe locks.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void fold(Account account) {
+        if (account.getBalanceStripes() == 0) {
+            return;
+        }
+        accountRepository.findAllByIdForUpdate(List.of(account.getAccountId()));
+        Money folded = Money.ZERO;
+        for (AccountBalanceStripe stripe : stripeRepository.findByAccountIdForUpdate(account.getAccountId())) {
+            if (!stripe.getBalance().isZero()) {
+                folded = folded.plus(stripe.getBalance());
+                stripe.setBalance(Money.ZERO);
+            }
+        }
+        if (!folded.isZero()) {
+            account.setBalance(account.getBalance().plus(folded));
+        }
+    }
+
+    /**
+     * The account's balance including credits still sitting in its stripes.
+     */
+    @Transactional(readOnly = true)
+    public Money totalBalance(Account account) {
+        if (account.getBalanceStripes() == 0) {
+            return account.getBalance();
+        }
+        return account.getBalance().plus(Money.of(stripeRepository.sumByAccountId(account.getAccountId())));
+    }
+
+    /**
+     * Unfolded stripe credits of the striped accounts among {@code accountIds}, by account id.
+     * Unstriped accounts have no stripe rows and are absent from the result.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Money> stripeTotals(Collection<Long> accountIds) {
+        Map<Long, Money> totals = new HashMap<>();
+        if (!accountIds.isEmpty()) {
+            for (Object[] row : stripeRepository.sumByAccountIds(accountIds)) {
+                totals.put(((Number) row[0]).longValue(), Money.of((BigDecimal) row[1]));
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Adds unfolded stripe credits to balances read from the account row alone, with one query
+     * for all of {@code responses}.
+     */
+    @Transactional(readOnly = true)
+    public void addStripeTotals(Collection<AccountResponse> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+        Map<Long, Money> totals = stripeTotals(responses.stream().map(AccountResponse::getAccountId).toList());
+        for (AccountResponse response : responses) {
+            Money striped = totals.get(response.getAccountId());
+            if (striped != null) {
+                response.setBalance(response.getBalance().plus(striped));
+            }
+        }
+    }
+
+    static int stripeFor(long key, int stripes) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return Math.floorMod((int) (h ^ (h >>> 32)), stripes);
+    }
+
+    private Account lockAccount(Long accountId) {
+        return accountRepository.findAllByIdForUpdate(List.of(accountId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("Account not found with id: " + accountId));
+    }
+}
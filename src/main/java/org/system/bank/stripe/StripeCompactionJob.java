@@ -0,0 +1,47 @@
+package org.system.bank.stripe;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.bank.entity.Account;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountBalanceStripeRepository;
+import org.system.bank.repository.jpa.AccountRepository;
+
+import java.util.List;
+
+/**
+ * Periodically folds striped credits back into their accounts, so stripe sums stay small and
+ * reads of {@code accounts.balance} alone do not drift far from the total.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StripeCompactionJob {
+
+    private final AccountBalanceStripeRepository stripeRepository;
+    private final AccountRepository accountRepository;
+    private final BalanceStripeService stripeService;
+
+    @Value("${bank.stripes.compaction-batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${bank.stripes.compaction-interval-ms:5000}")
+    @Transactional
+    public void compact() {
+        List<Long> accountIds = stripeRepository.findAccountIdsWithUnfoldedCredits(Money.ZERO, PageRequest.of(0, batchSize));
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        List<Account> accounts = accountRepository.findAllByIdForUpdate(accountIds);
+        for (Account account : accounts) {
+            stripeService.fold(account);
+        }
+        accountRepository.saveAll(accounts);
+        log.debug("Folded balance stripes of {} accounts", accounts.size());
+    }
+}
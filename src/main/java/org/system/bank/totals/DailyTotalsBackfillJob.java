@@ -0,0 +1,102 @@
+package org.system.bank.totals;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.DailyAccountTotalRepository;
+import org.system.bank.repository.jpa.TransactionRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Rebuilds {@code daily_account_totals} from transaction history. The account id space is split
+ * into ranges that are rebuilt in parallel, each range replacing its rows in one transaction.
+ * <p>
+ * Settlement adds a transfer to the day it was created, whenever it settles, so only days before
+ * both today and the earliest still-pending transfer are rebuilt; later days keep being
+ * maintained by settlement. A transfer still in the journal when the job starts is not yet
+ * pending in the database: if it is drained into a rebuilt day while the job runs, that day
+ * misses it until the next rebuild.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyTotalsBackfillJob {
+
+    private final AccountRepository accountRepository;
+    private final DailyAccountTotalRepository dailyAccountTotalRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${bank.daily-totals.backfill.threads:4}")
+    private int threads;
+
+    @Value("${bank.daily-totals.backfill.chunk-size:10000}")
+    private long chunkSize;
+
+    /**
+     * @return number of account-day rows written
+     */
+    public long rebuild() {
+        long start = System.currentTimeMillis();
+        Long minId = accountRepository.findMinAccountId();
+        Long maxId = accountRepository.findMaxAccountId();
+        if (minId == null) {
+            return 0;
+        }
+
+        LocalDate before = rebuildCutoff();
+        long written = 0;
+        ExecutorService pool = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("daily-totals-backfill-"));
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (long from = minId; from <= maxId; from += chunkSize) {
+                long chunkStart = from;
+                long chunkEnd = Math.min(from + chunkSize - 1, maxId);
+                chunks.add(pool.submit(() -> rebuildRange(chunkStart, chunkEnd, before)));
+            }
+            for (Future<Integer> chunk : chunks) {
+                written += chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Daily totals backfill interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Daily totals backfill failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        log.info("Daily totals backfill wrote {} account-days before {} ({} ms)",
+                written, before, System.currentTimeMillis() - start);
+        return written;
+    }
+
+    private LocalDate rebuildCutoff() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime earliestPending = transactionRepository.findEarliestPendingCreatedAt();
+        if (earliestPending != null && earliestPending.toLocalDate().isBefore(today)) {
+            return earliestPending.toLocalDate();
+        }
+        return today;
+    }
+
+    private int rebuildRange(long fromId, long toId, LocalDate before) {
+        Integer written = transactionTemplate.execute(status -> {
+            dailyAccountTotalRepository.deleteRange(fromId, toId, before);
+            return dailyAccountTotalRepository.insertRange(fromId, toId, before);
+        });
+        return written != null ? written : 0;
+    }
+}
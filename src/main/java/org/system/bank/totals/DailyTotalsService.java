@@ -0,0 +1,80 @@
+package org.system.bank.totals;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.bank.entity.DailyAccountTotal;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.DailyAccountTotalRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-account, per-day debit and credit totals of completed transfers, kept in
+ * {@code daily_account_totals} by the same transaction that completes the transfers, so daily
+ * figures are a single-row read instead of a range sum over {@code transactions}.
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyTotalsService {
+
+    private record Key(long accountId, LocalDate businessDate) {
+    }
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparingLong(Key::accountId)
+            .thenComparing(Key::businessDate);
+
+    private final DailyAccountTotalRepository dailyAccountTotalRepository;
+
+    /**
+     * Adds the completed transfers among {@code transactions} to their accounts' totals for the
+     * day they were created. Each account and day is written once, in account id order.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Collection<Transaction> transactions) {
+        Map<Key, DailyAccountTotal> deltas = new TreeMap<>(KEY_ORDER);
+        for (Transaction transaction : transactions) {
+            if (transaction.getStatus() != TransactionStatus.COMPLETED) {
+                continue;
+            }
+            LocalDate date = transaction.getCreatedAt().toLocalDate();
+            DailyAccountTotal debit = delta(deltas, transaction.getSourceAccount().getAccountId(), date);
+            debit.setDebitTotal(debit.getDebitTotal().plus(transaction.getAmount()));
+            debit.setTransactionCount(debit.getTransactionCount() + 1);
+
+            DailyAccountTotal credit = delta(deltas, transaction.getDestinationAccount().getAccountId(), date);
+            credit.setCreditTotal(credit.getCreditTotal().plus(transaction.getAmount()));
+            credit.setTransactionCount(credit.getTransactionCount() + 1);
+        }
+
+        deltas.forEach((key, delta) -> {
+            dailyAccountTotalRepository.insertIfAbsent(key.accountId(), key.businessDate());
+            dailyAccountTotalRepository.addToTotals(key.accountId(), key.businessDate(),
+                    delta.getDebitTotal().toBigDecimal(), delta.getCreditTotal().toBigDecimal(),
+                    delta.getTransactionCount());
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public Money getDailyDebitTotal(Long accountId, LocalDate date) {
+        return dailyAccountTotalRepository.findByAccountIdAndBusinessDate(accountId, date)
+                .map(DailyAccountTotal::getDebitTotal)
+                .orElse(Money.ZERO);
+    }
+
+    private static DailyAccountTotal delta(Map<Key, DailyAccountTotal> deltas, long accountId, LocalDate date) {
+        return deltas.computeIfAbsent(new Key(accountId, date), key -> DailyAccountTotal.builder()
+                .accountId(accountId)
+                .businessDate(date)
+                .debitTotal(Money.ZERO)
+                .creditTotal(Money.ZERO)
+                .build());
+    }
+}
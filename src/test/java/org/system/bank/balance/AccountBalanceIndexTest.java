@@ -0,0 +1,94 @@
+package org.system.bank.balance;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.service.base.BaseServiceTest;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class AccountBalanceIndexTest extends BaseServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @InjectMocks
+    private AccountBalanceIndex index;
+
+    @Test
+    void load_ShouldIndexEveryAccountRow() {
+        // Arrange
+        when(accountRepository.streamBalanceIndexRows()).thenReturn(Stream.of(
+                new Object[]{1L, new BigDecimal("1000.00"), "ACTIVE"},
+                new Object[]{2L, new BigDecimal("0.05"), "BLOCKED"}
+        ));
+
+        // Act
+        index.load();
+
+        // Assert
+        assertEquals(2, index.size());
+        assertEquals(1000_00L, AccountBalanceIndex.balanceOf(index.lookup(1L)));
+        assertEquals(AccountStatus.BLOCKED, AccountBalanceIndex.statusOf(index.lookup(2L)));
+        assertEquals(AccountBalanceIndex.MISSING, index.lookup(3L));
+    }
+
+    @Test
+    void addToBalance_ShouldKeepStatus() {
+        // Arrange
+        index.put(7L, 500L, AccountStatus.BLOCKED);
+
+        // Act
+        index.addToBalance(7L, -600L);
+
+        // Assert
+        long entry = index.lookup(7L);
+        assertEquals(-100L, AccountBalanceIndex.balanceOf(entry));
+        assertEquals(AccountStatus.BLOCKED, AccountBalanceIndex.statusOf(entry));
+    }
+
+    @Test
+    void remove_ShouldKeepOtherEntriesReachable_AcrossResizes() {
+        // Arrange
+        for (long id = 1; id <= 10_000; id++) {
+            index.put(id, id * 10, AccountStatus.ACTIVE);
+        }
+
+        // Act
+        for (long id = 1; id <= 10_000; id += 2) {
+            index.remove(id);
+        }
+
+        // Assert
+        assertEquals(5_000, index.size());
+        for (long id = 1; id <= 10_000; id++) {
+            long entry = index.lookup(id);
+            if (id % 2 == 1) {
+                assertEquals(AccountBalanceIndex.MISSING, entry);
+            } else {
+                assertEquals(id * 10, AccountBalanceIndex.balanceOf(entry));
+            }
+        }
+    }
+
+    @Test
+    void memoryBytes_ShouldBe32MiBPerMillionAccounts() {
+        // Arrange
+        for (long id = 1; id <= 1_000_000; id++) {
+            index.put(id, id, AccountStatus.ACTIVE);
+        }
+
+        // Act
+        long bytes = index.memoryBytes();
+
+        // Assert
+        assertEquals(32L * 1024 * 1024, bytes);
+        assertEquals(bytes, AccountBalanceIndex.bytesFor(1_000_000));
+    }
+}
@@ -0,0 +1,235 @@
+package org.system.bank.balance;
+
+import jakarta.persistence.EntityNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.service.base.BaseServiceTest;
+import org.system.bank.singleflight.SingleFlight;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BalanceCacheTest extends BaseServiceTest {
+
+    private static final long USER_ID = 5L;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BalanceCache cache;
+
+    private final AtomicLong now = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        cache = new BalanceCache(accountRepository, new SingleFlight(new SimpleMeterRegistry()), transactionManager);
+        ReflectionTestUtils.setField(cache, "maxStalenessMs", 1000L);
+        ReflectionTestUtils.setField(cache, "maxAccounts", 1000);
+        ReflectionTestUtils.setField(cache, "clock", (LongSupplier) now::get);
+    }
+
+    @Test
+    void totalBalance_ShouldSumActiveAccounts_AndServeRepeatsFromCache() {
+        // Arrange
+        stubUserRows();
+
+        // Act
+        Money first = cache.totalBalance(USER_ID);
+        Money second = cache.totalBalance(USER_ID);
+
+        // Assert
+        assertEquals(Money.of("150.00"), first);
+        assertEquals(first, second);
+        verify(accountRepository, times(1)).findBalanceRowsByUserId(USER_ID);
+    }
+
+    @Test
+    void invalidate_ShouldReloadTotal_ButKeepOtherAccounts() {
+        // Arrange
+        stubUserRows();
+        cache.totalBalance(USER_ID);
+
+        // Act
+        cache.invalidate(1L);
+
+        // Assert
+        assertEquals(Money.of("150.00"), cache.totalBalance(USER_ID));
+        assertEquals(Money.of("50.00"), cache.account(2L).balance());
+        verify(accountRepository, times(2)).findBalanceRowsByUserId(USER_ID);
+        verify(accountRepository, never()).findBalanceRowsByAccountId(anyLong());
+    }
+
+    @Test
+    void invalidateAfterCommit_ShouldNotDoubleCount_WhenLoadRunsBetweenCommitAndCallback() {
+        // Arrange
+        when(accountRepository.findBalanceRowsByAccountId(1L))
+                .thenReturn(List.<Object[]>of(row(1L, "ACTIVE", "105.00")));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAfterCommit(1L);
+            // The credit of 5.00 is committed; a read loads the new balance before the callback runs
+            BalanceCache.Balance loaded = cache.account(1L);
+
+            // Act
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            assertEquals(Money.of("105.00"), loaded.balance());
+            assertEquals(Money.of("105.00"), cache.account(1L).balance());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void put_ShouldMoveAccountOutOfTotal_WhenStatusChanges() {
+        // Arrange
+        stubUserRows();
+        cache.totalBalance(USER_ID);
+
+        // Act
+        cache.put(2L, USER_ID, 50_00L, AccountStatus.BLOCKED);
+
+        // Assert
+        assertEquals(Money.of("100.00"), cache.totalBalance(USER_ID));
+        assertEquals(AccountStatus.BLOCKED, cache.account(2L).status());
+    }
+
+    @Test
+    void put_ShouldReloadTotal_WhenUserGainsAnAccount() {
+        // Arrange
+        stubUserRows();
+        cache.totalBalance(USER_ID);
+
+        // Act
+        cache.put(4L, USER_ID, 10_00L, AccountStatus.ACTIVE);
+        cache.totalBalance(USER_ID);
+
+        // Assert
+        verify(accountRepository, times(2)).findBalanceRowsByUserId(USER_ID);
+    }
+
+    @Test
+    void totalBalance_ShouldReload_OnceStalenessBoundPasses() {
+        // Arrange
+        stubUserRows();
+        cache.totalBalance(USER_ID);
+        cache.put(1L, USER_ID, 101_00L, AccountStatus.ACTIVE);
+
+        // Act
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+        Money reloaded = cache.totalBalance(USER_ID);
+
+        // Assert
+        assertEquals(Money.of("150.00"), reloaded);
+        verify(accountRepository, times(2)).findBalanceRowsByUserId(USER_ID);
+    }
+
+    @Test
+    void account_ShouldThrow_WhenAccountMissing() {
+        // Arrange
+        when(accountRepository.findBalanceRowsByAccountId(9L)).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> cache.account(9L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidate_ShouldNotBeOverwrittenByLoadStartedBeforeIt() {
+        // Arrange
+        when(accountRepository.findBalanceRowsByAccountId(1L))
+                .thenAnswer(invocation -> {
+                    // Commits while the load is reading the pre-commit row
+                    cache.invalidate(1L);
+                    return List.<Object[]>of(row(1L, "ACTIVE", "100.00"));
+                })
+                .thenReturn(List.<Object[]>of(row(1L, "ACTIVE", "105.00")));
+
+        // Act
+        BalanceCache.Balance first = cache.account(1L);
+        BalanceCache.Balance second = cache.account(1L);
+
+        // Assert
+        assertEquals(Money.of("100.00"), first.balance());
+        assertEquals(Money.of("105.00"), second.balance());
+        verify(accountRepository, times(2)).findBalanceRowsByAccountId(1L);
+    }
+
+    @Test
+    void account_ShouldShareOneLoad_BetweenConcurrentMisses() throws Exception {
+        // Arrange
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(accountRepository.findBalanceRowsByAccountId(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.<Object[]>of(row(1L, "ACTIVE", "100.00"));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<BalanceCache.Balance> leader = executor.submit(() -> cache.account(1L));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<BalanceCache.Balance> follower = executor.submit(() -> cache.account(1L));
+            Thread.sleep(50);
+            release.countDown();
+
+            // Assert
+            assertEquals(Money.of("100.00"), leader.get(5, TimeUnit.SECONDS).balance());
+            assertEquals(Money.of("100.00"), follower.get(5, TimeUnit.SECONDS).balance());
+            verify(accountRepository, times(1)).findBalanceRowsByAccountId(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void account_ShouldLoadOutsideCallersTransaction_SoItReadsThePrimary() {
+        // Arrange
+        when(accountRepository.findBalanceRowsByAccountId(1L))
+                .thenReturn(List.<Object[]>of(row(1L, "ACTIVE", "100.00")));
+
+        // Act
+        cache.account(1L);
+
+        // Assert
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_NOT_SUPPORTED));
+    }
+
+    private void stubUserRows() {
+        when(accountRepository.findBalanceRowsByUserId(USER_ID)).thenReturn(List.of(
+                row(1L, "ACTIVE", "100.00"),
+                row(2L, "ACTIVE", "50.00"),
+                row(3L, "BLOCKED", "999.00")));
+    }
+
+    private static Object[] row(long accountId, String status, String balance) {
+        return new Object[]{accountId, USER_ID, status, new BigDecimal(balance)};
+    }
+}
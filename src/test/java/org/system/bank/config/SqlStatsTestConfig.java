@@ -0,0 +1,18 @@
+package org.system.bank.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.system.bank.sqlstats.SqlStatsInterceptor;
+
+/**
+ * Tracks SQL per request in web slice tests, so {@code SqlStatsMatchers} can assert on it.
+ */
+@TestConfiguration
+public class SqlStatsTestConfig {
+
+    @Bean
+    public SqlStatsInterceptor sqlStatsInterceptor() {
+        return new SqlStatsInterceptor(new SimpleMeterRegistry(), Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,80 @@
+package org.system.bank.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.User;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.enums.Role;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.system.bank.util.SqlStatsMatchers.entitiesAtMost;
+import static org.system.bank.util.SqlStatsMatchers.statements;
+
+// Runs the request against the real services and repositories, so the SQL stats count actual statements
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AccountControllerSqlTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private User user;
+    private final List<Account> accounts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Listed User")
+                .email("listed@example.com")
+                .password("hashedPassword123")
+                .age(30)
+                .monthlyIncome(5000.0)
+                .creditScore(700)
+                .role(Role.USER)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            accounts.add(accountRepository.save(Account.builder()
+                    .balance(Money.of("100.00"))
+                    .status(AccountStatus.ACTIVE)
+                    .user(user)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountRepository.deleteAll(accounts);
+        userRepository.delete(user);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllAccounts_ShouldIssuePageQueryAndStripeSum_WithoutHydratingEntities() throws Exception {
+        mockMvc.perform(get("/accounts"))
+                .andExpect(status().isOk())
+                .andExpect(statements(2))
+                .andExpect(entitiesAtMost(0));
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.system.bank.controller.base.BaseControllerTest;
 import org.system.bank.dto.request.AccountCreationRequest;
@@ -11,11 +13,13 @@ import org.system.bank.dto.response.AccountResponse;
 import org.system.bank.enums.AccountStatus;
 import org.system.bank.service.AccountService;
 import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
 
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -46,7 +50,7 @@ class AccountControllerTest extends BaseControllerTest {
                         .content(objectMapper.writeValueAsString(testRequest)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.accountId").value(testResponse.getAccountId()))
-                .andExpect(jsonPath("$.balance").value(testResponse.getBalance()));
+                .andExpect(jsonPath("$.balance").value(testResponse.getBalance().toBigDecimal()));
     }
 
     @Test
@@ -62,12 +66,12 @@ class AccountControllerTest extends BaseControllerTest {
     @Test
     void getAllAccounts_ShouldReturnAccountsList() throws Exception {
         List<AccountResponse> accounts = Arrays.asList(testResponse, testResponse);
-        when(accountService.getAllAccounts()).thenReturn(accounts);
+        when(accountService.getAllAccounts(any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(accounts));
 
         mockMvc.perform(get("/accounts"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(2));
     }
 
     @Test
@@ -94,23 +98,41 @@ class AccountControllerTest extends BaseControllerTest {
 
     @Test
     void getTotalBalance_ShouldReturnBalance() throws Exception {
-        when(accountService.getTotalBalance(anyLong())).thenReturn(1000.0);
+        when(accountService.getTotalBalance(anyLong())).thenReturn(Money.of("1000.00"));
 
         mockMvc.perform(get("/accounts/user/{userId}/balance", 1L))
                 .andExpect(status().isOk())
-                .andExpect(content().string("1000.0"));
+                .andExpect(content().string("1000.00"));
+    }
+
+    @Test
+    void getAccountBalance_ShouldReturnBalance() throws Exception {
+        when(accountService.getAccountBalance(anyLong())).thenReturn(Money.of("250.50"));
+
+        mockMvc.perform(get("/accounts/{id}/balance", 1L))
+                .andExpect(status().isOk())
+                .andExpect(content().string("250.50"));
+    }
+
+    @Test
+    void getAvailableBalance_ShouldReturnBalanceNetOfHolds() throws Exception {
+        when(accountService.getAvailableBalance(anyLong())).thenReturn(Money.of("200.00"));
+
+        mockMvc.perform(get("/accounts/{id}/available-balance", 1L))
+                .andExpect(status().isOk())
+                .andExpect(content().string("200.00"));
     }
 
     @Test
     void getAccountsWithMinBalance_ShouldReturnAccountsList() throws Exception {
         List<AccountResponse> accounts = Arrays.asList(testResponse);
-        when(accountService.getAccountsWithMinBalance(any(Double.class))).thenReturn(accounts);
+        when(accountService.getAccountsWithMinBalance(any(Money.class), any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(accounts));
 
         mockMvc.perform(get("/accounts/min-balance")
                         .param("minBalance", "1000.0"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 
     @Test
@@ -134,12 +156,12 @@ class AccountControllerTest extends BaseControllerTest {
     @Test
     void getAccountsByStatus_ShouldReturnAccountsList() throws Exception {
         List<AccountResponse> accounts = Arrays.asList(testResponse);
-        when(accountService.getAccountsByStatus(any(AccountStatus.class)))
-                .thenReturn(accounts);
+        when(accountService.getAccountsByStatus(any(AccountStatus.class), any(Pageable.class), anyBoolean()))
+                .thenReturn(new SliceImpl<>(accounts));
 
         mockMvc.perform(get("/accounts/status/{status}", AccountStatus.ACTIVE))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 }
\ No newline at end of file
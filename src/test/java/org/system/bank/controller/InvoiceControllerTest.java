@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.system.bank.controller.base.BaseControllerTest;
 import org.system.bank.dto.request.InvoiceCreationRequest;
@@ -11,12 +13,14 @@ import org.system.bank.dto.response.InvoiceResponse;
 import org.system.bank.enums.InvoiceStatus;
 import org.system.bank.service.InvoiceService;
 import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -47,7 +51,7 @@ class InvoiceControllerTest extends BaseControllerTest {
                         .content(objectMapper.writeValueAsString(testRequest)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.invoiceId").value(testResponse.getInvoiceId()))
-                .andExpect(jsonPath("$.amountDue").value(testResponse.getAmountDue()));
+                .andExpect(jsonPath("$.amountDue").value(testResponse.getAmountDue().toBigDecimal()));
     }
 
     @Test
@@ -81,12 +85,12 @@ class InvoiceControllerTest extends BaseControllerTest {
     @Test
     void getAllInvoices_ShouldReturnInvoicesList() throws Exception {
         List<InvoiceResponse> invoices = Arrays.asList(testResponse, testResponse);
-        when(invoiceService.getAllInvoices()).thenReturn(invoices);
+        when(invoiceService.getAllInvoices(any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(invoices));
 
         mockMvc.perform(get("/invoices"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(2));
     }
 
     @Test
@@ -103,35 +107,35 @@ class InvoiceControllerTest extends BaseControllerTest {
     @Test
     void getInvoicesByStatus_ShouldReturnInvoicesList() throws Exception {
         List<InvoiceResponse> invoices = Arrays.asList(testResponse);
-        when(invoiceService.getInvoicesByStatus(any(InvoiceStatus.class))).thenReturn(invoices);
+        when(invoiceService.getInvoicesByStatus(any(InvoiceStatus.class), any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(invoices));
 
         mockMvc.perform(get("/invoices/status/{status}", InvoiceStatus.PENDING))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 
     @Test
     void getInvoicesByDueDate_ShouldReturnInvoicesList() throws Exception {
         List<InvoiceResponse> invoices = Arrays.asList(testResponse);
-        when(invoiceService.getInvoicesByDueDate(any(LocalDate.class))).thenReturn(invoices);
+        when(invoiceService.getInvoicesByDueDate(any(LocalDate.class), any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(invoices));
 
         mockMvc.perform(get("/invoices/due-date")
                         .param("dueDate", LocalDate.now().toString()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 
     @Test
     void getOverdueInvoices_ShouldReturnInvoicesList() throws Exception {
         List<InvoiceResponse> invoices = Arrays.asList(testResponse);
-        when(invoiceService.getOverdueInvoices()).thenReturn(invoices);
+        when(invoiceService.getOverdueInvoices(any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(invoices));
 
         mockMvc.perform(get("/invoices/overdue"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 
     @Test
@@ -146,11 +150,11 @@ class InvoiceControllerTest extends BaseControllerTest {
 
     @Test
     void calculateTotalPendingAmount_ShouldReturnAmount() throws Exception {
-        when(invoiceService.calculateTotalPendingAmount(anyLong())).thenReturn(1000.0);
+        when(invoiceService.calculateTotalPendingAmount(anyLong())).thenReturn(Money.of("1000.00"));
 
         mockMvc.perform(get("/invoices/user/{userId}/pending-amount", 1L))
                 .andExpect(status().isOk())
-                .andExpect(content().string("1000.0"));
+                .andExpect(content().string("1000.00"));
     }
 
     @Test
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.system.bank.controller.base.BaseControllerTest;
 import org.system.bank.dto.request.LoanApplicationRequest;
@@ -11,11 +13,13 @@ import org.system.bank.dto.response.LoanResponse;
 import org.system.bank.enums.LoanStatus;
 import org.system.bank.service.LoanService;
 import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
 
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -74,12 +78,12 @@ class LoanControllerTest extends BaseControllerTest {
     @Test
     void getAllLoans_ShouldReturnLoansList() throws Exception {
         List<LoanResponse> loans = Arrays.asList(testResponse, testResponse);
-        when(loanService.getAllLoans()).thenReturn(loans);
+        when(loanService.getAllLoans(any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(loans));
 
         mockMvc.perform(get("/loans"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(2));
     }
 
     @Test
@@ -96,23 +100,23 @@ class LoanControllerTest extends BaseControllerTest {
     @Test
     void getLoansByStatus_ShouldReturnLoansList() throws Exception {
         List<LoanResponse> loans = Arrays.asList(testResponse);
-        when(loanService.getLoansByStatus(any(LoanStatus.class))).thenReturn(loans);
+        when(loanService.getLoansByStatus(any(LoanStatus.class), any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(loans));
 
         mockMvc.perform(get("/loans/status/{status}", LoanStatus.PENDING))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 
     @Test
     void getOverdueLoans_ShouldReturnLoansList() throws Exception {
         List<LoanResponse> loans = Arrays.asList(testResponse);
-        when(loanService.getOverdueLoans()).thenReturn(loans);
+        when(loanService.getOverdueLoans(any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(loans));
 
         mockMvc.perform(get("/loans/overdue"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 
     @Test
@@ -137,7 +141,7 @@ class LoanControllerTest extends BaseControllerTest {
 
     @Test
     void processLoanPayment_ShouldReturnUpdatedLoan() throws Exception {
-        when(loanService.processLoanPayment(anyLong(), any(Double.class)))
+        when(loanService.processLoanPayment(anyLong(), any(Money.class)))
                 .thenReturn(testResponse);
 
         mockMvc.perform(post("/loans/{id}/payment", 1L)
@@ -148,25 +152,25 @@ class LoanControllerTest extends BaseControllerTest {
 
     @Test
     void calculateMonthlyPayment_ShouldReturnAmount() throws Exception {
-        when(loanService.calculateMonthlyPayment(anyLong())).thenReturn(500.0);
+        when(loanService.calculateMonthlyPayment(anyLong())).thenReturn(Money.of("500.00"));
 
         mockMvc.perform(get("/loans/{id}/monthly-payment", 1L))
                 .andExpect(status().isOk())
-                .andExpect(content().string("500.0"));
+                .andExpect(content().string("500.00"));
     }
 
     @Test
     void calculateTotalDebt_ShouldReturnAmount() throws Exception {
-        when(loanService.calculateTotalDebt(anyLong())).thenReturn(15000.0);
+        when(loanService.calculateTotalDebt(anyLong())).thenReturn(Money.of("15000.00"));
 
         mockMvc.perform(get("/loans/user/{userId}/total-debt", 1L))
                 .andExpect(status().isOk())
-                .andExpect(content().string("15000.0"));
+                .andExpect(content().string("15000.00"));
     }
 
     @Test
     void checkLoanEligibility_ShouldReturnEligibilityStatus() throws Exception {
-        when(loanService.isEligibleForLoan(anyLong(), any(Double.class)))
+        when(loanService.isEligibleForLoan(anyLong(), any(Money.class)))
                 .thenReturn(true);
 
         mockMvc.perform(get("/loans/user/{userId}/eligibility", 1L)
@@ -4,14 +4,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.system.bank.controller.base.BaseControllerTest;
+import org.system.bank.dto.request.TransactionFilter;
 import org.system.bank.dto.request.TransactionRequest;
 import org.system.bank.dto.response.TransactionResponse;
 import org.system.bank.enums.TransactionStatus;
 import org.system.bank.enums.TransactionType;
 import org.system.bank.service.TransactionService;
 import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -19,6 +23,9 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -48,7 +55,7 @@ class TransactionControllerTest extends BaseControllerTest {
                         .content(objectMapper.writeValueAsString(testRequest)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.transactionId").value(testResponse.getTransactionId()))
-                .andExpect(jsonPath("$.amount").value(testResponse.getAmount()));
+                .andExpect(jsonPath("$.amount").value(testResponse.getAmount().toBigDecimal()));
     }
 
     @Test
@@ -62,14 +69,33 @@ class TransactionControllerTest extends BaseControllerTest {
     }
 
     @Test
-    void getAllTransactions_ShouldReturnTransactionsList() throws Exception {
+    void getAllTransactions_ShouldReturnFilteredPage() throws Exception {
         List<TransactionResponse> transactions = Arrays.asList(testResponse, testResponse);
-        when(transactionService.getAllTransactions()).thenReturn(transactions);
-
-        mockMvc.perform(get("/transactions"))
+        TransactionFilter expectedFilter = TransactionFilter.builder()
+                .type(TransactionType.STANDARD)
+                .status(TransactionStatus.COMPLETED)
+                .minAmount(Money.of("10.00"))
+                .accountId(1L)
+                .build();
+        when(transactionService.getAllTransactions(eq(expectedFilter), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(transactions));
+
+        mockMvc.perform(get("/transactions")
+                        .param("type", "STANDARD")
+                        .param("status", "COMPLETED")
+                        .param("minAmount", "10.00")
+                        .param("accountId", "1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(2));
+    }
+
+    @Test
+    void getAllTransactions_ShouldReturnBadRequest_WhenSortFieldIsNotAllowed() throws Exception {
+        mockMvc.perform(get("/transactions").param("sortBy", "sourceAccount.user.password"))
+                .andExpect(status().isBadRequest());
+
+        verify(transactionService, never()).getAllTransactions(any(TransactionFilter.class), any(Pageable.class));
     }
 
     @Test
@@ -128,13 +154,13 @@ class TransactionControllerTest extends BaseControllerTest {
     @Test
     void calculateDailyTransactions_ShouldReturnAmount() throws Exception {
         when(transactionService.calculateDailyTransactions(anyLong(), any(LocalDateTime.class)))
-                .thenReturn(1000.0);
+                .thenReturn(Money.of("1000.00"));
 
         mockMvc.perform(get("/transactions/daily-total")
                         .param("accountId", "1")
                         .param("date", LocalDateTime.now().toString()))
                 .andExpect(status().isOk())
-                .andExpect(content().string("1000.0"));
+                .andExpect(content().string("1000.00"));
     }
 
     @Test
@@ -4,11 +4,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.system.bank.controller.base.BaseControllerTest;
 import org.system.bank.dto.request.UserRegistrationRequest;
 import org.system.bank.dto.response.UserResponse;
 import org.system.bank.enums.Role;
+import org.system.bank.paging.Paging;
 import org.system.bank.service.UserService;
 import org.system.bank.util.TestDataBuilder;
 
@@ -16,7 +19,11 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -63,12 +70,22 @@ class UserControllerTest extends BaseControllerTest {
     @Test
     void getAllUsers_ShouldReturnUsersList() throws Exception {
         List<UserResponse> users = Arrays.asList(testResponse, testResponse);
-        when(userService.getAllUsers()).thenReturn(users);
+        when(userService.getAllUsers(any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(users));
 
         mockMvc.perform(get("/users"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(2));
+    }
+
+    @Test
+    void getAllUsers_ShouldCapPageSize() throws Exception {
+        when(userService.getAllUsers(any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(List.of(testResponse)));
+
+        mockMvc.perform(get("/users").param("size", "100000"))
+                .andExpect(status().isOk());
+
+        verify(userService).getAllUsers(argThat(pageable -> pageable.getPageSize() == Paging.MAX_SIZE), eq(false));
     }
 
     @Test
@@ -92,53 +109,53 @@ class UserControllerTest extends BaseControllerTest {
     @Test
     void getUsersByRole_ShouldReturnUsersList() throws Exception {
         List<UserResponse> users = Arrays.asList(testResponse);
-        when(userService.getUsersByRole(any(Role.class))).thenReturn(users);
+        when(userService.getUsersByRole(any(Role.class), any(Pageable.class), anyBoolean())).thenReturn(new SliceImpl<>(users));
 
         mockMvc.perform(get("/users/role/{role}", Role.USER))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 
     @Test
     void getUsersByAgeRange_ShouldReturnUsersList() throws Exception {
         List<UserResponse> users = Arrays.asList(testResponse);
-        when(userService.getUsersByAgeRange(any(Integer.class), any(Integer.class)))
-                .thenReturn(users);
+        when(userService.getUsersByAgeRange(any(Integer.class), any(Integer.class), any(Pageable.class), anyBoolean()))
+                .thenReturn(new SliceImpl<>(users));
 
         mockMvc.perform(get("/users/age-range")
                         .param("minAge", "20")
                         .param("maxAge", "30"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 
     @Test
     void getUsersByIncomeRange_ShouldReturnUsersList() throws Exception {
         List<UserResponse> users = Arrays.asList(testResponse);
-        when(userService.getUsersByIncomeRange(any(Double.class), any(Double.class)))
-                .thenReturn(users);
+        when(userService.getUsersByIncomeRange(any(Double.class), any(Double.class), any(Pageable.class), anyBoolean()))
+                .thenReturn(new SliceImpl<>(users));
 
         mockMvc.perform(get("/users/income-range")
                         .param("minIncome", "3000.0")
                         .param("maxIncome", "6000.0"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 
     @Test
     void getUsersByMinCreditScore_ShouldReturnUsersList() throws Exception {
         List<UserResponse> users = Arrays.asList(testResponse);
-        when(userService.getUsersByMinCreditScore(any(Integer.class)))
-                .thenReturn(users);
+        when(userService.getUsersByMinCreditScore(any(Integer.class), any(Pageable.class), anyBoolean()))
+                .thenReturn(new SliceImpl<>(users));
 
         mockMvc.perform(get("/users/credit-score")
                         .param("minCreditScore", "700"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1));
     }
 
     @Test
@@ -2,10 +2,13 @@ package org.system.bank.controller.base;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.context.ActiveProfiles;
+import org.system.bank.config.SqlStatsTestConfig;
 
 @ActiveProfiles("test")
+@Import(SqlStatsTestConfig.class)
 public abstract class BaseControllerTest {
 
     @Autowired
@@ -0,0 +1,175 @@
+package org.system.bank.engine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.journal.JournalRecord;
+import org.system.bank.journal.TransferJournal;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.TransactionRepository;
+import org.system.bank.service.base.BaseServiceTest;
+import org.system.bank.util.TestDataBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class EngineJournalTest extends BaseServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private EngineBatchWriter batchWriter;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private EngineJournal engineJournal;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(engineJournal, "directory", directory.toString());
+        ReflectionTestUtils.setField(engineJournal, "segmentSize", 4096);
+        ReflectionTestUtils.setField(engineJournal, "drainBatchSize", 100);
+    }
+
+    @Test
+    void commit_ShouldAcknowledgeFromJournal_AndDrainLater() throws Exception {
+        // Arrange
+        engineJournal.open();
+        TransactionRequest request = TestDataBuilder.createTestTransactionRequest();
+
+        // Act
+        List<Transaction> committed = engineJournal.commit(List.of(request, request)).transactions();
+
+        // Assert
+        assertEquals(List.of(1L, 2L), committed.stream().map(Transaction::getJournalSequence).toList());
+        assertEquals(TransactionStatus.COMPLETED, committed.get(0).getStatus());
+        assertEquals(20020L, engineJournal.undrainedDebits(1L)); // 2 x 100.00 plus 0.1% fee
+        verifyNoInteractions(batchWriter);
+
+        engineJournal.drain();
+
+        verify(batchWriter).persistJournaled(anyList());
+        assertEquals(2L, engineJournal.drainedSequence());
+        assertEquals(0L, engineJournal.undrainedDebits(1L));
+        engineJournal.close();
+    }
+
+    @Test
+    void drain_ShouldDeadLetterRecordTheDatabaseRefuses_AndDrainTheRest() throws Exception {
+        // Arrange
+        engineJournal.open();
+        TransactionRequest request = TestDataBuilder.createTestTransactionRequest();
+        engineJournal.commit(List.of(request, request, request));
+        doAnswer(invocation -> {
+            List<JournalRecord> records = invocation.getArgument(0);
+            if (records.stream().anyMatch(record -> record.sequence() == 2L)) {
+                throw new DataIntegrityViolationException("violates foreign key constraint");
+            }
+            return null;
+        }).when(batchWriter).persistJournaled(anyList());
+
+        // Act
+        engineJournal.drain();
+
+        // Assert
+        verify(batchWriter, times(4)).persistJournaled(anyList());
+        assertEquals(3L, engineJournal.drainedSequence());
+        assertEquals(0L, engineJournal.undrainedDebits(1L));
+        assertEquals(1.0, meterRegistry.counter("bank.journal.dead_letters").count());
+        List<String> deadLetters = Files.readAllLines(directory.resolve(EngineJournal.DEAD_LETTER_FILE));
+        assertEquals(1, deadLetters.size());
+        assertTrue(deadLetters.get(0).startsWith("JournalRecord[sequence=2,"));
+        engineJournal.close();
+    }
+
+    @Test
+    void commit_ShouldReportPending_WhenSyncFails() {
+        // Arrange
+        TransferJournal journal = mock(TransferJournal.class);
+        ReflectionTestUtils.setField(engineJournal, "journal", journal);
+        when(journal.append(any(), anyLong(), anyLong(), anyLong(), any(), anyLong())).thenReturn(1L, 2L);
+        doThrow(new UncheckedIOException(new IOException("No space left on device"))).when(journal).sync();
+        TransactionRequest request = TestDataBuilder.createTestTransactionRequest();
+
+        // Act
+        EngineJournal.Result result = engineJournal.commit(List.of(request, request));
+
+        // Assert
+        assertNull(result.failure());
+        assertEquals(List.of(TransactionStatus.PENDING, TransactionStatus.PENDING),
+                result.transactions().stream().map(Transaction::getStatus).toList());
+        // The records may still become durable, so their debits stay counted
+        assertEquals(20020L, engineJournal.undrainedDebits(1L));
+    }
+
+    @Test
+    void commit_ShouldFailOnlyRequestsAfterFailedAppend() {
+        // Arrange
+        TransferJournal journal = mock(TransferJournal.class);
+        ReflectionTestUtils.setField(engineJournal, "journal", journal);
+        UncheckedIOException rollFailure = new UncheckedIOException("Failed to roll journal segment", new IOException());
+        when(journal.append(any(), anyLong(), anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(1L)
+                .thenThrow(rollFailure);
+        TransactionRequest request = TestDataBuilder.createTestTransactionRequest();
+
+        // Act
+        EngineJournal.Result result = engineJournal.commit(List.of(request, request));
+
+        // Assert
+        assertSame(rollFailure, result.failure());
+        assertEquals(1, result.transactions().size());
+        assertEquals(TransactionStatus.COMPLETED, result.transactions().get(0).getStatus());
+        assertEquals(10010L, engineJournal.undrainedDebits(1L));
+        verify(journal).sync();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void open_ShouldReplayOnlyTransfersMissingFromDatabase() throws Exception {
+        // Arrange
+        engineJournal.open();
+        TransactionRequest request = TestDataBuilder.createTestTransactionRequest();
+        request.setAmount(Money.of("10.00"));
+        engineJournal.commit(List.of(request, request, request));
+        engineJournal.close();
+        // The drainer had written sequence 1 before the restart
+        when(transactionRepository.findMaxJournalSequence()).thenReturn(1L);
+
+        // Act
+        engineJournal.open();
+
+        // Assert
+        assertEquals(2002L, engineJournal.undrainedDebits(1L));
+        engineJournal.drain();
+        ArgumentCaptor<List<JournalRecord>> drained = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter).persistJournaled(drained.capture());
+        assertEquals(List.of(2L, 3L), drained.getValue().stream().map(JournalRecord::sequence).toList());
+        engineJournal.close();
+    }
+}
@@ -0,0 +1,172 @@
+package org.system.bank.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.exception.InsufficientFundsException;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountHoldRepository;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.service.base.BaseServiceTest;
+import org.system.bank.util.TestDataBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class EnginePartitionTest extends BaseServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountHoldRepository accountHoldRepository;
+
+    @Mock
+    private EngineBatchWriter batchWriter;
+
+    @Mock
+    private TransferEngine engine;
+
+    private EnginePartition partition;
+    private Account sourceAccount;
+    private Account destinationAccount;
+
+    @BeforeEach
+    void setUp() {
+        partition = new EnginePartition(0, new ArrayBlockingQueue<>(10), accountRepository, accountHoldRepository, batchWriter, null, 100, 5000, engine);
+
+        sourceAccount = TestDataBuilder.createTestAccount();
+        sourceAccount.setBalance(Money.of("1000.00"));
+
+        destinationAccount = TestDataBuilder.createTestAccount();
+        destinationAccount.setAccountId(2L);
+        destinationAccount.setBalance(Money.of("500.00"));
+
+        lenient().when(accountRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(sourceAccount, destinationAccount));
+        lenient().when(batchWriter.persist(anyList(), any()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                        .map(request -> new Transaction())
+                        .toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void process_ShouldCommitWholeBatchWithOneDeltaPerAccount() {
+        // Arrange
+        EnginePartition.PendingTransfer first = pending("100.00");
+        EnginePartition.PendingTransfer second = pending("200.00");
+
+        // Act
+        partition.process(List.of(first, second));
+
+        // Assert
+        ArgumentCaptor<SortedMap<Long, Long>> deltas = ArgumentCaptor.forClass(SortedMap.class);
+        verify(batchWriter, times(1)).persist(anyList(), deltas.capture());
+        assertEquals(-30030L, deltas.getValue().get(1L)); // 300.00 plus 0.1% fee
+        assertEquals(30000L, deltas.getValue().get(2L));
+        assertTrue(first.result().isDone() && !first.result().isCompletedExceptionally());
+        assertTrue(second.result().isDone() && !second.result().isCompletedExceptionally());
+    }
+
+    @Test
+    void process_ShouldRejectOnlyTheTransferThatOverdraws() {
+        // Arrange
+        sourceAccount.setBalance(Money.of("150.00"));
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(sourceAccount));
+        EnginePartition.PendingTransfer first = pending("100.00");
+        EnginePartition.PendingTransfer second = pending("100.00");
+
+        // Act
+        partition.process(List.of(first, second));
+
+        // Assert
+        assertFalse(first.result().isCompletedExceptionally());
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> second.result().get());
+        assertInstanceOf(InsufficientFundsException.class, exception.getCause());
+        verify(batchWriter, times(1)).persist(anyList(), any());
+    }
+
+    @Test
+    void process_ShouldRejectTransfer_WhenHoldsReserveTheBalance() {
+        // Arrange
+        when(accountHoldRepository.sumActiveByAccountIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, new BigDecimal("950.00")}));
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(sourceAccount));
+        EnginePartition.PendingTransfer pending = pending("100.00");
+
+        // Act
+        partition.process(List.of(pending));
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> pending.result().get());
+        assertInstanceOf(InsufficientFundsException.class, exception.getCause());
+        verifyNoInteractions(batchWriter);
+    }
+
+    @Test
+    void process_ShouldRetryOneByOne_WhenBatchCommitFails() {
+        // Arrange
+        when(batchWriter.persist(anyList(), any()))
+                .thenThrow(new IllegalStateException("Balance of account 1 changed outside the transfer engine"))
+                .thenReturn(List.of(new Transaction()))
+                .thenReturn(List.of(new Transaction()));
+        EnginePartition.PendingTransfer first = pending("100.00");
+        EnginePartition.PendingTransfer second = pending("200.00");
+
+        // Act
+        partition.process(List.of(first, second));
+
+        // Assert
+        assertFalse(first.result().isCompletedExceptionally());
+        assertFalse(second.result().isCompletedExceptionally());
+        verify(batchWriter, times(3)).persist(anyList(), any());
+        // The failed batch evicted the cached balances, so the first retry reloads them
+        verify(accountRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    void process_ShouldFailOnlyTransfersTheJournalDidNotTake() {
+        // Arrange
+        EngineJournal journal = mock(EngineJournal.class);
+        partition = new EnginePartition(0, new ArrayBlockingQueue<>(10), accountRepository, accountHoldRepository, batchWriter, journal, 100, 5000, engine);
+        Transaction journaled = Transaction.builder().status(TransactionStatus.PENDING).journalSequence(1L).build();
+        IllegalStateException appendFailure = new IllegalStateException("Failed to roll journal segment");
+        when(journal.commit(anyList())).thenReturn(new EngineJournal.Result(List.of(journaled), appendFailure));
+        EnginePartition.PendingTransfer first = pending("100.00");
+        EnginePartition.PendingTransfer second = pending("200.00");
+
+        // Act
+        partition.process(List.of(first, second));
+
+        // Assert
+        assertSame(journaled, first.result().join());
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> second.result().get());
+        assertSame(appendFailure, exception.getCause());
+        verify(journal, times(1)).commit(anyList());
+        verifyNoInteractions(batchWriter);
+    }
+
+    private EnginePartition.PendingTransfer pending(String amount) {
+        TransactionRequest request = TestDataBuilder.createTestTransactionRequest();
+        request.setAmount(Money.of(amount));
+        return new EnginePartition.PendingTransfer(request, new CompletableFuture<>());
+    }
+}
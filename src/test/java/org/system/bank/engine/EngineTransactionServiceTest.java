@@ -0,0 +1,116 @@
+package org.system.bank.engine;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.dto.response.TransactionResponse;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.FraudRule;
+import org.system.bank.exception.FraudScreeningException;
+import org.system.bank.exception.InsufficientFundsException;
+import org.system.bank.exception.SpendingLimitExceededException;
+import org.system.bank.fraud.ScreeningAction;
+import org.system.bank.fraud.ScreeningResult;
+import org.system.bank.limits.SpendingLimitService;
+import org.system.bank.mapper.TransactionMapper;
+import org.system.bank.service.base.BaseServiceTest;
+import org.system.bank.service.impl.TransactionServiceImpl;
+import org.system.bank.util.TestDataBuilder;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EngineTransactionServiceTest extends BaseServiceTest {
+
+    @Mock
+    private TransferEngine transferEngine;
+
+    @Mock
+    private TransactionServiceImpl delegate;
+
+    @Mock
+    private TransactionMapper transactionMapper;
+
+    @Mock
+    private SpendingLimitService spendingLimitService;
+
+    @InjectMocks
+    private EngineTransactionService engineTransactionService;
+
+    private final TransactionRequest request = TestDataBuilder.createTestTransactionRequest();
+
+    @Test
+    void createTransaction_ShouldNotQueue_WhenValidationFails() {
+        // Arrange
+        when(delegate.screenTransaction(request))
+                .thenThrow(new SpendingLimitExceededException("Transfer exceeds the daily limit for STANDARD transfers"));
+
+        // Act & Assert
+        assertThrows(SpendingLimitExceededException.class, () -> engineTransactionService.createTransaction(request));
+        verifyNoInteractions(transferEngine);
+    }
+
+    @Test
+    void createTransaction_ShouldNotQueue_WhenScreeningRejectsIt() {
+        // Arrange
+        when(delegate.screenTransaction(request))
+                .thenThrow(new FraudScreeningException("Transaction declined by fraud screening"));
+
+        // Act & Assert
+        assertThrows(FraudScreeningException.class, () -> engineTransactionService.createTransaction(request));
+        verifyNoInteractions(transferEngine);
+    }
+
+    @Test
+    void createTransaction_ShouldWriteHeldTransferThroughJpaPath_WhenScreeningHoldsIt() {
+        // Arrange
+        ScreeningResult held = new ScreeningResult(ScreeningAction.HOLD, FraudRule.BURST);
+        TransactionResponse response = new TransactionResponse();
+        when(delegate.screenTransaction(request)).thenReturn(held);
+        when(delegate.createScreenedTransaction(request, held)).thenReturn(response);
+
+        // Act
+        TransactionResponse created = engineTransactionService.createTransaction(request);
+
+        // Assert
+        assertSame(response, created);
+        verifyNoInteractions(transferEngine, spendingLimitService);
+    }
+
+    @Test
+    void createTransaction_ShouldKeepReservation_WhenEngineCommits() {
+        // Arrange
+        Transaction transaction = new Transaction();
+        TransactionResponse response = new TransactionResponse();
+        CompletableFuture<Transaction> result = CompletableFuture.completedFuture(transaction);
+        when(delegate.screenTransaction(request)).thenReturn(ScreeningResult.ALLOWED);
+        when(transferEngine.submit(request)).thenReturn(result);
+        when(transferEngine.await(result)).thenReturn(transaction);
+        when(transactionMapper.toResponse(transaction)).thenReturn(response);
+
+        // Act
+        TransactionResponse created = engineTransactionService.createTransaction(request);
+
+        // Assert
+        assertSame(response, created);
+        verifyNoInteractions(spendingLimitService);
+    }
+
+    @Test
+    void createTransaction_ShouldReleaseReservation_WhenEngineFails() {
+        // Arrange
+        InsufficientFundsException failure = new InsufficientFundsException("Insufficient funds for transaction");
+        CompletableFuture<Transaction> result = CompletableFuture.failedFuture(failure);
+        when(delegate.screenTransaction(request)).thenReturn(ScreeningResult.ALLOWED);
+        when(transferEngine.submit(request)).thenReturn(result);
+        when(transferEngine.await(result)).thenThrow(failure);
+
+        // Act & Assert
+        assertThrows(InsufficientFundsException.class, () -> engineTransactionService.createTransaction(request));
+        verify(spendingLimitService).release(eq(request), any(LocalDate.class));
+    }
+}
@@ -0,0 +1,138 @@
+package org.system.bank.engine;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.User;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.enums.Role;
+import org.system.bank.enums.TransactionType;
+import org.system.bank.money.Money;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.UserRepository;
+import org.system.bank.service.TransactionService;
+import org.system.bank.service.impl.TransactionServiceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Many payers sending INSTANT transfers to one hot merchant account, once through the JPA path
+ * and once through the transfer engine. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "bank.engine.enabled=true",
+        "bank.fraud.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+class TransferEngineBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferEngineBenchmarkTest.class);
+
+    private static final int PAYERS = 16;
+    private static final int TRANSFERS_PER_PAYER = 250;
+    private static final Money AMOUNT = Money.of("1.00");
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionServiceImpl jpaTransactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void engine_ShouldOutperformJpaPath_OnHotDestinationAccount() throws Exception {
+        User user = userRepository.save(User.builder()
+                .name("Benchmark User")
+                .email("benchmark@example.com")
+                .password("hashedPassword123")
+                .age(30)
+                .monthlyIncome(5000.0)
+                .creditScore(750)
+                .role(Role.USER)
+                .build());
+
+        Result jpa = run(user, request -> jpaTransactionService.createTransaction(request));
+        Result engine = run(user, request -> transactionService.createTransaction(request));
+
+        log.info(String.format("JPA path: %8.0f transfers/s (%d failed)", jpa.throughput, jpa.failed));
+        log.info(String.format("Engine:   %8.0f transfers/s (%d failed)", engine.throughput, engine.failed));
+
+        // Every accepted engine transfer is reflected exactly once in the merchant balance
+        Account merchant = accountRepository.findById(engine.merchantId).orElseThrow();
+        long accepted = (long) PAYERS * TRANSFERS_PER_PAYER - engine.failed;
+        assertEquals(AMOUNT.times(accepted), merchant.getBalance());
+    }
+
+    private Result run(User user, Consumer<TransactionRequest> transfer) throws Exception {
+        Account merchant = accountRepository.save(account(user, Money.ZERO));
+        List<Long> payers = new ArrayList<>();
+        for (int i = 0; i < PAYERS; i++) {
+            payers.add(accountRepository.save(account(user, Money.ofMajor(10_000))).getAccountId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(PAYERS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            long start = System.nanoTime();
+            for (Long payerId : payers) {
+                results.add(executor.submit(() -> {
+                    int failed = 0;
+                    for (int i = 0; i < TRANSFERS_PER_PAYER; i++) {
+                        try {
+                            transfer.accept(TransactionRequest.builder()
+                                    .sourceAccountId(payerId)
+                                    .destinationAccountId(merchant.getAccountId())
+                                    .amount(AMOUNT)
+                                    .type(TransactionType.INSTANT)
+                                    .build());
+                        } catch (RuntimeException e) {
+                            failed++;
+                        }
+                    }
+                    return failed;
+                }));
+            }
+            int failed = 0;
+            for (Future<Integer> result : results) {
+                failed += result.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return new Result(merchant.getAccountId(), PAYERS * TRANSFERS_PER_PAYER / seconds, failed);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Account account(User user, Money balance) {
+        return Account.builder()
+                .balance(balance)
+                .status(AccountStatus.ACTIVE)
+                .user(user)
+                .build();
+    }
+
+    private record Result(Long merchantId, double throughput, int failed) {
+    }
+}
@@ -0,0 +1,82 @@
+package org.system.bank.fraud;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.system.bank.enums.FraudRule;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VelocityScreenerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private VelocityScreener screener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        screener = new VelocityScreener(meterRegistry);
+        ReflectionTestUtils.setField(screener, "enabled", true);
+        ReflectionTestUtils.setField(screener, "stripeCount", 4);
+        ReflectionTestUtils.setField(screener, "burstMaxTransfers", 3);
+        ReflectionTestUtils.setField(screener, "burstWindowMs", 10_000L);
+        ReflectionTestUtils.setField(screener, "burstAction", ScreeningAction.HOLD);
+        ReflectionTestUtils.setField(screener, "fanOutMaxDestinations", 5);
+        ReflectionTestUtils.setField(screener, "fanOutWindowMs", 60_000L);
+        ReflectionTestUtils.setField(screener, "fanOutAction", ScreeningAction.REJECT);
+        screener.init();
+    }
+
+    @Test
+    void screen_ShouldHold_WhenTooManyTransfersWithinWindow() {
+        // Arrange
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(ScreeningResult.ALLOWED, screener.screen(1L, 2L, now + i * SECOND));
+        }
+
+        // Act
+        ScreeningResult result = screener.screen(1L, 2L, now + 3 * SECOND);
+
+        // Assert
+        assertEquals(new ScreeningResult(ScreeningAction.HOLD, FraudRule.BURST), result);
+        assertEquals(1.0, meterRegistry.get("bank.fraud.rule.hits").tag("rule", "BURST").counter().count());
+        assertEquals(4, meterRegistry.get("bank.fraud.screening").timer().count());
+    }
+
+    @Test
+    void screen_ShouldAllow_WhenTransfersAreSpreadBeyondWindow() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 10; i++) {
+            assertEquals(ScreeningResult.ALLOWED, screener.screen(1L, 2L, now + i * 4 * SECOND));
+        }
+    }
+
+    @Test
+    void screen_ShouldApplyStrongestAction_WhenFanningOutToManyDestinations() {
+        // Arrange
+        long now = 1_000 * SECOND;
+        ScreeningResult result = ScreeningResult.ALLOWED;
+
+        // Act
+        for (long destination = 100; destination < 110 && result.action() == ScreeningAction.ALLOW; destination++) {
+            result = screener.screen(1L, destination, now + (destination - 100) * 5 * SECOND);
+        }
+
+        // Assert
+        assertEquals(new ScreeningResult(ScreeningAction.REJECT, FraudRule.FAN_OUT), result);
+    }
+
+    @Test
+    void screen_ShouldKeepAccountsApart() {
+        long now = 1_000 * SECOND;
+        for (long account = 1; account <= 20; account++) {
+            assertEquals(ScreeningResult.ALLOWED, screener.screen(account, 500L + account, now));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.system.bank.hold;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountHold;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.HoldStatus;
+import org.system.bank.exception.InsufficientFundsException;
+import org.system.bank.mapper.TransactionMapper;
+import org.system.bank.repository.jpa.AccountHoldRepository;
+import org.system.bank.service.base.BaseServiceTest;
+import org.system.bank.stripe.BalanceStripeService;
+import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class HoldServiceTest extends BaseServiceTest {
+
+    @Mock
+    private AccountHoldRepository accountHoldRepository;
+
+    @Mock
+    private TransactionMapper transactionMapper;
+
+    @Mock
+    private BalanceStripeService stripeService;
+
+    @InjectMocks
+    private HoldService holdService;
+
+    private Account sourceAccount;
+    private Transaction transaction;
+
+    @BeforeEach
+    void setUp() {
+        sourceAccount = TestDataBuilder.createTestAccount();
+        sourceAccount.setBalance(Money.of("1000.00"));
+
+        transaction = TestDataBuilder.createTestTransaction();
+        transaction.setTransactionId(7L);
+        transaction.setAmount(Money.of("500.00"));
+        transaction.setSourceAccount(sourceAccount);
+
+        lenient().when(transactionMapper.calculateFee(any(Transaction.class))).thenReturn(Money.of("0.50"));
+        lenient().when(stripeService.totalBalance(any(Account.class)))
+                .thenAnswer(invocation -> ((Account) invocation.getArgument(0)).getBalance());
+    }
+
+    @Test
+    void placeHold_ShouldReserveAmountAndFee() {
+        // Arrange
+        when(accountHoldRepository.sumActiveByAccountId(sourceAccount.getAccountId()))
+                .thenReturn(new BigDecimal("400.00"));
+        when(accountHoldRepository.save(any(AccountHold.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        AccountHold hold = holdService.placeHold(transaction);
+
+        // Assert
+        assertEquals(Money.of("500.50"), hold.getAmount());
+        assertEquals(HoldStatus.ACTIVE, hold.getStatus());
+        assertEquals(7L, hold.getTransactionId());
+        assertFalse(hold.getExpiresAt().isBefore(hold.getCreatedAt()));
+    }
+
+    @Test
+    void placeHold_ShouldThrow_WhenOtherHoldsLeaveTooLittleAvailable() {
+        // Arrange
+        when(accountHoldRepository.sumActiveByAccountId(sourceAccount.getAccountId()))
+                .thenReturn(new BigDecimal("600.00"));
+
+        // Act & Assert
+        assertThrows(InsufficientFundsException.class, () -> holdService.placeHold(transaction));
+        verify(accountHoldRepository, never()).save(any(AccountHold.class));
+    }
+
+    @Test
+    void captureForSettlement_ShouldCountOwnHoldAsAvailable() {
+        // Arrange
+        AccountHold ownHold = AccountHold.builder()
+                .transactionId(7L)
+                .amount(Money.of("500.50"))
+                .status(HoldStatus.ACTIVE)
+                .build();
+        when(accountHoldRepository.findByTransactionIdAndStatus(7L, HoldStatus.ACTIVE))
+                .thenReturn(Optional.of(ownHold));
+        when(accountHoldRepository.sumActiveByAccountId(sourceAccount.getAccountId()))
+                .thenReturn(new BigDecimal("900.50"));
+
+        // Act
+        holdService.captureForSettlement(transaction, sourceAccount, Money.of("500.50"));
+
+        // Assert
+        assertEquals(HoldStatus.CAPTURED, ownHold.getStatus());
+        assertNotNull(ownHold.getResolvedAt());
+    }
+}
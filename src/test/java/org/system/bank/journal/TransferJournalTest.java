@@ -0,0 +1,175 @@
+package org.system.bank.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.enums.TransactionType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransferJournalTest {
+
+    private static final int SEGMENT_SIZE = TransferJournal.HEADER_SIZE + 4 * TransferJournal.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_ShouldReturnOnlySyncedRecords() throws IOException {
+        try (TransferJournal journal = new TransferJournal(directory, SEGMENT_SIZE, 1)) {
+            // Arrange
+            append(journal, 1);
+            journal.sync();
+            append(journal, 2);
+
+            // Act
+            List<JournalRecord> records = journal.read(0, 100);
+
+            // Assert
+            assertEquals(1, records.size());
+            assertEquals(expected(1), records.get(0));
+        }
+    }
+
+    @Test
+    void reopen_ShouldReplayRecordsAcrossRolledSegments() throws IOException {
+        // Arrange
+        try (TransferJournal journal = new TransferJournal(directory, SEGMENT_SIZE, 1)) {
+            for (int i = 1; i <= 10; i++) {
+                append(journal, i);
+            }
+            journal.sync();
+        }
+
+        // Act
+        try (TransferJournal journal = new TransferJournal(directory, SEGMENT_SIZE, 1)) {
+            List<JournalRecord> records = journal.read(0, 100);
+
+            // Assert
+            assertEquals(3, segmentFiles().size());
+            assertEquals(10, records.size());
+            for (int i = 0; i < records.size(); i++) {
+                assertEquals(expected(i + 1), records.get(i));
+            }
+            assertEquals(11, append(journal, 11));
+        }
+    }
+
+    @Test
+    void reopen_ShouldDropTornRecord_WhenLastSegmentIsTruncatedMidRecord() throws IOException {
+        // Arrange
+        try (TransferJournal journal = new TransferJournal(directory, SEGMENT_SIZE, 1)) {
+            for (int i = 1; i <= 7; i++) {
+                append(journal, i);
+            }
+            journal.sync();
+        }
+        Path lastSegment = segmentFiles().get(1);
+        try (FileChannel channel = FileChannel.open(lastSegment, StandardOpenOption.WRITE)) {
+            // Segment two holds sequences 5-7; cut record 7 in half
+            channel.truncate(TransferJournal.HEADER_SIZE + 2 * TransferJournal.RECORD_SIZE + TransferJournal.RECORD_SIZE / 2);
+        }
+
+        // Act
+        try (TransferJournal journal = new TransferJournal(directory, SEGMENT_SIZE, 1)) {
+            List<JournalRecord> records = journal.read(0, 100);
+
+            // Assert
+            assertEquals(6, records.size());
+            for (int i = 0; i < records.size(); i++) {
+                assertEquals(expected(i + 1), records.get(i));
+            }
+            assertEquals(6, journal.durableSequence());
+
+            // The torn slot is reused by the next append
+            assertEquals(7, append(journal, 7));
+            journal.sync();
+        }
+        try (TransferJournal journal = new TransferJournal(directory, SEGMENT_SIZE, 1)) {
+            assertEquals(expected(7), journal.read(6, 100).get(0));
+        }
+    }
+
+    @Test
+    void reopen_ShouldFail_WhenRecordWithBadChecksumIsFollowedByValidRecords() throws IOException {
+        // Arrange
+        try (TransferJournal journal = new TransferJournal(directory, SEGMENT_SIZE, 1)) {
+            for (int i = 1; i <= 3; i++) {
+                append(journal, i);
+            }
+            journal.sync();
+        }
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            // Flip the amount of record 2 without touching its checksum
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}),
+                    TransferJournal.HEADER_SIZE + TransferJournal.RECORD_SIZE + 16);
+        }
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new TransferJournal(directory, SEGMENT_SIZE, 1));
+    }
+
+    @Test
+    void reopen_ShouldDropLastRecord_WhenItsChecksumIsBad() throws IOException {
+        // Arrange
+        try (TransferJournal journal = new TransferJournal(directory, SEGMENT_SIZE, 1)) {
+            for (int i = 1; i <= 3; i++) {
+                append(journal, i);
+            }
+            journal.sync();
+        }
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}),
+                    TransferJournal.HEADER_SIZE + 2 * TransferJournal.RECORD_SIZE + 16);
+        }
+
+        // Act
+        try (TransferJournal journal = new TransferJournal(directory, SEGMENT_SIZE, 1)) {
+            // Assert
+            assertEquals(List.of(expected(1), expected(2)), journal.read(0, 100));
+            assertEquals(3L, append(journal, 3));
+        }
+    }
+
+    @Test
+    void release_ShouldDeleteFullyDrainedSegments() throws IOException {
+        try (TransferJournal journal = new TransferJournal(directory, SEGMENT_SIZE, 1)) {
+            // Arrange
+            for (int i = 1; i <= 9; i++) {
+                append(journal, i);
+            }
+            journal.sync();
+
+            // Act
+            journal.release(6);
+
+            // Assert
+            assertEquals(2, segmentFiles().size());
+            assertEquals(5, journal.firstSequence());
+            assertEquals(expected(7), journal.read(6, 1).get(0));
+        }
+    }
+
+    private static long append(TransferJournal journal, int i) {
+        return journal.append(TransactionType.INSTANT, i * 100L, i, i + 1000L, TransactionStatus.COMPLETED, 1_700_000_000_000L + i);
+    }
+
+    private static JournalRecord expected(int i) {
+        return new JournalRecord(i, TransactionType.INSTANT, i * 100L, i, i + 1000L, TransactionStatus.COMPLETED, 1_700_000_000_000L + i);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.system.bank.ledger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.LedgerEntry;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.LedgerEntryType;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.LedgerEntryRepository;
+import org.system.bank.service.base.BaseServiceTest;
+import org.system.bank.stripe.BalanceStripeService;
+import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class LedgerServiceTest extends BaseServiceTest {
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private BalanceStripeService stripeService;
+
+    @InjectMocks
+    private LedgerService ledgerService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void postTransfer_ShouldWriteBalancedDebitCreditAndFeeEntries() {
+        // Arrange
+        Transaction transaction = TestDataBuilder.createTestTransaction();
+        transaction.getDestinationAccount().setAccountId(2L);
+        ArgumentCaptor<List<LedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        ledgerService.postTransfer(transaction, Money.of("0.10"));
+
+        // Assert
+        verify(ledgerEntryRepository).saveAll(captor.capture());
+        List<LedgerEntry> entries = captor.getValue();
+        assertEquals(4, entries.size());
+        assertEquals(Money.ZERO, entries.stream().map(LedgerEntry::getAmount).reduce(Money.ZERO, Money::plus));
+        assertTrue(entries.stream().anyMatch(entry -> entry.getEntryType() == LedgerEntryType.FEE_CREDIT
+                && entry.getAccountId() == null));
+        assertEquals(Money.of("-100.10"), entries.stream()
+                .filter(entry -> Long.valueOf(1L).equals(entry.getAccountId()))
+                .map(LedgerEntry::getAmount)
+                .reduce(Money.ZERO, Money::plus));
+    }
+
+    @Test
+    void postOpeningBalance_ShouldPostNothing_WhenAccountOpensEmpty() {
+        // Arrange
+        Account account = TestDataBuilder.createTestAccount();
+        account.setBalance(Money.ZERO);
+
+        // Act
+        ledgerService.postOpeningBalance(account);
+
+        // Assert
+        verifyNoInteractions(ledgerEntryRepository);
+    }
+
+    @Test
+    void rebuildBalance_ShouldReplaceCachedBalanceWithLedgerTotal() {
+        // Arrange
+        Account account = TestDataBuilder.createTestAccount();
+        account.setBalance(Money.of("999.00"));
+        when(accountRepository.findAllByIdForUpdate(anyCollection())).thenReturn(List.of(account));
+        when(ledgerEntryRepository.sumByAccountId(1L)).thenReturn(new BigDecimal("1000.00"));
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Account rebuilt = ledgerService.rebuildBalance(1L);
+
+        // Assert
+        assertEquals(Money.of("1000.00"), rebuilt.getBalance());
+    }
+}
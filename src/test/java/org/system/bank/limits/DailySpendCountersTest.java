@@ -0,0 +1,72 @@
+package org.system.bank.limits;
+
+import org.junit.jupiter.api.Test;
+import org.system.bank.enums.TransactionType;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.system.bank.limits.DailySpendCounters.Outcome.*;
+
+class DailySpendCountersTest {
+
+    private static final LocalDate STARTUP = LocalDate.of(2024, 3, 1);
+
+    @Test
+    void tryReserve_ShouldReportUnknown_UntilAccountIsSeededOrCountersWarmed() {
+        // Arrange
+        DailySpendCounters counters = new DailySpendCounters(8, STARTUP);
+
+        // Act & Assert
+        assertEquals(UNKNOWN, counters.tryReserve(1L, TransactionType.STANDARD, 100, 1_000, STARTUP));
+
+        counters.seed(1L, new long[]{900, 0}, STARTUP);
+        assertEquals(RESERVED, counters.tryReserve(1L, TransactionType.STANDARD, 100, 1_000, STARTUP));
+        assertEquals(EXCEEDED, counters.tryReserve(1L, TransactionType.STANDARD, 1, 1_000, STARTUP));
+
+        counters.warm(Map.of(), STARTUP);
+        assertEquals(RESERVED, counters.tryReserve(2L, TransactionType.STANDARD, 1_000, 1_000, STARTUP));
+    }
+
+    @Test
+    void tryReserve_ShouldCountEachTypeSeparately() {
+        // Arrange
+        DailySpendCounters counters = new DailySpendCounters(8, STARTUP);
+        counters.warm(Map.of(1L, new long[]{0, 500}), STARTUP);
+
+        // Act & Assert
+        assertEquals(EXCEEDED, counters.tryReserve(1L, TransactionType.INSTANT, 501, 1_000, STARTUP));
+        assertEquals(RESERVED, counters.tryReserve(1L, TransactionType.INSTANT, 500, 1_000, STARTUP));
+        assertEquals(RESERVED, counters.tryReserve(1L, TransactionType.STANDARD, 1_000, 1_000, STARTUP));
+    }
+
+    @Test
+    void tryReserve_ShouldStartFromZero_OnNextDay() {
+        // Arrange
+        DailySpendCounters counters = new DailySpendCounters(8, STARTUP);
+        counters.seed(1L, new long[]{1_000, 0}, STARTUP);
+        assertEquals(EXCEEDED, counters.tryReserve(1L, TransactionType.STANDARD, 1, 1_000, STARTUP));
+
+        // Act & Assert
+        // The process saw all of the next day, so no database read is needed
+        assertEquals(RESERVED, counters.tryReserve(1L, TransactionType.STANDARD, 1_000, 1_000, STARTUP.plusDays(1)));
+        // A late transfer from the previous day can no longer be counted
+        assertEquals(UNKNOWN, counters.tryReserve(1L, TransactionType.STANDARD, 1, 1_000, STARTUP));
+    }
+
+    @Test
+    void release_ShouldFreeReservedAmount() {
+        // Arrange
+        DailySpendCounters counters = new DailySpendCounters(8, STARTUP);
+        counters.warm(Map.of(), STARTUP);
+        counters.tryReserve(1L, TransactionType.STANDARD, 1_000, 1_000, STARTUP);
+
+        // Act
+        counters.release(1L, TransactionType.STANDARD, 400, STARTUP);
+
+        // Assert
+        assertEquals(RESERVED, counters.tryReserve(1L, TransactionType.STANDARD, 400, 1_000, STARTUP));
+        assertEquals(EXCEEDED, counters.tryReserve(1L, TransactionType.STANDARD, 1, 1_000, STARTUP));
+    }
+}
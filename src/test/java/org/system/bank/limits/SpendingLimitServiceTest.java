@@ -0,0 +1,106 @@
+package org.system.bank.limits;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.enums.TransactionType;
+import org.system.bank.exception.SpendingLimitExceededException;
+import org.system.bank.repository.jpa.SpendingLimitRepository;
+import org.system.bank.repository.jpa.TransactionRepository;
+import org.system.bank.service.base.BaseServiceTest;
+import org.system.bank.money.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SpendingLimitServiceTest extends BaseServiceTest {
+
+    @Mock
+    private SpendingLimitRepository spendingLimitRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @InjectMocks
+    private SpendingLimitService spendingLimitService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(spendingLimitService, "stripeCount", 4);
+        ReflectionTestUtils.setField(spendingLimitService, "standardDaily", "1000.00");
+        ReflectionTestUtils.setField(spendingLimitService, "standardPerTransfer", "600.00");
+        ReflectionTestUtils.setField(spendingLimitService, "instantDaily", "500.00");
+        ReflectionTestUtils.setField(spendingLimitService, "instantPerTransfer", "500.00");
+        spendingLimitService.init();
+    }
+
+    @Test
+    void checkAndReserve_ShouldRejectTransferAbovePerTransferLimit() {
+        assertThrows(SpendingLimitExceededException.class,
+                () -> spendingLimitService.checkAndReserve(request(TransactionType.STANDARD, "600.01")));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void checkAndReserve_ShouldSeedFromDatabaseOnce_BeforeCountersAreWarmed() {
+        // Arrange
+        when(transactionRepository.sumDebitsByType(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{"STANDARD", new BigDecimal("700.00")}));
+
+        // Act
+        spendingLimitService.checkAndReserve(request(TransactionType.STANDARD, "200.00"));
+
+        // Assert
+        assertThrows(SpendingLimitExceededException.class,
+                () -> spendingLimitService.checkAndReserve(request(TransactionType.STANDARD, "100.01")));
+        verify(transactionRepository, times(1)).sumDebitsByType(eq(1L), any(), any());
+    }
+
+    @Test
+    void checkAndReserve_ShouldUseInMemoryCounters_AfterWarmUp() {
+        // Arrange
+        when(transactionRepository.streamDebitsByAccountAndType(any(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "INSTANT", new BigDecimal("450.00")}).stream());
+        spendingLimitService.warm();
+
+        // Act & Assert
+        assertThrows(SpendingLimitExceededException.class,
+                () -> spendingLimitService.checkAndReserve(request(TransactionType.INSTANT, "50.01")));
+        spendingLimitService.checkAndReserve(request(TransactionType.STANDARD, "600.00"));
+        verify(transactionRepository, never()).sumDebitsByType(any(), any(), any());
+    }
+
+    @Test
+    void release_ShouldHandBackTheReservation() {
+        // Arrange
+        spendingLimitService.warm();
+        TransactionRequest reserved = request(TransactionType.INSTANT, "500.00");
+        spendingLimitService.checkAndReserve(reserved);
+
+        // Act
+        spendingLimitService.release(reserved, LocalDate.now());
+
+        // Assert
+        spendingLimitService.checkAndReserve(request(TransactionType.INSTANT, "500.00"));
+        verify(transactionRepository, never()).sumDebitsByType(any(), any(), any());
+    }
+
+    private static TransactionRequest request(TransactionType type, String amount) {
+        return TransactionRequest.builder()
+                .sourceAccountId(1L)
+                .destinationAccountId(2L)
+                .type(type)
+                .amount(Money.of(amount))
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package org.system.bank.money;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the settlement hot path (fee, debit, credit) on Money against the same arithmetic
+ * on BigDecimal. Run with {@code ./gradlew benchmark}; excluded from the regular test task.
+ */
+@Tag("benchmark")
+class MoneyBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MoneyBenchmarkTest.class);
+
+    private static final int OPERATIONS = 2_000_000;
+    private static final int ROUNDS = 5;
+    private static final BigDecimal FEE_RATE = new BigDecimal("0.0010");
+
+    @Test
+    void moneyArithmetic_ShouldAllocateLessThanBigDecimal() {
+        Money[] amounts = new Money[1024];
+        BigDecimal[] decimals = new BigDecimal[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = Money.ofMinor(100 + i * 37L);
+            decimals[i] = amounts[i].toBigDecimal();
+        }
+
+        // Warm up both paths so the JIT has compiled them before measuring
+        for (int i = 0; i < ROUNDS; i++) {
+            settleWithMoney(amounts);
+            settleWithBigDecimal(decimals);
+        }
+
+        Result money = measure(() -> settleWithMoney(amounts).getMinorUnits());
+        Result bigDecimal = measure(() -> settleWithBigDecimal(decimals).unscaledValue().longValue());
+
+        log.info(String.format("Money:      %6.1f ns/op, %6.1f bytes/op", money.nanosPerOp, money.bytesPerOp));
+        log.info(String.format("BigDecimal: %6.1f ns/op, %6.1f bytes/op", bigDecimal.nanosPerOp, bigDecimal.bytesPerOp));
+
+        assertEquals(money.checksum, bigDecimal.checksum);
+        assertTrue(money.bytesPerOp < bigDecimal.bytesPerOp);
+    }
+
+    private static Money settleWithMoney(Money[] amounts) {
+        Money balance = Money.ZERO;
+        for (int i = 0; i < OPERATIONS; i++) {
+            Money amount = amounts[i & (amounts.length - 1)];
+            Money fee = amount.timesBasisPoints(10);
+            balance = balance.plus(amount).minus(fee);
+        }
+        return balance;
+    }
+
+    private static BigDecimal settleWithBigDecimal(BigDecimal[] amounts) {
+        BigDecimal balance = BigDecimal.ZERO.setScale(Money.SCALE);
+        for (int i = 0; i < OPERATIONS; i++) {
+            BigDecimal amount = amounts[i & (amounts.length - 1)];
+            BigDecimal fee = amount.multiply(FEE_RATE).setScale(Money.SCALE, RoundingMode.HALF_EVEN);
+            balance = balance.add(amount).subtract(fee);
+        }
+        return balance;
+    }
+
+    private static Result measure(java.util.function.LongSupplier run) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            checksum = run.getAsLong();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        double ops = (double) OPERATIONS * ROUNDS;
+        return new Result(elapsed / ops, bytes / ops, checksum);
+    }
+
+    private record Result(double nanosPerOp, double bytesPerOp, long checksum) {
+    }
+}
@@ -0,0 +1,71 @@
+package org.system.bank.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void of_ShouldKeepExactCents() {
+        // Arrange
+        Money amount = Money.of("0.10").plus(Money.of("0.20"));
+
+        // Assert
+        assertEquals(Money.of("0.30"), amount);
+        assertEquals(30, amount.getMinorUnits());
+        assertEquals(new BigDecimal("0.30"), amount.toBigDecimal());
+    }
+
+    @Test
+    void of_ShouldRejectFractionsOfACent() {
+        assertThrows(IllegalArgumentException.class, () -> Money.of("10.005"));
+    }
+
+    @Test
+    void timesBasisPoints_ShouldRoundHalfEven() {
+        // 0.25 * 50% = 0.125 -> 0.12, 0.35 * 50% = 0.175 -> 0.18
+        assertEquals(Money.of("0.12"), Money.of("0.25").timesBasisPoints(5000));
+        assertEquals(Money.of("0.18"), Money.of("0.35").timesBasisPoints(5000));
+        assertEquals(Money.of("-0.12"), Money.of("-0.25").timesBasisPoints(5000));
+    }
+
+    @Test
+    void timesBasisPoints_ShouldMatchTransactionFees() {
+        assertEquals(Money.of("0.10"), Money.of("100.00").timesBasisPoints(10));
+        assertEquals(Money.of("0.50"), Money.of("100.00").timesBasisPoints(50));
+    }
+
+    @Test
+    void times_ShouldRoundAnnuityPaymentToTheCent() {
+        // Arrange
+        double monthlyRate = 5.0 / 12 / 100;
+        double growth = Math.pow(1 + monthlyRate, 12);
+
+        // Act
+        Money payment = Money.ofMajor(10000).times(monthlyRate * growth / (growth - 1));
+
+        // Assert
+        assertEquals(Money.of("856.07"), payment);
+    }
+
+    @Test
+    void plus_ShouldThrowOnOverflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1)));
+    }
+
+    @Test
+    void timesFactor_ShouldThrowOnOverflow() {
+        Money large = Money.ofMinor(Long.MAX_VALUE / 2);
+        assertThrows(ArithmeticException.class, () -> large.times(2.5));
+        assertThrows(ArithmeticException.class, () -> large.negate().times(2.5));
+    }
+
+    @Test
+    void dividedBy_ShouldSplitToTheNearestCent() {
+        assertEquals(Money.of("3.33"), Money.of("10.00").dividedBy(3));
+    }
+}
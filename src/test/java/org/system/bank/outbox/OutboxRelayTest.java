@@ -0,0 +1,89 @@
+package org.system.bank.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.system.bank.entity.OutboxEvent;
+import org.system.bank.enums.OutboxEventType;
+import org.system.bank.repository.jpa.OutboxEventRepository;
+import org.system.bank.service.base.BaseServiceTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest extends BaseServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private InMemoryOutboxSink outboxSink;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxSink = new InMemoryOutboxSink();
+        outboxRelay = new OutboxRelay(outboxEventRepository, outboxSink, transactionTemplate);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 2);
+
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    void relay_ShouldPublishAndMarkEventsUntilOutboxIsDrained() {
+        // Arrange
+        OutboxEvent first = event(1L);
+        OutboxEvent second = event(2L);
+        OutboxEvent third = event(3L);
+        when(outboxEventRepository.lockNextUnpublished(anyInt()))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        assertEquals(List.of(first, second, third), outboxSink.getPublished());
+        assertNotNull(first.getPublishedAt());
+        assertNotNull(third.getPublishedAt());
+        verify(outboxEventRepository, times(2)).lockNextUnpublished(2);
+        verify(outboxEventRepository, times(2)).saveAll(anyIterable());
+    }
+
+    @Test
+    void relayBatch_ShouldLeaveEventsUnpublished_WhenSinkFails() {
+        // Arrange
+        OutboxEvent event = event(1L);
+        OutboxRelay failingRelay = new OutboxRelay(outboxEventRepository, events -> {
+            throw new IllegalStateException("sink down");
+        }, transactionTemplate);
+        ReflectionTestUtils.setField(failingRelay, "batchSize", 2);
+        when(outboxEventRepository.lockNextUnpublished(anyInt())).thenReturn(List.of(event));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, failingRelay::relayBatch);
+        assertNull(event.getPublishedAt());
+        verify(outboxEventRepository, never()).saveAll(anyIterable());
+    }
+
+    private OutboxEvent event(Long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("Transaction")
+                .aggregateId(id)
+                .eventType(OutboxEventType.TRANSACTION_COMPLETED)
+                .payload("{}")
+                .build();
+    }
+}
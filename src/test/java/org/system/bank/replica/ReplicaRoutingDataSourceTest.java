@@ -0,0 +1,165 @@
+package org.system.bank.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MS = 1_000;
+    private static final long STICKY_WINDOW_MS = 2_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Replica replica;
+    private RecentWriters recentWriters;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("routing_primary");
+        replica = new Replica("replica-0", database("routing_replica"));
+        replica.setLagMillis(0);
+        recentWriters = new RecentWriters(STICKY_WINDOW_MS);
+
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary,
+                new ReplicaSet(List.of(replica)), recentWriters, MAX_LAG_MS, meterRegistry, clock::get));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbc = new JdbcTemplate(routing);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica_AndWritesThePrimary() {
+        // Act
+        String read = readTx.execute(status -> node());
+        String write = writeTx.execute(status -> node());
+
+        // Assert
+        assertEquals("routing_replica", read);
+        assertEquals("routing_primary", write);
+        assertEquals(1, meterRegistry.counter("bank.datasource.reads", "route", "replica").count());
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldFallBackToPrimary_WhenReplicaLags() {
+        // Arrange
+        replica.setLagMillis(MAX_LAG_MS + 1);
+
+        // Act
+        String lagging = readTx.execute(status -> node());
+        replica.setLagMillis(MAX_LAG_MS);
+        String caughtUp = readTx.execute(status -> node());
+
+        // Assert
+        assertEquals("routing_primary", lagging);
+        assertEquals("routing_replica", caughtUp);
+        assertEquals(1, meterRegistry.counter("bank.datasource.reads", "route", "primary-lag").count());
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldStayOnPrimary_AfterUsersOwnWrite() {
+        // Arrange
+        signIn("alice");
+        writeTx.executeWithoutResult(status -> jdbc.update("UPDATE node SET name = name"));
+
+        // Act
+        String ownRead = readTx.execute(status -> node());
+        signIn("bob");
+        String otherRead = readTx.execute(status -> node());
+        signIn("alice");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(STICKY_WINDOW_MS));
+        String laterRead = readTx.execute(status -> node());
+
+        // Assert
+        assertEquals("routing_primary", ownRead);
+        assertEquals("routing_replica", otherRead);
+        assertEquals("routing_replica", laterRead);
+    }
+
+    @Test
+    void rolledBackWrite_ShouldNotPinReadsToPrimary() {
+        // Arrange
+        signIn("alice");
+        writeTx.executeWithoutResult(status -> {
+            jdbc.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        // Act
+        String read = readTx.execute(status -> node());
+
+        // Assert
+        assertEquals("routing_replica", read);
+    }
+
+    @Test
+    void lagMonitor_ShouldMarkReplicaUnknown_WhenProbeFails() {
+        // Arrange
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(new ReplicaSet(List.of(replica)), recentWriters,
+                "SELECT lag_ms FROM missing_table", meterRegistry);
+
+        // Act
+        monitor.probe();
+
+        // Assert
+        assertEquals(Replica.UNKNOWN_LAG, replica.getLagMillis());
+        assertEquals("routing_primary", readTx.execute(status -> node()));
+    }
+
+    @Test
+    void lagMonitor_ShouldRecordMeasuredLag() {
+        // Arrange
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(new ReplicaSet(List.of(replica)), recentWriters,
+                "SELECT 250", meterRegistry);
+
+        // Act
+        monitor.probe();
+
+        // Assert
+        assertEquals(250, replica.getLagMillis());
+    }
+
+    private String node() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static void signIn(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null, "ROLE_USER"));
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS node");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(64))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
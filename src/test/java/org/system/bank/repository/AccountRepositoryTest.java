@@ -1,16 +1,25 @@
 package org.system.bank.repository;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.system.bank.repository.base.BaseRepositoryTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.system.bank.dto.response.AccountResponse;
 import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountBalanceStripe;
 import org.system.bank.entity.User;
 import org.system.bank.enums.AccountStatus;
 import org.system.bank.enums.Role;
 import org.system.bank.repository.jpa.AccountRepository;
 import org.system.bank.repository.jpa.UserRepository;
+import org.system.bank.money.Money;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,6 +32,9 @@ class AccountRepositoryTest extends BaseRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User testUser;
     private Account testAccount;
 
@@ -43,7 +55,7 @@ class AccountRepositoryTest extends BaseRepositoryTest {
         testUser = userRepository.save(testUser);
 
         testAccount = Account.builder()
-                .balance(1000.0)
+                .balance(Money.of("1000.00"))
                 .status(AccountStatus.ACTIVE)
                 .user(testUser)
                 .build();
@@ -54,7 +66,7 @@ class AccountRepositoryTest extends BaseRepositoryTest {
         // Arrange
         Account savedAccount = accountRepository.save(testAccount);
         Account anotherAccount = Account.builder()
-                .balance(2000.0)
+                .balance(Money.of("2000.00"))
                 .status(AccountStatus.ACTIVE)
                 .user(testUser)
                 .build();
@@ -68,12 +80,63 @@ class AccountRepositoryTest extends BaseRepositoryTest {
         assertTrue(accounts.stream().allMatch(account -> account.getUser().equals(testUser)));
     }
 
+    @Test
+    void findById_ShouldLeaveOwnerUnloaded_ButKnowItsId() {
+        // Arrange
+        Long accountId = accountRepository.save(testAccount).getAccountId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        Account account = accountRepository.findById(accountId).orElseThrow();
+
+        // Assert
+        assertFalse(Hibernate.isInitialized(account.getUser()));
+        assertEquals(testUser.getUserId(), account.getUser().getUserId());
+        assertFalse(Hibernate.isInitialized(account.getUser()));
+    }
+
+    @Test
+    void findWithUserByAccountId_ShouldFetchOwner() {
+        // Arrange
+        Long accountId = accountRepository.save(testAccount).getAccountId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        Account account = accountRepository.findWithUserByAccountId(accountId).orElseThrow();
+
+        // Assert
+        assertTrue(Hibernate.isInitialized(account.getUser()));
+        assertEquals("Test User", account.getUser().getName());
+    }
+
+    @Test
+    void findResponsesByUserNameContaining_ShouldProjectOwner_IgnoringCase() {
+        // Arrange
+        Account savedAccount = accountRepository.save(testAccount);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // Act
+        Slice<AccountResponse> matches = accountRepository.findResponsesByUserNameContaining("test us", pageable);
+        Slice<AccountResponse> wildcard = accountRepository.findResponsesByUserNameContaining("%", pageable);
+
+        // Assert
+        assertEquals(1, matches.getNumberOfElements());
+        AccountResponse response = matches.getContent().get(0);
+        assertEquals(savedAccount.getAccountId(), response.getAccountId());
+        assertEquals(Money.of("1000.00"), response.getBalance());
+        assertEquals(testUser.getUserId(), response.getUserId());
+        assertEquals("Test User", response.getUserName());
+        assertFalse(wildcard.hasContent());
+    }
+
     @Test
     void findByStatus_ShouldReturnAccounts_WhenStatusMatches() {
         // Arrange
         accountRepository.save(testAccount);
         Account blockedAccount = Account.builder()
-                .balance(2000.0)
+                .balance(Money.of("2000.00"))
                 .status(AccountStatus.BLOCKED)
                 .user(testUser)
                 .build();
@@ -93,18 +156,45 @@ class AccountRepositoryTest extends BaseRepositoryTest {
         // Arrange
         accountRepository.save(testAccount);
         Account highBalanceAccount = Account.builder()
-                .balance(5000.0)
+                .balance(Money.of("5000.00"))
                 .status(AccountStatus.ACTIVE)
                 .user(testUser)
                 .build();
         accountRepository.save(highBalanceAccount);
 
         // Act
-        List<Account> accounts = accountRepository.findAccountsWithBalanceGreaterThan(2000.0);
+        List<Account> accounts = accountRepository.findAccountsWithBalanceGreaterThan(Money.of("2000.00"));
 
         // Assert
         assertEquals(1, accounts.size());
-        assertTrue(accounts.stream().allMatch(account -> account.getBalance() > 2000.0));
+        assertTrue(accounts.stream().allMatch(account -> account.getBalance().isGreaterThan(Money.of("2000.00"))));
+    }
+
+    @Test
+    void findResponsesWithBalanceGreaterThan_ShouldCountStripedCredits() {
+        // Arrange: 1000.00 on the account row and 1500.00 credited to its stripes
+        accountRepository.save(testAccount);
+        testAccount.setBalanceStripes(2);
+        entityManager.persist(AccountBalanceStripe.builder()
+                .accountId(testAccount.getAccountId()).stripe(0).balance(Money.of("1000.00")).build());
+        entityManager.persist(AccountBalanceStripe.builder()
+                .accountId(testAccount.getAccountId()).stripe(1).balance(Money.of("500.00")).build());
+        Account otherAccount = Account.builder()
+                .balance(Money.of("1500.00"))
+                .status(AccountStatus.ACTIVE)
+                .user(testUser)
+                .build();
+        accountRepository.save(otherAccount);
+        entityManager.flush();
+
+        // Act
+        Slice<AccountResponse> responses = accountRepository.findResponsesWithBalanceGreaterThan(
+                Money.of("2000.00"), PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of(testAccount.getAccountId()),
+                responses.getContent().stream().map(AccountResponse::getAccountId).toList());
+        assertEquals(1, accountRepository.countAccountsWithBalanceGreaterThan(Money.of("2000.00")));
     }
 
     @Test
@@ -124,16 +214,16 @@ class AccountRepositoryTest extends BaseRepositoryTest {
         // Arrange
         accountRepository.save(testAccount);
         Account secondAccount = Account.builder()
-                .balance(2000.0)
+                .balance(Money.of("2000.00"))
                 .status(AccountStatus.ACTIVE)
                 .user(testUser)
                 .build();
         accountRepository.save(secondAccount);
 
         // Act
-        Double totalBalance = accountRepository.getTotalBalance(testUser);
+        BigDecimal totalBalance = accountRepository.getTotalBalance(testUser);
 
         // Assert
-        assertEquals(3000.0, totalBalance);
+        assertEquals(Money.of("3000.00"), Money.of(totalBalance));
     }
 }
@@ -0,0 +1,158 @@
+package org.system.bank.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.DailyAccountTotal;
+import org.system.bank.entity.Transaction;
+import org.system.bank.entity.User;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.enums.Role;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.enums.TransactionType;
+import org.system.bank.money.Money;
+import org.system.bank.repository.base.BaseRepositoryTest;
+import org.system.bank.repository.jpa.DailyAccountTotalRepository;
+import org.system.bank.repository.jpa.TransactionRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the native upsert and backfill statements against H2 in PostgreSQL mode
+class DailyAccountTotalRepositoryTest extends BaseRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    @Autowired
+    private DailyAccountTotalRepository dailyAccountTotalRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Account sourceAccount;
+    private Account destinationAccount;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+                .name("Test User")
+                .email("test@example.com")
+                .password("hashedPassword123")
+                .age(30)
+                .monthlyIncome(5000.0)
+                .creditScore(750)
+                .role(Role.USER)
+                .build());
+        sourceAccount = entityManager.persist(Account.builder()
+                .balance(Money.of("1000.00"))
+                .status(AccountStatus.ACTIVE)
+                .user(user)
+                .build());
+        destinationAccount = entityManager.persist(Account.builder()
+                .balance(Money.of("2000.00"))
+                .status(AccountStatus.ACTIVE)
+                .user(user)
+                .build());
+    }
+
+    @Test
+    void insertIfAbsent_ShouldKeepExistingTotals_WhenRowExists() {
+        // Arrange
+        Long accountId = sourceAccount.getAccountId();
+        dailyAccountTotalRepository.insertIfAbsent(accountId, DAY);
+        dailyAccountTotalRepository.addToTotals(accountId, DAY, new BigDecimal("10.00"), BigDecimal.ZERO, 1);
+
+        // Act
+        dailyAccountTotalRepository.insertIfAbsent(accountId, DAY);
+        int updated = dailyAccountTotalRepository.addToTotals(accountId, DAY,
+                new BigDecimal("5.00"), new BigDecimal("2.50"), 2);
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, updated);
+        DailyAccountTotal total = dailyAccountTotalRepository.findByAccountIdAndBusinessDate(accountId, DAY).orElseThrow();
+        assertEquals(Money.of("15.00"), total.getDebitTotal());
+        assertEquals(Money.of("2.50"), total.getCreditTotal());
+        assertEquals(3, total.getTransactionCount());
+    }
+
+    @Test
+    void insertRange_ShouldAggregateCompletedTransfers_OnBothSides() {
+        // Arrange
+        persistTransfer("100.00", TransactionStatus.COMPLETED, DAY.atTime(9, 0));
+        persistTransfer("50.00", TransactionStatus.COMPLETED, DAY.atTime(17, 30));
+        persistTransfer("70.00", TransactionStatus.PENDING, DAY.atTime(12, 0));
+        persistTransfer("30.00", TransactionStatus.COMPLETED, DAY.plusDays(1).atTime(8, 0));
+        entityManager.flush();
+        Long fromId = Math.min(sourceAccount.getAccountId(), destinationAccount.getAccountId());
+        Long toId = Math.max(sourceAccount.getAccountId(), destinationAccount.getAccountId());
+
+        // Act
+        int written = dailyAccountTotalRepository.insertRange(fromId, toId, DAY.plusDays(1));
+        entityManager.clear();
+
+        // Assert
+        assertEquals(2, written);
+        DailyAccountTotal debit = dailyAccountTotalRepository
+                .findByAccountIdAndBusinessDate(sourceAccount.getAccountId(), DAY).orElseThrow();
+        assertEquals(Money.of("150.00"), debit.getDebitTotal());
+        assertEquals(Money.ZERO, debit.getCreditTotal());
+        assertEquals(2, debit.getTransactionCount());
+        DailyAccountTotal credit = dailyAccountTotalRepository
+                .findByAccountIdAndBusinessDate(destinationAccount.getAccountId(), DAY).orElseThrow();
+        assertEquals(Money.ZERO, credit.getDebitTotal());
+        assertEquals(Money.of("150.00"), credit.getCreditTotal());
+        assertTrue(dailyAccountTotalRepository
+                .findByAccountIdAndBusinessDate(sourceAccount.getAccountId(), DAY.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    void deleteRange_ShouldKeepRows_FromCutoffOn() {
+        // Arrange
+        Long accountId = sourceAccount.getAccountId();
+        dailyAccountTotalRepository.insertIfAbsent(accountId, DAY);
+        dailyAccountTotalRepository.insertIfAbsent(accountId, DAY.plusDays(1));
+
+        // Act
+        int deleted = dailyAccountTotalRepository.deleteRange(accountId, accountId, DAY.plusDays(1));
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, deleted);
+        assertTrue(dailyAccountTotalRepository.findByAccountIdAndBusinessDate(accountId, DAY).isEmpty());
+        assertTrue(dailyAccountTotalRepository.findByAccountIdAndBusinessDate(accountId, DAY.plusDays(1)).isPresent());
+    }
+
+    @Test
+    void findEarliestPendingCreatedAt_ShouldIgnoreSettledTransfers() {
+        // Arrange
+        persistTransfer("10.00", TransactionStatus.COMPLETED, DAY.atTime(8, 0));
+        persistTransfer("20.00", TransactionStatus.PENDING, DAY.plusDays(2).atTime(10, 0));
+        persistTransfer("30.00", TransactionStatus.PENDING, DAY.plusDays(3).atTime(9, 0));
+
+        // Act
+        LocalDateTime earliest = transactionRepository.findEarliestPendingCreatedAt();
+
+        // Assert
+        assertEquals(DAY.plusDays(2).atTime(10, 0), earliest);
+    }
+
+    private void persistTransfer(String amount, TransactionStatus status, LocalDateTime createdAt) {
+        entityManager.persist(Transaction.builder()
+                .type(TransactionType.STANDARD)
+                .amount(Money.of(amount))
+                .sourceAccount(sourceAccount)
+                .destinationAccount(destinationAccount)
+                .status(status)
+                .createdAt(createdAt)
+                .build());
+    }
+}
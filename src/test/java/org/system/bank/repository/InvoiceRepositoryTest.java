@@ -10,7 +10,9 @@ import org.system.bank.enums.InvoiceStatus;
 import org.system.bank.enums.Role;
 import org.system.bank.repository.jpa.InvoiceRepository;
 import org.system.bank.repository.jpa.UserRepository;
+import org.system.bank.money.Money;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -45,7 +47,7 @@ class InvoiceRepositoryTest extends BaseRepositoryTest {
         testUser = userRepository.save(testUser);
 
         testInvoice = Invoice.builder()
-                .amountDue(100.0)
+                .amountDue(Money.of("100.00"))
                 .dueDate(LocalDate.now().plusDays(7))
                 .status(InvoiceStatus.PENDING)
                 .user(testUser)
@@ -113,7 +115,7 @@ class InvoiceRepositoryTest extends BaseRepositoryTest {
         invoiceRepository.save(testInvoice);
 
         Invoice anotherInvoice = Invoice.builder()
-                .amountDue(200.0)
+                .amountDue(Money.of("200.00"))
                 .dueDate(LocalDate.now().plusDays(7))
                 .status(InvoiceStatus.PENDING)
                 .user(testUser)
@@ -123,10 +125,10 @@ class InvoiceRepositoryTest extends BaseRepositoryTest {
         invoiceRepository.save(anotherInvoice);
 
         // Act
-        Double totalPending = invoiceRepository.calculateTotalPendingAmount(testUser);
+        BigDecimal totalPending = invoiceRepository.calculateTotalPendingAmount(testUser);
 
         // Assert
-        assertEquals(300.0, totalPending);
+        assertEquals(Money.of("300.00"), Money.of(totalPending));
     }
 
     @Test
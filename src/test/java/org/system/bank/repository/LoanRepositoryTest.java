@@ -10,7 +10,9 @@ import org.system.bank.enums.LoanStatus;
 import org.system.bank.enums.Role;
 import org.system.bank.repository.jpa.LoanRepository;
 import org.system.bank.repository.jpa.UserRepository;
+import org.system.bank.money.Money;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -45,11 +47,11 @@ class LoanRepositoryTest extends BaseRepositoryTest {
         testUser = userRepository.save(testUser);
 
         testLoan = Loan.builder()
-                .principal(10000.0)
+                .principal(Money.of("10000.00"))
                 .interestRate(5.0)
                 .termMonths(12)
-                .monthlyPayment(856.0)
-                .remainingAmount(10000.0)
+                .monthlyPayment(Money.of("856.00"))
+                .remainingAmount(Money.of("10000.00"))
                 .status(LoanStatus.PENDING)
                 .user(testUser)
                 .startDate(LocalDate.now())
@@ -94,11 +96,11 @@ class LoanRepositoryTest extends BaseRepositoryTest {
         loanRepository.save(testLoan);
 
         Loan anotherLoan = Loan.builder()
-                .principal(5000.0)
+                .principal(Money.of("5000.00"))
                 .interestRate(5.0)
                 .termMonths(12)
-                .monthlyPayment(428.0)
-                .remainingAmount(5000.0)
+                .monthlyPayment(Money.of("428.00"))
+                .remainingAmount(Money.of("5000.00"))
                 .status(LoanStatus.ACTIVE)
                 .user(testUser)
                 .startDate(LocalDate.now())
@@ -107,10 +109,10 @@ class LoanRepositoryTest extends BaseRepositoryTest {
         loanRepository.save(anotherLoan);
 
         // Act
-        Double totalDebt = loanRepository.calculateTotalDebt(testUser);
+        BigDecimal totalDebt = loanRepository.calculateTotalDebt(testUser);
 
         // Assert
-        assertEquals(15000.0, totalDebt);
+        assertEquals(Money.of("15000.00"), Money.of(totalDebt));
     }
 
     @Test
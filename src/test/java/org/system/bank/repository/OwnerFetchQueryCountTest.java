@@ -0,0 +1,201 @@
+package org.system.bank.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.system.bank.dto.response.InvoiceResponse;
+import org.system.bank.dto.response.LoanResponse;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.Invoice;
+import org.system.bank.entity.Loan;
+import org.system.bank.entity.User;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.enums.InvoiceStatus;
+import org.system.bank.enums.LoanStatus;
+import org.system.bank.enums.Role;
+import org.system.bank.mapper.InvoiceMapperImpl;
+import org.system.bank.mapper.LoanMapperImpl;
+import org.system.bank.money.Money;
+import org.system.bank.outbox.OutboxService;
+import org.system.bank.repository.base.BaseRepositoryTest;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.AccountSummaryRepository;
+import org.system.bank.service.UserService;
+import org.system.bank.service.impl.InvoiceServiceImpl;
+import org.system.bank.service.impl.LoanEligibilityService;
+import org.system.bank.service.impl.LoanServiceImpl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statements per request for the fetch plans around the lazy owner associations. The test
+ * transaction stands in for the request's open-in-view persistence context; the second-level
+ * cache is off, so these are cold-cache counts.
+ */
+@Import({LoanServiceImpl.class, LoanMapperImpl.class, InvoiceServiceImpl.class, InvoiceMapperImpl.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OwnerFetchQueryCountTest extends BaseRepositoryTest {
+
+    @Autowired
+    private LoanServiceImpl loanService;
+
+    @Autowired
+    private InvoiceServiceImpl invoiceService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountSummaryRepository summaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private LoanEligibilityService loanEligibilityService;
+
+    @MockBean
+    private OutboxService outboxService;
+
+    @MockBean
+    private UserService userService;
+
+    private Statistics statistics;
+    private int usersCreated;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getLoan_ShouldIssueOneStatement_IncludingOwnershipCheck() {
+        // Arrange
+        Long loanId = entityManager.persist(loan(user())).getLoanId();
+        reset();
+
+        // Act
+        loanService.getLoanEntity(loanId);
+        LoanResponse response = loanService.getLoanById(loanId);
+
+        // Assert
+        assertEquals("User 0", response.getUserName());
+        assertEquals(1, statistics.getPrepareStatementCount(), "ownership check joining the borrower");
+    }
+
+    @Test
+    void getInvoice_ShouldIssueOneStatement_IncludingOwnershipCheck() {
+        // Arrange
+        Long invoiceId = entityManager.persist(invoice(user())).getInvoiceId();
+        reset();
+
+        // Act
+        invoiceService.getInvoiceEntity(invoiceId);
+        InvoiceResponse response = invoiceService.getInvoiceById(invoiceId);
+
+        // Assert
+        assertEquals("User 0", response.getUserName());
+        assertEquals(1, statistics.getPrepareStatementCount(), "ownership check joining the owner");
+    }
+
+    @Test
+    void transferChecks_ShouldReadAccountsWithoutTheirOwners() {
+        // Arrange
+        Long sourceId = entityManager.persist(account(user())).getAccountId();
+        Long destinationId = entityManager.persist(account(user())).getAccountId();
+        reset();
+
+        // Act
+        summaryRepository.findById(sourceId);
+        summaryRepository.findById(destinationId);
+        Account source = accountRepository.findById(sourceId).orElseThrow();
+        Account destination = accountRepository.findById(destinationId).orElseThrow();
+
+        // Assert
+        assertFalse(Hibernate.isInitialized(source.getUser()));
+        assertFalse(Hibernate.isInitialized(destination.getUser()));
+        assertEquals(4, statistics.getPrepareStatementCount(), "two ownership summaries, two account loads");
+    }
+
+    @Test
+    void findAllByIdForUpdate_ShouldIssueOneStatement_ForAccountsOfManyOwners() {
+        // Arrange
+        List<Long> accountIds = List.of(
+                entityManager.persist(account(user())).getAccountId(),
+                entityManager.persist(account(user())).getAccountId(),
+                entityManager.persist(account(user())).getAccountId());
+        reset();
+
+        // Act
+        List<Account> locked = accountRepository.findAllByIdForUpdate(accountIds);
+
+        // Assert
+        assertEquals(3, locked.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private void reset() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private User user() {
+        int n = usersCreated++;
+        return entityManager.persist(User.builder()
+                .name("User " + n)
+                .email("user" + n + "@example.com")
+                .password("hashedPassword123")
+                .age(30)
+                .monthlyIncome(5000.0)
+                .creditScore(700)
+                .role(Role.USER)
+                .build());
+    }
+
+    private static Account account(User user) {
+        return Account.builder()
+                .balance(Money.of("100.00"))
+                .status(AccountStatus.ACTIVE)
+                .user(user)
+                .build();
+    }
+
+    private static Loan loan(User user) {
+        return Loan.builder()
+                .principal(Money.of("10000.00"))
+                .interestRate(5.0)
+                .termMonths(12)
+                .monthlyPayment(Money.of("856.00"))
+                .remainingAmount(Money.of("10000.00"))
+                .status(LoanStatus.PENDING)
+                .user(user)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static Invoice invoice(User user) {
+        return Invoice.builder()
+                .amountDue(Money.of("250.00"))
+                .dueDate(LocalDate.now().plusDays(30))
+                .status(InvoiceStatus.PENDING)
+                .user(user)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,373 @@
+package org.system.bank.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.test.context.TestPropertySource;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.User;
+import org.system.bank.money.Money;
+import org.system.bank.repository.base.BaseRepositoryTest;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every query method in {@code repository/jpa} against the Liquibase schema (H2 in PostgreSQL
+ * mode), captures the SQL and bind values it issues, and {@code EXPLAIN}s each select. Every query
+ * must plan against the migrated schema, and the hot queries listed in {@link #HOT_QUERIES} must
+ * not scan a table. Other full scans are logged as a report.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplans;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.liquibase.enabled=true",
+        "spring.liquibase.change-log=classpath:db/changelog/db.changelog-master.yaml"
+})
+class QueryPlanTest extends BaseRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanTest.class);
+
+    private static final String REPOSITORY_PACKAGE = "org.system.bank.repository.jpa";
+
+    // Repository.method -> index its plan must use; null accepts any index as long as nothing is scanned
+    private static final Map<String, String> HOT_QUERIES = new LinkedHashMap<>();
+
+    static {
+        HOT_QUERIES.put("TransactionRepository.findOutgoingViewsBetween", "IDX_TRANSACTION_SOURCE_CREATED_AT");
+        HOT_QUERIES.put("TransactionRepository.findIncomingViewsBetween", "IDX_TRANSACTION_DESTINATION_CREATED_AT");
+        HOT_QUERIES.put("TransactionRepository.findOutgoingBetween", "IDX_TRANSACTION_SOURCE_CREATED_AT");
+        HOT_QUERIES.put("TransactionRepository.findIncomingBetween", "IDX_TRANSACTION_DESTINATION_CREATED_AT");
+        HOT_QUERIES.put("TransactionRepository.findViewsBySourceAccountId", "IDX_TRANSACTION_SOURCE_CREATED_AT");
+        HOT_QUERIES.put("TransactionRepository.findViewsByDestinationAccountId", "IDX_TRANSACTION_DESTINATION_CREATED_AT");
+        HOT_QUERIES.put("TransactionRepository.sumDebitsByType", null);
+        HOT_QUERIES.put("AccountRepository.findBalanceRowsByUserId", "IDX_ACCOUNT_USER_STATUS");
+        HOT_QUERIES.put("AccountRepository.getTotalBalance", "IDX_ACCOUNT_USER_STATUS");
+        HOT_QUERIES.put("AccountRepository.hasActiveAccount", "IDX_ACCOUNT_USER_STATUS");
+        HOT_QUERIES.put("LoanRepository.findOverdueLoans", "IDX_LOAN_STATUS_END_DATE");
+        HOT_QUERIES.put("LoanRepository.hasActiveLoanApplication", "IDX_LOAN_USER_STATUS");
+        HOT_QUERIES.put("InvoiceRepository.findOverdueInvoices", "IDX_INVOICE_STATUS_DUE_DATE");
+        HOT_QUERIES.put("InvoiceRepository.calculateTotalPendingAmount", "IDX_INVOICE_USER_STATUS");
+        HOT_QUERIES.put("OtpTokenRepository.findValidTokenForVerification", "IDX_OTP_USER_PURPOSE");
+        HOT_QUERIES.put("LedgerEntryRepository.findByAccountIdOrderByIdAsc", "IDX_LEDGER_ACCOUNT");
+        HOT_QUERIES.put("DailyAccountTotalRepository.findByAccountIdAndBusinessDate", "UK_DAILY_TOTAL_ACCOUNT_DATE");
+        HOT_QUERIES.put("UserRepository.findByEmail", null);
+    }
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StatementRecorder recorder;
+
+    private User sampleUser;
+    private Account sampleAccount;
+
+    @BeforeEach
+    void setUp() {
+        // Rows seeded by the changelog
+        sampleUser = entityManager.getEntityManager()
+                .createQuery("SELECT u FROM User u ORDER BY u.userId", User.class)
+                .setMaxResults(1)
+                .getSingleResult();
+        sampleAccount = entityManager.getEntityManager()
+                .createQuery("SELECT a FROM Account a ORDER BY a.accountId", Account.class)
+                .setMaxResults(1)
+                .getSingleResult();
+    }
+
+    @Test
+    void everyQueryMethod_ShouldPlanAgainstMigratedSchema() {
+        // Act
+        Map<String, List<String>> plans = explainAll();
+
+        // Assert
+        assertTrue(plans.keySet().containsAll(HOT_QUERIES.keySet()),
+                () -> "Hot queries not found: " + missing(HOT_QUERIES.keySet(), plans.keySet()));
+        plans.forEach((query, queryPlans) -> queryPlans.stream()
+                .filter(QueryPlanTest::scansTable)
+                .forEach(plan -> log.info("Full table scan in {}: {}", query, plan)));
+    }
+
+    @Test
+    void hotQueries_ShouldUseTheirIndexes() {
+        // Act
+        Map<String, List<String>> plans = explainAll();
+
+        // Assert
+        List<String> violations = new ArrayList<>();
+        HOT_QUERIES.forEach((query, index) -> {
+            List<String> queryPlans = plans.getOrDefault(query, List.of());
+            if (queryPlans.isEmpty()) {
+                violations.add(query + " issued no select");
+            }
+            for (String plan : queryPlans) {
+                if (scansTable(plan)) {
+                    violations.add(query + " scans a table: " + plan);
+                } else if (index != null && !plan.toUpperCase().contains(index)) {
+                    violations.add(query + " does not use " + index + ": " + plan);
+                }
+            }
+        });
+        assertTrue(violations.isEmpty(), () -> String.join("\n", violations));
+    }
+
+    /**
+     * Invokes every declared, non-modifying query method of every repository in
+     * {@link #REPOSITORY_PACKAGE} and returns the plans of the selects each one issued.
+     */
+    private Map<String, List<String>> explainAll() {
+        Map<String, List<String>> plans = new TreeMap<>();
+        List<String> failures = new ArrayList<>();
+        Repositories repositories = new Repositories(applicationContext);
+        for (Class<?> domainType : repositories) {
+            Class<?> repositoryInterface = repositories.getRequiredRepositoryInformation(domainType).getRepositoryInterface();
+            if (!repositoryInterface.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                continue;
+            }
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            for (Method method : repositoryInterface.getDeclaredMethods()) {
+                if (!isQueryMethod(method)) {
+                    continue;
+                }
+                String query = repositoryInterface.getSimpleName() + "." + method.getName();
+                try {
+                    for (StatementRecorder.Recorded statement : invoke(repository, method)) {
+                        plans.computeIfAbsent(query, key -> new ArrayList<>()).add(explain(statement));
+                    }
+                } catch (Exception e) {
+                    failures.add(query + ": " + e);
+                }
+            }
+        }
+        assertTrue(failures.isEmpty(), () -> "Queries that did not plan:\n" + String.join("\n", failures));
+        return plans;
+    }
+
+    private List<StatementRecorder.Recorded> invoke(Object repository, Method method) throws Exception {
+        Object[] args = new Object[method.getParameterCount()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = sample(method.getParameterTypes()[i]);
+        }
+        recorder.clear();
+        try {
+            Object result = method.invoke(repository, args);
+            if (result instanceof Stream<?> stream) {
+                stream.close();
+            }
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+        return recorder.selects();
+    }
+
+    private Object sample(Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == Double.class || type == double.class) {
+            return 1.0;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return true;
+        }
+        if (type == String.class) {
+            return "sample";
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal.ONE;
+        }
+        if (type == Money.class) {
+            return Money.ZERO;
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.now();
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (type == Pageable.class) {
+            return PageRequest.of(0, 20);
+        }
+        if (type == Set.class) {
+            return Set.of(1L);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(1L);
+        }
+        if (type == User.class) {
+            return sampleUser;
+        }
+        if (type == Account.class) {
+            return sampleAccount;
+        }
+        throw new IllegalArgumentException("No sample argument for " + type.getName());
+    }
+
+    private String explain(StatementRecorder.Recorded statement) throws Exception {
+        try (Connection connection = recorder.target().getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (StatementRecorder.Binding binding : statement.bindings()) {
+                binding.setter().invoke(explain, binding.args());
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                assertTrue(plan.next());
+                return plan.getString(1).replaceAll("\\s+", " ");
+            }
+        }
+    }
+
+    private static boolean isQueryMethod(Method method) {
+        String name = method.getName();
+        return !method.isDefault()
+                && !method.isSynthetic()
+                && !Modifier.isStatic(method.getModifiers())
+                && !method.isAnnotationPresent(Modifying.class)
+                && !name.startsWith("delete")
+                && !name.startsWith("remove");
+    }
+
+    private static boolean scansTable(String plan) {
+        return plan.contains(".tableScan");
+    }
+
+    private static Set<String> missing(Set<String> expected, Set<String> found) {
+        Set<String> missing = new TreeSet<>(expected);
+        missing.removeAll(found);
+        return missing;
+    }
+
+    @TestConfiguration
+    static class RecorderConfig {
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+
+    /**
+     * Wraps the data source so every prepared statement's SQL and parameter setter calls are
+     * recorded when it executes, for replay under {@code EXPLAIN}.
+     */
+    static class StatementRecorder implements BeanPostProcessor {
+
+        record Binding(Method setter, Object[] args) {
+        }
+
+        record Recorded(String sql, List<Binding> bindings) {
+        }
+
+        private final List<Recorded> statements = new CopyOnWriteArrayList<>();
+        private DataSource target;
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && target == null) {
+                target = dataSource;
+                return proxy(DataSource.class, (proxy, method, args) -> {
+                    Object result = call(dataSource, method, args);
+                    return result instanceof Connection connection ? recording(connection) : result;
+                });
+            }
+            return bean;
+        }
+
+        DataSource target() {
+            return target;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        List<Recorded> selects() {
+            return statements.stream()
+                    .filter(statement -> statement.sql().stripLeading().toLowerCase().startsWith("select"))
+                    .toList();
+        }
+
+        private Connection recording(Connection connection) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                Object result = call(connection, method, args);
+                if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                    return recording(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private PreparedStatement recording(PreparedStatement statement, String sql) {
+            List<Binding> bindings = new ArrayList<>();
+            return proxy(PreparedStatement.class, (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    bindings.add(new Binding(method, args.clone()));
+                } else if (name.equals("clearParameters")) {
+                    bindings.clear();
+                } else if (name.startsWith("execute") || name.equals("addBatch")) {
+                    statements.add(new Recorded(sql, List.copyOf(bindings)));
+                }
+                return call(statement, method, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(QueryPlanTest.class.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        private static Object call(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
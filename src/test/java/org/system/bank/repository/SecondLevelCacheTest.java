@@ -0,0 +1,180 @@
+package org.system.bank.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.system.bank.cache.SecondLevelCacheConfig;
+import org.system.bank.cache.SecondLevelCacheEvictor;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountSummary;
+import org.system.bank.entity.User;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.enums.Role;
+import org.system.bank.money.Money;
+import org.system.bank.repository.base.BaseRepositoryTest;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.AccountSummaryRepository;
+import org.system.bank.repository.jpa.UserRepository;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Each repository call runs in its own session, so repeated reads can only be served by the shared cache
+@Import({SecondLevelCacheConfig.class, SecondLevelCacheEvictor.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest extends BaseRepositoryTest {
+
+    private static final String USER_REGION = User.class.getName();
+    private static final String SUMMARY_REGION = AccountSummary.class.getName();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountSummaryRepository summaryRepository;
+
+    @Autowired
+    private SecondLevelCacheEvictor cacheEvictor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(User.builder()
+                .name("Cached User")
+                .email("cached@example.com")
+                .password("hashedPassword123")
+                .age(30)
+                .monthlyIncome(5000.0)
+                .creditScore(700)
+                .role(Role.USER)
+                .build());
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void findById_ShouldServeRepeatedUserReadsFromCache() {
+        // Act
+        userRepository.findById(user.getUserId());
+        userRepository.findById(user.getUserId());
+
+        // Assert
+        assertEquals(1, statistics.getDomainDataRegionStatistics(USER_REGION).getMissCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(USER_REGION).getHitCount());
+    }
+
+    @Test
+    void findByEmail_ShouldServeRepeatedLookupsFromQueryCache() {
+        // Act
+        userRepository.findByEmail("cached@example.com");
+        User cached = userRepository.findByEmail("cached@example.com").orElseThrow();
+
+        // Assert
+        assertEquals(user.getUserId(), cached.getUserId());
+        assertEquals(1, statistics.getQueryRegionStatistics("userByEmail").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(USER_REGION).getHitCount());
+    }
+
+    @Test
+    void save_ShouldReplaceCachedUser_WhenUserIsUpdated() {
+        // Arrange
+        userRepository.findById(user.getUserId());
+        user.setName("Renamed User");
+
+        // Act
+        userRepository.save(user);
+
+        // Assert
+        assertEquals("Renamed User", userRepository.findById(user.getUserId()).orElseThrow().getName());
+        assertEquals("Renamed User", userRepository.findByEmail("cached@example.com").orElseThrow().getName());
+    }
+
+    @Test
+    void deleteById_ShouldEvictCachedUser() {
+        // Arrange
+        userRepository.findByEmail("cached@example.com");
+
+        // Act
+        userRepository.deleteById(user.getUserId());
+
+        // Assert
+        assertTrue(userRepository.findById(user.getUserId()).isEmpty());
+        assertTrue(userRepository.findByEmail("cached@example.com").isEmpty());
+    }
+
+    @Test
+    void evictAfterCommit_ShouldExposeNewAccountStatus() {
+        // Arrange
+        Long accountId = createAccount().getAccountId();
+        assertEquals(AccountStatus.ACTIVE, summaryRepository.findById(accountId).orElseThrow().getStatus());
+
+        // Act
+        transaction.executeWithoutResult(status -> {
+            Account account = accountRepository.findById(accountId).orElseThrow();
+            account.setStatus(AccountStatus.BLOCKED);
+            cacheEvictor.evictAfterCommit(AccountSummary.class, accountId);
+        });
+
+        // Assert
+        AccountSummary summary = summaryRepository.findById(accountId).orElseThrow();
+        assertEquals(AccountStatus.BLOCKED, summary.getStatus());
+        assertEquals(user.getUserId(), summary.getUserId());
+    }
+
+    @Test
+    void addToBalance_ShouldLeaveCachedSummaryAndUser() {
+        // Arrange
+        Long accountId = createAccount().getAccountId();
+        summaryRepository.findById(accountId);
+        userRepository.findById(user.getUserId());
+        statistics.clear();
+
+        // Act
+        transaction.executeWithoutResult(status -> accountRepository.addToBalance(accountId, new BigDecimal("5.00")));
+        summaryRepository.findById(accountId);
+        userRepository.findById(user.getUserId());
+
+        // Assert
+        assertEquals(1, statistics.getDomainDataRegionStatistics(SUMMARY_REGION).getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(USER_REGION).getHitCount());
+    }
+
+    private Account createAccount() {
+        return accountRepository.save(Account.builder()
+                .balance(Money.of("100.00"))
+                .status(AccountStatus.ACTIVE)
+                .user(user)
+                .build());
+    }
+}
@@ -0,0 +1,105 @@
+package org.system.bank.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.system.bank.dto.response.AccountResponse;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.User;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.enums.Role;
+import org.system.bank.money.Money;
+import org.system.bank.repository.base.BaseRepositoryTest;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.sqlstats.SqlStats;
+import org.system.bank.sqlstats.SqlStatsConfig;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({SqlStatsConfig.class, SimpleMeterRegistry.class})
+class SqlStatsRecorderTest extends BaseRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .name("Tracked User")
+                .email("tracked@example.com")
+                .password("hashedPassword123")
+                .age(30)
+                .monthlyIncome(5000.0)
+                .creditScore(700)
+                .role(Role.USER)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(Account.builder()
+                    .balance(Money.of("100.00"))
+                    .status(AccountStatus.ACTIVE)
+                    .user(user)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStats.stop();
+    }
+
+    @Test
+    void trackedQuery_ShouldCountStatementEntitiesAndJdbcTime() {
+        // Arrange
+        SqlStats stats = SqlStats.start();
+
+        // Act
+        List<Account> accounts = accountRepository.findByUser(user);
+
+        // Assert
+        assertEquals(3, accounts.size());
+        assertEquals(1, stats.getStatements());
+        assertEquals(3, stats.getEntities());
+        assertTrue(stats.getJdbcTimeNanos() > 0);
+    }
+
+    @Test
+    void projectionQuery_ShouldCountStatement_ButNoEntities() {
+        // Arrange
+        SqlStats stats = SqlStats.start();
+
+        // Act
+        List<AccountResponse> accounts = accountRepository.findResponsesByUserId(user.getUserId());
+
+        // Assert
+        assertEquals(3, accounts.size());
+        assertEquals(1, stats.getStatements());
+        assertEquals(0, stats.getEntities());
+    }
+
+    @Test
+    void untrackedQuery_ShouldNotBeCounted() {
+        // Arrange
+        SqlStats stats = SqlStats.start();
+        SqlStats.stop();
+
+        // Act
+        accountRepository.findByUser(user);
+
+        // Assert
+        assertEquals(0, stats.getStatements());
+        assertEquals(0, stats.getEntities());
+    }
+}
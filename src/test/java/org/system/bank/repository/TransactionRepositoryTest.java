@@ -14,6 +14,8 @@ import org.system.bank.enums.TransactionType;
 import org.system.bank.repository.jpa.AccountRepository;
 import org.system.bank.repository.jpa.TransactionRepository;
 import org.system.bank.repository.jpa.UserRepository;
+import org.system.bank.repository.projection.TransactionView;
+import org.system.bank.money.Money;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -56,14 +58,14 @@ class TransactionRepositoryTest extends BaseRepositoryTest {
 
         // Create test accounts
         sourceAccount = Account.builder()
-                .balance(1000.0)
+                .balance(Money.of("1000.00"))
                 .status(AccountStatus.ACTIVE)
                 .user(testUser)
                 .build();
         sourceAccount = accountRepository.save(sourceAccount);
 
         destinationAccount = Account.builder()
-                .balance(2000.0)
+                .balance(Money.of("2000.00"))
                 .status(AccountStatus.ACTIVE)
                 .user(testUser)
                 .build();
@@ -72,7 +74,7 @@ class TransactionRepositoryTest extends BaseRepositoryTest {
         // Create test transaction
         testTransaction = Transaction.builder()
                 .type(TransactionType.STANDARD)
-                .amount(100.0)
+                .amount(Money.of("100.00"))
                 .sourceAccount(sourceAccount)
                 .destinationAccount(destinationAccount)
                 .status(TransactionStatus.PENDING)
@@ -106,6 +108,26 @@ class TransactionRepositoryTest extends BaseRepositoryTest {
         assertEquals(savedTransaction.getTransactionId(), transactions.get(0).getTransactionId());
     }
 
+    @Test
+    void findViewsByAccountId_ShouldReturnBothDirections_AsViews() {
+        // Arrange
+        Transaction saved = transactionRepository.save(testTransaction);
+
+        // Act
+        List<TransactionView> outgoing = transactionRepository.findViewsByAccountId(sourceAccount.getAccountId());
+        List<TransactionView> incoming = transactionRepository.findViewsByAccountId(destinationAccount.getAccountId());
+
+        // Assert
+        assertEquals(1, outgoing.size());
+        assertEquals(1, incoming.size());
+        TransactionView view = outgoing.get(0);
+        assertEquals(saved.getTransactionId(), view.getTransactionId());
+        assertEquals(Money.of("100.00"), view.getAmount());
+        assertEquals(sourceAccount.getAccountId(), view.getSourceAccountId());
+        assertEquals(destinationAccount.getAccountId(), view.getDestinationAccountId());
+        assertEquals(TransactionStatus.PENDING, view.getStatus());
+    }
+
     @Test
     void findByType_ShouldReturnTransactions() {
         // Arrange
@@ -150,36 +172,6 @@ class TransactionRepositoryTest extends BaseRepositoryTest {
     }
 
 
-    @Test
-    void calculateTotalDebit_ShouldReturnCorrectAmount() {
-        // Arrange
-        testTransaction.setStatus(TransactionStatus.COMPLETED);
-        transactionRepository.save(testTransaction);
-        Transaction anotherTransaction = Transaction.builder()
-                .type(TransactionType.STANDARD)
-                .amount(200.0)
-                .sourceAccount(sourceAccount)
-                .destinationAccount(destinationAccount)
-                .status(TransactionStatus.COMPLETED)
-                .createdAt(LocalDateTime.now())
-                .build();
-        transactionRepository.save(anotherTransaction);
-
-        LocalDateTime start = LocalDateTime.now().minusHours(1);
-        LocalDateTime end = LocalDateTime.now().plusHours(1);
-
-        // Act
-        Double totalDebit = transactionRepository.calculateTotalDebit(
-                sourceAccount,
-                TransactionType.STANDARD,
-                start,
-                end
-        );
-
-        // Assert
-        assertEquals(300.0, totalDebit);
-    }
-
         @Test
     void findAccountTransactions_ShouldReturnAllAccountTransactions() {
         // Arrange
@@ -187,7 +179,7 @@ class TransactionRepositoryTest extends BaseRepositoryTest {
 
         Transaction incomingTransaction = Transaction.builder()
                 .type(TransactionType.STANDARD)
-                .amount(150.0)
+                .amount(Money.of("150.00"))
                 .sourceAccount(destinationAccount)
                 .destinationAccount(sourceAccount)
                 .status(TransactionStatus.COMPLETED)
@@ -0,0 +1,139 @@
+package org.system.bank.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.system.bank.balance.BalanceCache;
+import org.system.bank.dto.response.UserResponse;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.User;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.enums.Role;
+import org.system.bank.ledger.LedgerService;
+import org.system.bank.mapper.UserMapperImpl;
+import org.system.bank.money.Money;
+import org.system.bank.paging.Paging;
+import org.system.bank.repository.base.BaseRepositoryTest;
+import org.system.bank.service.impl.LoanEligibilityService;
+import org.system.bank.service.impl.UserServiceImpl;
+import org.system.bank.stripe.BalanceStripeService;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({UserServiceImpl.class, UserMapperImpl.class, BalanceStripeService.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserListQueryCountTest extends BaseRepositoryTest {
+
+    private static final Pageable FIRST_PAGE = Paging.pageable(0, Paging.MAX_SIZE, Sort.by("userId"));
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private LoanEligibilityService loanEligibilityService;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private LedgerService ledgerService;
+
+    @MockBean
+    private BalanceCache balanceCache;
+
+    private Statistics statistics;
+
+    private int usersCreated;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllUsers_ShouldIssueSameStatementCount_RegardlessOfUserCount() {
+        // Arrange
+        createUsersWithAccounts(3);
+        long fewUsers = statementsFor(() -> userService.getAllUsers(FIRST_PAGE, false), 3);
+        createUsersWithAccounts(47);
+
+        // Act
+        long manyUsers = statementsFor(() -> userService.getAllUsers(FIRST_PAGE, false), 50);
+
+        // Assert
+        assertEquals(3, fewUsers, "page query, account fetch and stripe sum");
+        assertEquals(fewUsers, manyUsers);
+    }
+
+    @Test
+    void getUsersByRole_ShouldIssueSameStatementCount_RegardlessOfUserCount() {
+        // Arrange
+        createUsersWithAccounts(2);
+        long fewUsers = statementsFor(() -> userService.getUsersByRole(Role.USER, FIRST_PAGE, false), 2);
+        createUsersWithAccounts(20);
+
+        // Act
+        long manyUsers = statementsFor(() -> userService.getUsersByRole(Role.USER, FIRST_PAGE, false), 22);
+
+        // Assert
+        assertEquals(3, fewUsers, "page query, account fetch and stripe sum");
+        assertEquals(fewUsers, manyUsers);
+    }
+
+    /**
+     * Statements prepared by {@code call} against a cleared persistence context, after checking the
+     * page came back with every user's accounts.
+     */
+    private long statementsFor(Supplier<Slice<UserResponse>> call, int expectedUsers) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Slice<UserResponse> users = call.get();
+
+        assertEquals(expectedUsers, users.getNumberOfElements());
+        assertTrue(users.getContent().stream().allMatch(user -> user.getAccounts().size() == 2));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createUsersWithAccounts(int count) {
+        for (int i = 0; i < count; i++) {
+            int n = usersCreated++;
+            User user = entityManager.persist(User.builder()
+                    .name("User " + n)
+                    .email("user" + n + "@example.com")
+                    .password("hashedPassword123")
+                    .age(30)
+                    .monthlyIncome(5000.0)
+                    .creditScore(700)
+                    .role(Role.USER)
+                    .build());
+            for (int a = 0; a < 2; a++) {
+                entityManager.persist(Account.builder()
+                        .balance(Money.of("100.00"))
+                        .status(AccountStatus.ACTIVE)
+                        .user(user)
+                        .build());
+            }
+        }
+    }
+}
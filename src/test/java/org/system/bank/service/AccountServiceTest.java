@@ -1,22 +1,39 @@
 package org.system.bank.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.system.bank.balance.BalanceCache;
+import org.system.bank.cache.SecondLevelCacheEvictor;
 import org.system.bank.dto.request.AccountCreationRequest;
 import org.system.bank.dto.response.AccountResponse;
 import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountSummary;
 import org.system.bank.entity.User;
 import org.system.bank.enums.AccountStatus;
+import org.system.bank.hold.HoldService;
+import org.system.bank.ledger.LedgerService;
+import org.system.bank.limits.SpendingLimitService;
 import org.system.bank.mapper.AccountMapper;
 import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.AccountSummaryRepository;
 import org.system.bank.service.base.BaseServiceTest;
 import org.system.bank.service.impl.AccountServiceImpl;
+import org.system.bank.stripe.BalanceStripeService;
 import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,6 +51,30 @@ class AccountServiceTest extends BaseServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private HoldService holdService;
+
+    @Mock
+    private BalanceStripeService stripeService;
+
+    @Mock
+    private SpendingLimitService spendingLimitService;
+
+    @Mock
+    private AccountSummaryRepository summaryRepository;
+
+    @Mock
+    private SecondLevelCacheEvictor cacheEvictor;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private AccountServiceImpl accountService;
 
@@ -54,6 +95,9 @@ class AccountServiceTest extends BaseServiceTest {
                 .userId(testUser.getUserId())
                 .userName(testUser.getName())
                 .build();
+
+        lenient().when(stripeService.totalBalance(any(Account.class)))
+                .thenAnswer(invocation -> ((Account) invocation.getArgument(0)).getBalance());
     }
 
     @Test
@@ -77,8 +121,9 @@ class AccountServiceTest extends BaseServiceTest {
     @Test
     void getAccountById_ShouldReturnAccount_WhenAccountExists() {
         // Arrange
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.of(testAccount));
-        when(accountMapper.toResponse(any(Account.class))).thenReturn(testResponse);
+        when(balanceCache.account(1L)).thenReturn(new BalanceCache.Balance(1L, testUser.getUserId(),
+                testAccount.getBalance(), AccountStatus.ACTIVE));
+        when(userService.getUserEntity(testUser.getUserId())).thenReturn(testUser);
 
         // Act
         AccountResponse result = accountService.getAccountById(1L);
@@ -86,13 +131,36 @@ class AccountServiceTest extends BaseServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(testAccount.getBalance(), result.getBalance());
-        verify(accountRepository).findById(1L);
+        assertEquals(testUser.getName(), result.getUserName());
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void lockAccounts_ShouldReloadLockedAccounts() {
+        // Arrange
+        when(accountRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(testAccount));
+
+        // Act
+        Map<Long, Account> result = accountService.lockAccounts(List.of(1L));
+
+        // Assert
+        assertSame(testAccount, result.get(1L));
+        verify(entityManager).refresh(testAccount);
+    }
+
+    @Test
+    void lockAccounts_ShouldThrow_WhenAccountMissing() {
+        // Arrange
+        when(accountRepository.findAllByIdForUpdate(List.of(1L, 2L))).thenReturn(List.of(testAccount));
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> accountService.lockAccounts(List.of(1L, 2L)));
     }
 
     @Test
     void updateAccountStatus_ShouldReturnUpdatedAccount() {
         // Arrange
-        when(accountRepository.findById(anyLong())).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findWithUserByAccountId(anyLong())).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
         when(accountMapper.toResponse(any(Account.class))).thenReturn(testResponse);
 
@@ -102,6 +170,41 @@ class AccountServiceTest extends BaseServiceTest {
         // Assert
         assertNotNull(result);
         verify(accountRepository).save(any(Account.class));
+        verify(cacheEvictor).evictAfterCommit(AccountSummary.class, 1L);
+    }
+
+    @Test
+    void getAccountSummary_ShouldThrow_WhenAccountMissing() {
+        // Arrange
+        when(summaryRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> accountService.getAccountSummary(99L));
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void deleteAccount_ShouldDelete_WhenAccountHasNoPostings() {
+        // Arrange
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(ledgerService.hasPostings(1L)).thenReturn(false);
+
+        // Act
+        accountService.deleteAccount(1L);
+
+        // Assert
+        verify(accountRepository).deleteById(1L);
+    }
+
+    @Test
+    void deleteAccount_ShouldThrow_WhenAccountHasLedgerPostings() {
+        // Arrange
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(ledgerService.hasPostings(1L)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> accountService.deleteAccount(1L));
+        verify(accountRepository, never()).deleteById(anyLong());
     }
 
     // Continuing AccountServiceTest
@@ -109,10 +212,9 @@ class AccountServiceTest extends BaseServiceTest {
     @Test
     void getAccountsByUser_ShouldReturnUserAccounts() {
         // Arrange
-        List<Account> accounts = Arrays.asList(testAccount, testAccount);
         when(userService.getUserEntity(anyLong())).thenReturn(testUser);
-        when(accountRepository.findByUser(any(User.class))).thenReturn(accounts);
-        when(accountMapper.toResponseList(anyList())).thenReturn(Arrays.asList(testResponse, testResponse));
+        when(accountRepository.findResponsesByUserId(testUser.getUserId()))
+                .thenReturn(Arrays.asList(testResponse, testResponse));
 
         // Act
         List<AccountResponse> result = accountService.getAccountsByUser(1L);
@@ -120,37 +222,37 @@ class AccountServiceTest extends BaseServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(accountRepository).findByUser(any(User.class));
+        verify(accountMapper, never()).toResponseList(anyList());
     }
 
     @Test
-    void getAccountsByStatus_ShouldReturnAccountsWithSpecificStatus() {
+    void getAccountsByStatus_ShouldReturnSliceOfAccountsWithSpecificStatus() {
         // Arrange
-        List<Account> accounts = Arrays.asList(testAccount, testAccount);
-        when(accountRepository.findByStatus(any(AccountStatus.class))).thenReturn(accounts);
-        when(accountMapper.toResponseList(anyList())).thenReturn(Arrays.asList(testResponse, testResponse));
+        Pageable pageable = PageRequest.of(0, 20);
+        when(accountRepository.findResponsesByStatus(AccountStatus.ACTIVE, pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(testResponse, testResponse), pageable, false));
 
         // Act
-        List<AccountResponse> result = accountService.getAccountsByStatus(AccountStatus.ACTIVE);
+        Slice<AccountResponse> result = accountService.getAccountsByStatus(AccountStatus.ACTIVE, pageable, false);
 
         // Assert
         assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(accountRepository).findByStatus(AccountStatus.ACTIVE);
+        assertEquals(2, result.getNumberOfElements());
+        verify(accountRepository, never()).countByStatus(any(AccountStatus.class));
     }
 
     @Test
     void getTotalBalance_ShouldReturnTotalBalance() {
         // Arrange
         when(userService.getUserEntity(anyLong())).thenReturn(testUser);
-        when(accountRepository.getTotalBalance(any(User.class))).thenReturn(2000.0);
+        when(balanceCache.totalBalance(testUser.getUserId())).thenReturn(Money.of("2000.00"));
 
         // Act
-        Double result = accountService.getTotalBalance(1L);
+        Money result = accountService.getTotalBalance(1L);
 
         // Assert
-        assertEquals(2000.0, result);
-        verify(accountRepository).getTotalBalance(any(User.class));
+        assertEquals(Money.of("2000.00"), result);
+        verify(accountRepository, never()).getTotalBalance(any(User.class));
     }
 
     @Test
@@ -168,18 +270,51 @@ class AccountServiceTest extends BaseServiceTest {
     }
 
     @Test
-    void getAccountsWithMinBalance_ShouldReturnQualifiedAccounts() {
+    void getAccountsWithMinBalance_ShouldReturnQualifiedAccounts_WithTotal() {
         // Arrange
-        List<Account> accounts = Arrays.asList(testAccount, testAccount);
-        when(accountRepository.findAccountsWithBalanceGreaterThan(anyDouble())).thenReturn(accounts);
-        when(accountMapper.toResponseList(anyList())).thenReturn(Arrays.asList(testResponse, testResponse));
+        Pageable pageable = PageRequest.of(0, 2);
+        Money minBalance = Money.of("1000.00");
+        when(accountRepository.findResponsesWithBalanceGreaterThan(minBalance, pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(testResponse, testResponse), pageable, true));
+        when(accountRepository.countAccountsWithBalanceGreaterThan(minBalance)).thenReturn(3L);
 
         // Act
-        List<AccountResponse> result = accountService.getAccountsWithMinBalance(1000.0);
+        Slice<AccountResponse> result = accountService.getAccountsWithMinBalance(minBalance, pageable, true);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(accountRepository).findAccountsWithBalanceGreaterThan(1000.0);
+        assertEquals(2, result.getNumberOfElements());
+        assertEquals(3, assertInstanceOf(Page.class, result).getTotalElements());
+    }
+
+    @Test
+    void getAllAccounts_ShouldAddStripeCredits_ToProjectedBalances() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 20);
+        AccountResponse plain = AccountResponse.builder().accountId(1L).balance(Money.of("100.00")).build();
+        AccountResponse striped = AccountResponse.builder().accountId(2L).balance(Money.of("50.00")).build();
+        when(accountRepository.findResponsesBy(pageable))
+                .thenReturn(new SliceImpl<>(List.of(plain, striped), pageable, false));
+
+        // Act
+        Slice<AccountResponse> result = accountService.getAllAccounts(pageable, false);
+
+        // Assert
+        assertEquals(List.of(plain, striped), result.getContent());
+        verify(stripeService).addStripeTotals(List.of(plain, striped));
+        verify(accountMapper, never()).toResponse(any(Account.class));
+    }
+
+    @Test
+    void getAccountBalance_ShouldReadBalanceCache_WithoutLoadingAccount() {
+        // Arrange
+        when(balanceCache.account(1L)).thenReturn(new BalanceCache.Balance(1L, testUser.getUserId(),
+                Money.of("123.45"), AccountStatus.ACTIVE));
+
+        // Act
+        Money result = accountService.getAccountBalance(1L);
+
+        // Assert
+        assertEquals(Money.of("123.45"), result);
+        verifyNoInteractions(accountRepository);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,10 @@
 package org.system.bank.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -12,11 +16,14 @@ import org.system.bank.entity.Invoice;
 import org.system.bank.entity.User;
 import org.system.bank.enums.InvoiceStatus;
 import org.system.bank.mapper.InvoiceMapper;
+import org.system.bank.outbox.OutboxService;
 import org.system.bank.repository.jpa.InvoiceRepository;
 import org.system.bank.service.base.BaseServiceTest;
 import org.system.bank.service.impl.InvoiceServiceImpl;
 import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -38,6 +45,9 @@ class InvoiceServiceTest extends BaseServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private InvoiceServiceImpl invoiceService;
 
@@ -117,7 +127,7 @@ class InvoiceServiceTest extends BaseServiceTest {
     void processInvoicePayment_ShouldUpdateStatus() {
         // Arrange
         testInvoice.setStatus(InvoiceStatus.PENDING);
-        when(invoiceRepository.findById(anyLong())).thenReturn(Optional.of(testInvoice));
+        when(invoiceRepository.findWithUserByInvoiceId(anyLong())).thenReturn(Optional.of(testInvoice));
 
         when(invoiceRepository.save(any(Invoice.class))).thenAnswer(invocation -> {
             Invoice savedInvoice = invocation.getArgument(0);
@@ -145,7 +155,7 @@ class InvoiceServiceTest extends BaseServiceTest {
     void processInvoicePayment_ShouldThrowException_WhenNotPending() {
         // Arrange
         testInvoice.setStatus(InvoiceStatus.PAID);
-        when(invoiceRepository.findById(anyLong())).thenReturn(Optional.of(testInvoice));
+        when(invoiceRepository.findWithUserByInvoiceId(anyLong())).thenReturn(Optional.of(testInvoice));
 
         // Act & Assert
         assertThrows(IllegalStateException.class,
@@ -155,29 +165,29 @@ class InvoiceServiceTest extends BaseServiceTest {
     @Test
     void getOverdueInvoices_ShouldReturnOverdueInvoices() {
         // Arrange
-        List<Invoice> overdueInvoices = Arrays.asList(testInvoice);
-        when(invoiceRepository.findOverdueInvoices()).thenReturn(overdueInvoices);
-        when(invoiceMapper.toResponseList(anyList())).thenReturn(Arrays.asList(testResponse));
+        Pageable pageable = PageRequest.of(0, 20);
+        when(invoiceRepository.findOverdueResponses(pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(testResponse), pageable, false));
 
         // Act
-        List<InvoiceResponse> result = invoiceService.getOverdueInvoices();
+        Slice<InvoiceResponse> result = invoiceService.getOverdueInvoices(pageable, false);
 
         // Assert
         assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
-        verify(invoiceRepository).findOverdueInvoices();
+        assertEquals(1, result.getNumberOfElements());
+        verify(invoiceRepository, never()).countOverdueInvoices();
     }
 
     @Test
     void calculateTotalPendingAmount_ShouldReturnCorrectAmount() {
         // Arrange
-        when(invoiceRepository.calculateTotalPendingAmount(any(User.class))).thenReturn(1000.0);
+        when(invoiceRepository.calculateTotalPendingAmount(any(User.class))).thenReturn(new BigDecimal("1000.00"));
 
         // Act
-        Double result = invoiceService.calculateTotalPendingAmount(1L);
+        Money result = invoiceService.calculateTotalPendingAmount(1L);
 
         // Assert
-        assertEquals(1000.0, result);
+        assertEquals(Money.of("1000.00"), result);
         verify(invoiceRepository).calculateTotalPendingAmount(any(User.class));
     }
 
@@ -211,17 +221,17 @@ class InvoiceServiceTest extends BaseServiceTest {
     @Test
     void getInvoicesByDueDate_ShouldReturnInvoices() {
         // Arrange
-        List<Invoice> invoices = Arrays.asList(testInvoice);
+        Pageable pageable = PageRequest.of(0, 20);
         LocalDate dueDate = LocalDate.now();
-        when(invoiceRepository.findByDueDateBefore(dueDate)).thenReturn(invoices);
-        when(invoiceMapper.toResponseList(anyList())).thenReturn(Arrays.asList(testResponse));
+        when(invoiceRepository.findResponsesByDueDateBefore(dueDate, pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(testResponse), pageable, false));
 
         // Act
-        List<InvoiceResponse> result = invoiceService.getInvoicesByDueDate(dueDate);
+        Slice<InvoiceResponse> result = invoiceService.getInvoicesByDueDate(dueDate, pageable, false);
 
         // Assert
         assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
-        verify(invoiceRepository).findByDueDateBefore(dueDate);
+        assertEquals(1, result.getNumberOfElements());
+        verify(invoiceRepository).findResponsesByDueDateBefore(dueDate, pageable);
     }
 }
@@ -9,6 +9,7 @@ import org.system.bank.repository.jpa.LoanRepository;
 import org.system.bank.service.base.BaseServiceTest;
 import org.system.bank.service.impl.LoanEligibilityService;
 import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -100,8 +101,8 @@ class LoanEligibilityServiceTest extends BaseServiceTest {
     @Test
     void isEligibleForLoanAmount_ShouldReturnTrue_WhenAmountWithinLimit() {
         // Arrange
-        double requestedAmount = 20000.0;
-        double currentDebt = 10000.0;
+        Money requestedAmount = Money.ofMajor(20000);
+        Money currentDebt = Money.ofMajor(10000);
         testUser.setMonthlyIncome(5000.0); // Annual income = 60000
 
         // Act
@@ -114,8 +115,8 @@ class LoanEligibilityServiceTest extends BaseServiceTest {
     @Test
     void isEligibleForLoanAmount_ShouldReturnFalse_WhenAmountExceedsLimit() {
         // Arrange
-        double requestedAmount = 50000.0;
-        double currentDebt = 20000.0;
+        Money requestedAmount = Money.ofMajor(50000);
+        Money currentDebt = Money.ofMajor(20000);
         testUser.setMonthlyIncome(5000.0); // Annual income = 60000
 
         // Act
@@ -129,7 +130,7 @@ class LoanEligibilityServiceTest extends BaseServiceTest {
     void calculateInterestRate_ShouldReturnBaseRate_ForAverageProfile() {
         // Arrange
         testUser.setCreditScore(700);
-        double amount = 10000.0;
+        Money amount = Money.ofMajor(10000);
 
         // Act
         double rate = loanEligibilityService.calculateInterestRate(testUser, amount);
@@ -142,7 +143,7 @@ class LoanEligibilityServiceTest extends BaseServiceTest {
     void calculateInterestRate_ShouldReturnLowerRate_ForExcellentProfile() {
         // Arrange
         testUser.setCreditScore(800);
-        double amount = 10000.0;
+        Money amount = Money.ofMajor(10000);
 
         // Act
         double rate = loanEligibilityService.calculateInterestRate(testUser, amount);
@@ -155,7 +156,7 @@ class LoanEligibilityServiceTest extends BaseServiceTest {
     void calculateInterestRate_ShouldReturnHigherRate_ForLargeAmount() {
         // Arrange
         testUser.setCreditScore(700);
-        double amount = 60000.0;
+        Money amount = Money.ofMajor(60000);
 
         // Act
         double rate = loanEligibilityService.calculateInterestRate(testUser, amount);
@@ -1,5 +1,9 @@
 package org.system.bank.service;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -11,12 +15,15 @@ import org.system.bank.entity.Loan;
 import org.system.bank.entity.User;
 import org.system.bank.enums.LoanStatus;
 import org.system.bank.mapper.LoanMapper;
+import org.system.bank.outbox.OutboxService;
 import org.system.bank.repository.jpa.LoanRepository;
 import org.system.bank.repository.jpa.UserRepository;
 import org.system.bank.service.base.BaseServiceTest;
 import org.system.bank.service.impl.LoanServiceImpl;
 import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -38,6 +45,9 @@ class LoanServiceTest extends BaseServiceTest {
     @Mock
     private LoanMapper loanMapper;
 
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private LoanServiceImpl loanService;
 
@@ -108,7 +118,7 @@ class LoanServiceTest extends BaseServiceTest {
     void approveLoan_ShouldUpdateStatus() {
         // Arrange
         testLoan.setStatus(LoanStatus.PENDING);
-        when(loanRepository.findById(anyLong())).thenReturn(Optional.of(testLoan));
+        when(loanRepository.findWithUserByLoanId(anyLong())).thenReturn(Optional.of(testLoan));
 
         when(loanRepository.save(any(Loan.class))).thenAnswer(invocation -> {
             Loan savedLoan = invocation.getArgument(0);
@@ -136,7 +146,7 @@ class LoanServiceTest extends BaseServiceTest {
     void rejectLoan_ShouldUpdateStatus() {
         // Arrange
         testLoan.setStatus(LoanStatus.PENDING);
-        when(loanRepository.findById(anyLong())).thenReturn(Optional.of(testLoan));
+        when(loanRepository.findWithUserByLoanId(anyLong())).thenReturn(Optional.of(testLoan));
 
         when(loanRepository.save(any(Loan.class))).thenAnswer(invocation -> {
             Loan savedLoan = invocation.getArgument(0);
@@ -164,16 +174,16 @@ class LoanServiceTest extends BaseServiceTest {
     void processLoanPayment_ShouldUpdateRemainingAmount() {
         // Arrange
         testLoan.setStatus(LoanStatus.ACTIVE);
-        testLoan.setRemainingAmount(1000.0);
-        when(loanRepository.findById(anyLong())).thenReturn(Optional.of(testLoan));
+        testLoan.setRemainingAmount(Money.of("1000.00"));
+        when(loanRepository.findWithUserByLoanId(anyLong())).thenReturn(Optional.of(testLoan));
         when(loanRepository.save(any(Loan.class))).thenReturn(testLoan);
         when(loanMapper.toResponse(any(Loan.class))).thenReturn(testResponse);
 
         // Act
-        LoanResponse result = loanService.processLoanPayment(1L, 500.0);
+        LoanResponse result = loanService.processLoanPayment(1L, Money.of("500.00"));
 
         // Assert
-        assertEquals(500.0, testLoan.getRemainingAmount());
+        assertEquals(Money.of("500.00"), testLoan.getRemainingAmount());
         verify(loanRepository).save(any(Loan.class));
     }
 
@@ -181,52 +191,53 @@ class LoanServiceTest extends BaseServiceTest {
     void processLoanPayment_ShouldCompleteLoad_WhenFullyPaid() {
         // Arrange
         testLoan.setStatus(LoanStatus.ACTIVE);
-        testLoan.setRemainingAmount(500.0);
-        when(loanRepository.findById(anyLong())).thenReturn(Optional.of(testLoan));
+        testLoan.setRemainingAmount(Money.of("500.00"));
+        when(loanRepository.findWithUserByLoanId(anyLong())).thenReturn(Optional.of(testLoan));
         when(loanRepository.save(any(Loan.class))).thenAnswer(invocation -> {
             Loan savedLoan = invocation.getArgument(0);
             savedLoan.setStatus(LoanStatus.COMPLETED);
-            savedLoan.setRemainingAmount(0.0);
+            savedLoan.setRemainingAmount(Money.of("0.00"));
             return savedLoan;
         });
         when(loanMapper.toResponse(any(Loan.class))).thenReturn(testResponse);
 
         // Act
-        LoanResponse result = loanService.processLoanPayment(1L, 500.0);
+        LoanResponse result = loanService.processLoanPayment(1L, Money.of("500.00"));
 
         // Assert
         assertEquals(LoanStatus.COMPLETED, testLoan.getStatus());
-        assertEquals(0.0, testLoan.getRemainingAmount());
+        assertEquals(Money.ZERO, testLoan.getRemainingAmount());
         verify(loanRepository).save(any(Loan.class));
     }
 
     @Test
     void getOverdueLoans_ShouldReturnOverdueLoans() {
         // Arrange
-        List<Loan> overdueLoans = Arrays.asList(testLoan);
-        when(loanRepository.findOverdueLoans(any(LocalDate.class))).thenReturn(overdueLoans);
-        when(loanMapper.toResponseList(anyList())).thenReturn(Arrays.asList(testResponse));
+        Pageable pageable = PageRequest.of(0, 20);
+        when(loanRepository.findOverdueResponses(any(LocalDate.class), eq(Money.ZERO), eq(pageable)))
+                .thenReturn(new SliceImpl<>(Arrays.asList(testResponse), pageable, false));
 
         // Act
-        List<LoanResponse> result = loanService.getOverdueLoans();
+        Slice<LoanResponse> result = loanService.getOverdueLoans(pageable, false);
 
         // Assert
         assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
-        verify(loanRepository).findOverdueLoans(any(LocalDate.class));
+        assertEquals(1, result.getNumberOfElements());
+        verify(loanRepository, never()).countOverdueLoans(any(LocalDate.class), any(Money.class));
+        verify(loanMapper, never()).toResponse(any(Loan.class));
     }
 
     @Test
     void calculateTotalDebt_ShouldReturnCorrectAmount() {
         // Arrange
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
-        when(loanRepository.calculateTotalDebt(any(User.class))).thenReturn(5000.0);
+        when(loanRepository.calculateTotalDebt(any(User.class))).thenReturn(new BigDecimal("5000.00"));
 
         // Act
-        Double result = loanService.calculateTotalDebt(1L);
+        Money result = loanService.calculateTotalDebt(1L);
 
         // Assert
-        assertEquals(5000.0, result);
+        assertEquals(Money.of("5000.00"), result);
         verify(loanRepository).calculateTotalDebt(any(User.class));
     }
 
@@ -236,11 +247,11 @@ class LoanServiceTest extends BaseServiceTest {
         when(loanRepository.findById(anyLong())).thenReturn(Optional.of(testLoan));
 
         // Act
-        Double result = loanService.calculateMonthlyPayment(1L);
+        Money result = loanService.calculateMonthlyPayment(1L);
 
         // Assert
         assertNotNull(result);
-        assertTrue(result > 0);
+        assertTrue(result.isPositive());
         verify(loanRepository).findById(anyLong());
     }
 
@@ -4,24 +4,46 @@ package org.system.bank.service;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.system.bank.balance.AccountBalanceIndex;
 import org.system.bank.dto.request.TransactionRequest;
+import org.system.bank.enums.AccountStatus;
+import org.system.bank.enums.FraudRule;
+import org.system.bank.exception.FraudScreeningException;
+import org.system.bank.exception.InsufficientFundsException;
+import org.system.bank.fraud.ScreeningAction;
+import org.system.bank.fraud.ScreeningResult;
+import org.system.bank.fraud.VelocityScreener;
+import org.system.bank.exception.SpendingLimitExceededException;
 import org.system.bank.dto.response.TransactionResponse;
 import org.system.bank.entity.Account;
 import org.system.bank.entity.Transaction;
 import org.system.bank.enums.TransactionStatus;
 import org.system.bank.enums.TransactionType;
+import org.system.bank.hold.HoldService;
+import org.system.bank.ledger.LedgerService;
+import org.system.bank.limits.SpendingLimitService;
 import org.system.bank.mapper.TransactionMapper;
+import org.system.bank.outbox.OutboxService;
 import org.system.bank.repository.jpa.TransactionRepository;
+import org.system.bank.repository.projection.TransactionView;
 import org.system.bank.service.base.BaseServiceTest;
 import org.system.bank.service.impl.TransactionServiceImpl;
+import org.system.bank.settlement.SettlementQueue;
+import org.system.bank.stripe.BalanceStripeService;
+import org.system.bank.totals.DailyTotalsService;
 import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,6 +61,33 @@ class TransactionServiceTest extends BaseServiceTest {
     @Mock
     private AccountService accountService;
 
+    @Mock
+    private SettlementQueue settlementQueue;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private AccountBalanceIndex balanceIndex;
+
+    @Mock
+    private HoldService holdService;
+
+    @Mock
+    private BalanceStripeService stripeService;
+
+    @Mock
+    private DailyTotalsService dailyTotalsService;
+
+    @Mock
+    private SpendingLimitService spendingLimitService;
+
+    @Mock
+    private VelocityScreener velocityScreener;
+
     @InjectMocks
     private TransactionServiceImpl transactionService;
 
@@ -51,7 +100,7 @@ class TransactionServiceTest extends BaseServiceTest {
     @BeforeEach
     void setUp() {
         sourceAccount = TestDataBuilder.createTestAccount();
-        sourceAccount.setBalance(2000.0);
+        sourceAccount.setBalance(Money.of("2000.00"));
 
         destinationAccount = TestDataBuilder.createTestAccount();
         destinationAccount.setAccountId(2L);
@@ -67,13 +116,19 @@ class TransactionServiceTest extends BaseServiceTest {
                 .sourceAccountId(testRequest.getSourceAccountId())
                 .destinationAccountId(testRequest.getDestinationAccountId())
                 .createdAt(LocalDateTime.now())
-                .fee(0.1)
+                .fee(Money.of("0.10"))
                 .build();
+
+        lenient().when(stripeService.totalBalance(any(Account.class)))
+                .thenAnswer(invocation -> ((Account) invocation.getArgument(0)).getBalance());
+        lenient().when(velocityScreener.screen(any(TransactionRequest.class))).thenReturn(ScreeningResult.ALLOWED);
     }
 
     @Test
     void createTransaction_ShouldReturnTransactionResponse() {
         // Arrange
+        testRequest.setType(TransactionType.INSTANT);
+        testTransaction.setType(TransactionType.INSTANT);
         when(accountService.getAccountEntity(eq(testRequest.getSourceAccountId())))
                 .thenReturn(sourceAccount);
         when(accountService.getAccountEntity(eq(testRequest.getDestinationAccountId())))
@@ -91,12 +146,16 @@ class TransactionServiceTest extends BaseServiceTest {
 
         when(transactionRepository.findById(anyLong()))
                 .thenReturn(Optional.of(testTransaction));
+        when(accountService.lockAccounts(Set.of(1L, 2L)))
+                .thenReturn(Map.of(1L, sourceAccount, 2L, destinationAccount));
 
         when(transactionMapper.toResponse(any(Transaction.class)))
                 .thenReturn(testResponse);
 
         when(accountService.saveAccount(any(Account.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionMapper.calculateFee(any(Transaction.class)))
+                .thenReturn(Money.of("0.50"));
 
         // Act
         TransactionResponse result = transactionService.createTransaction(testRequest);
@@ -107,6 +166,104 @@ class TransactionServiceTest extends BaseServiceTest {
         assertEquals(testResponse.getStatus(), result.getStatus());
         verify(transactionRepository, times(2)).save(any(Transaction.class));
         verify(accountService, times(2)).saveAccount(any(Account.class));
+        verify(settlementQueue, never()).submit(any(Transaction.class));
+    }
+
+    @Test
+    void createTransaction_ShouldQueueStandardTransfer_WithoutSettlingIt() {
+        // Arrange
+        when(accountService.getAccountEntity(eq(testRequest.getSourceAccountId())))
+                .thenReturn(sourceAccount);
+        when(accountService.getAccountEntity(eq(testRequest.getDestinationAccountId())))
+                .thenReturn(destinationAccount);
+        when(transactionMapper.toEntity(any(TransactionRequest.class)))
+                .thenReturn(testTransaction);
+        when(transactionRepository.save(any(Transaction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        testResponse.setStatus(TransactionStatus.PENDING);
+        when(transactionMapper.toResponse(any(Transaction.class)))
+                .thenReturn(testResponse);
+
+        // Act
+        TransactionResponse result = transactionService.createTransaction(testRequest);
+
+        // Assert
+        assertEquals(TransactionStatus.PENDING, result.getStatus());
+        assertEquals(TransactionStatus.PENDING, testTransaction.getStatus());
+        verify(holdService).placeHold(testTransaction);
+        verify(settlementQueue).submit(testTransaction);
+        verify(accountService, never()).saveAccount(any(Account.class));
+        verify(transactionRepository, times(1)).save(any(Transaction.class));
+    }
+
+    @Test
+    void createTransaction_ShouldHoldTransferForReview_WhenScreeningHoldsIt() {
+        // Arrange
+        testRequest.setType(TransactionType.INSTANT);
+        testTransaction.setType(TransactionType.INSTANT);
+        when(velocityScreener.screen(testRequest)).thenReturn(new ScreeningResult(ScreeningAction.HOLD, FraudRule.BURST));
+        when(accountService.getAccountEntity(eq(testRequest.getSourceAccountId())))
+                .thenReturn(sourceAccount);
+        when(accountService.getAccountEntity(eq(testRequest.getDestinationAccountId())))
+                .thenReturn(destinationAccount);
+        when(transactionMapper.toEntity(any(TransactionRequest.class)))
+                .thenReturn(testTransaction);
+        when(transactionRepository.save(any(Transaction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionMapper.toResponse(any(Transaction.class)))
+                .thenReturn(testResponse);
+
+        // Act
+        transactionService.createTransaction(testRequest);
+
+        // Assert
+        assertEquals(TransactionStatus.PENDING, testTransaction.getStatus());
+        assertEquals(FraudRule.BURST, testTransaction.getFraudRule());
+        verify(holdService).placeHold(testTransaction);
+        verify(settlementQueue, never()).submit(any(Transaction.class));
+        verify(accountService, never()).saveAccount(any(Account.class));
+    }
+
+    @Test
+    void createTransaction_ShouldThrow_WhenScreeningRejectsIt() {
+        // Arrange
+        when(accountService.getAccountEntity(eq(testRequest.getSourceAccountId())))
+                .thenReturn(sourceAccount);
+        when(accountService.getAccountEntity(eq(testRequest.getDestinationAccountId())))
+                .thenReturn(destinationAccount);
+        when(velocityScreener.screen(testRequest)).thenReturn(new ScreeningResult(ScreeningAction.REJECT, FraudRule.FAN_OUT));
+
+        // Act & Assert
+        assertThrows(FraudScreeningException.class, () -> transactionService.createTransaction(testRequest));
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    void approveHeldTransaction_ShouldQueueStandardTransferForSettlement() {
+        // Arrange
+        testTransaction.setTransactionId(1L);
+        testTransaction.setFraudRule(FraudRule.FAN_OUT);
+        when(transactionRepository.findPendingByIdForUpdate(List.of(1L))).thenReturn(List.of(testTransaction));
+        when(transactionMapper.toResponse(testTransaction)).thenReturn(testResponse);
+
+        // Act
+        transactionService.approveHeldTransaction(1L);
+
+        // Assert
+        assertNull(testTransaction.getFraudRule());
+        verify(transactionRepository).save(testTransaction);
+        verify(settlementQueue).submit(testTransaction);
+    }
+
+    @Test
+    void approveHeldTransaction_ShouldThrow_WhenTransactionIsNotHeld() {
+        // Arrange
+        testTransaction.setTransactionId(1L);
+        when(transactionRepository.findPendingByIdForUpdate(List.of(1L))).thenReturn(List.of(testTransaction));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> transactionService.approveHeldTransaction(1L));
+        verify(settlementQueue, never()).submit(any(Transaction.class));
     }
 
     @Test
@@ -140,10 +297,10 @@ class TransactionServiceTest extends BaseServiceTest {
     @Test
     void getAllTransactions_ShouldReturnAllTransactions() {
         // Arrange
-        List<Transaction> transactions = Arrays.asList(testTransaction, testTransaction);
-        when(transactionRepository.findAll())
-                .thenReturn(transactions);
-        when(transactionMapper.toResponseList(anyList()))
+        List<TransactionView> views = Arrays.asList(mock(TransactionView.class), mock(TransactionView.class));
+        when(transactionRepository.findAllViews())
+                .thenReturn(views);
+        when(transactionMapper.toViewResponseList(views))
                 .thenReturn(Arrays.asList(testResponse, testResponse));
 
         // Act
@@ -152,18 +309,18 @@ class TransactionServiceTest extends BaseServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(transactionRepository).findAll();
+        verify(transactionRepository, never()).findAll();
     }
 
     @Test
     void getTransactionsByAccount_ShouldReturnAccountTransactions() {
         // Arrange
-        List<Transaction> transactions = Arrays.asList(testTransaction, testTransaction);
+        List<TransactionView> views = Arrays.asList(mock(TransactionView.class), mock(TransactionView.class));
         when(accountService.getAccountEntity(anyLong()))
                 .thenReturn(sourceAccount);
-        when(transactionRepository.findBySourceAccountOrDestinationAccount(any(), any()))
-                .thenReturn(transactions);
-        when(transactionMapper.toResponseList(anyList()))
+        when(transactionRepository.findViewsByAccountId(sourceAccount.getAccountId()))
+                .thenReturn(views);
+        when(transactionMapper.toViewResponseList(views))
                 .thenReturn(Arrays.asList(testResponse, testResponse));
 
         // Act
@@ -172,28 +329,93 @@ class TransactionServiceTest extends BaseServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(transactionRepository).findBySourceAccountOrDestinationAccount(any(), any());
+        verify(transactionRepository).findViewsByAccountId(sourceAccount.getAccountId());
     }
 
     @Test
     void processTransaction_ShouldProcessSuccessfully() {
         // Arrange
         testTransaction.setStatus(TransactionStatus.PENDING);
+        testTransaction.setSourceAccount(sourceAccount);
+        testTransaction.setDestinationAccount(destinationAccount);
         when(transactionRepository.findById(anyLong()))
                 .thenReturn(Optional.of(testTransaction));
-        when(accountService.getAccountEntity(anyLong()))
-                .thenReturn(sourceAccount);
+        when(accountService.lockAccounts(Set.of(1L, 2L)))
+                .thenReturn(Map.of(1L, sourceAccount, 2L, destinationAccount));
         when(accountService.saveAccount(any(Account.class)))
                 .thenReturn(sourceAccount);
         when(transactionRepository.save(any(Transaction.class)))
                 .thenReturn(testTransaction);
+        when(transactionMapper.calculateFee(any(Transaction.class)))
+                .thenReturn(Money.of("0.10"));
 
         // Act
         transactionService.processTransaction(1L);
 
         // Assert
+        InOrder inOrder = inOrder(accountService, holdService);
+        inOrder.verify(accountService).lockAccounts(Set.of(1L, 2L));
+        inOrder.verify(holdService).captureForSettlement(eq(testTransaction), eq(sourceAccount), any(Money.class));
         verify(accountService, times(2)).saveAccount(any(Account.class));
+        verify(accountService, never()).getAccountEntity(anyLong());
         verify(transactionRepository).save(any(Transaction.class));
+        verify(dailyTotalsService).record(List.of(testTransaction));
+    }
+
+    @Test
+    void processTransaction_ShouldCreditStripe_WhenDestinationIsStriped() {
+        // Arrange
+        testTransaction.setStatus(TransactionStatus.PENDING);
+        testTransaction.setSourceAccount(sourceAccount);
+        testTransaction.setDestinationAccount(destinationAccount);
+        destinationAccount.setBalanceStripes(8);
+        Money destinationBalance = destinationAccount.getBalance();
+        when(transactionRepository.findById(anyLong()))
+                .thenReturn(Optional.of(testTransaction));
+        when(accountService.lockAccounts(Set.of(1L, 2L)))
+                .thenReturn(Map.of(1L, sourceAccount, 2L, destinationAccount));
+        when(transactionMapper.calculateFee(any(Transaction.class)))
+                .thenReturn(Money.of("0.10"));
+
+        // Act
+        transactionService.processTransaction(1L);
+
+        // Assert
+        verify(stripeService).fold(sourceAccount);
+        verify(stripeService).credit(destinationAccount, testTransaction.getAmount(), 1L);
+        verify(accountService).saveAccount(sourceAccount);
+        verify(accountService, never()).saveAccount(destinationAccount);
+        assertEquals(destinationBalance, destinationAccount.getBalance());
+    }
+
+    @Test
+    void calculateDailyTransactions_ShouldReadDailyTotal_ForWholeDay() {
+        // Arrange
+        when(accountService.getAccountEntity(1L)).thenReturn(sourceAccount);
+        when(dailyTotalsService.getDailyDebitTotal(1L, LocalDate.of(2024, 3, 1)))
+                .thenReturn(Money.of("350.00"));
+
+        // Act
+        Money result = transactionService.calculateDailyTransactions(1L, LocalDateTime.of(2024, 3, 1, 23, 59, 59, 500_000_000));
+
+        // Assert
+        assertEquals(Money.of("350.00"), result);
+    }
+
+    @Test
+    void screenTransaction_ShouldPropagateLimitBreach_AfterOtherChecksPass() {
+        // Arrange
+        when(accountService.getAccountEntity(eq(testRequest.getSourceAccountId())))
+                .thenReturn(sourceAccount);
+        when(accountService.getAccountEntity(eq(testRequest.getDestinationAccountId())))
+                .thenReturn(destinationAccount);
+        doThrow(new SpendingLimitExceededException("Transfer exceeds the daily limit for STANDARD transfers"))
+                .when(spendingLimitService).checkAndReserve(testRequest);
+
+        // Act & Assert
+        assertThrows(SpendingLimitExceededException.class,
+                () -> transactionService.screenTransaction(testRequest));
+        verifyNoInteractions(velocityScreener);
     }
 
     @Test
@@ -208,6 +430,23 @@ class TransactionServiceTest extends BaseServiceTest {
                 () -> transactionService.processTransaction(1L));
     }
 
+    @Test
+    void processTransaction_ShouldThrow_WhenAccountWasBlockedSinceValidation() {
+        // Arrange: the balance index still reported the destination as ACTIVE
+        testTransaction.setSourceAccount(sourceAccount);
+        testTransaction.setDestinationAccount(destinationAccount);
+        destinationAccount.setStatus(AccountStatus.BLOCKED);
+        when(transactionRepository.findById(anyLong()))
+                .thenReturn(Optional.of(testTransaction));
+        when(accountService.lockAccounts(Set.of(1L, 2L)))
+                .thenReturn(Map.of(1L, sourceAccount, 2L, destinationAccount));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> transactionService.processTransaction(1L));
+        verify(accountService, never()).saveAccount(any(Account.class));
+        verifyNoInteractions(holdService, ledgerService);
+    }
+
     @Test
     void isTransactionValid_ShouldReturnTrue_WhenValidTransaction() {
         // Arrange
@@ -221,12 +460,13 @@ class TransactionServiceTest extends BaseServiceTest {
 
         // Assert
         assertTrue(result);
+        verifyNoInteractions(spendingLimitService);
     }
 
     @Test
     void isTransactionValid_ShouldReturnFalse_WhenInsufficientFunds() {
         // Arrange
-        sourceAccount.setBalance(50.0);
+        sourceAccount.setBalance(Money.of("50.00"));
         when(accountService.getAccountEntity(eq(testRequest.getSourceAccountId())))
                 .thenReturn(sourceAccount);
         when(accountService.getAccountEntity(eq(testRequest.getDestinationAccountId())))
@@ -239,25 +479,68 @@ class TransactionServiceTest extends BaseServiceTest {
         assertFalse(result);
     }
 
+    @Test
+    void isTransactionValid_ShouldAcceptFromBalanceIndex_WithoutLoadingAccounts() {
+        // Arrange
+        when(balanceIndex.lookup(1L)).thenReturn(AccountBalanceIndex.pack(500_00L, AccountStatus.ACTIVE));
+        when(balanceIndex.lookup(2L)).thenReturn(AccountBalanceIndex.pack(0L, AccountStatus.ACTIVE));
+
+        // Act
+        boolean result = transactionService.isTransactionValid(testRequest);
+
+        // Assert
+        assertTrue(result);
+        verify(accountService, never()).getAccountEntity(anyLong());
+    }
+
+    @Test
+    void isTransactionValid_ShouldRecheckDatabase_WhenIndexedBalanceIsTooLow() {
+        // Arrange: another node credited the account after this node indexed it
+        when(balanceIndex.lookup(1L)).thenReturn(AccountBalanceIndex.pack(50_00L, AccountStatus.ACTIVE));
+        when(balanceIndex.lookup(2L)).thenReturn(AccountBalanceIndex.pack(0L, AccountStatus.ACTIVE));
+        when(accountService.getAccountEntity(1L)).thenReturn(sourceAccount);
+        when(accountService.getAccountEntity(2L)).thenReturn(destinationAccount);
+
+        // Act
+        boolean result = transactionService.isTransactionValid(testRequest);
+
+        // Assert
+        assertTrue(result);
+    }
+
+    @Test
+    void isTransactionValid_ShouldReject_WhenDatabaseConfirmsInsufficientFunds() {
+        // Arrange
+        sourceAccount.setBalance(Money.of("50.00"));
+        when(balanceIndex.lookup(1L)).thenReturn(AccountBalanceIndex.pack(50_00L, AccountStatus.ACTIVE));
+        when(balanceIndex.lookup(2L)).thenReturn(AccountBalanceIndex.pack(0L, AccountStatus.ACTIVE));
+        when(accountService.getAccountEntity(1L)).thenReturn(sourceAccount);
+        when(accountService.getAccountEntity(2L)).thenReturn(destinationAccount);
+
+        // Act & Assert
+        assertThrows(InsufficientFundsException.class,
+                () -> transactionService.isTransactionValid(testRequest));
+    }
+
     @Test
     void calculateTransactionFee_ShouldReturnCorrectFee() {
         // Arrange
         TransactionRequest standardRequest = TransactionRequest.builder()
-                .amount(100.0)
+                .amount(Money.of("100.00"))
                 .type(TransactionType.STANDARD)
                 .build();
 
         TransactionRequest instantRequest = TransactionRequest.builder()
-                .amount(100.0)
+                .amount(Money.of("100.00"))
                 .type(TransactionType.INSTANT)
                 .build();
 
         // Act
-        Double standardFee = transactionService.calculateTransactionFee(standardRequest);
-        Double instantFee = transactionService.calculateTransactionFee(instantRequest);
+        Money standardFee = transactionService.calculateTransactionFee(standardRequest);
+        Money instantFee = transactionService.calculateTransactionFee(instantRequest);
 
         // Assert
-        assertEquals(0.1, standardFee); // 0.1% for standard
-        assertEquals(0.5, instantFee);  // 0.5% for instant
+        assertEquals(Money.of("0.10"), standardFee); // 0.1% for standard
+        assertEquals(Money.of("0.50"), instantFee);  // 0.5% for instant
     }
 }
@@ -6,15 +6,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.system.bank.dto.request.UserRegistrationRequest;
+import org.system.bank.dto.response.AccountResponse;
 import org.system.bank.dto.response.UserResponse;
 import org.system.bank.entity.User;
 import org.system.bank.enums.Role;
+import org.system.bank.ledger.LedgerService;
 import org.system.bank.mapper.UserMapper;
 import org.system.bank.repository.jpa.UserRepository;
 import org.system.bank.service.base.BaseServiceTest;
 import org.system.bank.service.impl.LoanEligibilityService;
 import org.system.bank.service.impl.UserServiceImpl;
+import org.system.bank.stripe.BalanceStripeService;
 import org.system.bank.util.TestDataBuilder;
 
 import java.util.Arrays;
@@ -37,6 +45,12 @@ class UserServiceTest extends BaseServiceTest {
     @Mock
     private LoanEligibilityService loanEligibilityService;
 
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private BalanceStripeService stripeService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -139,35 +153,82 @@ class UserServiceTest extends BaseServiceTest {
     }
 
     @Test
-    void getAllUsers_ShouldReturnAllUsers() {
+    void deleteUser_ShouldThrow_WhenAccountsHaveLedgerPostings() {
         // Arrange
-        List<User> users = Arrays.asList(testUser, testUser);
-        when(userRepository.findAll()).thenReturn(users);
-        when(userMapper.toResponseList(anyList())).thenReturn(Arrays.asList(testResponse, testResponse));
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(ledgerService.hasPostingsForUser(1L)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> userService.deleteUser(1L));
+        verify(userRepository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    void getAllUsers_ShouldAddStripeCredits_ToEveryEmbeddedAccount() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2);
+        AccountResponse first = AccountResponse.builder().accountId(1L).build();
+        AccountResponse second = AccountResponse.builder().accountId(2L).build();
+        testResponse.setAccounts(List.of(first, second));
+        when(userRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(testUser), pageable, false));
+        when(userMapper.toResponse(testUser)).thenReturn(testResponse);
 
         // Act
-        List<UserResponse> result = userService.getAllUsers();
+        userService.getAllUsers(pageable, false);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(userRepository).findAll();
+        verify(stripeService).addStripeTotals(List.of(first, second));
     }
 
     @Test
-    void getUsersByRole_ShouldReturnUsersWithSpecificRole() {
+    void getAllUsers_ShouldReturnSlice_WithoutCounting() {
         // Arrange
-        List<User> users = Arrays.asList(testUser, testUser);
-        when(userRepository.findByRole(any(Role.class))).thenReturn(users);
-        when(userMapper.toResponseList(anyList())).thenReturn(Arrays.asList(testResponse, testResponse));
+        Pageable pageable = PageRequest.of(0, 2);
+        when(userRepository.findAllBy(pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(testUser, testUser), pageable, true));
+        when(userMapper.toResponse(any(User.class))).thenReturn(testResponse);
 
         // Act
-        List<UserResponse> result = userService.getUsersByRole(Role.USER);
+        Slice<UserResponse> result = userService.getAllUsers(pageable, false);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(userRepository).findByRole(Role.USER);
+        assertEquals(2, result.getNumberOfElements());
+        assertTrue(result.hasNext());
+        assertFalse(result instanceof Page);
+        verify(userRepository, never()).count();
+        verify(userRepository).findWithAccountsByUserIdIn(List.of(testUser.getUserId(), testUser.getUserId()));
+    }
+
+    @Test
+    void getAllUsers_ShouldSkipAccountFetch_WhenPageIsEmpty() {
+        // Arrange
+        Pageable pageable = PageRequest.of(3, 2);
+        when(userRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // Act
+        Slice<UserResponse> result = userService.getAllUsers(pageable, false);
+
+        // Assert
+        assertFalse(result.hasContent());
+        verify(userRepository, never()).findWithAccountsByUserIdIn(any());
+    }
+
+    @Test
+    void getUsersByRole_ShouldReturnPageWithTotal_WhenRequested() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2);
+        when(userRepository.findByRole(Role.USER, pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(testUser, testUser), pageable, true));
+        when(userRepository.countByRole(Role.USER)).thenReturn(5L);
+        when(userMapper.toResponse(any(User.class))).thenReturn(testResponse);
+
+        // Act
+        Slice<UserResponse> result = userService.getUsersByRole(Role.USER, pageable, true);
+
+        // Assert
+        Page<UserResponse> page = assertInstanceOf(Page.class, result);
+        assertEquals(5, page.getTotalElements());
+        assertEquals(2, page.getNumberOfElements());
     }
 
     @Test
@@ -203,48 +264,51 @@ class UserServiceTest extends BaseServiceTest {
     @Test
     void getUsersByAgeRange_ShouldReturnUsersInRange() {
         // Arrange
-        List<User> users = Arrays.asList(testUser, testUser);
-        when(userRepository.findByAgeBetween(anyInt(), anyInt())).thenReturn(users);
-        when(userMapper.toResponseList(anyList())).thenReturn(Arrays.asList(testResponse, testResponse));
+        Pageable pageable = PageRequest.of(0, 20);
+        when(userRepository.findByAgeBetween(25, 35, pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(testUser, testUser), pageable, false));
+        when(userMapper.toResponse(any(User.class))).thenReturn(testResponse);
 
         // Act
-        List<UserResponse> result = userService.getUsersByAgeRange(25, 35);
+        Slice<UserResponse> result = userService.getUsersByAgeRange(25, 35, pageable, false);
 
         // Assert
         assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(userRepository).findByAgeBetween(25, 35);
+        assertEquals(2, result.getNumberOfElements());
+        assertFalse(result.hasNext());
     }
 
     @Test
     void getUsersByIncomeRange_ShouldReturnUsersInRange() {
         // Arrange
-        List<User> users = Arrays.asList(testUser, testUser);
-        when(userRepository.findByMonthlyIncomeBetween(anyDouble(), anyDouble())).thenReturn(users);
-        when(userMapper.toResponseList(anyList())).thenReturn(Arrays.asList(testResponse, testResponse));
+        Pageable pageable = PageRequest.of(0, 20);
+        when(userRepository.findByMonthlyIncomeBetween(4000.0, 6000.0, pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(testUser, testUser), pageable, false));
+        when(userMapper.toResponse(any(User.class))).thenReturn(testResponse);
 
         // Act
-        List<UserResponse> result = userService.getUsersByIncomeRange(4000.0, 6000.0);
+        Slice<UserResponse> result = userService.getUsersByIncomeRange(4000.0, 6000.0, pageable, false);
 
         // Assert
         assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(userRepository).findByMonthlyIncomeBetween(4000.0, 6000.0);
+        assertEquals(2, result.getNumberOfElements());
+        assertFalse(result.hasNext());
     }
 
     @Test
     void getUsersByMinCreditScore_ShouldReturnQualifiedUsers() {
         // Arrange
-        List<User> users = Arrays.asList(testUser, testUser);
-        when(userRepository.findByCreditScoreGreaterThanEqual(anyInt())).thenReturn(users);
-        when(userMapper.toResponseList(anyList())).thenReturn(Arrays.asList(testResponse, testResponse));
+        Pageable pageable = PageRequest.of(0, 20);
+        when(userRepository.findByCreditScoreGreaterThanEqual(700, pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(testUser, testUser), pageable, false));
+        when(userMapper.toResponse(any(User.class))).thenReturn(testResponse);
 
         // Act
-        List<UserResponse> result = userService.getUsersByMinCreditScore(700);
+        Slice<UserResponse> result = userService.getUsersByMinCreditScore(700, pageable, false);
 
         // Assert
         assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(userRepository).findByCreditScoreGreaterThanEqual(700);
+        assertEquals(2, result.getNumberOfElements());
+        assertFalse(result.hasNext());
     }
 }
\ No newline at end of file
@@ -0,0 +1,251 @@
+package org.system.bank.settlement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountHold;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.HoldStatus;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.hold.HoldService;
+import org.system.bank.ledger.LedgerService;
+import org.system.bank.limits.SpendingLimitService;
+import org.system.bank.mapper.TransactionMapper;
+import org.system.bank.outbox.OutboxService;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.repository.jpa.TransactionRepository;
+import org.system.bank.service.base.BaseServiceTest;
+import org.system.bank.stripe.BalanceStripeService;
+import org.system.bank.totals.DailyTotalsService;
+import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+class SettlementProcessorTest extends BaseServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionMapper transactionMapper;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private HoldService holdService;
+
+    @Mock
+    private BalanceStripeService stripeService;
+
+    @Mock
+    private DailyTotalsService dailyTotalsService;
+
+    @Mock
+    private SpendingLimitService spendingLimitService;
+
+    @InjectMocks
+    private SettlementProcessor settlementProcessor;
+
+    private Account sourceAccount;
+    private Account destinationAccount;
+
+    @BeforeEach
+    void setUp() {
+        sourceAccount = TestDataBuilder.createTestAccount();
+        sourceAccount.setBalance(Money.of("1000.00"));
+
+        destinationAccount = TestDataBuilder.createTestAccount();
+        destinationAccount.setAccountId(2L);
+        destinationAccount.setBalance(Money.of("500.00"));
+
+        lenient().when(transactionMapper.calculateFee(any(Transaction.class)))
+                .thenAnswer(invocation -> ((Transaction) invocation.getArgument(0)).getAmount().timesBasisPoints(10));
+    }
+
+    @Test
+    void settleBatch_ShouldApplyAllTransfersAndWriteEachAccountOnce() {
+        // Arrange
+        Transaction first = pendingTransfer(1L, "100.00");
+        Transaction second = pendingTransfer(2L, "200.00");
+        when(transactionRepository.findPendingByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(first, second));
+        when(accountRepository.findAllByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(sourceAccount, destinationAccount));
+
+        // Act
+        settlementProcessor.settleBatch(List.of(1L, 2L));
+
+        // Assert
+        assertEquals(TransactionStatus.COMPLETED, first.getStatus());
+        assertEquals(TransactionStatus.COMPLETED, second.getStatus());
+        assertEquals(Money.of("699.70"), sourceAccount.getBalance());
+        assertEquals(Money.of("800.00"), destinationAccount.getBalance());
+        verify(accountRepository, times(1)).saveAll(anyIterable());
+    }
+
+    @Test
+    void settleBatch_ShouldRejectTransfer_WhenBalanceNoLongerCoversIt() {
+        // Arrange
+        Transaction affordable = pendingTransfer(1L, "900.00");
+        Transaction overdraft = pendingTransfer(2L, "200.00");
+        when(transactionRepository.findPendingByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(affordable, overdraft));
+        when(accountRepository.findAllByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(sourceAccount, destinationAccount));
+
+        // Act
+        settlementProcessor.settleBatch(List.of(1L, 2L));
+
+        // Assert
+        assertEquals(TransactionStatus.COMPLETED, affordable.getStatus());
+        assertEquals(TransactionStatus.REJECTED, overdraft.getStatus());
+        assertEquals(Money.of("1400.00"), destinationAccount.getBalance());
+    }
+
+    @Test
+    void settleBatch_ShouldCaptureOwnHold_AndNotSpendFundsHeldForOthers() {
+        // Arrange
+        Transaction held = pendingTransfer(1L, "600.00");
+        Transaction unheld = pendingTransfer(2L, "300.00");
+        AccountHold hold = AccountHold.builder()
+                .accountId(sourceAccount.getAccountId())
+                .transactionId(1L)
+                .amount(Money.of("600.60"))
+                .status(HoldStatus.ACTIVE)
+                .build();
+        // A third pending transfer still holds 200.00 of the source balance
+        Map<Long, Money> heldByAccount = new HashMap<>(Map.of(sourceAccount.getAccountId(), Money.of("800.60")));
+        when(transactionRepository.findPendingByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(held, unheld));
+        when(accountRepository.findAllByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(sourceAccount, destinationAccount));
+        when(holdService.findActiveHolds(anyCollection())).thenReturn(Map.of(1L, hold));
+        when(holdService.activeHoldTotals(anyCollection())).thenReturn(heldByAccount);
+
+        // Act
+        settlementProcessor.settleBatch(List.of(1L, 2L));
+
+        // Assert
+        assertEquals(TransactionStatus.COMPLETED, held.getStatus());
+        assertEquals(TransactionStatus.REJECTED, unheld.getStatus());
+        assertEquals(Money.of("399.40"), sourceAccount.getBalance());
+        verify(holdService).capture(hold);
+        verify(holdService, never()).release(any());
+    }
+
+    @Test
+    void settleBatch_ShouldReleaseHold_WhenTransferIsRejected() {
+        // Arrange
+        sourceAccount.setBalance(Money.of("100.00"));
+        Transaction transfer = pendingTransfer(1L, "200.00");
+        AccountHold hold = AccountHold.builder()
+                .accountId(sourceAccount.getAccountId())
+                .transactionId(1L)
+                .amount(Money.of("200.20"))
+                .status(HoldStatus.ACTIVE)
+                .build();
+        when(transactionRepository.findPendingByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(transfer));
+        when(accountRepository.findAllByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(sourceAccount, destinationAccount));
+        when(holdService.findActiveHolds(anyCollection())).thenReturn(Map.of(1L, hold));
+        when(holdService.activeHoldTotals(anyCollection()))
+                .thenReturn(new HashMap<>(Map.of(sourceAccount.getAccountId(), Money.of("200.20"))));
+
+        // Act
+        settlementProcessor.settleBatch(List.of(1L));
+
+        // Assert
+        assertEquals(TransactionStatus.REJECTED, transfer.getStatus());
+        verify(holdService).release(hold);
+        verify(spendingLimitService).releaseAfterCommit(transfer);
+        verify(holdService, never()).capture(any());
+    }
+
+    @Test
+    void settleBatch_ShouldNetOpposingTransfers_WhenNettingEnabled() {
+        // Arrange
+        ReflectionTestUtils.setField(settlementProcessor, "nettingEnabled", true);
+        Transaction outgoing = pendingTransfer(1L, "1500.00");
+        Transaction incoming = pendingTransfer(2L, "1000.00");
+        incoming.setSourceAccount(destinationAccount);
+        incoming.setDestinationAccount(sourceAccount);
+        when(transactionRepository.findPendingByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(outgoing, incoming));
+        when(accountRepository.findAllByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(sourceAccount, destinationAccount));
+
+        // Act
+        settlementProcessor.settleBatch(List.of(1L, 2L));
+
+        // Assert
+        // On its own the 1500.00 transfer would overdraw the source; netted it only owes 501.50
+        assertEquals(TransactionStatus.COMPLETED, outgoing.getStatus());
+        assertEquals(TransactionStatus.COMPLETED, incoming.getStatus());
+        assertEquals(Money.of("498.50"), sourceAccount.getBalance());
+        assertEquals(Money.of("999.00"), destinationAccount.getBalance());
+        verify(ledgerService, times(2)).postTransfer(any(Transaction.class), any(Money.class));
+    }
+
+    @Test
+    void settleBatch_ShouldSettleIndividually_WhenNetPositionIsNotCovered() {
+        // Arrange
+        ReflectionTestUtils.setField(settlementProcessor, "nettingEnabled", true);
+        Transaction affordable = pendingTransfer(1L, "900.00");
+        Transaction overdraft = pendingTransfer(2L, "200.00");
+        when(transactionRepository.findPendingByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(affordable, overdraft));
+        when(accountRepository.findAllByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(sourceAccount, destinationAccount));
+
+        // Act
+        settlementProcessor.settleBatch(List.of(1L, 2L));
+
+        // Assert
+        assertEquals(TransactionStatus.COMPLETED, affordable.getStatus());
+        assertEquals(TransactionStatus.REJECTED, overdraft.getStatus());
+        assertEquals(Money.of("99.10"), sourceAccount.getBalance());
+    }
+
+    @Test
+    void settleBatch_ShouldDoNothing_WhenNothingIsPending() {
+        // Arrange
+        when(transactionRepository.findPendingByIdForUpdate(anyCollection()))
+                .thenReturn(List.of());
+
+        // Act
+        settlementProcessor.settleBatch(List.of(1L));
+
+        // Assert
+        verifyNoInteractions(accountRepository);
+    }
+
+    private Transaction pendingTransfer(Long id, String amount) {
+        Transaction transaction = TestDataBuilder.createTestTransaction();
+        transaction.setTransactionId(id);
+        transaction.setAmount(Money.of(amount));
+        transaction.setSourceAccount(sourceAccount);
+        transaction.setDestinationAccount(destinationAccount);
+        transaction.setStatus(TransactionStatus.PENDING);
+        return transaction;
+    }
+}
@@ -0,0 +1,216 @@
+package org.system.bank.singleflight;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.system.bank.replica.RecentWriters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private RecentWriters recentWriters;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+        recentWriters = new RecentWriters(60_000);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void execute_ShouldRunConcurrentIdenticalCallsOnce_AndCountCoalescedCallers() throws Exception {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        List<Future<String>> results = callConcurrently(() -> singleFlight.execute("read", 7L, () -> {
+            executions.incrementAndGet();
+            await(release);
+            return "account 7";
+        }), release);
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("account 7", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(1, calls("leader"));
+        assertEquals(CALLERS - 1, calls("coalesced"));
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void execute_ShouldRethrowLeaderFailure_ToEveryCaller() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        List<Future<String>> results = callConcurrently(() -> singleFlight.execute("read", 7L, () -> {
+            await(release);
+            throw new IllegalStateException("database down");
+        }), release);
+
+        // Assert
+        for (Future<String> result : results) {
+            Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void execute_ShouldNotShareResults_BetweenSequentialCallsOrDifferentKeys() {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("read", 1L, executions::incrementAndGet);
+        singleFlight.execute("read", 1L, executions::incrementAndGet);
+        singleFlight.execute("read", 2L, executions::incrementAndGet);
+
+        // Assert
+        assertEquals(3, executions.get());
+        assertEquals(0, calls("coalesced"));
+    }
+
+    @Test
+    void coalesceAspect_ShouldBypassSingleFlight_InsideTransaction() {
+        // Arrange
+        Reads target = new Reads();
+        Reads reads = proxy(target);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        try {
+            // Act
+            reads.byId(1L);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        reads.byId(1L);
+
+        // Assert
+        assertEquals(1, calls("leader"));
+        assertEquals(2, target.executions.get());
+    }
+
+    @Test
+    void coalesceAspect_ShouldBypassSingleFlight_ForUserInsideReadYourWritesWindow() {
+        // Arrange
+        Reads target = new Reads();
+        Reads reads = proxy(target);
+        recentWriters.recordWrite("alice", System.nanoTime());
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+
+        // Act
+        reads.byId(1L);
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", null, "ROLE_USER"));
+        reads.byId(1L);
+
+        // Assert
+        assertEquals(1, calls("leader"));
+        assertEquals(2, target.executions.get());
+    }
+
+    @Test
+    void coalesceAspect_ShouldCoalesceAnnotatedMethod_ByArguments() throws Exception {
+        // Arrange
+        Reads target = new Reads();
+        Reads reads = proxy(target);
+        CountDownLatch release = new CountDownLatch(1);
+        target.gate = release;
+
+        // Act
+        List<Future<String>> results = callConcurrently(() -> reads.byId(3L), release);
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("read 3", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, target.executions.get());
+        assertEquals(CALLERS - 1, meterRegistry.counter("bank.singleflight.calls",
+                "name", "Reads.byId", "role", "coalesced").count());
+    }
+
+    static class Reads {
+        final AtomicInteger executions = new AtomicInteger();
+        volatile CountDownLatch gate;
+
+        @Coalesce
+        public String byId(Long id) {
+            executions.incrementAndGet();
+            if (gate != null) {
+                await(gate);
+            }
+            return "read " + id;
+        }
+    }
+
+    private Reads proxy(Reads target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("recentWriters", recentWriters);
+        factory.addAspect(new CoalesceAspect(singleFlight, beans.getBeanProvider(RecentWriters.class)));
+        return factory.getProxy();
+    }
+
+    // Starts every caller, waits until the others have joined the leader's flight, then releases it
+    private <T> List<Future<T>> callConcurrently(Callable<T> call, CountDownLatch release)
+            throws InterruptedException {
+        List<Future<T>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls("leader") + calls("coalesced") < CALLERS && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        return results;
+    }
+
+    private double calls(String role) {
+        return meterRegistry.find("bank.singleflight.calls").tag("role", role).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.system.bank.sqlstats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatsInterceptor interceptor = new SqlStatsInterceptor(meterRegistry, 1);
+    private final SqlStatsRecorder recorder = new SqlStatsRecorder();
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/sample");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private HandlerMethod list;
+    private HandlerMethod error;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        SampleController controller = new SampleController();
+        list = new HandlerMethod(controller, SampleController.class.getMethod("list"));
+        error = new HandlerMethod(controller, SampleController.class.getMethod("error"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStats.stop();
+    }
+
+    @Test
+    void request_ShouldPublishStatsTaggedByHandler() {
+        // Act
+        interceptor.preHandle(request, response, list);
+        recorder.inspect("select 1");
+        recorder.inspect("select 2");
+        recorder.onLoad(new Object(), 1L, null, null, null);
+        interceptor.afterCompletion(request, response, list, null);
+
+        // Assert
+        DistributionSummary statements = meterRegistry.get("bank.sql.statements")
+                .tag("handler", "SampleController.list").summary();
+        assertEquals(1, statements.count());
+        assertEquals(2, statements.totalAmount());
+        assertEquals(1, meterRegistry.get("bank.sql.entities").tag("handler", "SampleController.list").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("bank.sql.jdbc.time").tag("handler", "SampleController.list").timer().count());
+        SqlStats stats = (SqlStats) request.getAttribute(SqlStats.REQUEST_ATTRIBUTE);
+        assertEquals(2, stats.getStatements());
+        assertNull(SqlStats.current());
+    }
+
+    @Test
+    void statementsOutsideRequest_ShouldNotBeCounted() {
+        // Arrange
+        interceptor.preHandle(request, response, list);
+        interceptor.afterCompletion(request, response, list, null);
+
+        // Act
+        recorder.inspect("select 1");
+
+        // Assert
+        assertEquals(0, ((SqlStats) request.getAttribute(SqlStats.REQUEST_ATTRIBUTE)).getStatements());
+    }
+
+    @Test
+    void errorDispatch_ShouldLeaveStatsWithOriginalHandler() {
+        // Arrange
+        interceptor.preHandle(request, response, list);
+        recorder.inspect("select 1");
+        interceptor.afterCompletion(request, response, list, null);
+
+        // Act
+        interceptor.preHandle(request, response, error);
+        recorder.inspect("select 2");
+        interceptor.afterCompletion(request, response, error, null);
+
+        // Assert
+        assertNull(meterRegistry.find("bank.sql.statements").tag("handler", "SampleController.error").summary());
+        assertEquals(1, ((SqlStats) request.getAttribute(SqlStats.REQUEST_ATTRIBUTE)).getStatements());
+    }
+
+    @Test
+    void nonControllerHandler_ShouldNotBeTracked() {
+        // Act
+        interceptor.preHandle(request, response, new Object());
+        recorder.inspect("select 1");
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Assert
+        assertNull(SqlStats.current());
+        assertNull(request.getAttribute(SqlStats.REQUEST_ATTRIBUTE));
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    public static class SampleController {
+
+        public void list() {
+        }
+
+        public void error() {
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.system.bank.stripe;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.system.bank.balance.BalanceCache;
+import org.system.bank.dto.response.AccountResponse;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.AccountBalanceStripe;
+import org.system.bank.repository.jpa.AccountBalanceStripeRepository;
+import org.system.bank.repository.jpa.AccountRepository;
+import org.system.bank.service.base.BaseServiceTest;
+import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BalanceStripeServiceTest extends BaseServiceTest {
+
+    @Mock
+    private AccountBalanceStripeRepository stripeRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    @InjectMocks
+    private BalanceStripeService stripeService;
+
+    private Account merchant;
+
+    @BeforeEach
+    void setUp() {
+        merchant = TestDataBuilder.createTestAccount();
+        merchant.setBalanceStripes(4);
+    }
+
+    @Test
+    void fold_ShouldMoveStripeCreditsIntoAccountBalance() {
+        // Arrange
+        List<AccountBalanceStripe> stripes = List.of(stripe(0, "25.00"), stripe(1, "0.00"), stripe(2, "74.99"));
+        when(stripeRepository.findByAccountIdForUpdate(1L)).thenReturn(stripes);
+
+        // Act
+        stripeService.fold(merchant);
+
+        // Assert
+        assertEquals(Money.of("1099.99"), merchant.getBalance());
+        assertTrue(stripes.stream().allMatch(stripe -> stripe.getBalance().isZero()));
+        verify(accountRepository).findAllByIdForUpdate(List.of(1L));
+    }
+
+    @Test
+    void fold_ShouldDoNothing_WhenAccountIsNotStriped() {
+        // Arrange
+        merchant.setBalanceStripes(0);
+
+        // Act
+        stripeService.fold(merchant);
+
+        // Assert
+        verifyNoInteractions(stripeRepository, accountRepository);
+    }
+
+    @Test
+    void addStripeTotals_ShouldAddStripeCredits_ToStripedAccountsOnly() {
+        // Arrange
+        AccountResponse plain = AccountResponse.builder().accountId(1L).balance(Money.of("100.00")).build();
+        AccountResponse striped = AccountResponse.builder().accountId(2L).balance(Money.of("50.00")).build();
+        when(stripeRepository.sumByAccountIds(List.of(1L, 2L)))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, new BigDecimal("25.00")}));
+
+        // Act
+        stripeService.addStripeTotals(List.of(plain, striped));
+
+        // Assert
+        assertEquals(Money.of("100.00"), plain.getBalance());
+        assertEquals(Money.of("75.00"), striped.getBalance());
+    }
+
+    @Test
+    void totalBalance_ShouldAddStripeSum() {
+        // Arrange
+        when(stripeRepository.sumByAccountId(1L)).thenReturn(new BigDecimal("250.50"));
+
+        // Act & Assert
+        assertEquals(Money.of("1250.50"), stripeService.totalBalance(merchant));
+    }
+
+    @Test
+    void credit_ShouldThrow_WhenStripeRowIsMissing() {
+        // Arrange
+        when(stripeRepository.credit(eq(1L), anyInt(), any(BigDecimal.class))).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> stripeService.credit(merchant, Money.of("10.00"), 42L));
+        verifyNoInteractions(balanceCache);
+    }
+
+    @Test
+    void credit_ShouldWriteThroughToBalanceCache() {
+        // Arrange
+        when(stripeRepository.credit(eq(1L), anyInt(), any(BigDecimal.class))).thenReturn(1);
+
+        // Act
+        stripeService.credit(merchant, Money.of("10.00"), 42L);
+
+        // Assert
+        verify(balanceCache).invalidateAfterCommit(1L);
+    }
+
+    @Test
+    void stripeFor_ShouldSpreadConsecutiveKeysOverAllStripes() {
+        // Act
+        long used = IntStream.range(0, 64).map(key -> BalanceStripeService.stripeFor(key, 8)).distinct().count();
+
+        // Assert
+        assertEquals(8, used);
+    }
+
+    @Test
+    void configureStripes_ShouldRejectSingleStripe() {
+        assertThrows(IllegalArgumentException.class, () -> stripeService.configureStripes(1L, 1));
+    }
+
+    private static AccountBalanceStripe stripe(int stripe, String balance) {
+        return AccountBalanceStripe.builder().accountId(1L).stripe(stripe).balance(Money.of(balance)).build();
+    }
+}
@@ -0,0 +1,113 @@
+package org.system.bank.totals;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.system.bank.entity.Account;
+import org.system.bank.entity.DailyAccountTotal;
+import org.system.bank.entity.Transaction;
+import org.system.bank.enums.TransactionStatus;
+import org.system.bank.repository.jpa.DailyAccountTotalRepository;
+import org.system.bank.service.base.BaseServiceTest;
+import org.system.bank.util.TestDataBuilder;
+import org.system.bank.money.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class DailyTotalsServiceTest extends BaseServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    @Mock
+    private DailyAccountTotalRepository dailyAccountTotalRepository;
+
+    @InjectMocks
+    private DailyTotalsService dailyTotalsService;
+
+    @Test
+    void record_ShouldWriteEachAccountDayOnce_InAccountOrder() {
+        // Arrange
+        Transaction first = completed(5L, 2L, "100.00", DAY.atTime(9, 0));
+        Transaction second = completed(5L, 2L, "50.00", DAY.atTime(23, 59, 59, 900_000_000));
+        Transaction rejected = completed(5L, 2L, "999.00", DAY.atTime(12, 0));
+        rejected.setStatus(TransactionStatus.REJECTED);
+
+        // Act
+        dailyTotalsService.record(List.of(first, second, rejected));
+
+        // Assert
+        InOrder inOrder = inOrder(dailyAccountTotalRepository);
+        inOrder.verify(dailyAccountTotalRepository).insertIfAbsent(2L, DAY);
+        inOrder.verify(dailyAccountTotalRepository).addToTotals(2L, DAY,
+                new BigDecimal("0.00"), new BigDecimal("150.00"), 2L);
+        inOrder.verify(dailyAccountTotalRepository).insertIfAbsent(5L, DAY);
+        inOrder.verify(dailyAccountTotalRepository).addToTotals(5L, DAY,
+                new BigDecimal("150.00"), new BigDecimal("0.00"), 2L);
+        verifyNoMoreInteractions(dailyAccountTotalRepository);
+    }
+
+    @Test
+    void record_ShouldSplitTransfersByCreationDay() {
+        // Arrange
+        Transaction lateEvening = completed(1L, 2L, "10.00", DAY.atTime(23, 59, 59));
+        Transaction nextMorning = completed(1L, 2L, "20.00", DAY.plusDays(1).atStartOfDay());
+
+        // Act
+        dailyTotalsService.record(List.of(lateEvening, nextMorning));
+
+        // Assert
+        verify(dailyAccountTotalRepository).addToTotals(1L, DAY, new BigDecimal("10.00"), new BigDecimal("0.00"), 1L);
+        verify(dailyAccountTotalRepository).addToTotals(1L, DAY.plusDays(1), new BigDecimal("20.00"), new BigDecimal("0.00"), 1L);
+    }
+
+    @Test
+    void getDailyDebitTotal_ShouldReturnZero_WhenNoRowExists() {
+        // Arrange
+        when(dailyAccountTotalRepository.findByAccountIdAndBusinessDate(anyLong(), any(LocalDate.class)))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertEquals(Money.ZERO, dailyTotalsService.getDailyDebitTotal(1L, DAY));
+    }
+
+    @Test
+    void getDailyDebitTotal_ShouldReturnStoredDebitTotal() {
+        // Arrange
+        when(dailyAccountTotalRepository.findByAccountIdAndBusinessDate(1L, DAY))
+                .thenReturn(Optional.of(DailyAccountTotal.builder()
+                        .accountId(1L)
+                        .businessDate(DAY)
+                        .debitTotal(Money.of("75.25"))
+                        .creditTotal(Money.ZERO)
+                        .transactionCount(3)
+                        .build()));
+
+        // Act & Assert
+        assertEquals(Money.of("75.25"), dailyTotalsService.getDailyDebitTotal(1L, DAY));
+    }
+
+    private static Transaction completed(Long sourceId, Long destinationId, String amount, LocalDateTime createdAt) {
+        Account source = TestDataBuilder.createTestAccount();
+        source.setAccountId(sourceId);
+        Account destination = TestDataBuilder.createTestAccount();
+        destination.setAccountId(destinationId);
+
+        Transaction transaction = TestDataBuilder.createTestTransaction();
+        transaction.setSourceAccount(source);
+        transaction.setDestinationAccount(destination);
+        transaction.setAmount(Money.of(amount));
+        transaction.setStatus(TransactionStatus.COMPLETED);
+        transaction.setCreatedAt(createdAt);
+        return transaction;
+    }
+}
@@ -0,0 +1,42 @@
+package org.system.bank.util;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.system.bank.sqlstats.SqlStats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MockMvc matchers on the SQL a request issued, e.g.
+ * {@code mockMvc.perform(get("/accounts")).andExpect(statementsAtMost(2))}, to catch a list endpoint
+ * that loads an association once per row.
+ */
+public final class SqlStatsMatchers {
+
+    private SqlStatsMatchers() {
+    }
+
+    public static ResultMatcher statements(long expected) {
+        return result -> assertEquals(expected, statsOf(result).getStatements(), "SQL statements issued");
+    }
+
+    public static ResultMatcher statementsAtMost(long max) {
+        return result -> {
+            long statements = statsOf(result).getStatements();
+            assertTrue(statements <= max, () -> "Expected at most " + max + " SQL statements but got " + statements);
+        };
+    }
+
+    public static ResultMatcher entitiesAtMost(long max) {
+        return result -> {
+            long entities = statsOf(result).getEntities();
+            assertTrue(entities <= max, () -> "Expected at most " + max + " entities hydrated but got " + entities);
+        };
+    }
+
+    private static SqlStats statsOf(MvcResult result) {
+        Object stats = result.getRequest().getAttribute(SqlStats.REQUEST_ATTRIBUTE);
+        assertNotNull(stats, "No SQL stats for the request; is SqlStatsTestConfig imported?");
+        return (SqlStats) stats;
+    }
+}
@@ -4,6 +4,7 @@ import org.system.bank.dto.request.*;
 import org.system.bank.dto.response.*;
 import org.system.bank.entity.*;
 import org.system.bank.enums.*;
+import org.system.bank.money.Money;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -27,7 +28,7 @@ public class TestDataBuilder {
     public static Account createTestAccount() {
         return Account.builder()
                 .accountId(1L)
-                .balance(1000.0)
+                .balance(Money.of("1000.00"))
                 .status(AccountStatus.ACTIVE)
                 .user(createTestUser())
                 .build();
@@ -37,7 +38,7 @@ public class TestDataBuilder {
         return Transaction.builder()
                 .transactionId(1L)
                 .type(TransactionType.STANDARD)
-                .amount(100.0)
+                .amount(Money.of("100.00"))
                 .sourceAccount(createTestAccount())
                 .destinationAccount(createTestAccount())
                 .status(TransactionStatus.PENDING)
@@ -48,11 +49,11 @@ public class TestDataBuilder {
     public static Loan createTestLoan() {
         return Loan.builder()
                 .loanId(1L)
-                .principal(10000.0)
+                .principal(Money.of("10000.00"))
                 .interestRate(5.0)
                 .termMonths(12)
-                .monthlyPayment(856.0)
-                .remainingAmount(10000.0)
+                .monthlyPayment(Money.of("856.00"))
+                .remainingAmount(Money.of("10000.00"))
                 .status(LoanStatus.PENDING)
                 .user(createTestUser())
                 .startDate(LocalDate.now())
@@ -74,7 +75,7 @@ public class TestDataBuilder {
 
     public static TransactionRequest createTestTransactionRequest() {
         return TransactionRequest.builder()
-                .amount(100.0)
+                .amount(Money.of("100.00"))
                 .sourceAccountId(1L)
                 .destinationAccountId(2L)
                 .type(TransactionType.STANDARD)
@@ -84,7 +85,7 @@ public class TestDataBuilder {
     public static AccountCreationRequest createTestAccountCreationRequest() {
         return AccountCreationRequest.builder()
                 .userId(1L)
-                .initialDeposit(1000.0)
+                .initialDeposit(Money.of("1000.00"))
                 .build();
     }
 
@@ -92,7 +93,7 @@ public class TestDataBuilder {
     public static Invoice createTestInvoice() {
         return Invoice.builder()
                 .invoiceId(1L)
-                .amountDue(100.0)
+                .amountDue(Money.of("100.00"))
                 .dueDate(LocalDate.now().plusDays(7))
                 .status(InvoiceStatus.PENDING)
                 .user(createTestUser())
@@ -104,7 +105,7 @@ public class TestDataBuilder {
     public static InvoiceCreationRequest createTestInvoiceCreationRequest() {
         return InvoiceCreationRequest.builder()
                 .userId(1L)
-                .amountDue(100.0)
+                .amountDue(Money.of("100.00"))
                 .dueDate(LocalDate.now().plusDays(7))
                 .build();
     }
@@ -113,7 +114,7 @@ public class TestDataBuilder {
     public static LoanApplicationRequest createTestLoanApplicationRequest() {
         return LoanApplicationRequest.builder()
                 .userId(1L)
-                .principal(10000.0)
+                .principal(Money.of("10000.00"))
                 .termMonths(12)
                 .guarantees("Property Deed")
                 .build();
@@ -135,7 +136,7 @@ public class TestDataBuilder {
     public static AccountResponse createTestAccountResponse() {
         return AccountResponse.builder()
                 .accountId(1L)
-                .balance(1000.0)
+                .balance(Money.of("1000.00"))
                 .status(AccountStatus.ACTIVE)
                 .userId(1L)
                 .userName("Test User")
@@ -145,24 +146,24 @@ public class TestDataBuilder {
     public static TransactionResponse createTestTransactionResponse() {
         return TransactionResponse.builder()
                 .transactionId(1L)
-                .amount(100.0)
+                .amount(Money.of("100.00"))
                 .type(TransactionType.STANDARD)
                 .status(TransactionStatus.PENDING)
                 .sourceAccountId(1L)
                 .destinationAccountId(2L)
                 .createdAt(LocalDateTime.now())
-                .fee(0.1) // 0.1% for standard transactions
+                .fee(Money.of("0.10")) // 0.1% for standard transactions
                 .build();
     }
 
     public static LoanResponse createTestLoanResponse() {
         return LoanResponse.builder()
                 .loanId(1L)
-                .principal(10000.0)
+                .principal(Money.of("10000.00"))
                 .interestRate(5.0)
                 .termMonths(12)
-                .monthlyPayment(856.0)
-                .remainingAmount(10000.0)
+                .monthlyPayment(Money.of("856.00"))
+                .remainingAmount(Money.of("10000.00"))
                 .status(LoanStatus.PENDING)
                 .userId(1L)
                 .userName("Test User")
@@ -175,7 +176,7 @@ public class TestDataBuilder {
     public static InvoiceResponse createTestInvoiceResponse() {
         return InvoiceResponse.builder()
                 .invoiceId(1L)
-                .amountDue(100.0)
+                .amountDue(Money.of("100.00"))
                 .dueDate(LocalDate.now().plusDays(7))
                 .status(InvoiceStatus.PENDING)
                 .userId(1L)